@@ -0,0 +1,126 @@
+package cn.refinex.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 基准测试结果对比工具
+ * <p>
+ * 对比两个 JMH JSON 结果文件（通常为上一发布版本与当前版本），按基准方法与参数逐项输出得分变化，
+ * 吞吐量模式得分下降、其余模式（平均耗时等）得分上升超过阈值时判定为回退，存在回退时以退出码 1 结束，便于在 CI 中拦截:
+ * <pre>
+ * java -cp benchmarks.jar cn.refinex.benchmarks.BenchmarkResultComparator \
+ *     jmh-result/refinex-benchmarks-1.0.0.json jmh-result/refinex-benchmarks-1.1.0.json 10
+ * </pre>
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkResultComparator {
+
+    /**
+     * 默认回退阈值（百分比）
+     */
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+    /**
+     * 吞吐量模式（得分越高越好）
+     */
+    private static final String THROUGHPUT_MODE = "thrpt";
+
+    /**
+     * 对比结果文件
+     *
+     * @param args 基线结果文件、当前结果文件、回退阈值百分比（可选，默认 10）
+     * @throws IOException 读取结果文件失败
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("用法: BenchmarkResultComparator <基线结果.json> <当前结果.json> [回退阈值百分比]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+
+        Map<String, JsonNode> baseline = readResults(new File(args[0]));
+        Map<String, JsonNode> current = readResults(new File(args[1]));
+
+        List<String> regressions = new ArrayList<>();
+        System.out.printf("%-90s %6s %14s %14s %9s%n", "Benchmark", "Mode", "Baseline", "Current", "Change");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode currentResult = entry.getValue();
+            JsonNode baselineResult = baseline.get(entry.getKey());
+            String mode = currentResult.path("mode").asText();
+            double currentScore = currentResult.path("primaryMetric").path("score").asDouble();
+            String unit = currentResult.path("primaryMetric").path("scoreUnit").asText();
+
+            if (baselineResult == null) {
+                System.out.printf("%-90s %6s %14s %14.3f %9s  %s%n", entry.getKey(), mode, "-", currentScore, "new", unit);
+                continue;
+            }
+
+            double baselineScore = baselineResult.path("primaryMetric").path("score").asDouble();
+            double change = baselineScore == 0 ? 0 : (currentScore - baselineScore) / baselineScore * 100;
+            double degradation = THROUGHPUT_MODE.equals(mode) ? -change : change;
+            boolean regressed = degradation > threshold;
+            if (regressed) {
+                regressions.add(entry.getKey());
+            }
+            System.out.printf("%-90s %6s %14.3f %14.3f %+8.1f%%  %s%s%n",
+                    entry.getKey(), mode, baselineScore, currentScore, change, unit, regressed ? "  <-- 回退" : "");
+        }
+
+        if (!regressions.isEmpty()) {
+            System.out.printf("%n%d 项基准测试回退超过 %.1f%%%n", regressions.size(), threshold);
+            System.exit(1);
+        }
+        System.out.printf("%n未发现超过 %.1f%% 的回退%n", threshold);
+    }
+
+    /**
+     * 读取结果文件
+     *
+     * @param file 结果文件
+     * @return 基准方法（含参数）-> 结果
+     * @throws IOException 读取失败
+     */
+    private static Map<String, JsonNode> readResults(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            results.put(keyOf(result), result);
+        }
+        return results;
+    }
+
+    /**
+     * 生成结果键（基准方法 + 排序后的参数）
+     *
+     * @param result 单项结果
+     * @return 结果键
+     */
+    private static String keyOf(JsonNode result) {
+        StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+        JsonNode params = result.path("params");
+        if (params.isObject() && !params.isEmpty()) {
+            Map<String, String> sorted = new TreeMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                sorted.put(field.getKey(), field.getValue().asText());
+            }
+            key.append(sorted);
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,62 @@
+package cn.refinex.benchmarks;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.openjdk.jmh.Main;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 基准测试入口
+ * <p>
+ * 参数与 JMH 命令行完全一致（如 {@code java -jar benchmarks.jar Json -f 1 -wi 3 -i 5}），
+ * 未指定结果格式/结果文件时默认以 JSON 输出到 {@code jmh-result/refinex-benchmarks-<版本号>.json}，
+ * 将各版本的结果文件归档后即可用 {@link BenchmarkResultComparator} 对比找出性能回退。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkRunner {
+
+    /**
+     * 默认结果目录
+     */
+    private static final String RESULT_DIRECTORY = "jmh-result";
+
+    /**
+     * 运行基准测试
+     *
+     * @param args JMH 命令行参数
+     * @throws Exception 运行失败
+     */
+    public static void main(String[] args) throws Exception {
+        List<String> arguments = new ArrayList<>(Arrays.asList(args));
+        if (!arguments.contains("-rf")) {
+            arguments.add("-rf");
+            arguments.add("json");
+        }
+        if (!arguments.contains("-rff")) {
+            File resultFile = new File(RESULT_DIRECTORY, "refinex-benchmarks-" + version() + ".json");
+            if (!resultFile.getParentFile().exists() && !resultFile.getParentFile().mkdirs()) {
+                throw new IllegalStateException("无法创建结果目录: " + resultFile.getParentFile().getAbsolutePath());
+            }
+            arguments.add("-rff");
+            arguments.add(resultFile.getPath());
+        }
+        Main.main(arguments.toArray(new String[0]));
+    }
+
+    /**
+     * 获取版本号（打包时写入 MANIFEST 的 Implementation-Version，IDE 中运行时为 dev）
+     *
+     * @return 版本号
+     */
+    private static String version() {
+        String version = BenchmarkRunner.class.getPackage().getImplementationVersion();
+        return version != null ? version : "dev";
+    }
+}
@@ -0,0 +1,78 @@
+package cn.refinex.benchmarks.core;
+
+import cn.refinex.benchmarks.support.BenchmarkData;
+import cn.refinex.common.utils.object.BeanConverter;
+import cn.refinex.kb.entity.ContentDocument;
+import lombok.Data;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BeanConverter#toBean(Object, Class)} 基准测试（实体 -> 视图对象，典型的 Service 层转换）
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BeanConverterBenchmark {
+
+    private ContentDocument document;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        document = BenchmarkData.document(1);
+    }
+
+    @Benchmark
+    public DocumentView toBean() {
+        return BeanConverter.toBean(document, DocumentView.class);
+    }
+
+    /**
+     * 文档视图对象（字段为实体的子集，另有实体中不存在的字段）
+     */
+    @Data
+    public static class DocumentView {
+
+        private Long id;
+
+        private String docGuid;
+
+        private Long spaceId;
+
+        private String docTitle;
+
+        private String docSummary;
+
+        private String coverImage;
+
+        private Integer docStatus;
+
+        private LocalDateTime publishTime;
+
+        private Integer wordCount;
+
+        private Long viewCount;
+
+        private Long likeCount;
+
+        private String spaceName;
+    }
+}
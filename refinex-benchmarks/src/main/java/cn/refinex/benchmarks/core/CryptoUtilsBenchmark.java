@@ -0,0 +1,101 @@
+package cn.refinex.benchmarks.core;
+
+import cn.refinex.common.utils.security.CryptoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CryptoUtils} AES/RSA 基准测试
+ * <p>
+ * RSA 只用于加解密短的 AES 密钥（见 {@link CryptoUtils#hybridDecrypt}），因此 RSA 用例固定使用 32 字节明文，
+ * AES-GCM 用例按载荷大小参数化。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CryptoUtilsBenchmark {
+
+    /**
+     * AES 明文字节数
+     */
+    @Param({"64", "4096"})
+    public int payloadSize;
+
+    private byte[] aesKey;
+
+    private byte[] payload;
+
+    private String aesGcmCiphertext;
+
+    private KeyPair rsaKeyPair;
+
+    private String rsaCiphertext;
+
+    private String hybridAesKeyCiphertext;
+
+    private String hybridDataCiphertext;
+
+    @Setup(Level.Trial)
+    public void setup() throws GeneralSecurityException {
+        aesKey = CryptoUtils.generateAes256Key();
+        payload = new byte[payloadSize];
+        Arrays.fill(payload, (byte) 'R');
+        aesGcmCiphertext = CryptoUtils.aesGcmEncryptToBase64(payload, aesKey, null);
+
+        rsaKeyPair = CryptoUtils.generateRsaKeyPair();
+        rsaCiphertext = CryptoUtils.rsaEncryptToBase64(aesKey, rsaKeyPair.getPublic());
+
+        hybridAesKeyCiphertext = rsaCiphertext;
+        hybridDataCiphertext = CryptoUtils.aesGcmEncryptToBase64("{\"username\":\"refinex\",\"password\":\"P@ssw0rd\"}".getBytes(StandardCharsets.UTF_8), aesKey, null);
+    }
+
+    @Benchmark
+    public String aesGcmEncrypt() throws GeneralSecurityException {
+        return CryptoUtils.aesGcmEncryptToBase64(payload, aesKey, null);
+    }
+
+    @Benchmark
+    public byte[] aesGcmDecrypt() throws GeneralSecurityException {
+        return CryptoUtils.aesGcmDecryptFromBase64(aesGcmCiphertext, aesKey, null);
+    }
+
+    @Benchmark
+    public String rsaEncrypt() throws GeneralSecurityException {
+        return CryptoUtils.rsaEncryptToBase64(aesKey, rsaKeyPair.getPublic());
+    }
+
+    @Benchmark
+    public byte[] rsaDecrypt() throws GeneralSecurityException {
+        return CryptoUtils.rsaDecryptFromBase64(rsaCiphertext, rsaKeyPair.getPrivate());
+    }
+
+    /**
+     * 登录等接口的混合解密（RSA 解密 AES 密钥 + AES-GCM 解密数据）
+     */
+    @Benchmark
+    public String hybridDecrypt() throws GeneralSecurityException {
+        return CryptoUtils.hybridDecrypt(hybridAesKeyCiphertext, hybridDataCiphertext, rsaKeyPair.getPrivate());
+    }
+}
@@ -0,0 +1,63 @@
+package cn.refinex.benchmarks.core;
+
+import cn.refinex.benchmarks.support.BenchmarkData;
+import cn.refinex.common.utils.device.DeviceUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DeviceUtils} User-Agent 解析基准测试（登录日志、访问日志在每次请求中调用）
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DeviceUtilsBenchmark {
+
+    /**
+     * User-Agent 样本下标（见 {@link BenchmarkData#USER_AGENTS}）
+     */
+    @Param({"0", "3", "4"})
+    public int agent;
+
+    private String userAgent;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        userAgent = BenchmarkData.USER_AGENTS[agent];
+        // 触发 User-Agent 分析器初始化，避免计入首次解析
+        DeviceUtils.parseDeviceType(userAgent);
+    }
+
+    @Benchmark
+    public String parseDeviceType() {
+        return DeviceUtils.parseDeviceType(userAgent);
+    }
+
+    @Benchmark
+    public String getBrowserName() {
+        return DeviceUtils.getBrowserName(userAgent);
+    }
+
+    @Benchmark
+    public String getOperatingSystemName() {
+        return DeviceUtils.getOperatingSystemName(userAgent);
+    }
+}
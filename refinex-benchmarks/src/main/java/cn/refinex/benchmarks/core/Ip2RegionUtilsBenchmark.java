@@ -0,0 +1,50 @@
+package cn.refinex.benchmarks.core;
+
+import cn.refinex.benchmarks.support.BenchmarkData;
+import cn.refinex.common.utils.ip.Ip2RegionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Ip2RegionUtils#getRegion(String)} 基准测试
+ * <p>
+ * 需要类路径中存在 {@code ip2region/ip2region.xdb}（与运行时相同），数据库在预热前加载到内存；
+ * 使用 4 个线程运行以体现读写锁在并发查询下的开销。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class Ip2RegionUtilsBenchmark {
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // 触发数据库加载，避免计入首次查询
+        Ip2RegionUtils.getRegion(BenchmarkData.IPS[0]);
+    }
+
+    @Benchmark
+    public String getRegion() {
+        String[] ips = BenchmarkData.IPS;
+        return Ip2RegionUtils.getRegion(ips[ThreadLocalRandom.current().nextInt(ips.length)]);
+    }
+}
@@ -0,0 +1,196 @@
+package cn.refinex.benchmarks.jdbc;
+
+import cn.refinex.common.jdbc.core.CachingNamedParameterJdbcTemplate;
+import cn.refinex.common.jdbc.core.JdbcTemplateManager;
+import cn.refinex.common.jdbc.dialect.MySQLDialect;
+import cn.refinex.common.jdbc.enums.PageCountMode;
+import cn.refinex.common.jdbc.page.PageRequest;
+import cn.refinex.common.jdbc.page.PageResult;
+import cn.refinex.common.jdbc.sql.ParsedSqlCache;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Data;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JdbcTemplateManager} 查询、行映射与分页基准测试
+ * <p>
+ * 使用内嵌 H2（MySQL 兼容模式）与 HikariCP 连接池，数据全部在内存中，测得的主要是命名参数解析、
+ * 结果集映射、分页 SQL 构建与指标采集等框架自身的开销，而不是数据库 IO。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JdbcTemplateManagerBenchmark {
+
+    /**
+     * 单表查询 SQL
+     */
+    private static final String SELECT_SQL = "SELECT id, doc_guid, space_id, doc_title, doc_summary, doc_status, view_count, create_time "
+            + "FROM bench_document WHERE space_id = :spaceId AND doc_status = :docStatus";
+
+    /**
+     * 表行数
+     */
+    @Param({"10000"})
+    public int rows;
+
+    /**
+     * 单次查询返回的行数
+     */
+    @Param({"20", "200"})
+    public int limit;
+
+    private HikariDataSource dataSource;
+
+    private JdbcTemplateManager jdbcTemplateManager;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:refinex_bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(4);
+        dataSource = new HikariDataSource(config);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_document");
+        jdbcTemplate.execute("CREATE TABLE bench_document (id BIGINT PRIMARY KEY, doc_guid VARCHAR(64), space_id BIGINT, "
+                + "doc_title VARCHAR(200), doc_summary VARCHAR(500), doc_status INT, view_count BIGINT, create_time TIMESTAMP)");
+        jdbcTemplate.execute("CREATE INDEX idx_bench_document_space ON bench_document (space_id, doc_status)");
+
+        List<Object[]> batch = new ArrayList<>(rows);
+        LocalDateTime createTime = LocalDateTime.of(2025, 10, 5, 14, 30);
+        for (int i = 1; i <= rows; i++) {
+            batch.add(new Object[]{i, "doc-" + i, i % 10, "Java 并发编程实践 " + i, "深入理解Java多线程的核心概念和实践技巧", i % 2, i * 7L, createTime.plusMinutes(i)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO bench_document VALUES (?, ?, ?, ?, ?, ?, ?, ?)", batch);
+
+        jdbcTemplateManager = new JdbcTemplateManager(new CachingNamedParameterJdbcTemplate(jdbcTemplate, new ParsedSqlCache()));
+        jdbcTemplateManager.setDatabaseDialect(new MySQLDialect());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    /**
+     * 按主键查询单行并映射为实体
+     */
+    @Benchmark
+    public BenchDocument queryObject() {
+        long id = ThreadLocalRandom.current().nextLong(1, rows + 1);
+        return jdbcTemplateManager.queryObject("SELECT * FROM bench_document WHERE id = :id", Map.of("id", id), BenchDocument.class);
+    }
+
+    /**
+     * 查询列表并映射为 Map
+     */
+    @Benchmark
+    public List<Map<String, Object>> queryListAsMap() {
+        return jdbcTemplateManager.queryList(SELECT_SQL + " ORDER BY id LIMIT :limit", params(), false);
+    }
+
+    /**
+     * 查询列表并映射为实体
+     */
+    @Benchmark
+    public List<BenchDocument> queryListAsEntity() {
+        return jdbcTemplateManager.queryList(SELECT_SQL + " ORDER BY id LIMIT :limit", params(), BenchDocument.class);
+    }
+
+    /**
+     * IN 列表查询（命名参数展开）
+     */
+    @Benchmark
+    public List<Map<String, Object>> queryListInClause() {
+        List<Long> ids = new ArrayList<>(limit);
+        for (long i = 1; i <= limit; i++) {
+            ids.add(i * 3);
+        }
+        return jdbcTemplateManager.queryList("SELECT id, doc_title FROM bench_document WHERE id IN (:ids)", Map.of("ids", ids), false);
+    }
+
+    /**
+     * 分页查询（精确统计总数）
+     */
+    @Benchmark
+    public PageResult<BenchDocument> queryPageExactCount() {
+        return jdbcTemplateManager.queryPage(SELECT_SQL, params(), pageRequest(PageCountMode.EXACT), BenchDocument.class);
+    }
+
+    /**
+     * 分页查询（缓存总数）
+     */
+    @Benchmark
+    public PageResult<BenchDocument> queryPageCachedCount() {
+        return jdbcTemplateManager.queryPage(SELECT_SQL, params(), pageRequest(PageCountMode.CACHED), BenchDocument.class);
+    }
+
+    /**
+     * 分页查询（不统计总数）
+     */
+    @Benchmark
+    public PageResult<BenchDocument> queryPageNoCount() {
+        return jdbcTemplateManager.queryPage(SELECT_SQL, params(), pageRequest(PageCountMode.NONE), BenchDocument.class);
+    }
+
+    private Map<String, Object> params() {
+        return Map.of("spaceId", 3L, "docStatus", 1, "limit", limit);
+    }
+
+    private PageRequest pageRequest(PageCountMode countMode) {
+        PageRequest pageRequest = new PageRequest(3, limit, "id", "DESC");
+        pageRequest.setCountMode(countMode);
+        return pageRequest;
+    }
+
+    /**
+     * 基准测试实体
+     */
+    @Data
+    public static class BenchDocument {
+
+        private Long id;
+
+        private String docGuid;
+
+        private Long spaceId;
+
+        private String docTitle;
+
+        private String docSummary;
+
+        private Integer docStatus;
+
+        private Long viewCount;
+
+        private LocalDateTime createTime;
+    }
+}
@@ -0,0 +1,99 @@
+package cn.refinex.benchmarks.json;
+
+import cn.refinex.benchmarks.support.BenchmarkData;
+import cn.refinex.common.domain.ApiResult;
+import cn.refinex.common.json.config.RefinexJsonAutoConfiguration;
+import cn.refinex.common.json.config.properties.RefinexJsonProperties;
+import cn.refinex.common.json.support.ObjectMapperHolder;
+import cn.refinex.common.json.utils.JsonUtils;
+import cn.refinex.kb.entity.ContentDocument;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JsonUtils} 序列化/反序列化基准测试
+ * <p>
+ * ObjectMapper 与生产环境相同，由 Spring 的 Jackson2ObjectMapperBuilder 叠加 {@link RefinexJsonAutoConfiguration} 的定制构建。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JsonUtilsBenchmark {
+
+    private static final TypeReference<ApiResult<List<ContentDocument>>> LIST_RESULT_TYPE = new TypeReference<>() {
+    };
+
+    /**
+     * 列表结果中的实体数量
+     */
+    @Param({"1", "20"})
+    public int size;
+
+    private ContentDocument document;
+
+    private ApiResult<List<ContentDocument>> listResult;
+
+    private String documentJson;
+
+    private String listResultJson;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        if (!ObjectMapperHolder.isInitialized()) {
+            Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+            new RefinexJsonAutoConfiguration().refinexJacksonCustomizer(new RefinexJsonProperties()).customize(builder);
+            ObjectMapperHolder.set(builder.build());
+        }
+
+        document = BenchmarkData.document(1);
+        List<ContentDocument> documents = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            documents.add(BenchmarkData.document(i + 1L));
+        }
+        listResult = ApiResult.success(documents);
+        documentJson = JsonUtils.toJson(document);
+        listResultJson = JsonUtils.toJson(listResult);
+    }
+
+    @Benchmark
+    public String serializeEntity() {
+        return JsonUtils.toJson(document);
+    }
+
+    @Benchmark
+    public ContentDocument deserializeEntity() {
+        return JsonUtils.fromJson(documentJson, ContentDocument.class);
+    }
+
+    @Benchmark
+    public String serializeApiResult() {
+        return JsonUtils.toJson(listResult);
+    }
+
+    @Benchmark
+    public ApiResult<List<ContentDocument>> deserializeApiResult() {
+        return JsonUtils.fromJson(listResultJson, LIST_RESULT_TYPE);
+    }
+}
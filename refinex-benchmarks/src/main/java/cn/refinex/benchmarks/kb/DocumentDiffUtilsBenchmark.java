@@ -0,0 +1,60 @@
+package cn.refinex.benchmarks.kb;
+
+import cn.refinex.benchmarks.support.BenchmarkData;
+import cn.refinex.kb.util.DocumentDiffUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DocumentDiffUtils#diff(String, String)} 基准测试（文档版本对比）
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DocumentDiffUtilsBenchmark {
+
+    /**
+     * 文档章节数
+     */
+    @Param({"5", "100"})
+    public int sections;
+
+    /**
+     * 修改行比例
+     */
+    @Param({"0.05", "0.3"})
+    public double changeRate;
+
+    private String fromContent;
+
+    private String toContent;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        fromContent = BenchmarkData.markdown(sections);
+        toContent = BenchmarkData.edit(fromContent, changeRate);
+    }
+
+    @Benchmark
+    public DocumentDiffUtils.DiffResult diff() {
+        return DocumentDiffUtils.diff(fromContent, toContent);
+    }
+}
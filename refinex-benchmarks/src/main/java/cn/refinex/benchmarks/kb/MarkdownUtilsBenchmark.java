@@ -0,0 +1,51 @@
+package cn.refinex.benchmarks.kb;
+
+import cn.refinex.benchmarks.support.BenchmarkData;
+import cn.refinex.kb.util.MarkdownUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MarkdownUtils#countWords(String)} 基准测试（文档保存时统计字数与阅读时长）
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MarkdownUtilsBenchmark {
+
+    /**
+     * 文档章节数
+     */
+    @Param({"5", "100"})
+    public int sections;
+
+    private String markdown;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        markdown = BenchmarkData.markdown(sections);
+    }
+
+    @Benchmark
+    public int countWords() {
+        return MarkdownUtils.countWords(markdown);
+    }
+}
@@ -0,0 +1,161 @@
+package cn.refinex.benchmarks.support;
+
+import cn.refinex.kb.entity.ContentDocument;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+
+/**
+ * 基准测试样本数据
+ * <p>
+ * 样本使用固定随机种子生成，保证不同版本之间的基准测试输入一致，结果才有可比性。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkData {
+
+    /**
+     * 随机种子
+     */
+    private static final long SEED = 20251016L;
+
+    /**
+     * 常见 User-Agent（桌面浏览器、移动端浏览器、App 内置 WebView、平板、爬虫）
+     */
+    public static final String[] USER_AGENTS = {
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/129.0.0.0 Safari/537.36",
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.6 Safari/605.1.15",
+            "Mozilla/5.0 (iPhone; CPU iPhone OS 17_6 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.6 Mobile/15E148 Safari/604.1",
+            "Mozilla/5.0 (Linux; Android 14; SM-S9180) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/128.0.6613.127 Mobile Safari/537.36",
+            "Mozilla/5.0 (Linux; Android 13; V2217A Build/TP1A.220624.014; wv) AppleWebKit/537.36 (KHTML, like Gecko) Version/4.0 Chrome/116.0.0.0 Mobile Safari/537.36 MicroMessenger/8.0.49.2600",
+            "Mozilla/5.0 (iPad; CPU OS 17_5 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.5 Mobile/15E148 Safari/604.1",
+            "Mozilla/5.0 (compatible; Googlebot/2.1; +http://www.google.com/bot.html)"
+    };
+
+    /**
+     * IP 样本（国内外 IPv4、内网地址）
+     */
+    public static final String[] IPS = {
+            "114.114.114.114", "8.8.8.8", "223.5.5.5", "180.101.49.11", "1.1.1.1", "192.168.1.10", "36.112.0.1"
+    };
+
+    /**
+     * 生成 Markdown 文档
+     *
+     * @param sections 章节数
+     * @return Markdown 文档
+     */
+    public static String markdown(int sections) {
+        Random random = new Random(SEED);
+        StringBuilder sb = new StringBuilder();
+        sb.append("# Java 并发编程实践\n\n");
+        for (int i = 0; i < sections; i++) {
+            sb.append("## 第 ").append(i + 1).append(" 节 线程池与任务调度\n\n");
+            sb.append("在高并发场景下，**线程池**的合理配置直接决定了系统的吞吐量与响应时间。")
+                    .append("The executor framework decouples task submission from execution policy, see [JDK docs](https://docs.oracle.com).\n\n");
+            sb.append("- 核心线程数: ").append(random.nextInt(64)).append('\n');
+            sb.append("- 队列容量: `").append(random.nextInt(10_000)).append("`\n");
+            sb.append("- 拒绝策略: *CallerRunsPolicy*\n\n");
+            sb.append("```java\nExecutorService executor = Executors.newFixedThreadPool(")
+                    .append(random.nextInt(32) + 1).append(");\n```\n\n");
+            sb.append("![架构图](https://cdn.refinex.cn/images/").append(random.nextInt(1000)).append(".png)\n\n");
+            sb.append("> 注意: <span style=\"color:red\">不要</span>在生产环境使用无界队列。\n\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 修改 Markdown 文档的部分行，模拟版本之间的编辑
+     *
+     * @param markdown   原文档
+     * @param changeRate 修改比例（0~1）
+     * @return 修改后的文档
+     */
+    public static String edit(String markdown, double changeRate) {
+        Random random = new Random(SEED);
+        String[] lines = markdown.split("\n", -1);
+        StringBuilder sb = new StringBuilder(markdown.length());
+        for (String line : lines) {
+            double roll = random.nextDouble();
+            if (roll < changeRate / 3) {
+                // 删除
+                continue;
+            }
+            if (roll < changeRate * 2 / 3) {
+                sb.append(line).append(" (已修订)\n");
+            } else {
+                sb.append(line).append('\n');
+            }
+            if (roll > 1 - changeRate / 3) {
+                sb.append("新增的补充说明 ").append(random.nextInt(1000)).append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 生成富文本 HTML（含需要清理的脚本、事件属性与 javascript 链接）
+     *
+     * @param paragraphs 段落数
+     * @return HTML
+     */
+    public static String html(int paragraphs) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < paragraphs; i++) {
+            sb.append("<p style=\"color:#333\" class=\"para\">第 ").append(i)
+                    .append(" 段 <strong>加粗</strong> <a href=\"https://refinex.cn/doc/").append(i).append("\" target=\"_blank\">链接</a>")
+                    .append(" <img src=\"https://cdn.refinex.cn/").append(i).append(".png\" onerror=\"alert(1)\">")
+                    .append("<script>document.cookie</script>")
+                    .append("<a href=\"javascript:alert('xss')\">恶意链接</a></p>\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 生成内容文档实体
+     *
+     * @param id 文档ID
+     * @return 内容文档实体
+     */
+    public static ContentDocument document(long id) {
+        LocalDateTime now = LocalDateTime.of(2025, 10, 5, 14, 30, 0);
+        return ContentDocument.builder()
+                .id(id)
+                .docGuid("doc-" + id)
+                .spaceId(1L)
+                .directoryId(10L)
+                .docTitle("Java 并发编程实践 " + id)
+                .docSummary("深入理解Java多线程的核心概念和实践技巧")
+                .contentType("MARKDOWN")
+                .contentBody(markdown(2))
+                .coverImage("https://cdn.refinex.cn/cover/" + id + ".png")
+                .accessType(0)
+                .isPaid(0)
+                .paidAmount(0L)
+                .docStatus(1)
+                .publishTime(now)
+                .wordCount(1200)
+                .readDuration(5)
+                .viewCount(1024L)
+                .likeCount(64L)
+                .collectCount(32L)
+                .commentCount(8L)
+                .shareCount(4L)
+                .seoKeywords("Java,并发,线程池")
+                .seoDescription("深入理解Java多线程的核心概念和实践技巧")
+                .versionNumber(5)
+                .createBy(1L)
+                .createTime(now)
+                .updateBy(1L)
+                .updateTime(now)
+                .deleted(0)
+                .version(0)
+                .sort(0)
+                .status(1)
+                .build();
+    }
+}
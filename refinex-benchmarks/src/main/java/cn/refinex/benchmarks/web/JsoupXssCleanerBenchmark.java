@@ -0,0 +1,68 @@
+package cn.refinex.benchmarks.web;
+
+import cn.refinex.benchmarks.support.BenchmarkData;
+import cn.refinex.common.xss.core.clean.JsoupXssCleaner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JsoupXssCleaner} 基准测试（XSS 过滤对每个请求参数、JSON 字符串字段调用）
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JsoupXssCleanerBenchmark {
+
+    /**
+     * 富文本段落数
+     */
+    @Param({"1", "50"})
+    public int paragraphs;
+
+    private JsoupXssCleaner cleaner;
+
+    private String html;
+
+    private String plainText;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        cleaner = new JsoupXssCleaner();
+        html = BenchmarkData.html(paragraphs);
+        plainText = "Java 并发编程实践 ".repeat(paragraphs);
+    }
+
+    /**
+     * 富文本（含脚本、事件属性）
+     */
+    @Benchmark
+    public String cleanHtml() {
+        return cleaner.clean(html);
+    }
+
+    /**
+     * 普通文本（绝大多数请求参数）
+     */
+    @Benchmark
+    public String cleanPlainText() {
+        return cleaner.clean(plainText);
+    }
+}
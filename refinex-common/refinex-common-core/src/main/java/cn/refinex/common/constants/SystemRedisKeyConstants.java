@@ -3,6 +3,11 @@ package cn.refinex.common.constants;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
 /**
  * 全局 Redis 键常量
  *
@@ -12,6 +17,22 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SystemRedisKeyConstants {
 
+    /**
+     * 计算查询条件的 SHA-256 摘要（十六进制），用作分页查询缓存键，不同条件不会因哈希碰撞读到彼此的结果
+     *
+     * @param condition 查询条件与分页参数拼接的字符串
+     * @return 摘要
+     */
+    private static String digest(String condition) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(condition.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // JDK 必须提供 SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * 权限系统相关缓存键
      * <p>
@@ -38,6 +59,20 @@ public final class SystemRedisKeyConstants {
         /** 菜单相关缓存键前缀 */
         private static final String MENU_PREFIX = PERMISSION_PREFIX + "menu:";
 
+        // ==================== 用户角色权限缓存名称（Spring Cache） ====================
+
+        /**
+         * 用户角色编码缓存名称（键为用户ID，30 分钟过期）
+         * <p>启用二级缓存时在本地缓存一份，Redis 键格式与 {@link #userRoles(Long)} 一致</p>
+         */
+        public static final String USER_ROLES_CACHE = USER_PREFIX + "roles#30m";
+
+        /**
+         * 用户权限编码缓存名称（键为用户ID，30 分钟过期）
+         * <p>启用二级缓存时在本地缓存一份，Redis 键格式与 {@link #userPermissions(Long)} 一致</p>
+         */
+        public static final String USER_PERMISSIONS_CACHE = USER_PREFIX + "permissions#30m";
+
         // ==================== 用户角色权限缓存键 ====================
 
         /**
@@ -319,6 +354,22 @@ public final class SystemRedisKeyConstants {
         public static String userPermissionVersion(Long userId) {
             return USER_PREFIX + "version:" + userId;
         }
+
+        // ==================== 权限变更广播 ====================
+
+        /**
+         * 权限变更广播 Channel
+         * <p>
+         * Redis数据类型：Pub/Sub Channel
+         * 消息内容：{@link cn.refinex.common.domain.model.PermissionChangeEvent}
+         * 用途：platform 服务在用户角色、角色权限变更后广播，网关等服务据此失效本地权限缓存
+         * </p>
+         *
+         * @return Channel 名称，格式：permission:change
+         */
+        public static String changeChannel() {
+            return PERMISSION_PREFIX + "change";
+        }
     }
 
     /**
@@ -388,19 +439,14 @@ public final class SystemRedisKeyConstants {
         // ==================== 字典类型缓存键 ====================
 
         /**
-         * 字典类型缓存键（按编码）
+         * 字典类型缓存名称（按编码，Spring Cache，键为字典编码）
          * <p>
-         * Redis数据类型：String（JSON格式的字典类型信息）
-         * 缓存内容：字典类型详细信息
-         * 失效时间：3600秒（1小时）+ 随机偏移
+         * 缓存内容：字典类型详细信息，不存在的编码缓存空值防穿透
+         * 失效时间：3600秒（1小时）；启用二级缓存时在本地缓存一份
+         * Redis 键格式：dict:type:code:{dictCode}
          * </p>
-         *
-         * @param dictCode 字典编码
-         * @return 缓存键，格式：dict:type:code:{dictCode}
          */
-        public static String dictTypeByCode(String dictCode) {
-            return DICT_TYPE_PREFIX + "code:" + dictCode;
-        }
+        public static final String DICT_TYPE_BY_CODE_CACHE = DICT_TYPE_PREFIX + "code#" + DICT_TYPE_CACHE_TTL + "s";
 
         /**
          * 字典类型缓存键（按ID）
@@ -432,12 +478,21 @@ public final class SystemRedisKeyConstants {
         }
 
         /**
-         * 字典类型分页查询缓存键
+         * 字典类型分页查询缓存命名空间
+         * <p>
+         * 分页查询缓存按命名空间代数失效（CacheNamespaceManager），字典类型变更时只需将代数加一，
+         * 旧代数的缓存延迟后在后台清理
+         * </p>
+         */
+        public static final String DICT_TYPE_PAGE_QUERY_NAMESPACE = DICT_TYPE_PREFIX + "page_query";
+
+        /**
+         * 字典类型分页查询缓存键（命名空间内）
          * <p>
          * Redis数据类型：String（JSON格式的分页结果）
          * 缓存内容：字典类型分页查询结果
          * 失效时间：180秒（3分钟）
-         * 注意：分页查询缓存时间较短，避免数据不一致
+         * 注意：需与 {@link #DICT_TYPE_PAGE_QUERY_NAMESPACE} 组合成带代数的完整缓存键
          * </p>
          *
          * @param dictCode 字典编码（可选）
@@ -447,7 +502,7 @@ public final class SystemRedisKeyConstants {
          * @param pageSize 每页大小
          * @param orderBy 排序字段
          * @param orderDirection 排序方向
-         * @return 缓存键，格式：dict:type:page_query:{hash}
+         * @return 命名空间内的缓存键，完整格式：dict:type:page_query:v{generation}:{sha256}
          */
         public static String dictTypePageQuery(String dictCode, String dictName, Integer status,
                                                 int pageNum, int pageSize, String orderBy, String orderDirection) {
@@ -461,39 +516,21 @@ public final class SystemRedisKeyConstants {
             keyBuilder.append("|order:").append(orderBy == null ? "null" : orderBy);
             keyBuilder.append("|dir:").append(orderDirection == null ? "null" : orderDirection);
 
-            // 使用 hashCode 生成简短的缓存键
-            int hash = keyBuilder.toString().hashCode();
-            return DICT_TYPE_PREFIX + "page_query:" + hash;
-        }
-
-        /**
-         * 字典类型分页查询缓存通配符
-         * <p>
-         * 用于批量删除所有分页查询缓存
-         * </p>
-         *
-         * @return 缓存键通配符，格式：dict:type:page_query:*
-         */
-        public static String dictTypePageQueryPattern() {
-            return DICT_TYPE_PREFIX + "page_query:*";
+            // 使用摘要生成定长的缓存键
+            return digest(keyBuilder.toString());
         }
 
         // ==================== 字典数据缓存键 ====================
 
         /**
-         * 字典数据列表缓存键（按类型编码）
+         * 字典数据列表缓存名称（按类型编码，Spring Cache，键为字典编码）
          * <p>
-         * Redis数据类型：String（JSON格式的字典数据列表）
          * 缓存内容：指定字典类型下的所有数据项列表
-         * 失效时间：1800秒（30分钟）+ 随机偏移
+         * 失效时间：1800秒（30分钟）；启用二级缓存时在本地缓存一份
+         * Redis 键格式：dict:data:list:{dictCode}
          * </p>
-         *
-         * @param dictCode 字典编码
-         * @return 缓存键，格式：dict:data:list:{dictCode}
          */
-        public static String dictDataListByCode(String dictCode) {
-            return DICT_DATA_PREFIX + "list:" + dictCode;
-        }
+        public static final String DICT_DATA_LIST_CACHE = DICT_DATA_PREFIX + "list#" + DICT_DATA_LIST_CACHE_TTL + "s";
 
         /**
          * 字典数据详情缓存键（按ID）
@@ -573,19 +610,83 @@ public final class SystemRedisKeyConstants {
     public static class SysConfig {
 
         /**
-         * 前端可见配置缓存 Key 前缀
-         * KEY 格式：config:frontend:{configKey}
+         * 系统配置缓存名称（Spring Cache，键为配置键，30 分钟过期）
+         * <p>启用二级缓存时在本地缓存一份，Redis 键格式：config:key:{configKey}</p>
+         */
+        public static final String CONFIG_BY_KEY_CACHE = "config:key#30m";
+
+        /**
+         * 系统配置分页查询缓存命名空间（按代数失效）
+         * KEY 格式：config:page_query:v{generation}:{sha256}
          */
-        public static final String FRONTEND_CONFIG_CACHE_PREFIX = "config:frontend:";
+        public static final String CONFIG_PAGE_QUERY_NAMESPACE = "config:page_query";
 
         /**
-         * 构建前端可见配置缓存 Key
+         * 系统配置分页查询缓存过期时间（秒）- 3 分钟
+         */
+        public static final long CONFIG_PAGE_QUERY_CACHE_TTL = 180L;
+
+        /**
+         * 构建系统配置分页查询缓存 Key（命名空间内）
          *
-         * @param configKey 配置键
-         * @return 缓存 Key
+         * @param condition 查询条件与分页参数拼接的字符串
+         * @return 命名空间内的缓存 Key
+         */
+        public static String buildConfigPageQueryCacheKey(String condition) {
+            return digest(condition);
+        }
+    }
+
+    /**
+     * 角色模块缓存键
+     */
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Role {
+
+        /**
+         * 角色分页查询缓存命名空间（按代数失效）
+         * KEY 格式：role:page_query:v{generation}:{sha256}
+         */
+        public static final String ROLE_PAGE_QUERY_NAMESPACE = "role:page_query";
+
+        /**
+         * 角色分页查询缓存过期时间（秒）- 3 分钟
+         */
+        public static final long ROLE_PAGE_QUERY_CACHE_TTL = 180L;
+
+        /**
+         * 构建角色分页查询缓存 Key（命名空间内）
+         *
+         * @param condition 查询条件与分页参数拼接的字符串
+         * @return 命名空间内的缓存 Key
+         */
+        public static String buildRolePageQueryCacheKey(String condition) {
+            return digest(condition);
+        }
+    }
+
+    /**
+     * 限流模块缓存键
+     */
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class RateLimit {
+
+        /** 限流缓存键前缀（与 @RateLimiter 注解限流一致） */
+        private static final String RATE_LIMITER_PREFIX = "rate_limiter:";
+
+        /**
+         * 网关限流令牌桶
+         * <p>
+         * Redis数据类型：Hash（tokens: 剩余令牌数, ts: 上次补充令牌的时间）
+         * 用途：网关各节点通过 Lua 脚本从同一令牌桶批量租用令牌
+         * </p>
+         *
+         * @param ruleId 限流规则 ID
+         * @param key    限流键（路由、用户、IP 或客户端 ID）
+         * @return 缓存键，格式：rate_limiter:gateway:{ruleId}:{key}
          */
-        public static String buildFrontendConfigCacheKey(String configKey) {
-            return FRONTEND_CONFIG_CACHE_PREFIX + configKey;
+        public static String gatewayBucket(String ruleId, String key) {
+            return RATE_LIMITER_PREFIX + "gateway:" + ruleId + ":" + key;
         }
     }
 }
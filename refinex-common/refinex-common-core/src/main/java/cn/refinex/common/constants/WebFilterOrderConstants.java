@@ -24,6 +24,11 @@ public final class WebFilterOrderConstants {
      */
     public static final int TRACE_FILTER = CORS_FILTER + 1;
 
+    /**
+     * 读写分离路由上下文清理过滤器顺序, 包裹其余过滤器，确保请求内的所有数据库访问结束后再清理
+     */
+    public static final int READ_WRITE_ROUTING_FILTER = TRACE_FILTER + 1;
+
      /**
      * 请求体缓存过滤器顺序
      */
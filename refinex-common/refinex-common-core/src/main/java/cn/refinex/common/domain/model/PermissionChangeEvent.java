@@ -0,0 +1,75 @@
+package cn.refinex.common.domain.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 权限变更事件
+ * <p>
+ * 由 platform 服务通过 Redis Pub/Sub 广播（Channel 见 SystemRedisKeyConstants.Permission#changeChannel），
+ * {@code userIds} 为空表示影响所有用户（如角色权限、权限定义变更），否则只影响列出的用户（如用户角色绑定变更）。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@Schema(description = "权限变更事件")
+public class PermissionChangeEvent implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Schema(description = "受影响的用户ID，为空表示所有用户")
+    private List<Long> userIds = new ArrayList<>();
+
+    @Schema(description = "变更原因")
+    private String reason;
+
+    @Schema(description = "变更时间(毫秒时间戳)")
+    private Long timestamp;
+
+    /**
+     * 创建影响指定用户的权限变更事件
+     *
+     * @param userIds 用户ID
+     * @param reason  变更原因
+     * @return 权限变更事件
+     */
+    public static PermissionChangeEvent ofUsers(Collection<Long> userIds, String reason) {
+        PermissionChangeEvent event = new PermissionChangeEvent();
+        event.setUserIds(new ArrayList<>(userIds));
+        event.setReason(reason);
+        event.setTimestamp(System.currentTimeMillis());
+        return event;
+    }
+
+    /**
+     * 创建影响所有用户的权限变更事件
+     *
+     * @param reason 变更原因
+     * @return 权限变更事件
+     */
+    public static PermissionChangeEvent ofAll(String reason) {
+        PermissionChangeEvent event = new PermissionChangeEvent();
+        event.setReason(reason);
+        event.setTimestamp(System.currentTimeMillis());
+        return event;
+    }
+
+    /**
+     * 是否影响所有用户
+     *
+     * @return userIds 为空时返回 true
+     */
+    public boolean affectsAllUsers() {
+        return userIds == null || userIds.isEmpty();
+    }
+}
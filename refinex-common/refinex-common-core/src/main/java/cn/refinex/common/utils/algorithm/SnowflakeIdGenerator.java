@@ -1,5 +1,8 @@
 package cn.refinex.common.utils.algorithm;
 
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
 /**
  * 分布式唯一ID生成器 - Snowflake 算法实现
  * <p>
@@ -12,8 +15,12 @@ package cn.refinex.common.utils.algorithm;
  * - 每毫秒最多生成 4096 个 ID，由 12 位序列号决定
  * <p>
  * 改进：
- * - 支持时钟回拨容错策略（可配置）
- * - 更优雅的单例与线程安全处理
+ * - 无锁：时间戳与序列号打包在一个 long 中，通过 CAS 推进
+ * - 时钟回拨容错：回拨在容忍范围内时继续沿用上次的时间戳发号，不等待也不报错
+ * - 序列借用：同一毫秒序列号用完时借用下一毫秒的序列空间，超前不超过容忍范围，超出时才等待时钟追上
+ * - 支持批量获取 {@link #nextIds(int)}，一次 CAS 预留多个序列号
+ * - 节点ID（数据中心ID + 工作节点ID）可在运行期重新分配（如 Redis 租约丢失后）
+ * - 节点ID来自租约时可设置有效截止时间 {@link #setNodeIdDeadline(LongSupplier)}，租约未及时续期时拒绝发号
  *
  * @author Refinex
  * @since 1.0.0
@@ -37,6 +44,8 @@ public class SnowflakeIdGenerator {
     private static final long MAX_WORKER_ID = ~(-1L << WORKER_ID_BITS);
     /** 最大数据中心ID */
     private static final long MAX_DATACENTER_ID = ~(-1L << DATACENTER_ID_BITS);
+    /** 最大节点ID（数据中心ID + 工作节点ID 组成的 10 位） */
+    public static final long MAX_NODE_ID = ~(-1L << (WORKER_ID_BITS + DATACENTER_ID_BITS));
 
     /** 位移量 */
     /** 工作节点ID左移位数 */
@@ -50,18 +59,21 @@ public class SnowflakeIdGenerator {
     private static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);
 
     // ============================== 成员变量 ===================================
-    /** 工作节点ID */
-    private final long workerId;
-    /** 数据中心ID */
-    private final long datacenterId;
-    /** 序列号 */
-    private long sequence = 0L;
-    /** 上次生成ID的时间戳 */
-    private long lastTimestamp = -1L;
-
-    /** 时钟回拨允许的最大容忍毫秒数，默认2ms（可配置） */
+    /** 节点ID位（已左移的数据中心ID | 工作节点ID） */
+    private volatile long nodeBits;
+
+    /** 上次发号状态：(相对时间戳 << 12) | 序列号 */
+    private final AtomicLong state;
+
+    /** 时钟回拨允许的最大容忍毫秒数，默认2ms（可配置），同时也是序列借用允许超前的最大毫秒数 */
     private final long maxBackwardMs;
 
+    /** 节点ID有效截止时间（毫秒），为 null 时节点ID长期有效 */
+    private volatile LongSupplier nodeIdDeadline;
+
+    /** 时钟（毫秒） */
+    private final LongSupplier clock;
+
     // ============================== 构造方法 ===================================
 
     /**
@@ -82,76 +94,220 @@ public class SnowflakeIdGenerator {
      * @param maxBackwardMs 时钟回拨允许的最大容忍毫秒数，默认2ms（可配置）
      */
     public SnowflakeIdGenerator(long workerId, long datacenterId, long maxBackwardMs) {
-        if (workerId > MAX_WORKER_ID || workerId < 0) {
-            throw new IllegalArgumentException(String.format("WorkerId 必须在 0-%d 范围内", MAX_WORKER_ID));
+        this(workerId, datacenterId, maxBackwardMs, System::currentTimeMillis);
+    }
+
+    /**
+     * 构造函数（指定时钟，如测试中使用可控时钟）
+     *
+     * @param workerId      工作节点ID，范围 0-31
+     * @param datacenterId  数据中心ID，范围 0-31
+     * @param maxBackwardMs 时钟回拨允许的最大容忍毫秒数
+     * @param clock         时钟（毫秒）
+     */
+    public SnowflakeIdGenerator(long workerId, long datacenterId, long maxBackwardMs, LongSupplier clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("时钟不能为空");
         }
-        if (datacenterId > MAX_DATACENTER_ID || datacenterId < 0) {
-            throw new IllegalArgumentException(String.format("DatacenterId 必须在 0-%d 范围内", MAX_DATACENTER_ID));
+        if (maxBackwardMs < 0) {
+            throw new IllegalArgumentException("MaxBackwardMs 不能小于 0");
         }
-
-        this.workerId = workerId;
-        this.datacenterId = datacenterId;
+        this.nodeBits = toNodeBits(workerId, datacenterId);
         this.maxBackwardMs = maxBackwardMs;
+        this.clock = clock;
+        // 从当前毫秒开始，序列号置为最大值，使第一次发号进入下一毫秒
+        this.state = new AtomicLong(((timeGen() - TWEPOCH - 1) << SEQUENCE_BITS) | SEQUENCE_MASK);
+    }
+
+    /**
+     * 按 10 位节点ID 创建生成器（高 5 位为数据中心ID，低 5 位为工作节点ID）
+     *
+     * @param nodeId        节点ID，范围 0-1023
+     * @param maxBackwardMs 时钟回拨允许的最大容忍毫秒数
+     * @return 生成器
+     */
+    public static SnowflakeIdGenerator ofNodeId(long nodeId, long maxBackwardMs) {
+        return ofNodeId(nodeId, maxBackwardMs, System::currentTimeMillis);
+    }
+
+    /**
+     * 按 10 位节点ID 创建使用指定时钟的生成器
+     *
+     * @param nodeId        节点ID，范围 0-1023
+     * @param maxBackwardMs 时钟回拨允许的最大容忍毫秒数
+     * @param clock         时钟（毫秒）
+     * @return 生成器
+     */
+    public static SnowflakeIdGenerator ofNodeId(long nodeId, long maxBackwardMs, LongSupplier clock) {
+        if (nodeId > MAX_NODE_ID || nodeId < 0) {
+            throw new IllegalArgumentException(String.format("NodeId 必须在 0-%d 范围内", MAX_NODE_ID));
+        }
+        return new SnowflakeIdGenerator(nodeId & MAX_WORKER_ID, nodeId >> WORKER_ID_BITS, maxBackwardMs, clock);
     }
 
     // ============================== 生成方法 ===================================
 
     /**
-     * 获取下一个唯一ID（线程安全）
+     * 获取下一个唯一ID（线程安全，无锁）
      *
      * @return long 唯一ID
      */
-    public synchronized long nextId() {
-        long timestamp = timeGen();
-
-        // 处理时钟回拨: 若当前时间戳小于上次生成ID的时间戳，可能是时钟回拨
-        if (timestamp < lastTimestamp) {
-            // 时钟回拨检测: 计算回拨偏移量
-            long offset = lastTimestamp - timestamp;
-            // 若回拨偏移量小于等于最大容忍毫秒数，等待到 lastTimestamp 后继续
-            if (offset <= maxBackwardMs) {
-                // 等待到 lastTimestamp 后继续
-                timestamp = tilNextMillis(lastTimestamp);
-            } else {
-                // 时钟回拨超出容忍范围，抛出异常
-                throw new RuntimeException(String.format("时钟回拨超过容忍范围：%d ms", offset));
+    public long nextId() {
+        checkNodeIdDeadline();
+        while (true) {
+            long current = state.get();
+            long next = advance(current);
+            if (next >= 0 && state.compareAndSet(current, next)) {
+                return compose(next);
             }
         }
+    }
 
-        // 同一毫秒内自增序列
-        if (lastTimestamp == timestamp) {
-            sequence = (sequence + 1) & SEQUENCE_MASK;
-            if (sequence == 0) {
-                // 序列溢出，等到下一毫秒
-                timestamp = tilNextMillis(lastTimestamp);
+    /**
+     * 批量获取唯一ID（线程安全，无锁）
+     * <p>
+     * 每次 CAS 预留当前毫秒剩余的序列号，同一批内的 ID 严格递增。
+     *
+     * @param count 数量
+     * @return ID 数组
+     */
+    public long[] nextIds(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("批量获取 ID 数量必须大于 0");
+        }
+
+        checkNodeIdDeadline();
+        long[] ids = new long[count];
+        int filled = 0;
+        while (filled < count) {
+            long current = state.get();
+            long first = advance(current);
+            if (first < 0) {
+                continue;
+            }
+            // 在 first 所在毫秒内尽量多预留
+            long take = Math.min(count - filled, SEQUENCE_MASK - (first & SEQUENCE_MASK) + 1);
+            long last = first + take - 1;
+            if (state.compareAndSet(current, last)) {
+                for (long value = first; value <= last; value++) {
+                    ids[filled++] = compose(value);
+                }
             }
-        } else {
-            // 毫秒变更，序列重置
-            sequence = 0L;
         }
+        return ids;
+    }
+
+    /**
+     * 重新分配节点ID
+     * <p>
+     * 用于节点ID租约丢失后切换到新的节点ID，新旧节点ID各自唯一，切换前后发出的 ID 不会重复。
+     *
+     * @param workerId     工作节点ID，范围 0-31
+     * @param datacenterId 数据中心ID，范围 0-31
+     */
+    public void reassign(long workerId, long datacenterId) {
+        this.nodeBits = toNodeBits(workerId, datacenterId);
+    }
+
+    /**
+     * 按 10 位节点ID 重新分配
+     *
+     * @param nodeId 节点ID，范围 0-1023
+     */
+    public void reassignNodeId(long nodeId) {
+        if (nodeId > MAX_NODE_ID || nodeId < 0) {
+            throw new IllegalArgumentException(String.format("NodeId 必须在 0-%d 范围内", MAX_NODE_ID));
+        }
+        reassign(nodeId & MAX_WORKER_ID, nodeId >> WORKER_ID_BITS);
+    }
 
-        // 更新上次生成ID的时间戳
-        lastTimestamp = timestamp;
+    /**
+     * 设置节点ID有效截止时间
+     * <p>
+     * 节点ID来自 Redis 租约等有期限的分配方式时使用，超过截止时间后租约可能已被其他实例占用，
+     * 此时拒绝发号，直到租约续期成功后截止时间推后。
+     *
+     * @param nodeIdDeadline 截止时间（毫秒）提供者，为 null 时不校验
+     */
+    public void setNodeIdDeadline(LongSupplier nodeIdDeadline) {
+        this.nodeIdDeadline = nodeIdDeadline;
+    }
 
-        // 生成ID: 组合时间戳、数据中心ID、工作节点ID、序列号
-        return ((timestamp - TWEPOCH) << TIMESTAMP_LEFT_SHIFT)
-                | (datacenterId << DATACENTER_ID_SHIFT)
-                | (workerId << WORKER_ID_SHIFT)
-                | sequence;
+    /**
+     * 校验节点ID是否仍在有效期内
+     */
+    private void checkNodeIdDeadline() {
+        LongSupplier deadline = this.nodeIdDeadline;
+        if (deadline == null) {
+            return;
+        }
+        long expiredMs = timeGen() - deadline.getAsLong();
+        if (expiredMs >= 0) {
+            throw new IllegalStateException(String.format("节点ID租约未及时续期，已超过有效期 %d ms，拒绝发号", expiredMs));
+        }
     }
 
     /**
-     * 等待直到下一个毫秒，确保生成的ID时间戳是严格递增的
+     * 计算下一个状态
      *
-     * @param lastTimestamp 上次生成ID的时间戳
-     * @return 下一个毫秒的时间戳
+     * @param current 当前状态
+     * @return 下一个状态（第一个可用的时间戳与序列号），需要等待时返回 -1
      */
-    private long tilNextMillis(long lastTimestamp) {
-        long timestamp = timeGen();
-        while (timestamp <= lastTimestamp) {
-            timestamp = timeGen();
+    private long advance(long current) {
+        long lastTimestamp = current >>> SEQUENCE_BITS;
+        long sequence = current & SEQUENCE_MASK;
+        long timestamp = timeGen() - TWEPOCH;
+
+        // 时钟前进：新毫秒从 0 开始
+        if (timestamp > lastTimestamp) {
+            return timestamp << SEQUENCE_BITS;
+        }
+
+        // 时钟回拨检测: 超出容忍范围（序列借用最多超前 maxBackwardMs，超出只能是回拨）
+        long offset = lastTimestamp - timestamp;
+        if (offset > maxBackwardMs) {
+            throw new IllegalStateException(String.format("时钟回拨超过容忍范围：%d ms", offset));
+        }
+
+        // 同一毫秒（或容忍范围内的回拨）沿用上次时间戳自增序列
+        if (sequence < SEQUENCE_MASK) {
+            return current + 1;
+        }
+
+        // 序列溢出：借用下一毫秒，超前超过容忍范围时等待时钟追上
+        if (lastTimestamp + 1 - timestamp > maxBackwardMs) {
+            Thread.onSpinWait();
+            return -1;
+        }
+        return (lastTimestamp + 1) << SEQUENCE_BITS;
+    }
+
+    /**
+     * 组合 ID
+     *
+     * @param value 状态（时间戳与序列号）
+     * @return ID
+     */
+    private long compose(long value) {
+        long timestamp = value >>> SEQUENCE_BITS;
+        return (timestamp << TIMESTAMP_LEFT_SHIFT) | nodeBits | (value & SEQUENCE_MASK);
+    }
+
+    /**
+     * 校验并组合节点ID位
+     *
+     * @param workerId     工作节点ID
+     * @param datacenterId 数据中心ID
+     * @return 节点ID位
+     */
+    private static long toNodeBits(long workerId, long datacenterId) {
+        if (workerId > MAX_WORKER_ID || workerId < 0) {
+            throw new IllegalArgumentException(String.format("WorkerId 必须在 0-%d 范围内", MAX_WORKER_ID));
+        }
+        if (datacenterId > MAX_DATACENTER_ID || datacenterId < 0) {
+            throw new IllegalArgumentException(String.format("DatacenterId 必须在 0-%d 范围内", MAX_DATACENTER_ID));
         }
-        return timestamp;
+        return (datacenterId << DATACENTER_ID_SHIFT) | (workerId << WORKER_ID_SHIFT);
     }
 
     /**
@@ -160,6 +316,6 @@ public class SnowflakeIdGenerator {
      * @return 当前时间（毫秒）
      */
     private long timeGen() {
-        return System.currentTimeMillis();
+        return clock.getAsLong();
     }
 }
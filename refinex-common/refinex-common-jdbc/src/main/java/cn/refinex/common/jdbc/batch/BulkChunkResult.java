@@ -0,0 +1,76 @@
+package cn.refinex.common.jdbc.batch;
+
+import lombok.Data;
+import lombok.ToString;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 批量写入分块结果
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+@ToString
+public class BulkChunkResult implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 分块序号（从0开始）
+     */
+    private int index;
+
+    /**
+     * 分块在输入列表中的起始下标（包含）
+     */
+    private int fromIndex;
+
+    /**
+     * 分块在输入列表中的结束下标（不包含）
+     */
+    private int toIndex;
+
+    /**
+     * 是否成功
+     */
+    private boolean success;
+
+    /**
+     * 是否因前序分块失败而跳过
+     */
+    private boolean skipped;
+
+    /**
+     * 数据库返回的影响行数
+     */
+    private long affectedRows;
+
+    /**
+     * 耗时（毫秒）
+     */
+    private long elapsedMs;
+
+    /**
+     * 失败原因
+     */
+    private String errorMessage;
+
+    /**
+     * 失败异常
+     */
+    @ToString.Exclude
+    private transient Throwable cause;
+
+    /**
+     * 获取分块行数
+     *
+     * @return 行数
+     */
+    public int getRowCount() {
+        return toIndex - fromIndex;
+    }
+}
@@ -0,0 +1,102 @@
+package cn.refinex.common.jdbc.batch;
+
+import lombok.Data;
+import lombok.ToString;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 批量写入选项
+ * <p>
+ * 数据按行数（{@link #chunkSize}）与估算字节数（{@link #maxChunkBytes}）切分为多个分块，每个分块一次往返写入:
+ * <ul>
+ *     <li>开启 {@link #multiRowInsert} 且方言支持时，分块被改写为一条多行 {@code INSERT ... VALUES (...), (...)}</li>
+ *     <li>指定 {@link #updateColumns} 时改写为方言的插入或更新语句（MySQL 为 {@code ON DUPLICATE KEY UPDATE}）</li>
+ *     <li>否则以单行 INSERT 的 JDBC 批处理发送</li>
+ * </ul>
+ * {@link #parallelism} 大于 1 时分块在有界线程池中并行写入；并行写入的分块使用各自的连接，
+ * 不参与调用方事务，因此当前线程存在事务时自动退化为串行写入。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+@ToString
+public class BulkWriteOptions implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 每个分块的最大行数（默认 500）
+     */
+    private int chunkSize = 500;
+
+    /**
+     * 每个分块的最大估算字节数（默认 4MB，需小于 MySQL max_allowed_packet），小于等于 0 表示不限制
+     */
+    private long maxChunkBytes = 4L * 1024 * 1024;
+
+    /**
+     * 是否改写为多行 VALUES 插入（默认开启，方言不支持时自动回退为 JDBC 批处理）
+     */
+    private boolean multiRowInsert = true;
+
+    /**
+     * 冲突判定列（PostgreSQL ON CONFLICT 需要，MySQL 忽略）
+     */
+    private List<String> conflictColumns = new ArrayList<>();
+
+    /**
+     * 冲突时更新的列，非空时执行插入或更新
+     */
+    private List<String> updateColumns = new ArrayList<>();
+
+    /**
+     * 并行写入的分块数（默认 1，即串行）
+     */
+    private int parallelism = 1;
+
+    /**
+     * 分块失败后是否继续写入其余分块（默认否，后续未开始的分块标记为跳过）
+     */
+    private boolean continueOnError = false;
+
+    /**
+     * 是否记录每个分块的 SQL 日志
+     */
+    private boolean logSql = false;
+
+    /**
+     * 默认选项
+     *
+     * @return 默认选项
+     */
+    public static BulkWriteOptions defaults() {
+        return new BulkWriteOptions();
+    }
+
+    /**
+     * 是否为插入或更新
+     *
+     * @return 是否为插入或更新
+     */
+    public boolean isUpsert() {
+        return updateColumns != null && !updateColumns.isEmpty();
+    }
+
+    /**
+     * 校验选项
+     */
+    public void validate() {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("分块行数必须大于0");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("并行度必须大于0");
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package cn.refinex.common.jdbc.batch;
+
+import lombok.Data;
+import lombok.ToString;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 批量写入结果
+ * <p>
+ * 分块之间相互独立，部分分块失败时其余分块的写入结果仍然保留，调用方可根据 {@link #getFailedChunks()}
+ * 中的下标区间对失败数据重试或记录。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+@ToString
+public class BulkWriteResult implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 输入总行数
+     */
+    private int totalRows;
+
+    /**
+     * 写入成功的行数
+     */
+    private int successRows;
+
+    /**
+     * 写入失败（含跳过）的行数
+     */
+    private int failedRows;
+
+    /**
+     * 数据库返回的影响行数合计
+     */
+    private long affectedRows;
+
+    /**
+     * 总耗时（毫秒）
+     */
+    private long elapsedMs;
+
+    /**
+     * 分块结果（按分块序号排列）
+     */
+    private List<BulkChunkResult> chunks = new ArrayList<>();
+
+    /**
+     * 是否全部成功
+     *
+     * @return 是否全部成功
+     */
+    public boolean isSuccess() {
+        return failedRows == 0;
+    }
+
+    /**
+     * 获取失败（含跳过）的分块
+     *
+     * @return 失败分块
+     */
+    public List<BulkChunkResult> getFailedChunks() {
+        return chunks.stream().filter(chunk -> !chunk.isSuccess()).toList();
+    }
+
+    /**
+     * 汇总分块结果
+     *
+     * @param totalRows 输入总行数
+     * @param chunks    分块结果
+     * @param elapsedMs 总耗时（毫秒）
+     * @return 批量写入结果
+     */
+    public static BulkWriteResult of(int totalRows, List<BulkChunkResult> chunks, long elapsedMs) {
+        BulkWriteResult result = new BulkWriteResult();
+        result.setTotalRows(totalRows);
+        result.setChunks(chunks);
+        result.setElapsedMs(elapsedMs);
+
+        for (BulkChunkResult chunk : chunks) {
+            if (chunk.isSuccess()) {
+                result.successRows += chunk.getRowCount();
+                result.affectedRows += chunk.getAffectedRows();
+            } else {
+                result.failedRows += chunk.getRowCount();
+            }
+        }
+        return result;
+    }
+}
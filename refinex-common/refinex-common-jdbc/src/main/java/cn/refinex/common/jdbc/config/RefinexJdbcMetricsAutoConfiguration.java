@@ -0,0 +1,83 @@
+package cn.refinex.common.jdbc.config;
+
+import cn.refinex.common.jdbc.metrics.SqlMetricsEndpoint;
+import cn.refinex.common.jdbc.metrics.SqlMetricsMeterBinder;
+import cn.refinex.common.jdbc.metrics.SqlMetricsRegistry;
+import cn.refinex.common.jdbc.sql.ParsedSqlCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SQL 执行指标自动配置类
+ * <p>
+ * 在 {@link SqlMetricsRegistry} 存在的前提下:
+ * <ul>
+ *     <li>类路径存在 Actuator 时注册 {@code sqlmetrics} 端点</li>
+ *     <li>类路径存在 Micrometer 时将指纹统计导出为 {@code refinex.jdbc.sql.*} 指标</li>
+ * </ul>
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+@AutoConfiguration(after = RefinexJdbcTemplateAutoConfiguration.class)
+@ConditionalOnBean(SqlMetricsRegistry.class)
+public class RefinexJdbcMetricsAutoConfiguration {
+
+    /**
+     * Actuator 端点配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({Endpoint.class, ConditionalOnAvailableEndpoint.class})
+    static class SqlMetricsEndpointConfiguration {
+
+        /**
+         * 配置 SQL 执行指标端点
+         *
+         * @param sqlMetricsRegistry SQL 执行指标注册表
+         * @param parsedSqlCaches    预解析 SQL 缓存（可选）
+         * @return SQL 执行指标端点
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnAvailableEndpoint(endpoint = SqlMetricsEndpoint.class)
+        public SqlMetricsEndpoint sqlMetricsEndpoint(SqlMetricsRegistry sqlMetricsRegistry, ObjectProvider<ParsedSqlCache> parsedSqlCaches) {
+            log.info("注册 SQL 执行指标端点: sqlmetrics");
+            SqlMetricsEndpoint endpoint = new SqlMetricsEndpoint(sqlMetricsRegistry);
+            endpoint.setParsedSqlCache(parsedSqlCaches.getIfAvailable());
+            return endpoint;
+        }
+    }
+
+    /**
+     * Micrometer 指标配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class SqlMetricsMeterBinderConfiguration {
+
+        /**
+         * 配置 SQL 执行指标 Micrometer 绑定器
+         *
+         * @param sqlMetricsRegistry SQL 执行指标注册表
+         * @param parsedSqlCaches    预解析 SQL 缓存（可选）
+         * @return Micrometer 绑定器
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public SqlMetricsMeterBinder sqlMetricsMeterBinder(SqlMetricsRegistry sqlMetricsRegistry, ObjectProvider<ParsedSqlCache> parsedSqlCaches) {
+            SqlMetricsMeterBinder binder = new SqlMetricsMeterBinder(sqlMetricsRegistry);
+            binder.setParsedSqlCache(parsedSqlCaches.getIfAvailable());
+            return binder;
+        }
+    }
+}
@@ -1,26 +1,52 @@
 package cn.refinex.common.jdbc.config;
 
+import cn.refinex.common.constants.WebFilterOrderConstants;
 import cn.refinex.common.jdbc.config.properties.JdbcTemplateProperties;
+import cn.refinex.common.jdbc.core.CachingNamedParameterJdbcTemplate;
 import cn.refinex.common.jdbc.core.JdbcTemplateManager;
 import cn.refinex.common.jdbc.dialect.DatabaseDialect;
 import cn.refinex.common.jdbc.dialect.MySQLDialect;
 import cn.refinex.common.jdbc.dialect.OracleDialect;
 import cn.refinex.common.jdbc.dialect.PostgreSQLDialect;
+import cn.refinex.common.jdbc.mapper.RowMapperRegistry;
 import cn.refinex.common.jdbc.masker.DefaultSensitiveDataMasker;
 import cn.refinex.common.jdbc.masker.SensitiveDataMasker;
+import cn.refinex.common.jdbc.metrics.SqlMetricsRegistry;
+import cn.refinex.common.jdbc.page.LocalPageCountCache;
+import cn.refinex.common.jdbc.page.PageCountCache;
+import cn.refinex.common.jdbc.page.RedisPageCountCache;
+import cn.refinex.common.jdbc.routing.ForcePrimaryAspect;
+import cn.refinex.common.jdbc.routing.ReadWriteRoutingContextFilter;
+import cn.refinex.common.jdbc.routing.ReplicaHealthChecker;
+import cn.refinex.common.jdbc.routing.ReplicaNode;
+import cn.refinex.common.jdbc.routing.ReplicaRoutingDataSource;
+import cn.refinex.common.jdbc.sql.NamedSqlFileWatcher;
 import cn.refinex.common.jdbc.sql.NamedSqlManager;
+import cn.refinex.common.jdbc.sql.ParsedSqlCache;
+import com.baomidou.dynamic.datasource.DynamicRoutingDataSource;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
 
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 /**
  * JDBC 模板自动配置类
  *
@@ -64,7 +90,7 @@ public class RefinexJdbcTemplateAutoConfiguration {
 
         switch (databaseType) {
             case "mysql":
-                return new MySQLDialect();
+                return new MySQLDialect(properties.isUseCursorFetch());
             case "oracle":
                 return new OracleDialect();
             case "postgresql":
@@ -76,16 +102,120 @@ public class RefinexJdbcTemplateAutoConfiguration {
         }
     }
 
+    /**
+     * 配置预解析 SQL 缓存
+     *
+     * @param properties 配置属性
+     * @return 预解析 SQL 缓存实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ParsedSqlCache parsedSqlCache(JdbcTemplateProperties properties) {
+        log.info("初始化预解析 SQL 缓存，容量: {}", properties.getParsedSqlCacheSize());
+        return new ParsedSqlCache(properties.getParsedSqlCacheSize());
+    }
+
     /**
      * 配置命名 SQL 管理器
      *
+     * @param properties     配置属性
+     * @param parsedSqlCache 预解析 SQL 缓存
      * @return 命名 SQL 管理器实例
      */
     @Bean
     @ConditionalOnMissingBean
-    public NamedSqlManager namedSqlManager() {
+    public NamedSqlManager namedSqlManager(JdbcTemplateProperties properties, ParsedSqlCache parsedSqlCache) {
         log.info("初始化命名 SQL 管理器");
-        return new NamedSqlManager();
+        NamedSqlManager namedSqlManager = new NamedSqlManager();
+        namedSqlManager.setParsedSqlCache(parsedSqlCache);
+        int count = namedSqlManager.load(properties.getSqlLocations());
+        if (count > 0) {
+            log.info("从 SQL 文件加载命名 SQL 数量: {}", count);
+        }
+        return namedSqlManager;
+    }
+
+    /**
+     * 配置命名 SQL 文件监听器，SQL 文件变更后重新加载
+     *
+     * @param properties      配置属性
+     * @param namedSqlManager 命名 SQL 管理器
+     * @return 命名 SQL 文件监听器实例
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "refinex.jdbc", name = "sql-hot-reload", havingValue = "true")
+    public NamedSqlFileWatcher namedSqlFileWatcher(JdbcTemplateProperties properties, NamedSqlManager namedSqlManager) {
+        return new NamedSqlFileWatcher(namedSqlManager, properties.getSqlHotReloadDebounceMs());
+    }
+
+    /**
+     * 配置行映射器注册表
+     *
+     * @return 行映射器注册表实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public RowMapperRegistry rowMapperRegistry() {
+        log.info("初始化行映射器注册表");
+        return new RowMapperRegistry();
+    }
+
+    /**
+     * 配置 SQL 执行指标注册表
+     *
+     * @param properties          配置属性
+     * @param sensitiveDataMasker 敏感数据脱敏器
+     * @return SQL 执行指标注册表实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SqlMetricsRegistry sqlMetricsRegistry(JdbcTemplateProperties properties, SensitiveDataMasker sensitiveDataMasker) {
+        log.info("初始化 SQL 执行指标注册表");
+        SqlMetricsRegistry registry = new SqlMetricsRegistry(properties.getMetricsMaxStatements(), properties.getSlowQueryBufferSize());
+        registry.setEnabled(properties.isMetricsEnabled());
+        registry.setSlowQueryThresholdMs(properties.getSlowQueryThresholdMs());
+        registry.setSensitiveDataMasker(sensitiveDataMasker);
+        return registry;
+    }
+
+    /**
+     * 配置分页总数缓存（本地内存）
+     *
+     * @param properties 配置属性
+     * @return 分页总数缓存实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public PageCountCache pageCountCache(JdbcTemplateProperties properties) {
+        log.info("初始化分页总数缓存（本地）");
+        return createLocalPageCountCache(properties);
+    }
+
+    /**
+     * 配置从库健康检查器（读写分离）
+     * <p>
+     * 从库从 dynamic-datasource 已配置的数据源中按名称或分组选取，从库路由数据源不注册为 DataSource Bean，
+     * 仅由 {@link JdbcTemplateManager} 的查询使用。
+     *
+     * @param properties      配置属性
+     * @param dataSource      数据源（主库）
+     * @param databaseDialect 数据库方言
+     * @return 从库健康检查器实例
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "refinex.jdbc", name = "read-write-split-enabled", havingValue = "true")
+    public ReplicaHealthChecker replicaHealthChecker(JdbcTemplateProperties properties, DataSource dataSource, DatabaseDialect databaseDialect) {
+        List<ReplicaNode> replicas = resolveReplicas(properties, dataSource);
+        if (replicas.isEmpty()) {
+            log.warn("已启用读写分离但未找到从库数据源，所有查询仍走主库");
+        } else {
+            log.info("初始化读写分离，从库: {}", replicas.stream().map(ReplicaNode::getName).toList());
+        }
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(dataSource, replicas);
+        return new ReplicaHealthChecker(routingDataSource, databaseDialect, properties.getReplicaMaxLagSeconds(), properties.getReplicaHealthCheckIntervalMs());
     }
 
     /**
@@ -114,9 +244,14 @@ public class RefinexJdbcTemplateAutoConfiguration {
      * @param sensitiveDataMasker        敏感数据脱敏器
      * @param databaseDialect            数据库方言
      * @param namedSqlManager            命名 SQL 管理器
+     * @param rowMapperRegistry          行映射器注册表
+     * @param sqlMetricsRegistry         SQL 执行指标注册表
+     * @param pageCountCache             分页总数缓存
+     * @param parsedSqlCache             预解析 SQL 缓存
+     * @param replicaHealthCheckers      从库健康检查器（读写分离，可选）
      * @return JDBC 模板管理器实例
      */
-    @Bean
+    @Bean(destroyMethod = "shutdown")
     @ConditionalOnMissingBean
     public JdbcTemplateManager jdbcTemplateManager(
             NamedParameterJdbcTemplate namedParameterJdbcTemplate,
@@ -125,12 +260,22 @@ public class RefinexJdbcTemplateAutoConfiguration {
             JdbcTemplateProperties properties,
             SensitiveDataMasker sensitiveDataMasker,
             DatabaseDialect databaseDialect,
-            NamedSqlManager namedSqlManager) {
+            NamedSqlManager namedSqlManager,
+            RowMapperRegistry rowMapperRegistry,
+            SqlMetricsRegistry sqlMetricsRegistry,
+            PageCountCache pageCountCache,
+            ParsedSqlCache parsedSqlCache,
+            ObjectProvider<ReplicaHealthChecker> replicaHealthCheckers) {
 
         log.info("初始化 JDBC 模板管理器");
 
+        // 共享 Spring Boot 配置的 JdbcTemplate（fetchSize、queryTimeout 等），命名参数解析改用预解析 SQL 缓存
+        NamedParameterJdbcTemplate cachingJdbcTemplate = namedParameterJdbcTemplate instanceof CachingNamedParameterJdbcTemplate
+                ? namedParameterJdbcTemplate
+                : new CachingNamedParameterJdbcTemplate(namedParameterJdbcTemplate.getJdbcOperations(), parsedSqlCache);
+
         JdbcTemplateManager manager = new JdbcTemplateManager(
-                namedParameterJdbcTemplate,
+                cachingJdbcTemplate,
                 transactionManager,
                 transactionDefinition
         );
@@ -138,12 +283,134 @@ public class RefinexJdbcTemplateAutoConfiguration {
         manager.setSensitiveDataMasker(sensitiveDataMasker);
         manager.setDatabaseDialect(databaseDialect);
         manager.setNamedSqlManager(namedSqlManager);
+        manager.setRowMapperRegistry(rowMapperRegistry);
+        manager.setSqlMetricsRegistry(sqlMetricsRegistry);
+        manager.setPageCountCache(pageCountCache);
+        manager.setEstimatedCountThreshold(properties.getEstimatedCountThreshold());
         manager.setLowerCaseColumnNames(properties.isLowerCaseColumnNames());
         manager.setSlowQueryThresholdMs(properties.getSlowQueryThresholdMs());
         manager.setEnableColumnConflictCheck(properties.isEnableColumnConflictCheck());
         manager.setLogFormat(properties.getLogFormat());
+        manager.setStreamFetchSize(properties.getStreamFetchSize());
+        manager.setReadYourWritesWindowMs(properties.getReadYourWritesWindowMs());
+        manager.setBulkWriteMaxThreads(properties.getBulkWriteMaxThreads());
+
+        ReplicaHealthChecker replicaHealthChecker = replicaHealthCheckers.getIfAvailable();
+        if (replicaHealthChecker != null && !replicaHealthChecker.getReplicas().isEmpty()) {
+            manager.setReplicaJdbcTemplate(new CachingNamedParameterJdbcTemplate(replicaHealthChecker.getDataSource(), parsedSqlCache));
+        }
 
         log.info("JDBC 模板管理器初始化完成");
         return manager;
     }
+
+    /**
+     * 创建本地分页总数缓存
+     *
+     * @param properties 配置属性
+     * @return 本地分页总数缓存
+     */
+    private static LocalPageCountCache createLocalPageCountCache(JdbcTemplateProperties properties) {
+        return new LocalPageCountCache(properties.getPageCountCacheTtlSeconds() * 1000, properties.getPageCountCacheMaxEntries());
+    }
+
+    /**
+     * 解析从库节点
+     *
+     * @param properties 配置属性
+     * @param dataSource 数据源
+     * @return 从库节点
+     */
+    private static List<ReplicaNode> resolveReplicas(JdbcTemplateProperties properties, DataSource dataSource) {
+        List<ReplicaNode> replicas = new ArrayList<>();
+        if (!(dataSource instanceof DynamicRoutingDataSource dynamicDataSource)) {
+            return replicas;
+        }
+
+        String group = properties.getReplicaGroup();
+        for (Map.Entry<String, DataSource> entry : dynamicDataSource.getDataSources().entrySet()) {
+            String name = entry.getKey();
+            boolean matched = properties.getReplicaNames().isEmpty()
+                    ? group != null && (name.equals(group) || name.startsWith(group + "_"))
+                    : properties.getReplicaNames().contains(name);
+            if (matched) {
+                replicas.add(new ReplicaNode(name, entry.getValue(), properties.getReplicaFailureThreshold(), properties.getReplicaRecoveryThreshold()));
+            }
+        }
+        return replicas;
+    }
+
+    /**
+     * 强制读主库切面配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.aspectj.lang.annotation.Aspect")
+    @ConditionalOnProperty(prefix = "refinex.jdbc", name = "read-write-split-enabled", havingValue = "true")
+    static class ForcePrimaryAspectConfiguration {
+
+        /**
+         * 创建 ForcePrimaryAspect Bean，用于 {@code @ForcePrimary} 标注的方法强制读主库
+         *
+         * @return ForcePrimaryAspect 实例
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public ForcePrimaryAspect forcePrimaryAspect() {
+            return new ForcePrimaryAspect();
+        }
+    }
+
+    /**
+     * 读写分离路由上下文清理过滤器配置（Servlet Web 应用）
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(name = "org.springframework.web.filter.OncePerRequestFilter")
+    @ConditionalOnProperty(prefix = "refinex.jdbc", name = "read-write-split-enabled", havingValue = "true")
+    static class ReadWriteRoutingFilterConfiguration {
+
+        /**
+         * 注册读写分离路由上下文清理过滤器，请求结束时清理线程上的读主库状态
+         *
+         * @return FilterRegistrationBean
+         */
+        @Bean
+        public FilterRegistrationBean<ReadWriteRoutingContextFilter> readWriteRoutingContextFilter() {
+            FilterRegistrationBean<ReadWriteRoutingContextFilter> registration = new FilterRegistrationBean<>(new ReadWriteRoutingContextFilter());
+            registration.setOrder(WebFilterOrderConstants.READ_WRITE_ROUTING_FILTER);
+            return registration;
+        }
+    }
+
+    /**
+     * Redis 分页总数缓存配置
+     * <p>
+     * 仅在类路径存在 spring-data-redis 且开启 refinex.jdbc.page-count-cache-redis-enabled 时生效，
+     * 嵌套配置先于外部配置类的 Bean 方法注册，因此会覆盖默认的本地缓存。
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(StringRedisTemplate.class)
+    @ConditionalOnProperty(prefix = "refinex.jdbc", name = "page-count-cache-redis-enabled", havingValue = "true")
+    static class RedisPageCountCacheConfiguration {
+
+        /**
+         * 配置分页总数缓存（本地 + Redis）
+         *
+         * @param properties            配置属性
+         * @param redisTemplateProvider Redis 模板
+         * @return 分页总数缓存实例
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public PageCountCache pageCountCache(JdbcTemplateProperties properties, ObjectProvider<StringRedisTemplate> redisTemplateProvider) {
+            LocalPageCountCache localCache = createLocalPageCountCache(properties);
+            StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+            if (redisTemplate == null) {
+                log.warn("未找到 StringRedisTemplate，分页总数仅使用本地缓存");
+                return localCache;
+            }
+            log.info("初始化分页总数缓存（本地 + Redis）");
+            return new RedisPageCountCache(redisTemplate, localCache);
+        }
+    }
 }
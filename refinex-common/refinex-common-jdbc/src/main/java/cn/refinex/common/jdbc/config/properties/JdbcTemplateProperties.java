@@ -92,4 +92,122 @@ public class JdbcTemplateProperties {
      */
     private String logFormat = "text";
 
+    /**
+     * 流式查询每批拉取行数（默认 1000）
+     */
+    private int streamFetchSize = 1000;
+
+    /**
+     * MySQL 连接 URL 是否开启了 useCursorFetch=true（默认关闭）
+     * <p>
+     * 开启后流式查询使用服务端游标按 stream-fetch-size 分批拉取；关闭时使用驱动逐行流式读取。
+     */
+    private boolean useCursorFetch = false;
+
+    /**
+     * 是否启用 SQL 执行指标采集（默认启用）
+     * <p>
+     * 启用后每次执行都按 SQL 指纹记录耗时分布、行数与失败次数，与 enable-sql-log 无关；
+     * 引入 Actuator 时通过 /actuator/sqlmetrics 查看，引入 Micrometer 时同时导出为 refinex.jdbc.sql.* 指标。
+     */
+    private boolean metricsEnabled = true;
+
+    /**
+     * SQL 指纹数量上限（默认 1000），超出后新指纹统一计入 "&lt;other&gt;"
+     */
+    private int metricsMaxStatements = 1000;
+
+    /**
+     * 慢 SQL 环形缓冲区容量（默认保留最近 100 条超过 slow-query-threshold-ms 的执行）
+     */
+    private int slowQueryBufferSize = 100;
+
+    /**
+     * 分页总数缓存有效期（秒，默认 30），用于 count-mode 为 CACHED/ESTIMATED 的分页查询
+     */
+    private long pageCountCacheTtlSeconds = 30;
+
+    /**
+     * 本地分页总数缓存最大条目数（默认 10000）
+     */
+    private int pageCountCacheMaxEntries = 10000;
+
+    /**
+     * 是否将分页总数同时缓存到 Redis（默认关闭，需引入 spring-data-redis 并存在 StringRedisTemplate）
+     */
+    private boolean pageCountCacheRedisEnabled = false;
+
+    /**
+     * 估算总数的最小行数阈值（默认 100000），估算值低于该阈值时执行精确统计（并缓存）
+     */
+    private long estimatedCountThreshold = 100000;
+
+    /**
+     * 是否启用读写分离（默认关闭）
+     * <p>
+     * 启用后事务外的查询路由到从库，写入、事务内查询、{@code @ForcePrimary} 标注的方法以及写入后
+     * read-your-writes-window-ms 内的查询仍走主库。
+     */
+    private boolean readWriteSplitEnabled = false;
+
+    /**
+     * 从库数据源名称（dynamic-datasource 中配置的数据源名称），为空时使用 replica-group 分组下的所有数据源
+     */
+    private List<String> replicaNames = new ArrayList<>();
+
+    /**
+     * 从库分组名称（默认 slave，即 dynamic-datasource 中名称为 slave 或以 slave_ 开头的数据源）
+     */
+    private String replicaGroup = "slave";
+
+    /**
+     * 从库最大允许复制延迟（秒，默认 10），超过后摘除
+     */
+    private long replicaMaxLagSeconds = 10;
+
+    /**
+     * 从库健康检查间隔（毫秒，默认 5000）
+     */
+    private long replicaHealthCheckIntervalMs = 5000;
+
+    /**
+     * 从库连续失败多少次后摘除（默认 2）
+     */
+    private int replicaFailureThreshold = 2;
+
+    /**
+     * 从库摘除后连续检查成功多少次后恢复（默认 3）
+     */
+    private int replicaRecoveryThreshold = 3;
+
+    /**
+     * 读己之写窗口（毫秒，默认 3000），当前线程写入后该时间内的查询走主库
+     */
+    private long readYourWritesWindowMs = 3000;
+
+    /**
+     * 预解析 SQL 缓存容量（默认 1024），按最近最少使用淘汰，0 表示不缓存
+     */
+    private int parsedSqlCacheSize = 1024;
+
+    /**
+     * 命名 SQL 文件位置（默认 classpath*:named-sql 目录及其子目录下的所有 .sql 文件）
+     */
+    private List<String> sqlLocations = new ArrayList<>(List.of("classpath*:named-sql/**/*.sql"));
+
+    /**
+     * 是否监听命名 SQL 文件变更并重新加载（默认关闭，仅对文件系统上的 SQL 文件生效，建议只在开发环境开启）
+     */
+    private boolean sqlHotReload = false;
+
+    /**
+     * 命名 SQL 文件变更事件合并等待时间（毫秒，默认 300）
+     */
+    private long sqlHotReloadDebounceMs = 300;
+
+    /**
+     * 并行批量写入线程池的最大线程数（默认 8），所有 parallelism 大于 1 的批量写入共享该线程池
+     */
+    private int bulkWriteMaxThreads = 8;
+
 }
@@ -0,0 +1,86 @@
+package cn.refinex.common.jdbc.core;
+
+import cn.refinex.common.jdbc.sql.ParsedSqlCache;
+import cn.refinex.common.jdbc.sql.ParsedStatement;
+import lombok.Getter;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import javax.sql.DataSource;
+import java.util.function.Consumer;
+
+/**
+ * 使用预解析 SQL 缓存的命名参数 JDBC 模板
+ * <p>
+ * 标准的 NamedParameterJdbcTemplate 只缓存解析结果（默认 256 条），每次执行仍会重新生成替换后的 JDBC SQL 与参数声明；
+ * 该实现改为从 {@link ParsedSqlCache} 获取 {@link ParsedStatement}，参数均为单值时直接复用替换结果，
+ * 使解析与 SQL 重建都不出现在每次调用的路径上。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class CachingNamedParameterJdbcTemplate extends NamedParameterJdbcTemplate {
+
+    /**
+     * 预解析 SQL 缓存
+     */
+    @Getter
+    private final ParsedSqlCache parsedSqlCache;
+
+    /**
+     * 构造函数
+     *
+     * @param dataSource     数据源
+     * @param parsedSqlCache 预解析 SQL 缓存
+     */
+    public CachingNamedParameterJdbcTemplate(DataSource dataSource, ParsedSqlCache parsedSqlCache) {
+        super(dataSource);
+        if (parsedSqlCache == null) {
+            throw new IllegalArgumentException("预解析 SQL 缓存不能为空");
+        }
+        this.parsedSqlCache = parsedSqlCache;
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param classicJdbcTemplate JDBC 模板（共享其 fetchSize、queryTimeout 等配置）
+     * @param parsedSqlCache      预解析 SQL 缓存
+     */
+    public CachingNamedParameterJdbcTemplate(JdbcOperations classicJdbcTemplate, ParsedSqlCache parsedSqlCache) {
+        super(classicJdbcTemplate);
+        if (parsedSqlCache == null) {
+            throw new IllegalArgumentException("预解析 SQL 缓存不能为空");
+        }
+        this.parsedSqlCache = parsedSqlCache;
+    }
+
+    @Override
+    protected ParsedSql getParsedSql(String sql) {
+        return parsedSqlCache.get(sql).getParsedSql();
+    }
+
+    @Override
+    protected PreparedStatementCreatorFactory getPreparedStatementCreatorFactory(ParsedSql parsedSql, SqlParameterSource paramSource) {
+        // 批量更新路径先调用 getParsedSql（已计入统计）再进入此处，ParsedSql 的 toString 即原始 SQL，这里只取缓存不重复计数
+        ParsedStatement statement = parsedSqlCache.peek(parsedSql.toString());
+        if (statement == null || statement.getParsedSql() != parsedSql) {
+            return super.getPreparedStatementCreatorFactory(parsedSql, paramSource);
+        }
+        return statement.newFactory(paramSource);
+    }
+
+    @Override
+    protected PreparedStatementCreator getPreparedStatementCreator(String sql, SqlParameterSource paramSource, Consumer<PreparedStatementCreatorFactory> customizer) {
+        ParsedStatement statement = parsedSqlCache.get(sql);
+        PreparedStatementCreatorFactory factory = statement.newFactory(paramSource);
+        if (customizer != null) {
+            customizer.accept(factory);
+        }
+        return factory.newPreparedStatementCreator(statement.buildValues(paramSource));
+    }
+}
@@ -1,24 +1,43 @@
 package cn.refinex.common.jdbc.core;
 
+import cn.hutool.core.thread.NamedThreadFactory;
 import cn.hutool.core.util.StrUtil;
+import cn.hutool.crypto.digest.DigestUtil;
 import cn.refinex.common.enums.HttpStatusCode;
 import cn.refinex.common.exception.SystemException;
+import cn.refinex.common.jdbc.batch.BulkChunkResult;
+import cn.refinex.common.jdbc.batch.BulkWriteOptions;
+import cn.refinex.common.jdbc.batch.BulkWriteResult;
 import cn.refinex.common.jdbc.callback.InputStreamCallback;
 import cn.refinex.common.jdbc.callback.TransactionCallback;
 import cn.refinex.common.jdbc.dialect.DatabaseDialect;
 import cn.refinex.common.jdbc.dialect.MySQLDialect;
 import cn.refinex.common.jdbc.enums.LogFormatType;
+import cn.refinex.common.jdbc.enums.PageCountMode;
+import cn.refinex.common.jdbc.mapper.CompactColumnMapRowMapper;
+import cn.refinex.common.jdbc.mapper.RowMapperRegistry;
 import cn.refinex.common.jdbc.masker.SensitiveDataMasker;
+import cn.refinex.common.jdbc.metrics.SqlMetricsRegistry;
+import cn.refinex.common.jdbc.page.CursorPageRequest;
+import cn.refinex.common.jdbc.page.CursorPageResult;
+import cn.refinex.common.jdbc.page.CursorTokenCodec;
+import cn.refinex.common.jdbc.page.LocalPageCountCache;
+import cn.refinex.common.jdbc.page.PageCountCache;
 import cn.refinex.common.jdbc.page.PageRequest;
 import cn.refinex.common.jdbc.page.PageResult;
+import cn.refinex.common.jdbc.page.SortKey;
+import cn.refinex.common.jdbc.routing.ReadWriteRoutingContext;
 import cn.refinex.common.jdbc.sql.NamedSqlManager;
+import cn.refinex.common.jdbc.sql.ParsedSqlCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.jdbc.core.BeanPropertyRowMapper;
 import org.springframework.jdbc.core.CallableStatementCallback;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
@@ -26,11 +45,27 @@ import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.sql.Blob;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToLongBiFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 /**
  * JDBC 模板管理器
@@ -75,6 +110,19 @@ public class JdbcTemplateManager {
     @Setter
     private NamedSqlManager namedSqlManager;
 
+    /**
+     * 预解析 SQL 缓存（流式查询直接使用，模板为 {@link CachingNamedParameterJdbcTemplate} 时与其共享）
+     */
+    @Getter
+    @Setter
+    private ParsedSqlCache parsedSqlCache;
+
+    /**
+     * 行映射器注册表
+     */
+    @Setter
+    private RowMapperRegistry rowMapperRegistry;
+
     /**
      * 是否启用列名转小写（默认启用）
      */
@@ -99,11 +147,95 @@ public class JdbcTemplateManager {
     @Setter
     private String logFormat = LogFormatType.TEXT.getValue();
 
+    /**
+     * 流式查询每批拉取行数
+     */
+    @Setter
+    private int streamFetchSize = 1000;
+
+    /**
+     * SQL 执行指标注册表（为 null 时不采集指标）
+     */
+    @Setter
+    private SqlMetricsRegistry sqlMetricsRegistry;
+
+    /**
+     * 分页总数缓存（为 null 时 CACHED 模式退化为精确统计）
+     */
+    @Setter
+    private PageCountCache pageCountCache;
+
+    /**
+     * 估算总数的最小行数阈值，估算值低于该阈值时执行精确统计
+     */
+    @Setter
+    private long estimatedCountThreshold = 100_000;
+
+    /**
+     * 从库命名参数 JDBC 模板（为 null 时不做读写分离，所有查询走主库）
+     */
+    @Getter
+    @Setter
+    private NamedParameterJdbcTemplate replicaJdbcTemplate;
+
+    /**
+     * 读己之写窗口（毫秒），当前线程写入后该时间内的查询走主库
+     */
+    @Setter
+    private long readYourWritesWindowMs = 3000;
+
+    /**
+     * 并行批量写入线程池的最大线程数（同一管理器的所有批量写入共享）
+     */
+    @Setter
+    private int bulkWriteMaxThreads = 8;
+
+    /**
+     * 并行批量写入线程池（首次并行写入时创建，{@link #shutdown()} 时关闭）
+     */
+    private volatile ThreadPoolExecutor bulkWriteExecutor;
+
     /**
      * JSON 对象映射器
      */
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
+    /**
+     * 游标分页 seek 条件参数名前缀
+     */
+    private static final String CURSOR_PARAM_PREFIX = "__cursor_k";
+
+    /**
+     * 表名/列名标识符格式（可带 schema 前缀）
+     */
+    private static final Pattern IDENTIFIER_PATTERN = Pattern.compile("^[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?$");
+
+    /**
+     * 连续空白
+     */
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+    /**
+     * 恒真的 WHERE 条件（动态拼接条件时的 WHERE 1=1）
+     */
+    private static final Pattern TRIVIAL_WHERE_PATTERN = Pattern.compile("(?i)\\s+WHERE\\s+1\\s*=\\s*1$");
+
+    /**
+     * 单表查询: SELECT 列 FROM 表 [[AS] 别名]
+     */
+    private static final Pattern SINGLE_TABLE_PATTERN = Pattern.compile(
+            "(?is)^SELECT\\s+(.+?)\\s+FROM\\s+([A-Za-z_][A-Za-z0-9_]*(?:\\.[A-Za-z_][A-Za-z0-9_]*)?)(?:\\s+(?:AS\\s+)?([A-Za-z_][A-Za-z0-9_]*))?$");
+
+    /**
+     * 会改变结果行数的 DISTINCT 或聚合函数
+     */
+    private static final Pattern DISTINCT_OR_AGGREGATE_PATTERN = Pattern.compile("(?i)^DISTINCT\\b|\\b(COUNT|SUM|AVG|MIN|MAX)\\s*\\(");
+
+    /**
+     * 不能作为表别名的关键字
+     */
+    private static final Set<String> RESERVED_ALIASES = Set.of("WHERE", "JOIN", "GROUP", "HAVING", "UNION", "LIMIT", "OFFSET", "FETCH", "WINDOW");
+
     // ========================= 构造函数 =========================
 
     /**
@@ -119,6 +251,12 @@ public class JdbcTemplateManager {
         this.dataSourceTransactionManager = null;
         this.transactionDefinition = null;
         this.databaseDialect = new MySQLDialect();
+        this.rowMapperRegistry = new RowMapperRegistry();
+        this.sqlMetricsRegistry = new SqlMetricsRegistry();
+        this.pageCountCache = new LocalPageCountCache();
+        this.parsedSqlCache = namedParameterJdbcTemplate instanceof CachingNamedParameterJdbcTemplate caching
+                ? caching.getParsedSqlCache()
+                : new ParsedSqlCache();
     }
 
     /**
@@ -136,6 +274,12 @@ public class JdbcTemplateManager {
         this.dataSourceTransactionManager = dataSourceTransactionManager;
         this.transactionDefinition = transactionDefinition;
         this.databaseDialect = new MySQLDialect();
+        this.rowMapperRegistry = new RowMapperRegistry();
+        this.sqlMetricsRegistry = new SqlMetricsRegistry();
+        this.pageCountCache = new LocalPageCountCache();
+        this.parsedSqlCache = namedParameterJdbcTemplate instanceof CachingNamedParameterJdbcTemplate caching
+                ? caching.getParsedSqlCache()
+                : new ParsedSqlCache();
     }
 
     // ========================= 查询方法 =========================
@@ -169,7 +313,7 @@ public class JdbcTemplateManager {
         Exception exception = null;
 
         try {
-            result = this.namedParameterJdbcTemplate.queryForObject(sql, params, Integer.class);
+            result = this.readTemplate().queryForObject(sql, params, Integer.class);
             rowCount = 1;
         } catch (EmptyResultDataAccessException e) {
             // 查询无结果，返回 null
@@ -177,10 +321,7 @@ public class JdbcTemplateManager {
             exception = e;
             throw e;
         } finally {
-            if (logSql) {
-                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-                this.logSqlStructured("queryInt", sql, params, elapsedMs, null, rowCount, exception);
-            }
+            this.afterExecution("queryInt", sql, params, start, null, rowCount, exception, logSql);
         }
 
         return result;
@@ -215,7 +356,7 @@ public class JdbcTemplateManager {
         Exception exception = null;
 
         try {
-            result = this.namedParameterJdbcTemplate.queryForObject(sql, params, Long.class);
+            result = this.readTemplate().queryForObject(sql, params, Long.class);
             rowCount = 1;
         } catch (EmptyResultDataAccessException e) {
             // 查询无结果，返回 null
@@ -223,10 +364,7 @@ public class JdbcTemplateManager {
             exception = e;
             throw e;
         } finally {
-            if (logSql) {
-                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-                this.logSqlStructured("queryLong", sql, params, elapsedMs, null, rowCount, exception);
-            }
+            this.afterExecution("queryLong", sql, params, start, null, rowCount, exception, logSql);
         }
 
         return result;
@@ -250,7 +388,7 @@ public class JdbcTemplateManager {
         Exception exception = null;
 
         try {
-            result = this.namedParameterJdbcTemplate.queryForObject(sql, params, String.class);
+            result = this.readTemplate().queryForObject(sql, params, String.class);
             rowCount = 1;
         } catch (EmptyResultDataAccessException e) {
             // 查询无结果，返回 null
@@ -258,10 +396,7 @@ public class JdbcTemplateManager {
             exception = e;
             throw e;
         } finally {
-            if (logSql) {
-                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-                this.logSqlStructured("queryString", sql, params, elapsedMs, null, rowCount, exception);
-            }
+            this.afterExecution("queryString", sql, params, start, null, rowCount, exception, logSql);
         }
 
         return result;
@@ -296,7 +431,7 @@ public class JdbcTemplateManager {
         Exception exception = null;
 
         try {
-            result = this.namedParameterJdbcTemplate.queryForObject(sql, params, Blob.class);
+            result = this.readTemplate().queryForObject(sql, params, Blob.class);
             rowCount = 1;
         } catch (EmptyResultDataAccessException e) {
             // 查询无结果，返回 null
@@ -304,10 +439,7 @@ public class JdbcTemplateManager {
             exception = e;
             throw e;
         } finally {
-            if (logSql) {
-                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-                this.logSqlStructured("queryBlob", sql, params, elapsedMs, null, rowCount, exception);
-            }
+            this.afterExecution("queryBlob", sql, params, start, null, rowCount, exception, logSql);
         }
 
         return result;
@@ -354,7 +486,7 @@ public class JdbcTemplateManager {
         Exception exception = null;
 
         try {
-            T result = this.namedParameterJdbcTemplate.query(sql, params, rs -> {
+            T result = this.readTemplate().query(sql, params, rs -> {
                 if (rs.next()) {
                     try (InputStream inputStream = rs.getBinaryStream(1)) {
                         try {
@@ -369,19 +501,14 @@ public class JdbcTemplateManager {
                 return null;
             });
 
-            if (logSql) {
-                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-                this.logSqlStructured("queryInputStreamWithCallback", sql, params, elapsedMs, null, result != null ? 1 : 0, null);
-            }
+            this.afterExecution("queryInputStreamWithCallback", sql, params, start, null, result != null ? 1 : 0, null, logSql);
 
             return result;
         } catch (Exception e) {
             exception = e;
             long elapsedMs = (System.nanoTime() - start) / 1_000_000;
             log.error("查询并处理 InputStream 失败，sql: {}, params: {}, elapsedMs: {}ms", sql, params, elapsedMs, e);
-            if (logSql) {
-                this.logSqlStructured("queryInputStreamWithCallback", sql, params, elapsedMs, null, 0, exception);
-            }
+            this.afterExecution("queryInputStreamWithCallback", sql, params, start, null, 0, exception, logSql);
             throw new SystemException(HttpStatusCode.INTERNAL_SERVER_ERROR, "查询并处理输入流失败");
         }
     }
@@ -413,24 +540,14 @@ public class JdbcTemplateManager {
         Exception exception = null;
 
         try {
-            List<Map<String, Object>> resultList = this.namedParameterJdbcTemplate.queryForList(sql, params);
+            List<Map<String, Object>> resultList = this.readTemplate().query(sql, params, buildColumnMapRowMapper());
 
-            List<Map<String, Object>> transformed = lowerCaseColumnNames
-                    ? transformColumnNamesToLowerCase(resultList, null)
-                    : resultList;
-
-            if (logSql) {
-                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-                this.logSqlStructured("queryList", sql, params, elapsedMs, null, transformed.size(), null);
-            }
+            this.afterExecution("queryList", sql, params, start, null, resultList.size(), null, logSql);
 
-            return transformed;
+            return resultList;
         } catch (Exception e) {
             exception = e;
-            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-            if (logSql) {
-                this.logSqlStructured("queryList", sql, params, elapsedMs, null, 0, exception);
-            }
+            this.afterExecution("queryList", sql, params, start, null, 0, exception, logSql);
             throw e;
         }
     }
@@ -452,24 +569,14 @@ public class JdbcTemplateManager {
         Exception exception = null;
 
         try {
-            List<Map<String, Object>> resultList = this.namedParameterJdbcTemplate.queryForList(sql, params);
+            List<Map<String, Object>> resultList = this.readTemplate().query(sql, params, buildColumnMapRowMapper(nullValue));
 
-            List<Map<String, Object>> transformed = lowerCaseColumnNames
-                    ? transformColumnNamesToLowerCase(resultList, nullValue)
-                    : replaceNullValues(resultList, nullValue);
-
-            if (logSql) {
-                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-                this.logSqlStructured("queryListWithNullValue", sql, params, elapsedMs, null, transformed.size(), null);
-            }
+            this.afterExecution("queryListWithNullValue", sql, params, start, null, resultList.size(), null, logSql);
 
-            return transformed;
+            return resultList;
         } catch (Exception e) {
             exception = e;
-            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-            if (logSql) {
-                this.logSqlStructured("queryListWithNullValue", sql, params, elapsedMs, null, 0, exception);
-            }
+            this.afterExecution("queryListWithNullValue", sql, params, start, null, 0, exception, logSql);
             throw e;
         }
     }
@@ -507,20 +614,14 @@ public class JdbcTemplateManager {
         Exception exception = null;
 
         try {
-            List<T> result = this.namedParameterJdbcTemplate.query(sql, params, new BeanPropertyRowMapper<>(rowMapperClass));
+            List<T> result = this.readTemplate().query(sql, params, this.rowMapperRegistry.getRowMapper(rowMapperClass));
 
-            if (logSql) {
-                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-                this.logSqlStructured("queryListTyped", sql, params, elapsedMs, null, result.size(), null);
-            }
+            this.afterExecution("queryListTyped", sql, params, start, null, result.size(), null, logSql);
 
             return result;
         } catch (Exception e) {
             exception = e;
-            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-            if (logSql) {
-                this.logSqlStructured("queryListTyped", sql, params, elapsedMs, null, 0, exception);
-            }
+            this.afterExecution("queryListTyped", sql, params, start, null, 0, exception, logSql);
             throw e;
         }
     }
@@ -560,20 +661,14 @@ public class JdbcTemplateManager {
         Exception exception = null;
 
         try {
-            List<T> result = this.namedParameterJdbcTemplate.queryForList(sql, params, columnType);
+            List<T> result = this.readTemplate().queryForList(sql, params, columnType);
 
-            if (logSql) {
-                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-                this.logSqlStructured("queryColumn", sql, params, elapsedMs, null, result.size(), null);
-            }
+            this.afterExecution("queryColumn", sql, params, start, null, result.size(), null, logSql);
 
             return result;
         } catch (Exception e) {
             exception = e;
-            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-            if (logSql) {
-                this.logSqlStructured("queryColumn", sql, params, elapsedMs, null, 0, exception);
-            }
+            this.afterExecution("queryColumn", sql, params, start, null, 0, exception, logSql);
             throw e;
         }
     }
@@ -607,22 +702,15 @@ public class JdbcTemplateManager {
         Exception exception = null;
 
         try {
-            result = this.namedParameterJdbcTemplate.queryForMap(sql, params);
+            result = this.readTemplate().queryForObject(sql, params, buildColumnMapRowMapper());
             rowCount = 1;
-
-            if (lowerCaseColumnNames) {
-                result = transformMapKeysToLowerCase(result);
-            }
         } catch (EmptyResultDataAccessException e) {
             // 没有查询到结果，result 保持为 null，rowCount 为 0
         } catch (Exception e) {
             exception = e;
             throw e;
         } finally {
-            if (logSql) {
-                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-                this.logSqlStructured("queryMap", sql, params, elapsedMs, null, rowCount, exception);
-            }
+            this.afterExecution("queryMap", sql, params, start, null, rowCount, exception, logSql);
         }
 
         return result;
@@ -663,7 +751,7 @@ public class JdbcTemplateManager {
         Exception exception = null;
 
         try {
-            result = this.namedParameterJdbcTemplate.queryForObject(sql, params, new BeanPropertyRowMapper<>(rowMapperClass));
+            result = this.readTemplate().queryForObject(sql, params, this.rowMapperRegistry.getRowMapper(rowMapperClass));
             rowCount = 1;
         } catch (EmptyResultDataAccessException e) {
             // 查询无结果，返回 null
@@ -671,10 +759,7 @@ public class JdbcTemplateManager {
             exception = e;
             throw e;
         } finally {
-            if (logSql) {
-                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-                this.logSqlStructured("queryObject", sql, params, elapsedMs, null, rowCount, exception);
-            }
+            this.afterExecution("queryObject", sql, params, start, null, rowCount, exception, logSql);
         }
 
         return result;
@@ -712,105 +797,549 @@ public class JdbcTemplateManager {
         }
         pageRequest.validate();
 
-        long start = System.nanoTime();
-        Exception exception = null;
+        Map<String, Object> queryParams = params;
+        return this.doQueryPage(sql, params, pageRequest, logSql, pageSql -> this.queryList(pageSql, queryParams, logSql));
+    }
+
+    /**
+     * 分页查询（实体映射）
+     *
+     * @param sql            SQL 语句（不含分页语句）
+     * @param params         参数
+     * @param pageRequest    分页参数
+     * @param rowMapperClass 行映射类
+     * @param <T>            实体类型
+     * @return 分页结果
+     */
+    public <T> PageResult<T> queryPage(String sql, Map<String, Object> params, PageRequest pageRequest, Class<T> rowMapperClass) {
+        return this.queryPage(sql, params, pageRequest, false, rowMapperClass);
+    }
+
+    /**
+     * 分页查询（实体映射）
+     *
+     * @param sql            SQL 语句（不含分页语句）
+     * @param params         参数
+     * @param pageRequest    分页参数
+     * @param logSql         是否记录 SQL 日志
+     * @param rowMapperClass 行映射类
+     * @param <T>            实体类型
+     * @return 分页结果
+     */
+    public <T> PageResult<T> queryPage(String sql, Map<String, Object> params, PageRequest pageRequest, boolean logSql, Class<T> rowMapperClass) {
+        validateSql(sql);
+        params = ensureParamsNotNull(params);
+
+        if (pageRequest == null) {
+            throw new IllegalArgumentException("分页参数不能为空");
+        }
+        if (rowMapperClass == null) {
+            throw new IllegalArgumentException("行映射类不能为空");
+        }
+        pageRequest.validate();
+
+        Map<String, Object> queryParams = params;
+        return this.doQueryPage(sql, params, pageRequest, logSql, pageSql -> this.queryList(pageSql, queryParams, logSql, rowMapperClass));
+    }
+
+    /**
+     * 执行分页查询
+     * <p>
+     * 按 {@link PageRequest#getCountMode()} 决定总数的获取方式:
+     * <ul>
+     *     <li>EXACT: 每次执行 COUNT(*)</li>
+     *     <li>CACHED: 按归一化 COUNT SQL + 参数命中 {@link PageCountCache} 时不再统计</li>
+     *     <li>ESTIMATED: 无过滤条件的单表查询使用方言提供的行数估算值，否则退化为 CACHED</li>
+     *     <li>NONE: 不统计总数，多查询一行判断是否存在下一页</li>
+     * </ul>
+     * COUNT SQL 与分页 SQL 分别记录执行指标与慢查询，每条语句只记录一次。
+     *
+     * @param sql         SQL 语句（不含分页语句）
+     * @param params      参数
+     * @param pageRequest 分页参数
+     * @param logSql      是否记录 SQL 日志
+     * @param pageFetcher 分页数据查询函数（入参为分页 SQL）
+     * @param <T>         记录类型
+     * @return 分页结果
+     */
+    private <T> PageResult<T> doQueryPage(String sql, Map<String, Object> params, PageRequest pageRequest, boolean logSql, Function<String, List<T>> pageFetcher) {
+        PageCountMode countMode = pageRequest.getCountMode() != null ? pageRequest.getCountMode() : PageCountMode.EXACT;
+        int pageNum = pageRequest.getPageNum();
+        int pageSize = pageRequest.getPageSize();
+
+        // COUNT 与分页 SQL 各自记录执行指标，此处不再按原始 SQL 重复记录
+        PageResult<T> result;
+        if (countMode == PageCountMode.NONE) {
+            // 多查询一行探测是否存在下一页
+            List<T> records = pageFetcher.apply(buildPageSql(sql, pageRequest, pageSize + 1));
+            boolean hasNext = records.size() > pageSize;
+            result = PageResult.ofProbe(hasNext ? new ArrayList<>(records.subList(0, pageSize)) : records, hasNext, pageNum, pageSize);
+        } else {
+            PageCount pageCount = this.countPageTotal(sql, params, countMode, logSql);
+            if (pageCount.total() <= 0) {
+                result = PageResult.empty(pageNum, pageSize);
+            } else {
+                List<T> records = pageFetcher.apply(buildPageSql(sql, pageRequest, pageSize));
+                result = new PageResult<>(records, pageCount.total(), pageNum, pageSize);
+            }
+            result.setCountMode(pageCount.mode());
+        }
+        return result;
+    }
+
+    /**
+     * 获取分页总数
+     *
+     * @param sql       SQL 语句（不含分页语句）
+     * @param params    参数
+     * @param countMode 统计模式
+     * @param logSql    是否记录 SQL 日志
+     * @return 总数及实际使用的统计模式
+     */
+    private PageCount countPageTotal(String sql, Map<String, Object> params, PageCountMode countMode, boolean logSql) {
+        if (countMode == PageCountMode.ESTIMATED) {
+            Long estimate = this.estimateTableRows(sql, logSql);
+            if (estimate != null && estimate >= estimatedCountThreshold) {
+                return new PageCount(estimate, PageCountMode.ESTIMATED);
+            }
+            // 有过滤条件、方言不支持或表较小时退化为缓存统计
+            countMode = PageCountMode.CACHED;
+        }
+
+        String countSql = buildCountSql(sql);
+        PageCountCache cache = this.pageCountCache;
+        if (countMode == PageCountMode.CACHED && cache != null) {
+            String cacheKey = buildPageCountCacheKey(countSql, params);
+            Long cached = cache.get(cacheKey);
+            if (cached != null) {
+                return new PageCount(cached, PageCountMode.CACHED);
+            }
+
+            long total = Objects.requireNonNullElse(this.queryLong(countSql, params, logSql), 0L);
+            cache.put(cacheKey, total);
+            return new PageCount(total, PageCountMode.CACHED);
+        }
+
+        return new PageCount(Objects.requireNonNullElse(this.queryLong(countSql, params, logSql), 0L), PageCountMode.EXACT);
+    }
+
+    /**
+     * 估算无过滤条件单表查询的总行数
+     *
+     * @param sql    SQL 语句（不含分页语句）
+     * @param logSql 是否记录 SQL 日志
+     * @return 估算行数，不满足估算条件或估算失败时返回 null
+     */
+    private Long estimateTableRows(String sql, boolean logSql) {
+        String estimateSql = databaseDialect != null ? databaseDialect.getTableRowEstimateSql() : null;
+        if (estimateSql == null) {
+            return null;
+        }
+
+        String tableName = extractUnfilteredTable(sql);
+        if (tableName == null) {
+            return null;
+        }
 
         try {
-            // 查询总记录数
-            String countSql = buildCountSql(sql);
-            Long total = this.queryLong(countSql, params, logSql);
+            // 统计信息按表名查询，去掉 schema 前缀
+            String simpleName = tableName.substring(tableName.lastIndexOf('.') + 1);
+            return this.queryLong(estimateSql, Map.of("tableName", simpleName), logSql);
+        } catch (Exception e) {
+            log.warn("查询表 {} 行数估算值失败，退化为精确统计: {}", tableName, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 提取无过滤条件单表查询的表名
+     * <p>
+     * 仅识别 {@code SELECT ... FROM table [alias] [WHERE 1=1] [ORDER BY ...]} 形式，
+     * 含 JOIN、过滤条件、分组、DISTINCT 或聚合函数时返回 null。
+     *
+     * @param sql SQL 语句
+     * @return 表名，不满足条件时返回 null
+     */
+    private String extractUnfilteredTable(String sql) {
+        String normalized = WHITESPACE_PATTERN.matcher(removeOrderBy(sql)).replaceAll(" ").trim();
+        normalized = TRIVIAL_WHERE_PATTERN.matcher(normalized).replaceFirst("");
+
+        Matcher matcher = SINGLE_TABLE_PATTERN.matcher(normalized);
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        String selectList = matcher.group(1);
+        String alias = matcher.group(3);
+        if (DISTINCT_OR_AGGREGATE_PATTERN.matcher(selectList).find()
+                || (alias != null && RESERVED_ALIASES.contains(alias.toUpperCase(Locale.ROOT)))) {
+            return null;
+        }
+        return matcher.group(2);
+    }
+
+    /**
+     * 构建分页总数缓存键（SHA-256(归一化 COUNT SQL + 按参数名排序的参数)）
+     *
+     * @param countSql COUNT SQL
+     * @param params   参数
+     * @return 缓存键
+     */
+    private String buildPageCountCacheKey(String countSql, Map<String, Object> params) {
+        StringBuilder sb = new StringBuilder(countSql.length() + 64);
+        sb.append(WHITESPACE_PATTERN.matcher(countSql).replaceAll(" ").trim());
+        for (Map.Entry<String, Object> entry : new TreeMap<>(params).entrySet()) {
+            Object value = entry.getValue();
+            sb.append('|').append(entry.getKey()).append('=');
+            if (value instanceof Collection<?> collection) {
+                sb.append(collection);
+            } else if (value instanceof Object[] array) {
+                sb.append(Arrays.deepToString(array));
+            } else {
+                sb.append(value);
+            }
+        }
+        return DigestUtil.sha256Hex(sb.toString());
+    }
+
+    /**
+     * 分页总数
+     *
+     * @param total 总数
+     * @param mode  实际使用的统计模式
+     */
+    private record PageCount(long total, PageCountMode mode) {
+    }
+
+    // ========================= 游标分页查询方法 =========================
+
+    /**
+     * 游标分页查询（Map 结果）
+     *
+     * @param sql               SQL 语句（不含分页语句，ORDER BY 会被排序键替换）
+     * @param params            参数
+     * @param cursorPageRequest 游标分页参数
+     * @return 游标分页结果
+     */
+    public CursorPageResult<Map<String, Object>> queryCursorPage(String sql, Map<String, Object> params, CursorPageRequest cursorPageRequest) {
+        return this.queryCursorPage(sql, params, cursorPageRequest, false);
+    }
+
+    /**
+     * 游标分页查询（Map 结果）
+     *
+     * @param sql               SQL 语句（不含分页语句，ORDER BY 会被排序键替换）
+     * @param params            参数
+     * @param cursorPageRequest 游标分页参数
+     * @param logSql            是否记录 SQL 日志
+     * @return 游标分页结果
+     */
+    public CursorPageResult<Map<String, Object>> queryCursorPage(String sql, Map<String, Object> params, CursorPageRequest cursorPageRequest, boolean logSql) {
+        return this.doQueryCursorPage("queryCursorPage", sql, params, cursorPageRequest, logSql, buildColumnMapRowMapper());
+    }
+
+    /**
+     * 游标分页查询（实体映射）
+     *
+     * @param sql               SQL 语句（不含分页语句，ORDER BY 会被排序键替换）
+     * @param params            参数
+     * @param cursorPageRequest 游标分页参数
+     * @param rowMapperClass    行映射类
+     * @param <T>               实体类型
+     * @return 游标分页结果
+     */
+    public <T> CursorPageResult<T> queryCursorPage(String sql, Map<String, Object> params, CursorPageRequest cursorPageRequest, Class<T> rowMapperClass) {
+        return this.queryCursorPage(sql, params, cursorPageRequest, false, rowMapperClass);
+    }
+
+    /**
+     * 游标分页查询（实体映射）
+     *
+     * @param sql               SQL 语句（不含分页语句，ORDER BY 会被排序键替换）
+     * @param params            参数
+     * @param cursorPageRequest 游标分页参数
+     * @param logSql            是否记录 SQL 日志
+     * @param rowMapperClass    行映射类
+     * @param <T>               实体类型
+     * @return 游标分页结果
+     */
+    public <T> CursorPageResult<T> queryCursorPage(String sql, Map<String, Object> params, CursorPageRequest cursorPageRequest, boolean logSql, Class<T> rowMapperClass) {
+        if (rowMapperClass == null) {
+            throw new IllegalArgumentException("行映射类不能为空");
+        }
+        return this.doQueryCursorPage("queryCursorPageTyped", sql, params, cursorPageRequest, logSql, this.rowMapperRegistry.getRowMapper(rowMapperClass));
+    }
+
+    /**
+     * 执行游标分页查询
+     * <p>
+     * 原始 SQL 去掉 ORDER BY 后包装为派生表，在外层追加 seek 条件与排序键排序，并多取一行用于判断是否有下一页，
+     * 因此排序键必须是原始 SQL 结果集中的列名或别名。
+     *
+     * @param operation         操作名称
+     * @param sql               SQL 语句
+     * @param params            参数
+     * @param cursorPageRequest 游标分页参数
+     * @param logSql            是否记录 SQL 日志
+     * @param rowMapper         行映射器
+     * @param <T>               结果类型
+     * @return 游标分页结果
+     */
+    private <T> CursorPageResult<T> doQueryCursorPage(String operation, String sql, Map<String, Object> params, CursorPageRequest cursorPageRequest, boolean logSql, RowMapper<T> rowMapper) {
+        validateSql(sql);
+        params = ensureParamsNotNull(params);
+
+        if (cursorPageRequest == null) {
+            throw new IllegalArgumentException("分页参数不能为空");
+        }
+        cursorPageRequest.validate();
+
+        if (databaseDialect == null) {
+            throw new SystemException(HttpStatusCode.INTERNAL_SERVER_ERROR, "数据库方言未初始化");
+        }
+
+        List<SortKey> sortKeys = cursorPageRequest.getSortKeys();
+        int pageSize = cursorPageRequest.getPageSize();
+
+        // 先解码游标，令牌无效时不执行任何查询
+        Map<String, Object> seekParams = new HashMap<>(params);
+        if (!cursorPageRequest.isFirstPage()) {
+            Object[] lastValues = CursorTokenCodec.decode(sortKeys, cursorPageRequest.getCursor());
+            for (int i = 0; i < lastValues.length; i++) {
+                seekParams.put(CURSOR_PARAM_PREFIX + i, lastValues[i]);
+            }
+        }
+
+        // 按需查询总记录数（COUNT SQL 由 queryLong 记录执行指标）
+        Long total = null;
+        if (cursorPageRequest.isSearchCount()) {
+            total = this.queryLong(buildCountSql(sql), params, logSql);
             if (total == null || total == 0) {
-                return PageResult.empty(pageRequest.getPageNum(), pageRequest.getPageSize());
+                return CursorPageResult.empty(pageSize, 0L);
             }
+        }
+
+        String seekSql = buildSeekSql(sql, cursorPageRequest);
+
+        // 多取一行判断是否有下一页，同时只在当前页最后一行读取排序键值
+        Object[] lastValues = new Object[sortKeys.size()];
+        boolean[] hasNext = new boolean[1];
+        long start = System.nanoTime();
+        List<T> records;
+        try {
+            records = this.readTemplate().query(seekSql, seekParams, rs -> {
+                List<T> rows = new ArrayList<>(pageSize);
+                while (rs.next()) {
+                    if (rows.size() == pageSize) {
+                        hasNext[0] = true;
+                        break;
+                    }
+                    rows.add(rowMapper.mapRow(rs, rows.size()));
+                    if (rows.size() == pageSize) {
+                        for (int i = 0; i < lastValues.length; i++) {
+                            lastValues[i] = rs.getObject(sortKeys.get(i).getColumn());
+                        }
+                    }
+                }
+                return rows;
+            });
+        } catch (Exception e) {
+            this.afterExecution(operation, seekSql, seekParams, start, null, 0, e, logSql);
+            throw e;
+        }
+        this.afterExecution(operation, seekSql, seekParams, start, null, records != null ? records.size() : 0, null, logSql);
+
+        String nextCursor = hasNext[0] ? CursorTokenCodec.encode(sortKeys, lastValues) : null;
+        return new CursorPageResult<>(records, pageSize, nextCursor, total);
+    }
+
+    // ========================= 流式查询方法 =========================
+
+    /**
+     * 流式查询（Map 结果，逐行回调）
+     * <p>
+     * 结果集按 fetchSize 从数据库分批拉取，每行映射后立即交给回调处理，不会在内存中累积整个结果集。
+     * 回调在查询连接上同步执行，回调内不要在同一事务中执行其他 SQL（MySQL 流式结果集读取期间连接被独占）。
+     *
+     * @param sql         SQL 语句
+     * @param params      参数
+     * @param rowConsumer 行回调
+     * @return 处理的行数
+     */
+    public long queryStream(String sql, Map<String, Object> params, Consumer<Map<String, Object>> rowConsumer) {
+        return this.queryStream(sql, params, false, rowConsumer);
+    }
+
+    /**
+     * 流式查询（Map 结果，逐行回调）
+     *
+     * @param sql         SQL 语句
+     * @param params      参数
+     * @param logSql      是否记录 SQL 日志
+     * @param rowConsumer 行回调
+     * @return 处理的行数
+     */
+    public long queryStream(String sql, Map<String, Object> params, boolean logSql, Consumer<Map<String, Object>> rowConsumer) {
+        return this.doQueryStream("queryStream", sql, params, logSql, buildColumnMapRowMapper(), rowConsumer);
+    }
+
+    /**
+     * 流式查询（实体映射，逐行回调）
+     *
+     * @param sql            SQL 语句
+     * @param params         参数
+     * @param rowMapperClass 行映射类
+     * @param rowConsumer    行回调
+     * @param <T>            实体类型
+     * @return 处理的行数
+     */
+    public <T> long queryStream(String sql, Map<String, Object> params, Class<T> rowMapperClass, Consumer<? super T> rowConsumer) {
+        return this.queryStream(sql, params, false, rowMapperClass, rowConsumer);
+    }
+
+    /**
+     * 流式查询（实体映射，逐行回调）
+     *
+     * @param sql            SQL 语句
+     * @param params         参数
+     * @param logSql         是否记录 SQL 日志
+     * @param rowMapperClass 行映射类
+     * @param rowConsumer    行回调
+     * @param <T>            实体类型
+     * @return 处理的行数
+     */
+    public <T> long queryStream(String sql, Map<String, Object> params, boolean logSql, Class<T> rowMapperClass, Consumer<? super T> rowConsumer) {
+        if (rowMapperClass == null) {
+            throw new IllegalArgumentException("行映射类不能为空");
+        }
+        return this.doQueryStream("queryStreamTyped", sql, params, logSql, this.rowMapperRegistry.getRowMapper(rowMapperClass), rowConsumer);
+    }
 
-            // 构建分页 SQL
-            String pageSql = buildPageSql(sql, pageRequest);
+    /**
+     * 分块流式查询（实体映射）
+     * <p>
+     * 每累积 chunkSize 行回调一次，适合批量导出、批量写缓存等场景。回调同步执行，
+     * 处理完当前块后才会继续从数据库拉取下一块，天然具备背压能力。
+     *
+     * @param sql            SQL 语句
+     * @param params         参数
+     * @param rowMapperClass 行映射类
+     * @param chunkSize      每块行数
+     * @param chunkConsumer  块回调
+     * @param <T>            实体类型
+     * @return 处理的行数
+     */
+    public <T> long queryChunks(String sql, Map<String, Object> params, Class<T> rowMapperClass, int chunkSize, Consumer<List<T>> chunkConsumer) {
+        return this.queryChunks(sql, params, false, rowMapperClass, chunkSize, chunkConsumer);
+    }
+
+    /**
+     * 分块流式查询（实体映射）
+     *
+     * @param sql            SQL 语句
+     * @param params         参数
+     * @param logSql         是否记录 SQL 日志
+     * @param rowMapperClass 行映射类
+     * @param chunkSize      每块行数
+     * @param chunkConsumer  块回调
+     * @param <T>            实体类型
+     * @return 处理的行数
+     */
+    public <T> long queryChunks(String sql, Map<String, Object> params, boolean logSql, Class<T> rowMapperClass, int chunkSize, Consumer<List<T>> chunkConsumer) {
+        if (rowMapperClass == null) {
+            throw new IllegalArgumentException("行映射类不能为空");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("每块行数必须大于等于1");
+        }
+        if (chunkConsumer == null) {
+            throw new IllegalArgumentException("回调函数不能为空");
+        }
 
-            // 查询分页数据
-            List<Map<String, Object>> records = this.queryList(pageSql, params, logSql);
+        List<List<T>> holder = new ArrayList<>(1);
+        holder.add(new ArrayList<>(chunkSize));
 
-            if (logSql) {
-                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-                this.logSqlStructured("queryPage", sql, params, elapsedMs, null, records.size(), null);
+        long rows = this.doQueryStream("queryChunks", sql, params, logSql, this.rowMapperRegistry.getRowMapper(rowMapperClass), row -> {
+            List<T> chunk = holder.get(0);
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                chunkConsumer.accept(chunk);
+                holder.set(0, new ArrayList<>(chunkSize));
             }
+        });
 
-            return new PageResult<>(records, total, pageRequest.getPageNum(), pageRequest.getPageSize());
-        } catch (Exception e) {
-            exception = e;
-            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-            if (logSql) {
-                this.logSqlStructured("queryPage", sql, params, elapsedMs, null, 0, exception);
-            }
-            throw e;
+        if (!holder.get(0).isEmpty()) {
+            chunkConsumer.accept(holder.get(0));
         }
+        return rows;
     }
 
     /**
-     * 分页查询（实体映射）
+     * 流式查询（实体映射，返回 Stream）
+     * <p>
+     * 返回的 Stream 持有数据库连接与结果集，必须在使用后关闭，推荐使用 try-with-resources:
+     * <pre>{@code
+     * try (Stream<LogOperation> stream = jdbcManager.queryForStream(sql, params, LogOperation.class)) {
+     *     stream.forEach(exporter::write);
+     * }
+     * }</pre>
      *
-     * @param sql            SQL 语句（不含分页语句）
+     * @param sql            SQL 语句
      * @param params         参数
-     * @param pageRequest    分页参数
      * @param rowMapperClass 行映射类
      * @param <T>            实体类型
-     * @return 分页结果
+     * @return 数据流
      */
-    public <T> PageResult<T> queryPage(String sql, Map<String, Object> params, PageRequest pageRequest, Class<T> rowMapperClass) {
-        return this.queryPage(sql, params, pageRequest, false, rowMapperClass);
+    public <T> Stream<T> queryForStream(String sql, Map<String, Object> params, Class<T> rowMapperClass) {
+        validateSql(sql);
+        params = ensureParamsNotNull(params);
+
+        if (rowMapperClass == null) {
+            throw new IllegalArgumentException("行映射类不能为空");
+        }
+
+        StreamingStatementCreator creator = new StreamingStatementCreator(this.parsedSqlCache.get(sql), params, getStreamingFetchSize());
+        return this.readTemplate().getJdbcTemplate().queryForStream(creator, this.rowMapperRegistry.getRowMapper(rowMapperClass));
     }
 
     /**
-     * 分页查询（实体映射）
+     * 执行流式查询
      *
-     * @param sql            SQL 语句（不含分页语句）
-     * @param params         参数
-     * @param pageRequest    分页参数
-     * @param logSql         是否记录 SQL 日志
-     * @param rowMapperClass 行映射类
-     * @param <T>            实体类型
-     * @return 分页结果
+     * @param operation   操作名称
+     * @param sql         SQL 语句
+     * @param params      参数
+     * @param logSql      是否记录 SQL 日志
+     * @param rowMapper   行映射器
+     * @param rowConsumer 行回调
+     * @param <T>         结果类型
+     * @return 处理的行数
      */
-    public <T> PageResult<T> queryPage(String sql, Map<String, Object> params, PageRequest pageRequest, boolean logSql, Class<T> rowMapperClass) {
+    private <T> long doQueryStream(String operation, String sql, Map<String, Object> params, boolean logSql, RowMapper<T> rowMapper, Consumer<? super T> rowConsumer) {
         validateSql(sql);
         params = ensureParamsNotNull(params);
 
-        if (pageRequest == null) {
-            throw new IllegalArgumentException("分页参数不能为空");
-        }
-        if (rowMapperClass == null) {
-            throw new IllegalArgumentException("行映射类不能为空");
+        if (rowConsumer == null) {
+            throw new IllegalArgumentException("回调函数不能为空");
         }
-        pageRequest.validate();
 
         long start = System.nanoTime();
+        long[] rowCount = new long[1];
         Exception exception = null;
 
         try {
-            // 查询总记录数
-            String countSql = buildCountSql(sql);
-            Long total = this.queryLong(countSql, params, logSql);
-            if (total == null || total == 0) {
-                return PageResult.empty(pageRequest.getPageNum(), pageRequest.getPageSize());
-            }
-
-            // 构建分页 SQL
-            String pageSql = buildPageSql(sql, pageRequest);
-
-            // 查询分页数据
-            List<T> records = this.queryList(pageSql, params, logSql, rowMapperClass);
+            StreamingStatementCreator creator = new StreamingStatementCreator(this.parsedSqlCache.get(sql), params, getStreamingFetchSize());
+            this.readTemplate().getJdbcTemplate().query(creator, (RowCallbackHandler) rs -> {
+                int rowNum = (int) Math.min(rowCount[0], Integer.MAX_VALUE);
+                rowConsumer.accept(rowMapper.mapRow(rs, rowNum));
+                rowCount[0]++;
+            });
 
-            if (logSql) {
-                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-                this.logSqlStructured("queryPageTyped", sql, params, elapsedMs, null, records.size(), null);
-            }
+            this.afterExecution(operation, sql, params, start, null, (int) Math.min(rowCount[0], Integer.MAX_VALUE), null, logSql);
 
-            return new PageResult<>(records, total, pageRequest.getPageNum(), pageRequest.getPageSize());
+            return rowCount[0];
         } catch (Exception e) {
             exception = e;
-            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-            if (logSql) {
-                this.logSqlStructured("queryPageTyped", sql, params, elapsedMs, null, 0, exception);
-            }
+            this.afterExecution(operation, sql, params, start, null, (int) Math.min(rowCount[0], Integer.MAX_VALUE), exception, logSql);
             throw e;
         }
     }
@@ -844,20 +1373,15 @@ public class JdbcTemplateManager {
         Exception exception = null;
 
         try {
+            this.markWrite();
             int rows = this.namedParameterJdbcTemplate.update(sql, params);
 
-            if (logSql) {
-                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-                this.logSqlStructured("update", sql, params, elapsedMs, rows, null, null);
-            }
+            this.afterExecution("update", sql, params, start, rows, null, null, logSql);
 
             return rows;
         } catch (Exception e) {
             exception = e;
-            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-            if (logSql) {
-                this.logSqlStructured("update", sql, params, elapsedMs, 0, null, exception);
-            }
+            this.afterExecution("update", sql, params, start, 0, null, exception, logSql);
             throw e;
         }
     }
@@ -889,31 +1413,23 @@ public class JdbcTemplateManager {
 
         try {
             KeyHolder keyHolder = new GeneratedKeyHolder();
+            this.markWrite();
             int rows = this.namedParameterJdbcTemplate.update(sql, params, keyHolder);
 
             if (keyHolder.getKey() == null) {
-                if (logSql) {
-                    long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-                    this.logSqlStructured("updateAndGetKey", sql, params, elapsedMs, rows, null, new SystemException(HttpStatusCode.INTERNAL_SERVER_ERROR, "获取主键失败"));
-                }
+                // 由下方 catch 统一记录指标与日志，避免重复统计
                 log.error("获取主键失败，sql: {}, params: {}", sql, params);
                 throw new SystemException(HttpStatusCode.INTERNAL_SERVER_ERROR, "获取主键失败");
             }
 
             long resultKey = keyHolder.getKey().longValue();
 
-            if (logSql) {
-                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-                this.logSqlStructured("updateAndGetKey", sql, params, elapsedMs, rows, null, null);
-            }
+            this.afterExecution("updateAndGetKey", sql, params, start, rows, null, null, logSql);
 
             return resultKey;
         } catch (Exception e) {
             exception = e;
-            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-            if (logSql) {
-                this.logSqlStructured("updateAndGetKey", sql, params, elapsedMs, 0, null, exception);
-            }
+            this.afterExecution("updateAndGetKey", sql, params, start, 0, null, exception, logSql);
             throw e;
         }
     }
@@ -948,24 +1464,19 @@ public class JdbcTemplateManager {
         Exception exception = null;
 
         try {
+            this.markWrite();
             int[] result = this.namedParameterJdbcTemplate.batchUpdate(sql, params);
 
-            if (logSql) {
-                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-                int totalRows = 0;
-                for (int rows : result) {
-                    totalRows += rows;
-                }
-                this.logSqlStructured("batchUpdate", sql, "batchSize=" + params.length, elapsedMs, totalRows, null, null);
+            int totalRows = 0;
+            for (int rows : result) {
+                totalRows += rows;
             }
+            this.afterExecution("batchUpdate", sql, "batchSize=" + params.length, start, totalRows, null, null, logSql);
 
             return result;
         } catch (Exception e) {
             exception = e;
-            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-            if (logSql) {
-                this.logSqlStructured("batchUpdate", sql, "batchSize=" + params.length, elapsedMs, 0, null, exception);
-            }
+            this.afterExecution("batchUpdate", sql, "batchSize=" + params.length, start, 0, null, exception, logSql);
             throw e;
         }
     }
@@ -998,28 +1509,173 @@ public class JdbcTemplateManager {
         Exception exception = null;
 
         try {
+            this.markWrite();
             int[] result = this.namedParameterJdbcTemplate.batchUpdate(sql, params);
 
-            if (logSql) {
-                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-                int totalRows = 0;
-                for (int rows : result) {
-                    totalRows += rows;
-                }
-                this.logSqlStructured("batchUpdate", sql, "batchSize=" + params.length, elapsedMs, totalRows, null, null);
+            int totalRows = 0;
+            for (int rows : result) {
+                totalRows += rows;
             }
+            this.afterExecution("batchUpdate", sql, "batchSize=" + params.length, start, totalRows, null, null, logSql);
 
             return result;
         } catch (Exception e) {
             exception = e;
-            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-            if (logSql) {
-                this.logSqlStructured("batchUpdate", sql, "batchSize=" + params.length, elapsedMs, 0, null, exception);
-            }
+            this.afterExecution("batchUpdate", sql, "batchSize=" + params.length, start, 0, null, exception, logSql);
             throw e;
         }
     }
 
+    // ========================= 批量写入 =========================
+
+    /**
+     * 批量插入（默认选项）
+     *
+     * @param tableName 表名
+     * @param rows      行数据，每行的键为列名，所有行的列集合需一致（以第一行的键顺序为准）
+     * @return 批量写入结果
+     */
+    public BulkWriteResult bulkInsert(String tableName, List<? extends Map<String, ?>> rows) {
+        return this.bulkInsert(tableName, rows, BulkWriteOptions.defaults());
+    }
+
+    /**
+     * 批量插入（或插入并在冲突时更新）
+     * <p>
+     * 数据按行数与估算字节数切分为分块，每个分块一次往返写入，例如写入审计日志:
+     * <pre>{@code
+     * BulkWriteOptions options = new BulkWriteOptions();
+     * options.setChunkSize(1000);
+     * options.setParallelism(4);
+     * BulkWriteResult result = jdbcManager.bulkInsert("log_operation", rows, options);
+     * if (!result.isSuccess()) {
+     *     result.getFailedChunks().forEach(chunk -> retry(rows.subList(chunk.getFromIndex(), chunk.getToIndex())));
+     * }
+     * }</pre>
+     *
+     * @param tableName 表名
+     * @param rows      行数据，每行的键为列名，所有行的列集合需一致（以第一行的键顺序为准）
+     * @param options   批量写入选项
+     * @return 批量写入结果
+     */
+    public BulkWriteResult bulkInsert(String tableName, List<? extends Map<String, ?>> rows, BulkWriteOptions options) {
+        validateIdentifier(tableName);
+        options = options != null ? options : BulkWriteOptions.defaults();
+        options.validate();
+        if (options.isUpsert() && !this.databaseDialect.supportsUpsert()) {
+            throw new UnsupportedOperationException(this.databaseDialect.getClass().getSimpleName() + " 不支持批量插入或更新");
+        }
+
+        if (rows == null || rows.isEmpty()) {
+            return BulkWriteResult.of(0, new ArrayList<>(), 0);
+        }
+
+        List<String> columns = new ArrayList<>(rows.get(0).keySet());
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("批量插入的列不能为空");
+        }
+        columns.forEach(this::validateIdentifier);
+        options.getConflictColumns().forEach(this::validateIdentifier);
+        options.getUpdateColumns().forEach(this::validateIdentifier);
+
+        boolean multiRow = options.isMultiRowInsert() && this.databaseDialect.supportsMultiRowInsert();
+        int maxRows = options.getChunkSize();
+        if (multiRow) {
+            maxRows = Math.max(1, Math.min(maxRows, this.databaseDialect.getMaxParametersPerStatement() / columns.size()));
+        }
+
+        // 同一次调用中满分块的 SQL 相同，按行数缓存
+        Map<Integer, String> sqlCache = new ConcurrentHashMap<>();
+        String operation = options.isUpsert() ? "bulkUpsert" : "bulkInsert";
+        BulkWriteOptions writeOptions = options;
+        IntFunction<String> sqlBuilder = n -> writeOptions.isUpsert()
+                ? this.databaseDialect.getUpsertSql(tableName, columns, n, writeOptions.getConflictColumns(), writeOptions.getUpdateColumns())
+                : this.databaseDialect.getMultiRowInsertSql(tableName, columns, n);
+
+        List<int[]> ranges = this.splitBulkChunks(rows, maxRows, options.getMaxChunkBytes());
+
+        // 在写入第一个分块之前生成 SQL，更新列为空等问题直接抛出，不会留下部分写入的数据
+        int firstRowCount = multiRow ? ranges.get(0)[1] - ranges.get(0)[0] : 1;
+        sqlCache.put(firstRowCount, sqlBuilder.apply(firstRowCount));
+
+        return this.executeBulkChunks(rows.size(), ranges, options, (from, to) -> {
+            int rowCount = multiRow ? to - from : 1;
+            String sql = sqlCache.computeIfAbsent(rowCount, sqlBuilder::apply);
+
+            long start = System.nanoTime();
+            try {
+                long affected;
+                if (multiRow) {
+                    Object[] args = new Object[(to - from) * columns.size()];
+                    int i = 0;
+                    for (int row = from; row < to; row++) {
+                        Map<String, ?> values = this.checkBulkRow(rows.get(row), columns, row);
+                        for (String column : columns) {
+                            args[i++] = values.get(column);
+                        }
+                    }
+                    affected = this.namedParameterJdbcTemplate.getJdbcTemplate().update(sql, args);
+                } else {
+                    List<Object[]> batchArgs = new ArrayList<>(to - from);
+                    for (int row = from; row < to; row++) {
+                        Map<String, ?> values = this.checkBulkRow(rows.get(row), columns, row);
+                        Object[] args = new Object[columns.size()];
+                        for (int col = 0; col < args.length; col++) {
+                            args[col] = values.get(columns.get(col));
+                        }
+                        batchArgs.add(args);
+                    }
+                    affected = sumAffectedRows(this.namedParameterJdbcTemplate.getJdbcTemplate().batchUpdate(sql, batchArgs));
+                }
+                this.afterExecution(operation, sql, "rows=" + (to - from), start, (int) Math.min(affected, Integer.MAX_VALUE), null, null, writeOptions.isLogSql());
+                return affected;
+            } catch (Exception e) {
+                this.afterExecution(operation, sql, "rows=" + (to - from), start, 0, null, e, writeOptions.isLogSql());
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * 分块批量更新
+     * <p>
+     * 与 {@link #batchUpdate(String, Map[])} 相同使用命名参数 SQL，但按选项中的行数与字节数切分为多个 JDBC 批次，
+     * 并返回每个批次的结果（多行改写与插入或更新选项对该方法无效）。
+     *
+     * @param sql     命名参数 SQL
+     * @param params  每行参数
+     * @param options 批量写入选项
+     * @return 批量写入结果
+     */
+    public BulkWriteResult bulkUpdate(String sql, List<? extends Map<String, ?>> params, BulkWriteOptions options) {
+        validateSql(sql);
+        options = options != null ? options : BulkWriteOptions.defaults();
+        options.validate();
+
+        if (params == null || params.isEmpty()) {
+            return BulkWriteResult.of(0, new ArrayList<>(), 0);
+        }
+
+        BulkWriteOptions writeOptions = options;
+        List<int[]> ranges = this.splitBulkChunks(params, options.getChunkSize(), options.getMaxChunkBytes());
+        return this.executeBulkChunks(params.size(), ranges, options, (from, to) -> {
+            SqlParameterSource[] batch = new SqlParameterSource[to - from];
+            for (int row = from; row < to; row++) {
+                batch[row - from] = new MapSqlParameterSource(new HashMap<>(params.get(row)));
+            }
+
+            long start = System.nanoTime();
+            try {
+                long affected = sumAffectedRows(this.namedParameterJdbcTemplate.batchUpdate(sql, batch));
+                this.afterExecution("bulkUpdate", sql, "batchSize=" + batch.length, start, (int) Math.min(affected, Integer.MAX_VALUE), null, null, writeOptions.isLogSql());
+                return affected;
+            } catch (Exception e) {
+                this.afterExecution("bulkUpdate", sql, "batchSize=" + batch.length, start, 0, null, e, writeOptions.isLogSql());
+                throw e;
+            }
+        });
+    }
+
     // ========================= 便捷方法（语义化） =========================
 
     /**
@@ -1125,6 +1781,7 @@ public class JdbcTemplateManager {
         try {
             String callSql = buildCallProcedureSql(procedureName, params);
 
+            this.markWrite();
             Map<String, Object> result = this.namedParameterJdbcTemplate.getJdbcTemplate().execute(
                     callSql,
                     (CallableStatementCallback<Map<String, Object>>) cs -> {
@@ -1135,18 +1792,12 @@ public class JdbcTemplateManager {
                     }
             );
 
-            if (logSql) {
-                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-                this.logSqlStructured("callProcedure", callSql, params, elapsedMs, null, 1, null);
-            }
+            this.afterExecution("callProcedure", callSql, params, start, null, 1, null, logSql);
 
             return result;
         } catch (Exception e) {
             exception = e;
-            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
-            if (logSql) {
-                this.logSqlStructured("callProcedure", procedureName, params, elapsedMs, null, 0, exception);
-            }
+            this.afterExecution("callProcedure", procedureName, params, start, null, 0, exception, logSql);
             log.error("调用存储过程失败: {}, params: {}", procedureName, params, e);
             throw new SystemException(HttpStatusCode.INTERNAL_SERVER_ERROR, "调用存储过程失败");
         }
@@ -1300,139 +1951,378 @@ public class JdbcTemplateManager {
     }
 
     /**
-     * 转换列名为小写
+     * 获取查询使用的 JDBC 模板
+     * <p>
+     * 开启读写分离时，事务外、未强制读主库且不在读己之写窗口内的查询路由到从库；
+     * 事务内的查询必须与写入使用同一连接，始终走主库。
      *
-     * @param resultList 结果列表
-     * @param nullValue  空值替换值
-     * @return 转换后的列表
-     */
-    private List<Map<String, Object>> transformColumnNamesToLowerCase(List<Map<String, Object>> resultList, Object nullValue) {
-        if (resultList == null || resultList.isEmpty()) {
-            return resultList;
+     * @return JDBC 模板
+     */
+    private NamedParameterJdbcTemplate readTemplate() {
+        NamedParameterJdbcTemplate replica = this.replicaJdbcTemplate;
+        if (replica == null
+                || TransactionSynchronizationManager.isActualTransactionActive()
+                || ReadWriteRoutingContext.isPrimaryRequired(readYourWritesWindowMs)) {
+            return this.namedParameterJdbcTemplate;
         }
+        return replica;
+    }
 
-        List<Map<String, Object>> transformed = new ArrayList<>(resultList.size());
-        for (Map<String, Object> map : resultList) {
-            transformed.add(transformMapKeysToLowerCase(map, nullValue));
+    /**
+     * 标记当前线程发生写入（仅开启读写分离时生效）
+     */
+    private void markWrite() {
+        if (this.replicaJdbcTemplate != null) {
+            ReadWriteRoutingContext.markWrite();
         }
-
-        return transformed;
     }
 
     /**
-     * 转换 Map 键为小写
+     * 构建统计 SQL
      *
-     * @param map 原始 Map
-     * @return 转换后的 Map
+     * @param sql 原始 SQL
+     * @return 统计 SQL
      */
-    private Map<String, Object> transformMapKeysToLowerCase(Map<String, Object> map) {
-        return transformMapKeysToLowerCase(map, null);
+    private String buildCountSql(String sql) {
+        return "SELECT COUNT(*) FROM (" + removeOrderBy(sql) + ") tmp_count";
     }
 
     /**
-     * 转换 Map 键为小写并替换空值
+     * 移除末尾的 ORDER BY 子句（简单处理）
      *
-     * @param map       原始 Map
-     * @param nullValue 空值替换值
-     * @return 转换后的 Map
+     * @param sql 原始 SQL
+     * @return 移除排序后的 SQL
      */
-    private Map<String, Object> transformMapKeysToLowerCase(Map<String, Object> map, Object nullValue) {
-        if (map == null) {
-            return null;
-        }
+    private String removeOrderBy(String sql) {
+        int orderByIndex = sql.toUpperCase().lastIndexOf("ORDER BY");
+        return orderByIndex > 0 ? sql.substring(0, orderByIndex) : sql;
+    }
 
-        Map<String, Object> lowerMap = new LinkedHashMap<>(map.size());
-        Set<String> lowerKeys = enableColumnConflictCheck ? new HashSet<>() : null;
+    /**
+     * 构建游标分页 SQL
+     * <p>
+     * 生成格式（以 MySQL 为例）:
+     * <pre>{@code
+     * SELECT * FROM (original_sql) tmp_seek WHERE seek_predicate ORDER BY k1 DESC, k2 DESC LIMIT 0, pageSize + 1
+     * }</pre>
+     *
+     * @param sql               原始 SQL
+     * @param cursorPageRequest 游标分页参数
+     * @return 游标分页 SQL
+     */
+    private String buildSeekSql(String sql, CursorPageRequest cursorPageRequest) {
+        List<SortKey> sortKeys = cursorPageRequest.getSortKeys();
 
-        for (Map.Entry<String, Object> entry : map.entrySet()) {
-            String originalKey = entry.getKey();
-            String lowerKey = originalKey.toLowerCase();
-            Object value = entry.getValue();
+        StringBuilder sb = new StringBuilder(sql.length() + 128);
+        sb.append("SELECT * FROM (").append(removeOrderBy(sql)).append(") tmp_seek");
 
-            if (nullValue != null && value == null) {
-                value = nullValue;
-            }
+        if (!cursorPageRequest.isFirstPage()) {
+            sb.append(" WHERE ").append(databaseDialect.getSeekPredicate(sortKeys, CURSOR_PARAM_PREFIX));
+        }
 
-            if (enableColumnConflictCheck) {
-                if (lowerKeys.contains(lowerKey) && !lowerKey.equals(originalKey)) {
-                    log.error("列名大小写冲突，可能导致数据丢失: 原始键 {} 与 转小写键 {} 发生覆盖", originalKey, lowerKey);
-                    throw new SystemException(HttpStatusCode.INTERNAL_SERVER_ERROR, "列名大小写冲突: " + originalKey + " -> " + lowerKey);
-                }
-                lowerKeys.add(lowerKey);
+        sb.append(" ORDER BY ");
+        for (int i = 0; i < sortKeys.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
             }
-
-            lowerMap.put(lowerKey, value);
+            sb.append(sortKeys.get(i).getColumn()).append(' ').append(sortKeys.get(i).getDirection());
         }
 
-        return lowerMap;
+        return databaseDialect.getLimitSql(sb.toString(), 0, cursorPageRequest.getPageSize() + 1);
     }
 
     /**
-     * 替换空值
+     * 构建分页 SQL
      *
-     * @param resultList 结果列表
-     * @param nullValue  空值替换值
-     * @return 处理后的列表
+     * @param sql         原始 SQL
+     * @param pageRequest 分页参数
+     * @param limit       查询行数
+     * @return 分页 SQL
      */
-    private List<Map<String, Object>> replaceNullValues(List<Map<String, Object>> resultList, Object nullValue) {
-        if (resultList == null || resultList.isEmpty() || nullValue == null) {
-            return resultList;
+    private String buildPageSql(String sql, PageRequest pageRequest, int limit) {
+        if (databaseDialect == null) {
+            throw new SystemException(HttpStatusCode.INTERNAL_SERVER_ERROR, "数据库方言未初始化");
         }
 
-        List<Map<String, Object>> transformed = new ArrayList<>(resultList.size());
-        for (Map<String, Object> map : resultList) {
-            Map<String, Object> newMap = new LinkedHashMap<>(map.size());
-            for (Map.Entry<String, Object> entry : map.entrySet()) {
-                Object value = entry.getValue();
-                newMap.put(entry.getKey(), value == null ? nullValue : value);
+        StringBuilder sb = new StringBuilder(sql);
+
+        // 添加排序
+        if (pageRequest.getOrderBy() != null && !pageRequest.getOrderBy().isEmpty()) {
+            sb.append(" ORDER BY ").append(pageRequest.getOrderBy());
+            if (pageRequest.getOrderDirection() != null && !pageRequest.getOrderDirection().isEmpty()) {
+                sb.append(" ").append(pageRequest.getOrderDirection());
             }
-            transformed.add(newMap);
         }
 
-        return transformed;
+        return databaseDialect.getLimitSql(sb.toString(), pageRequest.getOffset(), limit);
     }
 
     /**
-     * 构建统计 SQL
+     * 构建 Map 结果行映射器（按配置转换列名为小写）
      *
-     * @param sql 原始 SQL
-     * @return 统计 SQL
+     * @return 行映射器
      */
-    private String buildCountSql(String sql) {
-        String upperSql = sql.toUpperCase().trim();
-
-        // 简单处理，移除 ORDER BY 子句
-        int orderByIndex = upperSql.lastIndexOf("ORDER BY");
-        if (orderByIndex > 0) {
-            sql = sql.substring(0, orderByIndex);
-        }
+    private RowMapper<Map<String, Object>> buildColumnMapRowMapper() {
+        return buildColumnMapRowMapper(null);
+    }
 
-        return "SELECT COUNT(*) FROM (" + sql + ") tmp_count";
+    /**
+     * 构建 Map 结果行映射器（按配置转换列名为小写并替换空值）
+     * <p>
+     * 列名转换与冲突检测在每个结果集上只做一次，各行共享键表，避免逐行复制 Map。
+     *
+     * @param nullValue 空值替换值（为 null 时不替换）
+     * @return 行映射器
+     */
+    private RowMapper<Map<String, Object>> buildColumnMapRowMapper(Object nullValue) {
+        return new CompactColumnMapRowMapper(lowerCaseColumnNames, enableColumnConflictCheck, nullValue);
     }
 
     /**
-     * 构建分页 SQL
+     * 获取流式查询 fetchSize（由数据库方言决定实际取值）
      *
-     * @param sql         原始 SQL
-     * @param pageRequest 分页参数
-     * @return 分页 SQL
+     * @return fetchSize
      */
-    private String buildPageSql(String sql, PageRequest pageRequest) {
+    private int getStreamingFetchSize() {
         if (databaseDialect == null) {
             throw new SystemException(HttpStatusCode.INTERNAL_SERVER_ERROR, "数据库方言未初始化");
         }
+        return databaseDialect.getStreamingFetchSize(streamFetchSize);
+    }
 
-        StringBuilder sb = new StringBuilder(sql);
+    /**
+     * 验证表名/列名标识符（防止 SQL 注入）
+     *
+     * @param identifier 标识符
+     */
+    private void validateIdentifier(String identifier) {
+        if (identifier == null || !IDENTIFIER_PATTERN.matcher(identifier).matches()) {
+            throw new IllegalArgumentException("非法的表名或列名: " + identifier);
+        }
+    }
 
-        // 添加排序
-        if (pageRequest.getOrderBy() != null && !pageRequest.getOrderBy().isEmpty()) {
-            sb.append(" ORDER BY ").append(pageRequest.getOrderBy());
-            if (pageRequest.getOrderDirection() != null && !pageRequest.getOrderDirection().isEmpty()) {
-                sb.append(" ").append(pageRequest.getOrderDirection());
+    /**
+     * 校验批量插入的行与第一行的列集合一致（列数相同且包含第一行的所有列）
+     *
+     * @param row     行数据
+     * @param columns 列名
+     * @param index   行下标
+     * @return 行数据
+     */
+    private Map<String, ?> checkBulkRow(Map<String, ?> row, List<String> columns, int index) {
+        if (row == null || row.size() != columns.size() || !row.keySet().containsAll(columns)) {
+            throw new IllegalArgumentException("第 " + index + " 行的列与第一行不一致，期望列: " + columns
+                    + "，实际列: " + (row != null ? row.keySet() : null));
+        }
+        return row;
+    }
+
+    /**
+     * 按行数与估算字节数切分批量写入分块
+     *
+     * @param rows          行数据
+     * @param maxRows       每个分块最大行数
+     * @param maxChunkBytes 每个分块最大估算字节数（小于等于 0 表示不限制）
+     * @return 分块下标区间 [from, to)
+     */
+    private List<int[]> splitBulkChunks(List<? extends Map<String, ?>> rows, int maxRows, long maxChunkBytes) {
+        List<int[]> ranges = new ArrayList<>(rows.size() / maxRows + 1);
+        int from = 0;
+        long chunkBytes = 0;
+
+        for (int i = 0; i < rows.size(); i++) {
+            long rowBytes = maxChunkBytes > 0 ? estimateRowBytes(rows.get(i)) : 0;
+            boolean full = i - from >= maxRows || (maxChunkBytes > 0 && i > from && chunkBytes + rowBytes > maxChunkBytes);
+            if (full) {
+                ranges.add(new int[]{from, i});
+                from = i;
+                chunkBytes = 0;
+            }
+            chunkBytes += rowBytes;
+        }
+        ranges.add(new int[]{from, rows.size()});
+        return ranges;
+    }
+
+    /**
+     * 估算一行数据写入时占用的字节数
+     *
+     * @param row 行数据
+     * @return 估算字节数
+     */
+    private static long estimateRowBytes(Map<String, ?> row) {
+        if (row == null) {
+            return 0;
+        }
+        long bytes = 0;
+        for (Object value : row.values()) {
+            if (value == null) {
+                bytes += 4;
+            } else if (value instanceof CharSequence text) {
+                // 按 UTF-8 最坏情况估算
+                bytes += text.length() * 3L + 2;
+            } else if (value instanceof byte[] data) {
+                bytes += data.length;
+            } else if (value instanceof Number || value instanceof Boolean) {
+                bytes += 8;
+            } else {
+                bytes += 32;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * 汇总 JDBC 批处理的影响行数（忽略 SUCCESS_NO_INFO 等负值）
+     *
+     * @param results 批处理结果
+     * @return 影响行数
+     */
+    private static long sumAffectedRows(int[] results) {
+        long total = 0;
+        for (int rows : results) {
+            if (rows > 0) {
+                total += rows;
             }
         }
+        return total;
+    }
+
+    /**
+     * 执行批量写入分块
+     * <p>
+     * 并行度大于 1、分块多于 1 个且当前线程不在事务中时，由调用线程与共享的有界线程池并行写入；否则按顺序写入。
+     * 未开启 continueOnError 时，任一分块失败后尚未开始的分块被标记为跳过。
+     *
+     * @param totalRows 输入总行数
+     * @param ranges    分块下标区间
+     * @param options   批量写入选项
+     * @param writer    分块写入函数，参数为 [from, to)，返回影响行数
+     * @return 批量写入结果
+     */
+    private BulkWriteResult executeBulkChunks(int totalRows, List<int[]> ranges, BulkWriteOptions options, ToLongBiFunction<Integer, Integer> writer) {
+        this.markWrite();
+        long start = System.nanoTime();
+        AtomicBoolean failed = new AtomicBoolean(false);
+        List<BulkChunkResult> results = new ArrayList<>(ranges.size());
+
+        int parallelism = Math.min(options.getParallelism(), ranges.size());
+        if (parallelism > 1 && TransactionSynchronizationManager.isActualTransactionActive()) {
+            log.debug("当前线程存在事务，批量写入退化为串行");
+            parallelism = 1;
+        }
+
+        if (parallelism <= 1) {
+            for (int i = 0; i < ranges.size(); i++) {
+                results.add(writeBulkChunk(i, ranges.get(i), options, failed, writer));
+            }
+        } else {
+            // 调用线程与 parallelism - 1 个共享线程池中的任务一起按序领取分块，线程池繁忙时由调用线程完成剩余分块
+            BulkChunkResult[] slots = new BulkChunkResult[ranges.size()];
+            AtomicInteger next = new AtomicInteger();
+            Runnable worker = () -> {
+                for (int index = next.getAndIncrement(); index < ranges.size(); index = next.getAndIncrement()) {
+                    slots[index] = writeBulkChunk(index, ranges.get(index), options, failed, writer);
+                }
+            };
+
+            ThreadPoolExecutor executor = this.getBulkWriteExecutor();
+            List<Future<?>> futures = new ArrayList<>(parallelism - 1);
+            for (int i = 1; i < parallelism; i++) {
+                futures.add(executor.submit(worker));
+            }
+            worker.run();
+
+            try {
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(future -> future.cancel(true));
+                throw new SystemException(HttpStatusCode.INTERNAL_SERVER_ERROR, "批量写入被中断", e);
+            } catch (ExecutionException e) {
+                throw new SystemException(HttpStatusCode.INTERNAL_SERVER_ERROR, "批量写入执行失败", e.getCause());
+            }
+            results.addAll(Arrays.asList(slots));
+        }
+
+        BulkWriteResult result = BulkWriteResult.of(totalRows, results, (System.nanoTime() - start) / 1_000_000);
+        if (!result.isSuccess()) {
+            log.warn("批量写入部分失败: totalRows={}, successRows={}, failedRows={}, failedChunks={}",
+                    result.getTotalRows(), result.getSuccessRows(), result.getFailedRows(), result.getFailedChunks().size());
+        }
+        return result;
+    }
+
+    /**
+     * 写入单个分块
+     *
+     * @param index   分块序号
+     * @param range   分块下标区间
+     * @param options 批量写入选项
+     * @param failed  是否已有分块失败
+     * @param writer  分块写入函数
+     * @return 分块结果
+     */
+    private BulkChunkResult writeBulkChunk(int index, int[] range, BulkWriteOptions options, AtomicBoolean failed, ToLongBiFunction<Integer, Integer> writer) {
+        BulkChunkResult chunk = new BulkChunkResult();
+        chunk.setIndex(index);
+        chunk.setFromIndex(range[0]);
+        chunk.setToIndex(range[1]);
+
+        if (!options.isContinueOnError() && failed.get()) {
+            chunk.setSkipped(true);
+            chunk.setErrorMessage("前序分块写入失败，已跳过");
+            return chunk;
+        }
+
+        long start = System.nanoTime();
+        try {
+            chunk.setAffectedRows(writer.applyAsLong(range[0], range[1]));
+            chunk.setSuccess(true);
+        } catch (Exception e) {
+            failed.set(true);
+            chunk.setCause(e);
+            chunk.setErrorMessage(e.getClass().getSimpleName() + ": " + e.getMessage());
+            log.error("批量写入分块失败: index={}, rows=[{}, {})", index, range[0], range[1], e);
+        } finally {
+            chunk.setElapsedMs((System.nanoTime() - start) / 1_000_000);
+        }
+        return chunk;
+    }
+
+    /**
+     * 获取并行批量写入线程池（有界队列，队列满或线程池已关闭时由提交线程直接执行）
+     *
+     * @return 线程池
+     */
+    private ThreadPoolExecutor getBulkWriteExecutor() {
+        ThreadPoolExecutor executor = this.bulkWriteExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.bulkWriteExecutor;
+                if (executor == null) {
+                    int threads = Math.max(1, bulkWriteMaxThreads);
+                    executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(threads * 4), new NamedThreadFactory("refinex-bulk-write-", true),
+                            (task, pool) -> task.run());
+                    executor.allowCoreThreadTimeOut(true);
+                    this.bulkWriteExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
 
-        return databaseDialect.getLimitSql(sb.toString(), pageRequest.getOffset(), pageRequest.getLimit());
+    /**
+     * 关闭并行批量写入线程池（容器关闭时调用）
+     */
+    public void shutdown() {
+        ThreadPoolExecutor executor = this.bulkWriteExecutor;
+        if (executor != null) {
+            executor.shutdown();
+        }
     }
 
     /**
@@ -1459,6 +2349,31 @@ public class JdbcTemplateManager {
         return sb.toString();
     }
 
+    /**
+     * SQL 执行结束后的统一处理: 始终记录执行指标，按需记录 SQL 日志
+     *
+     * @param operation    操作
+     * @param sql          SQL 语句
+     * @param params       参数
+     * @param startNanos   开始时间（System.nanoTime）
+     * @param rowsAffected 受影响行数
+     * @param resultSize   返回结果集大小
+     * @param exception    异常信息
+     * @param logSql       是否记录 SQL 日志
+     */
+    private void afterExecution(String operation, String sql, Object params, long startNanos, Integer rowsAffected, Integer resultSize, Exception exception, boolean logSql) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        SqlMetricsRegistry metricsRegistry = this.sqlMetricsRegistry;
+        if (metricsRegistry != null) {
+            metricsRegistry.record(operation, sql, params, elapsedNanos, rowsAffected, resultSize, exception);
+        }
+
+        if (logSql) {
+            this.logSqlStructured(operation, sql, params, elapsedNanos / 1_000_000, rowsAffected, resultSize, exception);
+        }
+    }
+
     /**
      * 记录 SQL 日志
      *
@@ -1592,20 +2507,7 @@ public class JdbcTemplateManager {
         }
 
         if (paramsObj instanceof Map<?, ?> original) {
-            Map<Object, Object> sanitized = new LinkedHashMap<>(original.size());
-
-            for (Map.Entry<?, ?> entry : original.entrySet()) {
-                String key = String.valueOf(entry.getKey());
-                Object value = entry.getValue();
-
-                if (sensitiveDataMasker.isSensitive(key)) {
-                    sanitized.put(key, sensitiveDataMasker.mask(value));
-                } else {
-                    sanitized.put(key, value);
-                }
-            }
-
-            return sanitized;
+            return sensitiveDataMasker.maskParams(original);
         } else if (paramsObj instanceof SqlParameterSource) {
             // SqlParameterSource 不便于脱敏，返回类型信息
             return "SqlParameterSource[" + paramsObj.getClass().getSimpleName() + "]";
@@ -0,0 +1,75 @@
+package cn.refinex.common.jdbc.core;
+
+import cn.refinex.common.jdbc.sql.ParsedStatement;
+import org.springframework.jdbc.core.ParameterDisposer;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * 流式查询 PreparedStatement 创建器
+ * <p>
+ * 使用预解析的命名参数 SQL（{@link ParsedStatement}）创建 Statement，额外在 Statement 上设置 fetchSize，
+ * 并保持只进、只读结果集，使驱动按批（或逐行）从服务端拉取数据而不是一次性读入内存。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+final class StreamingStatementCreator implements PreparedStatementCreator, SqlProvider, ParameterDisposer {
+
+    /**
+     * 实际的 PreparedStatement 创建器
+     */
+    private final PreparedStatementCreator delegate;
+
+    /**
+     * 设置到 Statement 上的 fetchSize
+     */
+    private final int fetchSize;
+
+    /**
+     * 构造函数
+     *
+     * @param statement 预解析的命名参数 SQL
+     * @param params    参数
+     * @param fetchSize 设置到 Statement 上的 fetchSize
+     */
+    StreamingStatementCreator(ParsedStatement statement, Map<String, Object> params, int fetchSize) {
+        SqlParameterSource paramSource = new MapSqlParameterSource(params);
+        Object[] values = statement.buildValues(paramSource);
+
+        PreparedStatementCreatorFactory factory = statement.newFactory(paramSource);
+        factory.setResultSetType(ResultSet.TYPE_FORWARD_ONLY);
+        factory.setUpdatableResults(false);
+
+        this.delegate = factory.newPreparedStatementCreator(values);
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public PreparedStatement createPreparedStatement(Connection con) throws SQLException {
+        PreparedStatement ps = delegate.createPreparedStatement(con);
+        ps.setFetchSize(fetchSize);
+        return ps;
+    }
+
+    @Override
+    public String getSql() {
+        return delegate instanceof SqlProvider sqlProvider ? sqlProvider.getSql() : null;
+    }
+
+    @Override
+    public void cleanupParameters() {
+        if (delegate instanceof ParameterDisposer parameterDisposer) {
+            parameterDisposer.cleanupParameters();
+        }
+    }
+}
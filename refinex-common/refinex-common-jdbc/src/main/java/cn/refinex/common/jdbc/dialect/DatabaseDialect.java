@@ -1,5 +1,11 @@
 package cn.refinex.common.jdbc.dialect;
 
+import cn.refinex.common.jdbc.page.SortKey;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
 /**
  * 数据库方言接口
  *
@@ -32,4 +38,158 @@ public interface DatabaseDialect {
      * @return SQL 语句
      */
     String getSequenceNextValSql(String sequenceName);
+
+    /**
+     * 获取流式查询使用的 fetchSize
+     * <p>
+     * 默认直接使用期望的批量大小，驱动按批从服务端拉取数据。
+     *
+     * @param fetchSize 期望的每批拉取行数
+     * @return 实际设置到 Statement 上的 fetchSize
+     */
+    default int getStreamingFetchSize(int fetchSize) {
+        return fetchSize;
+    }
+
+    /**
+     * 获取游标分页的 seek 条件
+     * <p>
+     * 默认使用展开形式，适用于混合排序方向，例如排序键 {@code (a DESC, b DESC)}:
+     * <pre>{@code
+     * (a < :p0) OR (a = :p0 AND b < :p1)
+     * }</pre>
+     *
+     * @param sortKeys    排序键
+     * @param paramPrefix 参数名前缀，第 i 个排序键对应参数名为 paramPrefix + i
+     * @return seek 条件 SQL 片段
+     */
+    default String getSeekPredicate(List<SortKey> sortKeys, String paramPrefix) {
+        StringBuilder sb = new StringBuilder(64 * sortKeys.size());
+        sb.append('(');
+        for (int i = 0; i < sortKeys.size(); i++) {
+            if (i > 0) {
+                sb.append(" OR ");
+            }
+            sb.append('(');
+            for (int j = 0; j < i; j++) {
+                sb.append(sortKeys.get(j).getColumn()).append(" = :").append(paramPrefix).append(j).append(" AND ");
+            }
+            SortKey sortKey = sortKeys.get(i);
+            sb.append(sortKey.getColumn())
+                    .append(sortKey.isDescending() ? " < :" : " > :")
+                    .append(paramPrefix).append(i);
+            sb.append(')');
+        }
+        sb.append(')');
+        return sb.toString();
+    }
+
+    /**
+     * 是否支持多行 VALUES 插入
+     *
+     * @return 是否支持
+     */
+    default boolean supportsMultiRowInsert() {
+        return true;
+    }
+
+    /**
+     * 是否支持插入或更新（{@link #getUpsertSql}）
+     *
+     * @return 是否支持
+     */
+    default boolean supportsUpsert() {
+        return false;
+    }
+
+    /**
+     * 单条语句允许的最大占位符数量
+     *
+     * @return 最大占位符数量
+     */
+    default int getMaxParametersPerStatement() {
+        return 65535;
+    }
+
+    /**
+     * 获取多行插入 SQL（位置参数）
+     * <pre>{@code
+     * INSERT INTO table (a, b) VALUES (?, ?), (?, ?)
+     * }</pre>
+     *
+     * @param tableName 表名
+     * @param columns   列名
+     * @param rowCount  行数
+     * @return 插入 SQL
+     */
+    default String getMultiRowInsertSql(String tableName, List<String> columns, int rowCount) {
+        StringBuilder sb = new StringBuilder(32 + columns.size() * 16 + rowCount * columns.size() * 3);
+        sb.append("INSERT INTO ").append(tableName).append(" (").append(String.join(", ", columns)).append(") VALUES ");
+        appendValuesPlaceholders(sb, columns.size(), rowCount);
+        return sb.toString();
+    }
+
+    /**
+     * 获取多行插入或更新 SQL（位置参数）
+     * <p>
+     * 支持时需同时覆盖 {@link #supportsUpsert()}，批量写入在写入前据此校验。
+     *
+     * @param tableName       表名
+     * @param columns         列名
+     * @param rowCount        行数
+     * @param conflictColumns 冲突判定列（唯一键）
+     * @param updateColumns   冲突时更新的列
+     * @return 插入或更新 SQL
+     */
+    default String getUpsertSql(String tableName, List<String> columns, int rowCount, List<String> conflictColumns, List<String> updateColumns) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " 不支持批量插入或更新");
+    }
+
+    /**
+     * 获取表行数估算值查询 SQL
+     * <p>
+     * 查询数据库统计信息中维护的表行数（非精确值），SQL 接收命名参数 {@code :tableName}（不含 schema 前缀），
+     * 返回单行单列的行数。默认不支持，返回 null 时分页估算统计退化为精确统计。
+     *
+     * @return 行数估算 SQL，不支持时返回 null
+     */
+    default String getTableRowEstimateSql() {
+        return null;
+    }
+
+    /**
+     * 查询从库复制延迟
+     * <p>
+     * 供读写分离的从库健康检查使用，默认不支持，仅按连通性判断从库是否可用。
+     *
+     * @param connection 从库连接
+     * @return 复制延迟（秒），复制已停止时返回 {@link Long#MAX_VALUE}，无法获取时返回 null
+     * @throws SQLException 查询失败
+     */
+    default Long queryReplicationLagSeconds(Connection connection) throws SQLException {
+        return null;
+    }
+
+    /**
+     * 追加 VALUES 占位符
+     *
+     * @param sb          SQL 构建器
+     * @param columnCount 列数
+     * @param rowCount    行数
+     */
+    private static void appendValuesPlaceholders(StringBuilder sb, int columnCount, int rowCount) {
+        for (int row = 0; row < rowCount; row++) {
+            if (row > 0) {
+                sb.append(", ");
+            }
+            sb.append('(');
+            for (int col = 0; col < columnCount; col++) {
+                if (col > 0) {
+                    sb.append(", ");
+                }
+                sb.append('?');
+            }
+            sb.append(')');
+        }
+    }
 }
@@ -1,5 +1,14 @@
 package cn.refinex.common.jdbc.dialect;
 
+import cn.refinex.common.jdbc.page.SortKey;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
 /**
  * MySQL 数据库方言
  *
@@ -8,6 +17,32 @@ package cn.refinex.common.jdbc.dialect;
  */
 public class MySQLDialect implements DatabaseDialect {
 
+    /**
+     * 插入或更新语句中新值的行别名
+     */
+    private static final String UPSERT_ROW_ALIAS = "new";
+
+    /**
+     * 连接 URL 是否开启了 useCursorFetch=true
+     */
+    private final boolean useCursorFetch;
+
+    /**
+     * 默认构造函数（未开启 useCursorFetch）
+     */
+    public MySQLDialect() {
+        this(false);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param useCursorFetch 连接 URL 是否开启了 useCursorFetch=true
+     */
+    public MySQLDialect(boolean useCursorFetch) {
+        this.useCursorFetch = useCursorFetch;
+    }
+
     /**
      * 获取分页 SQL
      *
@@ -54,4 +89,143 @@ public class MySQLDialect implements DatabaseDialect {
     public String getSequenceNextValSql(String sequenceName) {
         throw new UnsupportedOperationException("MySQL 不支持序列");
     }
+
+    /**
+     * 获取流式查询使用的 fetchSize
+     * <p>
+     * MySQL Connector/J 默认会把整个结果集读入内存，流式读取有两种方式:
+     * <ul>
+     *     <li>连接 URL 开启 {@code useCursorFetch=true}: 使用服务端游标，按 fetchSize 分批拉取</li>
+     *     <li>未开启时: fetchSize 必须为 {@link Integer#MIN_VALUE}，驱动逐行流式读取</li>
+     * </ul>
+     * 注意逐行流式读取期间同一连接上不能执行其他语句。
+     *
+     * @param fetchSize 期望的每批拉取行数
+     * @return 实际设置到 Statement 上的 fetchSize
+     */
+    @Override
+    public int getStreamingFetchSize(int fetchSize) {
+        return useCursorFetch ? fetchSize : Integer.MIN_VALUE;
+    }
+
+    /**
+     * 获取游标分页的 seek 条件
+     * <p>
+     * MySQL 无法对行构造器比较 {@code (a, b) < (x, y)} 使用索引范围扫描，因此使用展开形式，
+     * 并在多排序键时额外追加首列范围条件，使优化器可以直接在首列索引上做范围扫描:
+     * <pre>{@code
+     * a <= :p0 AND ((a < :p0) OR (a = :p0 AND b < :p1))
+     * }</pre>
+     *
+     * @param sortKeys    排序键
+     * @param paramPrefix 参数名前缀
+     * @return seek 条件 SQL 片段
+     */
+    @Override
+    public String getSeekPredicate(List<SortKey> sortKeys, String paramPrefix) {
+        String expanded = DatabaseDialect.super.getSeekPredicate(sortKeys, paramPrefix);
+        if (sortKeys.size() == 1) {
+            return expanded;
+        }
+
+        SortKey first = sortKeys.get(0);
+        return first.getColumn() + (first.isDescending() ? " <= :" : " >= :") + paramPrefix + 0 + " AND " + expanded;
+    }
+
+    /**
+     * 获取多行插入或更新 SQL
+     * <p>
+     * 使用 {@code ON DUPLICATE KEY UPDATE}，冲突判定依赖表上的主键/唯一索引，忽略 conflictColumns；
+     * 新值通过行别名引用（MySQL 8.0.19+，替代已废弃的 {@code VALUES(col)}）:
+     * <pre>{@code
+     * INSERT INTO table (a, b) VALUES (?, ?), (?, ?) AS new ON DUPLICATE KEY UPDATE b = new.b
+     * }</pre>
+     * 注意 MySQL 对每个被更新的行返回影响行数 2，未变化的行返回 0。
+     *
+     * @param tableName       表名
+     * @param columns         列名
+     * @param rowCount        行数
+     * @param conflictColumns 冲突判定列（MySQL 忽略）
+     * @param updateColumns   冲突时更新的列
+     * @return 插入或更新 SQL
+     */
+    @Override
+    public String getUpsertSql(String tableName, List<String> columns, int rowCount, List<String> conflictColumns, List<String> updateColumns) {
+        if (updateColumns == null || updateColumns.isEmpty()) {
+            throw new IllegalArgumentException("ON DUPLICATE KEY UPDATE 的更新列不能为空");
+        }
+
+        StringBuilder sb = new StringBuilder(getMultiRowInsertSql(tableName, columns, rowCount));
+        sb.append(" AS ").append(UPSERT_ROW_ALIAS).append(" ON DUPLICATE KEY UPDATE ");
+        for (int i = 0; i < updateColumns.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            String column = updateColumns.get(i);
+            sb.append(column).append(" = ").append(UPSERT_ROW_ALIAS).append('.').append(column);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 是否支持插入或更新
+     *
+     * @return 是否支持
+     */
+    @Override
+    public boolean supportsUpsert() {
+        return true;
+    }
+
+    /**
+     * 获取表行数估算值查询 SQL
+     * <p>
+     * InnoDB 的 {@code TABLE_ROWS} 来自采样统计，误差通常在 10%~40% 之间，仅适合展示大表的近似总数。
+     *
+     * @return 行数估算 SQL
+     */
+    @Override
+    public String getTableRowEstimateSql() {
+        return "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = :tableName";
+    }
+
+    /**
+     * 查询从库复制延迟
+     * <p>
+     * 依次尝试 {@code SHOW REPLICA STATUS}（8.0.22+）与 {@code SHOW SLAVE STATUS}，需要 REPLICATION CLIENT 权限。
+     * 结果为空表示该实例不是从库，视为无延迟；{@code Seconds_Behind_Source} 为 NULL 表示复制线程已停止。
+     *
+     * @param connection 从库连接
+     * @return 复制延迟（秒），结果中没有延迟列时返回 null
+     * @throws SQLException 两条语句均执行失败（如缺少 REPLICATION CLIENT 权限）
+     */
+    @Override
+    public Long queryReplicationLagSeconds(Connection connection) throws SQLException {
+        SQLException failure = null;
+        for (String sql : new String[]{"SHOW REPLICA STATUS", "SHOW SLAVE STATUS"}) {
+            try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+                if (!rs.next()) {
+                    return 0L;
+                }
+
+                ResultSetMetaData metaData = rs.getMetaData();
+                for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                    String label = metaData.getColumnLabel(i);
+                    if ("Seconds_Behind_Source".equalsIgnoreCase(label) || "Seconds_Behind_Master".equalsIgnoreCase(label)) {
+                        long lag = rs.getLong(i);
+                        return rs.wasNull() ? Long.MAX_VALUE : lag;
+                    }
+                }
+                return null;
+            } catch (SQLException e) {
+                // 低版本不支持 SHOW REPLICA STATUS，尝试下一条语句；两条都失败（如权限不足）时抛出
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        throw failure;
+    }
 }
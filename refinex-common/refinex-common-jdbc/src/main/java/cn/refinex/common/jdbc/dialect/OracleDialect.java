@@ -66,4 +66,28 @@ public class OracleDialect implements DatabaseDialect {
     public String getSequenceNextValSql(String sequenceName) {
         return "SELECT " + sequenceName + ".NEXTVAL FROM DUAL";
     }
+
+    /**
+     * 是否支持多行 VALUES 插入
+     * <p>
+     * Oracle 不支持 {@code INSERT ... VALUES (...), (...)}，批量写入回退为 JDBC 批处理。
+     *
+     * @return 是否支持
+     */
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return false;
+    }
+
+    /**
+     * 获取表行数估算值查询 SQL
+     * <p>
+     * 使用优化器统计信息中的 {@code NUM_ROWS}，未收集统计信息时为 NULL。
+     *
+     * @return 行数估算 SQL
+     */
+    @Override
+    public String getTableRowEstimateSql() {
+        return "SELECT NUM_ROWS FROM USER_TABLES WHERE TABLE_NAME = UPPER(:tableName)";
+    }
 }
@@ -1,5 +1,13 @@
 package cn.refinex.common.jdbc.dialect;
 
+import cn.refinex.common.jdbc.page.SortKey;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
 /**
  * PostgreSQL 数据库方言
  *
@@ -59,4 +67,141 @@ public class PostgreSQLDialect implements DatabaseDialect {
     public String getSequenceNextValSql(String sequenceName) {
         return "SELECT NEXTVAL('" + sequenceName + "')";
     }
+
+    /**
+     * 获取流式查询使用的 fetchSize
+     * <p>
+     * PostgreSQL 驱动仅在关闭自动提交（即处于事务中）时才按 fetchSize 使用游标分批拉取，
+     * 否则仍会一次性读取整个结果集，因此大结果集流式查询应在事务中执行。
+     *
+     * @param fetchSize 期望的每批拉取行数
+     * @return 实际设置到 Statement 上的 fetchSize
+     */
+    @Override
+    public int getStreamingFetchSize(int fetchSize) {
+        return fetchSize;
+    }
+
+    /**
+     * 获取游标分页的 seek 条件
+     * <p>
+     * 排序方向一致时使用 PostgreSQL 原生支持索引扫描的行值比较:
+     * <pre>{@code
+     * (a, b) < (:p0, :p1)
+     * }</pre>
+     * 排序方向混合时回退为展开形式。
+     *
+     * @param sortKeys    排序键
+     * @param paramPrefix 参数名前缀
+     * @return seek 条件 SQL 片段
+     */
+    @Override
+    public String getSeekPredicate(List<SortKey> sortKeys, String paramPrefix) {
+        boolean descending = sortKeys.get(0).isDescending();
+        boolean sameDirection = sortKeys.stream().allMatch(key -> key.isDescending() == descending);
+        if (!sameDirection) {
+            return DatabaseDialect.super.getSeekPredicate(sortKeys, paramPrefix);
+        }
+
+        StringBuilder columns = new StringBuilder();
+        StringBuilder values = new StringBuilder();
+        for (int i = 0; i < sortKeys.size(); i++) {
+            if (i > 0) {
+                columns.append(", ");
+                values.append(", ");
+            }
+            columns.append(sortKeys.get(i).getColumn());
+            values.append(':').append(paramPrefix).append(i);
+        }
+        return "(" + columns + ") " + (descending ? "<" : ">") + " (" + values + ")";
+    }
+
+    /**
+     * 单条语句允许的最大占位符数量
+     * <p>
+     * PostgreSQL JDBC 驱动的绑定参数数量上限为 32767。
+     *
+     * @return 最大占位符数量
+     */
+    @Override
+    public int getMaxParametersPerStatement() {
+        return Short.MAX_VALUE;
+    }
+
+    /**
+     * 获取多行插入或更新 SQL
+     * <pre>{@code
+     * INSERT INTO table (id, b) VALUES (?, ?), (?, ?) ON CONFLICT (id) DO UPDATE SET b = EXCLUDED.b
+     * }</pre>
+     * 更新列为空时生成 {@code ON CONFLICT (...) DO NOTHING}。
+     *
+     * @param tableName       表名
+     * @param columns         列名
+     * @param rowCount        行数
+     * @param conflictColumns 冲突判定列（唯一键）
+     * @param updateColumns   冲突时更新的列
+     * @return 插入或更新 SQL
+     */
+    @Override
+    public String getUpsertSql(String tableName, List<String> columns, int rowCount, List<String> conflictColumns, List<String> updateColumns) {
+        if (conflictColumns == null || conflictColumns.isEmpty()) {
+            throw new IllegalArgumentException("PostgreSQL ON CONFLICT 需要指定冲突判定列");
+        }
+
+        StringBuilder sb = new StringBuilder(getMultiRowInsertSql(tableName, columns, rowCount));
+        sb.append(" ON CONFLICT (").append(String.join(", ", conflictColumns)).append(')');
+        if (updateColumns == null || updateColumns.isEmpty()) {
+            return sb.append(" DO NOTHING").toString();
+        }
+
+        sb.append(" DO UPDATE SET ");
+        for (int i = 0; i < updateColumns.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            String column = updateColumns.get(i);
+            sb.append(column).append(" = EXCLUDED.").append(column);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 是否支持插入或更新
+     *
+     * @return 是否支持
+     */
+    @Override
+    public boolean supportsUpsert() {
+        return true;
+    }
+
+    /**
+     * 获取表行数估算值查询 SQL
+     * <p>
+     * 使用 {@code pg_class.reltuples}（由 VACUUM/ANALYZE 维护），从未分析过的表返回 -1。
+     *
+     * @return 行数估算 SQL
+     */
+    @Override
+    public String getTableRowEstimateSql() {
+        return "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = to_regclass(:tableName)";
+    }
+
+    /**
+     * 查询从库复制延迟
+     * <p>
+     * 已回放到最新接收位点时视为无延迟，否则按最后一次回放事务的时间计算，避免主库空闲时误判为延迟。
+     *
+     * @param connection 从库连接
+     * @return 复制延迟（秒）
+     * @throws SQLException 查询失败
+     */
+    @Override
+    public Long queryReplicationLagSeconds(Connection connection) throws SQLException {
+        String sql = "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+                + "ELSE CAST(COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) AS BIGINT) END";
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            return rs.next() ? rs.getLong(1) : null;
+        }
+    }
 }
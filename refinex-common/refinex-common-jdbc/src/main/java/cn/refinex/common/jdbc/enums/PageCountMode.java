@@ -0,0 +1,40 @@
+package cn.refinex.common.jdbc.enums;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 分页总数统计模式
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public enum PageCountMode {
+
+    /**
+     * 精确统计，每次分页都执行 COUNT(*)
+     */
+    EXACT("exact"),
+
+    /**
+     * 缓存统计，按归一化 SQL + 参数缓存 COUNT(*) 结果，在缓存有效期内翻页不再重复统计
+     */
+    CACHED("cached"),
+
+    /**
+     * 估算统计，无过滤条件的单表查询使用数据库统计信息中的行数估算值，不满足条件时退化为缓存统计
+     */
+    ESTIMATED("estimated"),
+
+    /**
+     * 不统计总数，多查询一行判断是否存在下一页
+     */
+    NONE("none"),
+
+    ;
+
+    private final String value;
+}
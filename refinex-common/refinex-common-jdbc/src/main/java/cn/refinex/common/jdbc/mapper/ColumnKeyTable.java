@@ -0,0 +1,143 @@
+package cn.refinex.common.jdbc.mapper;
+
+import cn.refinex.common.enums.HttpStatusCode;
+import cn.refinex.common.exception.SystemException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 列键表
+ * <p>
+ * 根据结果集元数据构建一次，同一结果集的所有 {@link CompactRowMap} 共享该键表，
+ * 每行只需保存值数组。同名列（如多表 JOIN 未起别名）保留首次出现的位置、取最后一列的值，与
+ * {@link org.springframework.jdbc.core.ColumnMapRowMapper} 一致。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public final class ColumnKeyTable implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 键（按列顺序）
+     */
+    final String[] keys;
+
+    /**
+     * 每个键对应的结果集列索引（从1开始）
+     */
+    final int[] columnIndexes;
+
+    /**
+     * 键 -> 位置
+     */
+    private final Map<String, Integer> positions;
+
+    /**
+     * 小写键 -> 位置（用于忽略大小写查找）
+     */
+    private final Map<String, Integer> lowerCasePositions;
+
+    private ColumnKeyTable(String[] keys, int[] columnIndexes) {
+        this.keys = keys;
+        this.columnIndexes = columnIndexes;
+        this.positions = new HashMap<>(keys.length * 2);
+        this.lowerCasePositions = new HashMap<>(keys.length * 2);
+        for (int i = 0; i < keys.length; i++) {
+            positions.put(keys[i], i);
+            lowerCasePositions.putIfAbsent(keys[i].toLowerCase(Locale.ROOT), i);
+        }
+    }
+
+    /**
+     * 根据结果集元数据构建键表
+     *
+     * @param metaData      结果集元数据
+     * @param lowerCase     是否将列名转为小写
+     * @param conflictCheck 是否检测大小写不同但转小写后相同的列名
+     * @return 键表
+     * @throws SQLException SQL 异常
+     */
+    public static ColumnKeyTable of(ResultSetMetaData metaData, boolean lowerCase, boolean conflictCheck) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        List<String> keys = new ArrayList<>(columnCount);
+        List<Integer> columnIndexes = new ArrayList<>(columnCount);
+        Map<String, String> originals = new HashMap<>(columnCount * 2);
+
+        for (int column = 1; column <= columnCount; column++) {
+            String original = JdbcUtils.lookupColumnName(metaData, column);
+            String key = lowerCase ? original.toLowerCase(Locale.ROOT) : original;
+            String previous = originals.putIfAbsent(key.toLowerCase(Locale.ROOT), original);
+
+            if (previous == null) {
+                keys.add(key);
+                columnIndexes.add(column);
+                continue;
+            }
+
+            if (lowerCase && conflictCheck && !previous.equals(original)) {
+                log.error("列名大小写冲突，可能导致数据丢失: 原始键 {} 与 {} 转小写后均为 {}", previous, original, key);
+                throw new SystemException(HttpStatusCode.INTERNAL_SERVER_ERROR, "列名大小写冲突: " + previous + ", " + original + " -> " + key);
+            }
+            // 同名列取最后一列的值
+            columnIndexes.set(indexOfIgnoreCase(keys, key), column);
+        }
+
+        return new ColumnKeyTable(keys.toArray(new String[0]), columnIndexes.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * 获取键数量
+     *
+     * @return 键数量
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * 查找键的位置（先精确匹配，再忽略大小写匹配）
+     *
+     * @param key 键
+     * @return 位置，不存在时返回 -1
+     */
+    public int indexOf(Object key) {
+        if (!(key instanceof String name)) {
+            return -1;
+        }
+        Integer position = positions.get(name);
+        if (position == null) {
+            position = lowerCasePositions.get(name.toLowerCase(Locale.ROOT));
+        }
+        return position != null ? position : -1;
+    }
+
+    /**
+     * 在列表中忽略大小写查找键
+     *
+     * @param keys 键列表
+     * @param key  键
+     * @return 位置
+     */
+    private static int indexOfIgnoreCase(List<String> keys, String key) {
+        for (int i = 0; i < keys.size(); i++) {
+            if (keys.get(i).equalsIgnoreCase(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
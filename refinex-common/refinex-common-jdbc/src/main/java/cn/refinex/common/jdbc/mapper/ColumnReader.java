@@ -0,0 +1,155 @@
+package cn.refinex.common.jdbc.mapper;
+
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 列值读取器
+ * <p>
+ * 按属性类型预先选定的取值方式，避免逐行通过列名查找与反射类型转换:
+ * <ul>
+ *     <li>整数/长整数/布尔等使用原生 getter + {@code wasNull()}，避免驱动层 {@code getObject} 装箱</li>
+ *     <li>{@link LocalDateTime} 等 java.time 类型使用 {@code getObject(index, type)}，避免中间 Timestamp 对象</li>
+ *     <li>枚举按名称解析，常量表在构建时缓存</li>
+ * </ul>
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ColumnReader {
+
+    /**
+     * 读取列值
+     *
+     * @param rs    结果集
+     * @param index 列索引（从1开始）
+     * @return 列值，SQL NULL 时返回 null
+     * @throws SQLException SQL 异常
+     */
+    Object read(ResultSet rs, int index) throws SQLException;
+
+    /**
+     * 根据属性类型创建列值读取器
+     *
+     * @param type 属性类型
+     * @return 列值读取器
+     */
+    static ColumnReader forType(Class<?> type) {
+        if (type == String.class) {
+            return ResultSet::getString;
+        }
+        if (type == Long.class || type == long.class) {
+            return (rs, index) -> {
+                long value = rs.getLong(index);
+                return rs.wasNull() ? null : value;
+            };
+        }
+        if (type == Integer.class || type == int.class) {
+            // 状态/标记类字段多为 0/1 等小整数，Integer.valueOf 命中缓存不产生新对象
+            return (rs, index) -> {
+                int value = rs.getInt(index);
+                return rs.wasNull() ? null : value;
+            };
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return (rs, index) -> {
+                boolean value = rs.getBoolean(index);
+                return rs.wasNull() ? null : value;
+            };
+        }
+        if (type == Short.class || type == short.class) {
+            return (rs, index) -> {
+                short value = rs.getShort(index);
+                return rs.wasNull() ? null : value;
+            };
+        }
+        if (type == Byte.class || type == byte.class) {
+            return (rs, index) -> {
+                byte value = rs.getByte(index);
+                return rs.wasNull() ? null : value;
+            };
+        }
+        if (type == Double.class || type == double.class) {
+            return (rs, index) -> {
+                double value = rs.getDouble(index);
+                return rs.wasNull() ? null : value;
+            };
+        }
+        if (type == Float.class || type == float.class) {
+            return (rs, index) -> {
+                float value = rs.getFloat(index);
+                return rs.wasNull() ? null : value;
+            };
+        }
+        if (type == BigDecimal.class) {
+            return ResultSet::getBigDecimal;
+        }
+        if (type == LocalDateTime.class || type == LocalDate.class || type == LocalTime.class) {
+            return (rs, index) -> rs.getObject(index, type);
+        }
+        if (type == byte[].class) {
+            return ResultSet::getBytes;
+        }
+        if (type.isEnum()) {
+            return enumReader(type);
+        }
+        return genericReader(type);
+    }
+
+    /**
+     * 创建枚举读取器（按名称匹配，忽略大小写）
+     *
+     * @param type 枚举类型
+     * @return 列值读取器
+     */
+    private static ColumnReader enumReader(Class<?> type) {
+        Map<String, Object> constants = new HashMap<>();
+        for (Object constant : type.getEnumConstants()) {
+            String name = ((Enum<?>) constant).name();
+            constants.put(name, constant);
+            constants.putIfAbsent(name.toUpperCase(Locale.ROOT), constant);
+        }
+
+        return (rs, index) -> {
+            String value = rs.getString(index);
+            if (value == null) {
+                return null;
+            }
+            Object constant = constants.get(value);
+            if (constant == null) {
+                constant = constants.get(value.trim().toUpperCase(Locale.ROOT));
+            }
+            if (constant == null) {
+                throw new SQLException("无法将列值 [" + value + "] 转换为枚举 " + type.getName());
+            }
+            return constant;
+        };
+    }
+
+    /**
+     * 创建通用读取器（与 BeanPropertyRowMapper 一致的取值与转换方式）
+     *
+     * @param type 属性类型
+     * @return 列值读取器
+     */
+    private static ColumnReader genericReader(Class<?> type) {
+        return (rs, index) -> {
+            Object value = JdbcUtils.getResultSetValue(rs, index, type);
+            if (value == null || type.isInstance(value)) {
+                return value;
+            }
+            return DefaultConversionService.getSharedInstance().convert(value, type);
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package cn.refinex.common.jdbc.mapper;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * 紧凑 Map 行映射器
+ * <p>
+ * 替代 {@link org.springframework.jdbc.core.ColumnMapRowMapper} + 逐行转小写复制: 在结果集第一行时根据元数据构建一次
+ * {@link ColumnKeyTable}（列名转小写、冲突检测只做一次），之后每行只分配一个值数组，空值替换在取值时完成。
+ * 该对象持有单次查询的键表，应为每次查询创建，不应跨查询并发复用。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public final class CompactColumnMapRowMapper implements RowMapper<Map<String, Object>> {
+
+    /**
+     * 是否将列名转为小写
+     */
+    private final boolean lowerCase;
+
+    /**
+     * 是否检测列名大小写冲突
+     */
+    private final boolean conflictCheck;
+
+    /**
+     * 空值替换值（为 null 时不替换）
+     */
+    private final Object nullValue;
+
+    /**
+     * 当前结果集的键表
+     */
+    private ColumnKeyTable keyTable;
+
+    /**
+     * 构造函数
+     *
+     * @param lowerCase     是否将列名转为小写
+     * @param conflictCheck 是否检测列名大小写冲突
+     * @param nullValue     空值替换值（为 null 时不替换）
+     */
+    public CompactColumnMapRowMapper(boolean lowerCase, boolean conflictCheck, Object nullValue) {
+        this.lowerCase = lowerCase;
+        this.conflictCheck = conflictCheck;
+        this.nullValue = nullValue;
+    }
+
+    /**
+     * 映射一行数据
+     *
+     * @param rs     结果集
+     * @param rowNum 行号（从0开始）
+     * @return 行 Map
+     * @throws SQLException SQL 异常
+     */
+    @Override
+    public Map<String, Object> mapRow(ResultSet rs, int rowNum) throws SQLException {
+        ColumnKeyTable current = this.keyTable;
+        if (current == null || rowNum == 0) {
+            current = ColumnKeyTable.of(rs.getMetaData(), lowerCase, conflictCheck);
+            this.keyTable = current;
+        }
+
+        int[] columnIndexes = current.columnIndexes;
+        Object[] values = new Object[columnIndexes.length];
+        for (int i = 0; i < columnIndexes.length; i++) {
+            Object value = JdbcUtils.getResultSetValue(rs, columnIndexes[i]);
+            values[i] = value != null ? value : nullValue;
+        }
+        return new CompactRowMap(current, values);
+    }
+}
@@ -0,0 +1,217 @@
+package cn.refinex.common.jdbc.mapper;
+
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 紧凑行 Map
+ * <p>
+ * 键由同一结果集的所有行共享的 {@link ColumnKeyTable} 提供，每行只持有一个值数组，
+ * 避免每行分配 {@link java.util.LinkedHashMap} 及其 Entry。键按列顺序迭代，查找时先精确匹配再忽略大小写匹配。
+ * <p>
+ * 修改已有键的值直接写入值数组；新增或删除键时复制为 {@link LinkedCaseInsensitiveMap} 后再修改，
+ * 对调用方而言与普通可变 Map 一致。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public final class CompactRowMap extends AbstractMap<String, Object> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 共享键表
+     */
+    private final ColumnKeyTable keyTable;
+
+    /**
+     * 值数组（与键表位置一一对应）
+     */
+    private final Object[] values;
+
+    /**
+     * 结构变更（新增/删除键）后的完整副本
+     */
+    private LinkedCaseInsensitiveMap<Object> inflated;
+
+    /**
+     * 构造函数
+     *
+     * @param keyTable 共享键表
+     * @param values   值数组
+     */
+    public CompactRowMap(ColumnKeyTable keyTable, Object[] values) {
+        if (keyTable.size() != values.length) {
+            throw new IllegalArgumentException("值数量与键数量不一致");
+        }
+        this.keyTable = keyTable;
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return inflated != null ? inflated.size() : values.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return inflated != null ? inflated.containsKey(key) : keyTable.indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (inflated != null) {
+            return inflated.get(key);
+        }
+        int index = keyTable.indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if (inflated == null) {
+            int index = keyTable.indexOf(key);
+            if (index >= 0) {
+                Object previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+            inflate();
+        }
+        return inflated.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (inflated == null) {
+            if (keyTable.indexOf(key) < 0) {
+                return null;
+            }
+            inflate();
+        }
+        return inflated.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        inflate();
+        inflated.clear();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return inflated != null ? inflated.entrySet() : new CompactEntrySet();
+    }
+
+    /**
+     * 复制为完整 Map，后续操作全部委托给副本
+     */
+    private void inflate() {
+        if (inflated != null) {
+            return;
+        }
+        LinkedCaseInsensitiveMap<Object> map = new LinkedCaseInsensitiveMap<>(values.length + 4);
+        for (int i = 0; i < values.length; i++) {
+            map.put(keyTable.keys[i], values[i]);
+        }
+        inflated = map;
+    }
+
+    /**
+     * 基于值数组的 Entry 集合
+     */
+    private final class CompactEntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public int size() {
+            return CompactRowMap.this.size();
+        }
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new Iterator<>() {
+
+                private int next;
+
+                private int last = -1;
+
+                @Override
+                public boolean hasNext() {
+                    return next < values.length;
+                }
+
+                @Override
+                public Entry<String, Object> next() {
+                    if (next >= values.length) {
+                        throw new NoSuchElementException();
+                    }
+                    last = next++;
+                    return new CompactEntry(last);
+                }
+
+                @Override
+                public void remove() {
+                    if (last < 0) {
+                        throw new IllegalStateException();
+                    }
+                    CompactRowMap.this.remove(keyTable.keys[last]);
+                    last = -1;
+                }
+            };
+        }
+    }
+
+    /**
+     * 指向值数组位置的 Entry（结构变更后读写委托给完整副本）
+     */
+    private final class CompactEntry implements Entry<String, Object> {
+
+        private final int index;
+
+        private CompactEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return keyTable.keys[index];
+        }
+
+        @Override
+        public Object getValue() {
+            return inflated != null ? inflated.get(getKey()) : values[index];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            return CompactRowMap.this.put(getKey(), value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry<?, ?> e
+                    && getKey().equals(e.getKey())
+                    && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package cn.refinex.common.jdbc.mapper;
+
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.beans.PropertyChangeEvent;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 编译式行映射器
+ * <p>
+ * 结果集首行映射时根据列签名从 {@link RowMapperRegistry} 获取（或构建）映射计划并与该结果集绑定，后续行直接按列索引取值，
+ * 并通过 MethodHandle 调用构造器与 setter。每次查询由 {@link RowMapperRegistry#getRowMapper(Class)} 创建新实例，
+ * 并发的不同投影查询不共享绑定状态；同一实例依次用于多个结果集时按结果集重新绑定。
+ * <p>
+ * NULL 写入基本类型属性时抛出 {@link TypeMismatchException}，与 {@code primitivesDefaultedForNullValue=false} 的
+ * {@link org.springframework.jdbc.core.BeanPropertyRowMapper} 一致。
+ *
+ * @param <T> 实体类型
+ * @author Refinex
+ * @since 1.0.0
+ */
+public final class CompiledRowMapper<T> implements RowMapper<T> {
+
+    /**
+     * 行映射器注册表
+     */
+    private final RowMapperRegistry registry;
+
+    /**
+     * 实体类型
+     */
+    private final Class<T> mappedClass;
+
+    /**
+     * 当前绑定的结果集
+     */
+    private ResultSet boundResultSet;
+
+    /**
+     * 当前绑定的映射计划
+     */
+    private MappingPlan boundPlan;
+
+    CompiledRowMapper(RowMapperRegistry registry, Class<T> mappedClass) {
+        this.registry = registry;
+        this.mappedClass = mappedClass;
+    }
+
+    /**
+     * 映射一行数据
+     *
+     * @param rs     结果集
+     * @param rowNum 行号（从0开始）
+     * @return 实体对象
+     * @throws SQLException SQL 异常
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+        MappingPlan current = this.boundPlan;
+        if (current == null || this.boundResultSet != rs) {
+            current = registry.resolvePlan(mappedClass, rs.getMetaData());
+            this.boundResultSet = rs;
+            this.boundPlan = current;
+        }
+
+        int[] columnIndexes = current.columnIndexes;
+        ColumnReader[] readers = current.readers;
+        Class<?>[] primitiveTypes = current.primitiveTypes;
+
+        try {
+            Object target = current.constructor.invokeExact();
+            for (int i = 0; i < columnIndexes.length; i++) {
+                Object value = readers[i].read(rs, columnIndexes[i]);
+                if (value == null && primitiveTypes[i] != null) {
+                    throw new TypeMismatchException(
+                            new PropertyChangeEvent(target, current.propertyNames[i], null, null), primitiveTypes[i]);
+                }
+                current.setters[i].invokeExact(target, value);
+            }
+            return (T) target;
+        } catch (SQLException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new SQLException("映射结果集到 " + mappedClass.getName() + " 失败", e);
+        }
+    }
+}
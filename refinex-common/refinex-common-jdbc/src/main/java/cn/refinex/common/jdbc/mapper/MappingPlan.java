@@ -0,0 +1,55 @@
+package cn.refinex.common.jdbc.mapper;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * 行映射执行计划
+ * <p>
+ * 对应一个（实体类型，结果集列签名）组合，列索引、读取器与 setter 均在构建时确定，
+ * 映射每一行时只需按数组顺序取值并调用 setter。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+final class MappingPlan {
+
+    /**
+     * 无参构造器句柄，类型为 {@code ()Object}
+     */
+    final MethodHandle constructor;
+
+    /**
+     * 列索引（从1开始）
+     */
+    final int[] columnIndexes;
+
+    /**
+     * 列值读取器
+     */
+    final ColumnReader[] readers;
+
+    /**
+     * setter 句柄，类型为 {@code (Object, Object)void}
+     */
+    final MethodHandle[] setters;
+
+    /**
+     * 属性名（用于映射失败时的异常信息）
+     */
+    final String[] propertyNames;
+
+    /**
+     * 属性的基本类型，非基本类型为 null（基本类型遇到 NULL 时抛出 TypeMismatchException）
+     */
+    final Class<?>[] primitiveTypes;
+
+    MappingPlan(MethodHandle constructor, int[] columnIndexes, ColumnReader[] readers, MethodHandle[] setters,
+                String[] propertyNames, Class<?>[] primitiveTypes) {
+        this.constructor = constructor;
+        this.columnIndexes = columnIndexes;
+        this.readers = readers;
+        this.setters = setters;
+        this.propertyNames = propertyNames;
+        this.primitiveTypes = primitiveTypes;
+    }
+}
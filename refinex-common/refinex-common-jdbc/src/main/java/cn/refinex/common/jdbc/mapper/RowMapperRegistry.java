@@ -0,0 +1,285 @@
+package cn.refinex.common.jdbc.mapper;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.ConcurrentLruCache;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 行映射器注册表
+ * <p>
+ * 替代每次查询 {@code new BeanPropertyRowMapper<>(clazz)} 的方式:
+ * <ul>
+ *     <li>实体的属性元数据（构造器、setter、列值读取器）按类型只内省一次</li>
+ *     <li>映射计划按（实体类型，结果集列签名）缓存在有界 LRU 中，列索引只解析一次</li>
+ *     <li>每次获取返回新的轻量行映射器，在结果集首行绑定映射计划，并发的不同投影查询互不干扰</li>
+ *     <li>构造器与 setter 通过 MethodHandle 调用，取值按属性类型使用原生 getter</li>
+ * </ul>
+ * 无法编译的类型（非 public 类、缺少 public 无参构造器）回退为缓存的 {@link BeanPropertyRowMapper}。
+ * 列名与属性名的匹配规则与 {@link BeanPropertyRowMapper} 一致（忽略大小写与下划线），
+ * NULL 写入基本类型属性时与 {@code primitivesDefaultedForNullValue=false} 的 {@link BeanPropertyRowMapper} 一致抛出异常。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class RowMapperRegistry {
+
+    /**
+     * 映射计划缓存容量，超出后按最近最少使用淘汰
+     */
+    private static final int MAX_PLAN_CACHE_SIZE = 4096;
+
+    /**
+     * setter 句柄统一类型
+     */
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * 实体元数据缓存
+     */
+    private final Map<Class<?>, BeanMetadata> metadataCache = new ConcurrentHashMap<>();
+
+    /**
+     * 回退行映射器缓存（不支持编译式映射的类型）
+     */
+    private final Map<Class<?>, RowMapper<?>> fallbackMapperCache = new ConcurrentHashMap<>();
+
+    /**
+     * 映射计划请求次数
+     */
+    private final LongAdder planRequests = new LongAdder();
+
+    /**
+     * 映射计划未命中次数
+     */
+    private final LongAdder planMisses = new LongAdder();
+
+    /**
+     * 映射计划缓存
+     */
+    private final ConcurrentLruCache<PlanKey, MappingPlan> planCache = new ConcurrentLruCache<>(MAX_PLAN_CACHE_SIZE, key -> {
+        planMisses.increment();
+        return metadataCache.computeIfAbsent(key.mappedClass(), BeanMetadata::introspect).compile(key.columns());
+    });
+
+    /**
+     * 获取实体行映射器
+     * <p>
+     * 编译式映射器每次返回新实例（只持有首个结果集绑定的映射计划，创建开销可忽略），应在单次查询内使用；
+     * 无法编译的类型回退为按类型缓存的 {@link BeanPropertyRowMapper}。
+     *
+     * @param mappedClass 实体类型
+     * @param <T>         实体类型
+     * @return 行映射器
+     */
+    @SuppressWarnings("unchecked")
+    public <T> RowMapper<T> getRowMapper(Class<T> mappedClass) {
+        Objects.requireNonNull(mappedClass, "行映射类不能为空");
+        BeanMetadata metadata = metadataCache.computeIfAbsent(mappedClass, BeanMetadata::introspect);
+        if (metadata == BeanMetadata.UNSUPPORTED) {
+            return (RowMapper<T>) fallbackMapperCache.computeIfAbsent(mappedClass, BeanPropertyRowMapper::new);
+        }
+        return new CompiledRowMapper<>(this, mappedClass);
+    }
+
+    /**
+     * 获取映射计划命中次数
+     *
+     * @return 命中次数
+     */
+    public long getPlanHits() {
+        return planRequests.sum() - planMisses.sum();
+    }
+
+    /**
+     * 获取映射计划未命中（构建）次数
+     *
+     * @return 未命中次数
+     */
+    public long getPlanMisses() {
+        return planMisses.sum();
+    }
+
+    /**
+     * 清空所有缓存
+     */
+    public void clear() {
+        fallbackMapperCache.clear();
+        planCache.clear();
+        metadataCache.clear();
+    }
+
+    /**
+     * 根据结果集列签名获取映射计划
+     *
+     * @param mappedClass 实体类型
+     * @param metaData    结果集元数据
+     * @return 映射计划
+     * @throws SQLException SQL 异常
+     */
+    MappingPlan resolvePlan(Class<?> mappedClass, ResultSetMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        String[] columns = new String[columnCount];
+        for (int i = 1; i <= columnCount; i++) {
+            columns[i - 1] = JdbcUtils.lookupColumnName(metaData, i);
+        }
+
+        planRequests.increment();
+        return planCache.get(new PlanKey(mappedClass, Arrays.asList(columns)));
+    }
+
+    /**
+     * 规范化列名/属性名（忽略大小写、下划线与空格）
+     *
+     * @param name 名称
+     * @return 规范化名称
+     */
+    private static String normalize(String name) {
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c != '_' && c != ' ') {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 映射计划缓存键
+     *
+     * @param mappedClass 实体类型
+     * @param columns     结果集列名（按列顺序）
+     */
+    private record PlanKey(Class<?> mappedClass, List<String> columns) {
+    }
+
+    /**
+     * 可写属性
+     *
+     * @param name          属性名
+     * @param setter        setter 句柄
+     * @param reader        列值读取器
+     * @param primitiveType 基本类型，非基本类型为 null
+     */
+    private record WritableProperty(String name, MethodHandle setter, ColumnReader reader, Class<?> primitiveType) {
+    }
+
+    /**
+     * 实体元数据
+     */
+    private static final class BeanMetadata {
+
+        /**
+         * 不支持编译的类型标记
+         */
+        static final BeanMetadata UNSUPPORTED = new BeanMetadata(null, Map.of());
+
+        /**
+         * 无参构造器句柄
+         */
+        private final MethodHandle constructor;
+
+        /**
+         * 规范化属性名 -> 可写属性
+         */
+        private final Map<String, WritableProperty> properties;
+
+        private BeanMetadata(MethodHandle constructor, Map<String, WritableProperty> properties) {
+            this.constructor = constructor;
+            this.properties = properties;
+        }
+
+        /**
+         * 内省实体类型
+         *
+         * @param mappedClass 实体类型
+         * @return 实体元数据，无法编译时返回 {@link #UNSUPPORTED}
+         */
+        static BeanMetadata introspect(Class<?> mappedClass) {
+            if (!Modifier.isPublic(mappedClass.getModifiers()) || mappedClass.isInterface() || Modifier.isAbstract(mappedClass.getModifiers())) {
+                log.debug("类型 {} 不支持编译式映射，回退为 BeanPropertyRowMapper", mappedClass.getName());
+                return UNSUPPORTED;
+            }
+
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                MethodHandle constructor = lookup.findConstructor(mappedClass, MethodType.methodType(void.class))
+                        .asType(MethodType.methodType(Object.class));
+
+                Map<String, WritableProperty> properties = new HashMap<>();
+                for (PropertyDescriptor pd : BeanUtils.getPropertyDescriptors(mappedClass)) {
+                    Method writeMethod = pd.getWriteMethod();
+                    if (writeMethod == null || !Modifier.isPublic(writeMethod.getDeclaringClass().getModifiers())) {
+                        continue;
+                    }
+                    Class<?> propertyType = pd.getPropertyType();
+                    MethodHandle setter = lookup.unreflect(writeMethod).asType(SETTER_TYPE);
+                    properties.put(normalize(pd.getName()), new WritableProperty(pd.getName(), setter, ColumnReader.forType(propertyType),
+                            propertyType.isPrimitive() ? propertyType : null));
+                }
+                return new BeanMetadata(constructor, properties);
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                log.debug("类型 {} 不支持编译式映射，回退为 BeanPropertyRowMapper: {}", mappedClass.getName(), e.getMessage());
+                return UNSUPPORTED;
+            }
+        }
+
+        /**
+         * 按结果集列构建映射计划（未匹配到属性的列被忽略）
+         *
+         * @param columns 结果集列名
+         * @return 映射计划
+         */
+        MappingPlan compile(List<String> columns) {
+            int[] indexes = new int[columns.size()];
+            ColumnReader[] readers = new ColumnReader[columns.size()];
+            MethodHandle[] setters = new MethodHandle[columns.size()];
+            String[] propertyNames = new String[columns.size()];
+            Class<?>[] primitiveTypes = new Class<?>[columns.size()];
+
+            int count = 0;
+            for (int i = 0; i < columns.size(); i++) {
+                WritableProperty property = properties.get(normalize(columns.get(i)));
+                if (property == null) {
+                    continue;
+                }
+                indexes[count] = i + 1;
+                readers[count] = property.reader();
+                setters[count] = property.setter();
+                propertyNames[count] = property.name();
+                primitiveTypes[count] = property.primitiveType();
+                count++;
+            }
+
+            return new MappingPlan(
+                    constructor,
+                    Arrays.copyOf(indexes, count),
+                    Arrays.copyOf(readers, count),
+                    Arrays.copyOf(setters, count),
+                    Arrays.copyOf(propertyNames, count),
+                    Arrays.copyOf(primitiveTypes, count)
+            );
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package cn.refinex.common.jdbc.masker;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * 敏感数据掩码器(脱敏)接口
  *
@@ -23,4 +26,20 @@ public interface SensitiveDataMasker {
      * @return 脱敏后的值
      */
     Object mask(Object value);
+
+    /**
+     * 对参数 Map 中的敏感键对应的值进行脱敏
+     *
+     * @param params 原始参数
+     * @return 脱敏后的参数副本
+     */
+    default Map<String, Object> maskParams(Map<?, ?> params) {
+        Map<String, Object> sanitized = new LinkedHashMap<>(params.size());
+        for (Map.Entry<?, ?> entry : params.entrySet()) {
+            String key = String.valueOf(entry.getKey());
+            Object value = entry.getValue();
+            sanitized.put(key, isSensitive(key) ? mask(value) : value);
+        }
+        return sanitized;
+    }
 }
@@ -0,0 +1,136 @@
+package cn.refinex.common.jdbc.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 无锁延迟直方图
+ * <p>
+ * 以微秒为单位记录，按 2 的幂分段、每段 8 个子桶（相对误差约 12.5%），
+ * 所有桶计数保存在一个 {@link AtomicLongArray} 中，记录时只有一次 CAS 自增，不分配对象。
+ * 分位数按桶上界估算，足以用于区分热点语句而不追求精确值。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class LatencyHistogram {
+
+    /**
+     * 每个 2 的幂分段的子桶位数
+     */
+    private static final int SUB_BUCKET_BITS = 3;
+
+    /**
+     * 每个 2 的幂分段的子桶数
+     */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * 可记录的最大指数（2^40 微秒，约 12 天），超过的值记入最后一个桶
+     */
+    private static final int MAX_EXPONENT = 40;
+
+    /**
+     * 桶总数
+     */
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    /**
+     * 桶计数
+     */
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * 记录一次耗时
+     *
+     * @param elapsedNanos 耗时（纳秒）
+     */
+    public void record(long elapsedNanos) {
+        buckets.incrementAndGet(indexOf(Math.max(0L, elapsedNanos / 1_000L)));
+    }
+
+    /**
+     * 估算分位数
+     *
+     * @param percentile 分位（0 到 1 之间，如 0.95）
+     * @return 分位耗时（毫秒），无数据时返回 0
+     */
+    public double percentileMs(double percentile) {
+        return percentilesMs(percentile)[0];
+    }
+
+    /**
+     * 基于同一份计数快照估算多个分位数
+     *
+     * @param percentiles 分位（0 到 1 之间）
+     * @return 分位耗时（毫秒），顺序与入参一致，无数据时为 0
+     */
+    public double[] percentilesMs(double... percentiles) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+
+        double[] result = new double[percentiles.length];
+        if (total == 0) {
+            return result;
+        }
+
+        for (int p = 0; p < percentiles.length; p++) {
+            long rank = Math.max(1L, (long) Math.ceil(percentiles[p] * total));
+            long cumulative = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                cumulative += counts[i];
+                if (cumulative >= rank) {
+                    result[p] = upperBoundOf(i) / 1_000.0;
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 清空计数
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0L);
+        }
+    }
+
+    /**
+     * 计算微秒值所在桶
+     *
+     * @param micros 微秒值
+     * @return 桶下标
+     */
+    static int indexOf(long micros) {
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+        int exponent = Math.min(63 - Long.numberOfLeadingZeros(micros), MAX_EXPONENT);
+        if (exponent == MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) ((micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1));
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * 计算桶的上界（微秒）
+     *
+     * @param index 桶下标
+     * @return 上界
+     */
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKET_COUNT;
+        int shift = exponent - SUB_BUCKET_BITS;
+        return (((long) SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,76 @@
+package cn.refinex.common.jdbc.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 慢 SQL 环形缓冲区
+ * <p>
+ * 固定容量，写入时按自增序号取模覆盖最旧的记录，无锁且内存占用有上限。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class SlowQueryBuffer {
+
+    /**
+     * 记录槽位
+     */
+    private final AtomicReferenceArray<SlowQueryRecord> slots;
+
+    /**
+     * 写入序号
+     */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * 构造函数
+     *
+     * @param capacity 容量
+     */
+    public SlowQueryBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("慢 SQL 缓冲区容量必须大于0");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * 写入一条记录
+     *
+     * @param slowQueryRecord 慢 SQL 记录
+     */
+    public void add(SlowQueryRecord slowQueryRecord) {
+        int index = (int) (sequence.getAndIncrement() % slots.length());
+        slots.set(index, slowQueryRecord);
+    }
+
+    /**
+     * 获取当前缓冲的记录（按耗时倒序）
+     *
+     * @return 慢 SQL 记录列表
+     */
+    public List<SlowQueryRecord> snapshot() {
+        List<SlowQueryRecord> records = new ArrayList<>(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            SlowQueryRecord slowQueryRecord = slots.get(i);
+            if (slowQueryRecord != null) {
+                records.add(slowQueryRecord);
+            }
+        }
+        records.sort(Comparator.comparingDouble(SlowQueryRecord::getElapsedMs).reversed());
+        return records;
+    }
+
+    /**
+     * 清空缓冲区
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package cn.refinex.common.jdbc.metrics;
+
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 慢 SQL 执行记录
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+public class SlowQueryRecord implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 指纹短标识
+     */
+    private String id;
+
+    /**
+     * 操作名
+     */
+    private String operation;
+
+    /**
+     * SQL 语句
+     */
+    private String sql;
+
+    /**
+     * 脱敏后的参数（未配置脱敏器时为 null）
+     */
+    private Object params;
+
+    /**
+     * 耗时（毫秒）
+     */
+    private double elapsedMs;
+
+    /**
+     * 影响行数
+     */
+    private Integer rowsAffected;
+
+    /**
+     * 返回行数
+     */
+    private Integer resultSize;
+
+    /**
+     * 异常信息
+     */
+    private String error;
+
+    /**
+     * 执行时间（毫秒时间戳）
+     */
+    private long executedTime;
+}
@@ -0,0 +1,285 @@
+package cn.refinex.common.jdbc.metrics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL 指纹工具类
+ * <p>
+ * 将 SQL 归一化为指纹，使仅字面量不同的语句归为同一类统计:
+ * <ul>
+ *     <li>字符串、数字字面量替换为 {@code ?}</li>
+ *     <li>连续的占位符列表（如 {@code IN (?, ?, ?)}）折叠为 {@code ?+}</li>
+ *     <li>多行 VALUES（如 {@code VALUES (?, ?), (?, ?)}）折叠为 {@code (?+)+}，不同分块行数的批量插入归为同一指纹</li>
+ *     <li>注释移除，空白折叠为单个空格</li>
+ * </ul>
+ * 命名参数（{@code :name}）与标识符保持原样，便于从指纹定位到具体 Repository 方法。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SqlFingerprint {
+
+    /**
+     * 指纹缓存上限，超出后整体清空重建
+     */
+    private static final int MAX_CACHE_SIZE = 4096;
+
+    /**
+     * 原始 SQL -> 指纹 缓存
+     */
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * 获取 SQL 指纹
+     *
+     * @param sql 原始 SQL
+     * @return 指纹
+     */
+    public static String of(String sql) {
+        if (sql == null) {
+            return "";
+        }
+
+        String fingerprint = CACHE.get(sql);
+        if (fingerprint != null) {
+            return fingerprint;
+        }
+
+        fingerprint = normalize(sql);
+        if (CACHE.size() >= MAX_CACHE_SIZE) {
+            CACHE.clear();
+        }
+        CACHE.put(sql, fingerprint);
+        return fingerprint;
+    }
+
+    /**
+     * 计算指纹的短标识（64 位 FNV-1a 哈希的十六进制形式）
+     *
+     * @param fingerprint 指纹
+     * @return 短标识
+     */
+    public static String idOf(String fingerprint) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < fingerprint.length(); i++) {
+            hash ^= fingerprint.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return String.format("%016x", hash);
+    }
+
+    /**
+     * 归一化 SQL
+     *
+     * @param sql 原始 SQL
+     * @return 指纹
+     */
+    static String normalize(String sql) {
+        int length = sql.length();
+        StringBuilder sb = new StringBuilder(length);
+        boolean pendingSpace = false;
+
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+
+            // 空白
+            if (Character.isWhitespace(c)) {
+                pendingSpace = !sb.isEmpty();
+                i++;
+                continue;
+            }
+
+            // 单行注释
+            if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+                while (i < length && sql.charAt(i) != '\n') {
+                    i++;
+                }
+                pendingSpace = !sb.isEmpty();
+                continue;
+            }
+
+            // 多行注释
+            if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+                pendingSpace = !sb.isEmpty();
+                continue;
+            }
+
+            if (pendingSpace) {
+                sb.append(' ');
+                pendingSpace = false;
+            }
+
+            // 字符串字面量（'' 为转义的单引号）
+            if (c == '\'') {
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                i++;
+                sb.append('?');
+                continue;
+            }
+
+            // 引号标识符原样保留
+            if (c == '"' || c == '`') {
+                int end = sql.indexOf(c, i + 1);
+                end = end < 0 ? length : end + 1;
+                sb.append(sql, i, end);
+                i = end;
+                continue;
+            }
+
+            // 数字字面量（不属于标识符的一部分）
+            if (Character.isDigit(c) && !isIdentifierPart(sb)) {
+                while (i < length && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                sb.append('?');
+                continue;
+            }
+
+            sb.append(c);
+            i++;
+        }
+
+        return collapseTuples(collapsePlaceholders(sb));
+    }
+
+    /**
+     * 判断当前输出末尾是否处于标识符（或命名参数）中
+     *
+     * @param sb 当前输出
+     * @return 是否处于标识符中
+     */
+    private static boolean isIdentifierPart(StringBuilder sb) {
+        if (sb.isEmpty()) {
+            return false;
+        }
+        char last = sb.charAt(sb.length() - 1);
+        return Character.isLetterOrDigit(last) || last == '_' || last == ':' || last == '$';
+    }
+
+    /**
+     * 将连续的占位符列表 {@code ?, ?, ?} 折叠为 {@code ?+}
+     * <p>
+     * 使用线性扫描而不是正则，避免超长 IN 列表/多行 VALUES 时正则回溯导致栈溢出。
+     *
+     * @param text 已替换字面量的 SQL
+     * @return 折叠后的 SQL
+     */
+    private static String collapsePlaceholders(CharSequence text) {
+        int length = text.length();
+        StringBuilder sb = new StringBuilder(length);
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (c != '?') {
+                sb.append(c);
+                i++;
+                continue;
+            }
+
+            int end = i + 1;
+            int count = 1;
+            while (true) {
+                int next = skipSpaces(text, end);
+                if (next >= length || text.charAt(next) != ',') {
+                    break;
+                }
+                next = skipSpaces(text, next + 1);
+                if (next >= length || text.charAt(next) != '?') {
+                    break;
+                }
+                end = next + 1;
+                count++;
+            }
+            sb.append(count > 1 ? "?+" : "?");
+            i = end;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 将连续的占位符元组 {@code (?+), (?+)} 折叠为 {@code (?+)+}
+     *
+     * @param text 已折叠占位符列表的 SQL
+     * @return 折叠后的 SQL
+     */
+    private static String collapseTuples(String text) {
+        int length = text.length();
+        StringBuilder sb = new StringBuilder(length);
+        int i = 0;
+        while (i < length) {
+            int end = tupleEnd(text, i);
+            if (end < 0) {
+                sb.append(text.charAt(i));
+                i++;
+                continue;
+            }
+
+            int count = 1;
+            while (true) {
+                int next = skipSpaces(text, end);
+                if (next >= length || text.charAt(next) != ',') {
+                    break;
+                }
+                int tuple = tupleEnd(text, skipSpaces(text, next + 1));
+                if (tuple < 0) {
+                    break;
+                }
+                end = tuple;
+                count++;
+            }
+            sb.append(count > 1 ? "(?+)+" : text.substring(i, end));
+            i = end;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 判断指定位置是否为占位符元组 {@code (?)} 或 {@code (?+)}
+     *
+     * @param text  SQL
+     * @param start 起始位置
+     * @return 元组结束位置（不包含），不是元组时返回 -1
+     */
+    private static int tupleEnd(String text, int start) {
+        if (text.startsWith("(?)", start)) {
+            return start + 3;
+        }
+        if (text.startsWith("(?+)", start)) {
+            return start + 4;
+        }
+        return -1;
+    }
+
+    /**
+     * 跳过空格
+     *
+     * @param text  文本
+     * @param start 起始位置
+     * @return 第一个非空格字符的位置
+     */
+    private static int skipSpaces(CharSequence text, int start) {
+        int i = start;
+        while (i < text.length() && text.charAt(i) == ' ') {
+            i++;
+        }
+        return i;
+    }
+}
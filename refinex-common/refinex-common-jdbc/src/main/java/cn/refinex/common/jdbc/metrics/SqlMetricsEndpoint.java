@@ -0,0 +1,94 @@
+package cn.refinex.common.jdbc.metrics;
+
+import cn.refinex.common.jdbc.sql.ParsedSqlCache;
+import lombok.Setter;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SQL 执行指标 Actuator 端点
+ * <p>
+ * 访问方式（需在 management.endpoints.web.exposure.include 中加入 sqlmetrics）:
+ * <ul>
+ *     <li>{@code GET /actuator/sqlmetrics?sortBy=p99&limit=20}: 排名靠前的 SQL 指纹、最近的慢 SQL 与预解析 SQL 缓存命中情况</li>
+ *     <li>{@code GET /actuator/sqlmetrics/{id}}: 单个指纹的统计</li>
+ *     <li>{@code DELETE /actuator/sqlmetrics}: 清空统计</li>
+ * </ul>
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Endpoint(id = "sqlmetrics")
+public class SqlMetricsEndpoint {
+
+    /**
+     * 默认返回的指纹数量
+     */
+    private static final int DEFAULT_LIMIT = 50;
+
+    /**
+     * SQL 指标注册表
+     */
+    private final SqlMetricsRegistry sqlMetricsRegistry;
+
+    /**
+     * 预解析 SQL 缓存（可选）
+     */
+    @Setter
+    private ParsedSqlCache parsedSqlCache;
+
+    /**
+     * 构造函数
+     *
+     * @param sqlMetricsRegistry SQL 指标注册表
+     */
+    public SqlMetricsEndpoint(SqlMetricsRegistry sqlMetricsRegistry) {
+        this.sqlMetricsRegistry = sqlMetricsRegistry;
+    }
+
+    /**
+     * 获取 SQL 指标概览
+     *
+     * @param sortBy 排序字段（total、avg、max、p99、count、errors、rows）
+     * @param limit  返回的指纹数量
+     * @return 指标概览
+     */
+    @ReadOperation
+    public Map<String, Object> metrics(@Nullable String sortBy, @Nullable Integer limit) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", sqlMetricsRegistry.isEnabled());
+        result.put("slowQueryThresholdMs", sqlMetricsRegistry.getSlowQueryThresholdMs());
+        result.put("statementCount", sqlMetricsRegistry.getStatements().size());
+        result.put("statements", sqlMetricsRegistry.getTopStatements(sortBy, limit != null ? limit : DEFAULT_LIMIT));
+        result.put("slowQueries", sqlMetricsRegistry.getSlowQueries());
+        if (parsedSqlCache != null) {
+            result.put("parsedSqlCache", parsedSqlCache.getStats());
+        }
+        return result;
+    }
+
+    /**
+     * 获取单个 SQL 指纹统计
+     *
+     * @param id 指纹短标识
+     * @return 统计快照，不存在时返回 null（响应 404）
+     */
+    @ReadOperation
+    public SqlStatementSnapshot statement(@Selector String id) {
+        return sqlMetricsRegistry.getStatement(id);
+    }
+
+    /**
+     * 清空统计
+     */
+    @DeleteOperation
+    public void reset() {
+        sqlMetricsRegistry.reset();
+    }
+}
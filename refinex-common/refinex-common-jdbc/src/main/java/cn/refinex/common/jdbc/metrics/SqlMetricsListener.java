@@ -0,0 +1,29 @@
+package cn.refinex.common.jdbc.metrics;
+
+import java.util.Collection;
+
+/**
+ * SQL 指标注册表监听器
+ * <p>
+ * 用于将新出现的 SQL 指纹同步注册到外部指标系统（如 Micrometer）。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public interface SqlMetricsListener {
+
+    /**
+     * 新 SQL 指纹首次被记录
+     *
+     * @param stats 指纹统计
+     */
+    void onStatementAdded(SqlStatementStats stats);
+
+    /**
+     * 注册表被重置
+     *
+     * @param removed 被移除的指纹统计
+     */
+    default void onReset(Collection<SqlStatementStats> removed) {
+    }
+}
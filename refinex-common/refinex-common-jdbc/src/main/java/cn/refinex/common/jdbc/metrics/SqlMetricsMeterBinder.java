@@ -0,0 +1,162 @@
+package cn.refinex.common.jdbc.metrics;
+
+import cn.refinex.common.jdbc.sql.ParsedSqlCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL 执行指标 Micrometer 绑定器
+ * <p>
+ * 每个 SQL 指纹注册一组以 {@code statement}（指纹短标识）和 {@code operation} 为标签的指标，
+ * 指纹原文不作为标签（避免标签过长），可通过 {@code /actuator/sqlmetrics/{id}} 反查:
+ * <ul>
+ *     <li>{@code refinex.jdbc.sql}: 执行次数与累计耗时</li>
+ *     <li>{@code refinex.jdbc.sql.errors}: 失败次数</li>
+ *     <li>{@code refinex.jdbc.sql.rows.returned} / {@code refinex.jdbc.sql.rows.affected}: 返回/影响行数</li>
+ *     <li>{@code refinex.jdbc.sql.latency}: P50/P95/P99 耗时（quantile 标签）</li>
+ * </ul>
+ * 设置预解析 SQL 缓存后额外导出 {@code refinex.jdbc.sql.parse.cache}（result 标签为 hit/miss）
+ * 与 {@code refinex.jdbc.sql.parse.cache.size}。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class SqlMetricsMeterBinder implements MeterBinder, SqlMetricsListener {
+
+    /**
+     * 导出的分位
+     */
+    private static final double[] QUANTILES = {0.5, 0.95, 0.99};
+
+    /**
+     * SQL 指标注册表
+     */
+    private final SqlMetricsRegistry sqlMetricsRegistry;
+
+    /**
+     * 已绑定的 Micrometer 注册表
+     */
+    private final List<MeterRegistry> meterRegistries = new ArrayList<>();
+
+    /**
+     * 指纹统计 -> 已注册的指标
+     */
+    private final Map<SqlStatementStats, List<Meter>> registeredMeters = new ConcurrentHashMap<>();
+
+    /**
+     * 预解析 SQL 缓存（可选）
+     */
+    @Setter
+    private ParsedSqlCache parsedSqlCache;
+
+    /**
+     * 构造函数
+     *
+     * @param sqlMetricsRegistry SQL 指标注册表
+     */
+    public SqlMetricsMeterBinder(SqlMetricsRegistry sqlMetricsRegistry) {
+        this.sqlMetricsRegistry = sqlMetricsRegistry;
+    }
+
+    @Override
+    public synchronized void bindTo(MeterRegistry registry) {
+        boolean first = meterRegistries.isEmpty();
+        meterRegistries.add(registry);
+
+        Gauge.builder("refinex.jdbc.sql.statements", sqlMetricsRegistry, r -> r.getStatements().size())
+                .description("已记录的 SQL 指纹数量")
+                .register(registry);
+
+        if (parsedSqlCache != null) {
+            FunctionCounter.builder("refinex.jdbc.sql.parse.cache", parsedSqlCache, ParsedSqlCache::getHitCount)
+                    .tag("result", "hit")
+                    .description("预解析 SQL 缓存命中次数")
+                    .register(registry);
+            FunctionCounter.builder("refinex.jdbc.sql.parse.cache", parsedSqlCache, ParsedSqlCache::getMissCount)
+                    .tag("result", "miss")
+                    .description("预解析 SQL 缓存未命中次数")
+                    .register(registry);
+            Gauge.builder("refinex.jdbc.sql.parse.cache.size", parsedSqlCache, ParsedSqlCache::size)
+                    .description("预解析 SQL 缓存条目数")
+                    .register(registry);
+        }
+
+        for (SqlStatementStats stats : sqlMetricsRegistry.getStatements()) {
+            register(registry, stats);
+        }
+        if (first) {
+            sqlMetricsRegistry.addListener(this);
+        }
+    }
+
+    @Override
+    public synchronized void onStatementAdded(SqlStatementStats stats) {
+        for (MeterRegistry registry : meterRegistries) {
+            register(registry, stats);
+        }
+    }
+
+    @Override
+    public synchronized void onReset(Collection<SqlStatementStats> removed) {
+        for (SqlStatementStats stats : removed) {
+            List<Meter> meters = registeredMeters.remove(stats);
+            if (meters == null) {
+                continue;
+            }
+            for (Meter meter : meters) {
+                for (MeterRegistry registry : meterRegistries) {
+                    registry.remove(meter);
+                }
+            }
+        }
+    }
+
+    /**
+     * 为指纹统计注册指标
+     *
+     * @param registry Micrometer 注册表
+     * @param stats    指纹统计
+     */
+    private void register(MeterRegistry registry, SqlStatementStats stats) {
+        Tags tags = Tags.of("statement", stats.getId(), "operation", stats.getOperation());
+        List<Meter> meters = registeredMeters.computeIfAbsent(stats, k -> new ArrayList<>());
+
+        meters.add(FunctionTimer.builder("refinex.jdbc.sql", stats, SqlStatementStats::getExecutions, SqlStatementStats::getTotalNanos, TimeUnit.NANOSECONDS)
+                .tags(tags)
+                .description("SQL 执行次数与耗时")
+                .register(registry));
+        meters.add(FunctionCounter.builder("refinex.jdbc.sql.errors", stats, SqlStatementStats::getErrors)
+                .tags(tags)
+                .description("SQL 执行失败次数")
+                .register(registry));
+        meters.add(FunctionCounter.builder("refinex.jdbc.sql.rows.returned", stats, SqlStatementStats::getRowsReturned)
+                .tags(tags)
+                .description("SQL 返回行数")
+                .register(registry));
+        meters.add(FunctionCounter.builder("refinex.jdbc.sql.rows.affected", stats, SqlStatementStats::getRowsAffected)
+                .tags(tags)
+                .description("SQL 影响行数")
+                .register(registry));
+
+        for (double quantile : QUANTILES) {
+            meters.add(TimeGauge.builder("refinex.jdbc.sql.latency", stats, TimeUnit.MILLISECONDS, s -> s.percentileMs(quantile))
+                    .tags(tags.and("quantile", String.valueOf(quantile)))
+                    .description("SQL 耗时分位")
+                    .register(registry));
+        }
+    }
+}
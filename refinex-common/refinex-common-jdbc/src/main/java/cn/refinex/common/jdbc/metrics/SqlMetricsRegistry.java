@@ -0,0 +1,297 @@
+package cn.refinex.common.jdbc.metrics;
+
+import cn.refinex.common.jdbc.masker.SensitiveDataMasker;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * SQL 执行指标注册表
+ * <p>
+ * 由 {@link cn.refinex.common.jdbc.core.JdbcTemplateManager} 在每次执行后调用（与是否打印 SQL 日志无关），
+ * 按 SQL 指纹聚合执行次数、耗时分布、返回/影响行数与失败次数，并将超过慢查询阈值的执行写入环形缓冲区。
+ * 指纹数量达到上限后，新指纹统一计入 {@link #OVERFLOW_FINGERPRINT}，避免动态拼接 SQL 导致内存无限增长。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class SqlMetricsRegistry {
+
+    /**
+     * 超出指纹上限后使用的汇总指纹
+     */
+    public static final String OVERFLOW_FINGERPRINT = "<other>";
+
+    /**
+     * 慢 SQL 记录中 SQL 文本的最大长度
+     */
+    private static final int MAX_SQL_LENGTH = 2000;
+
+    /**
+     * 是否启用
+     */
+    @Getter
+    @Setter
+    private volatile boolean enabled = true;
+
+    /**
+     * 慢查询阈值（毫秒）
+     */
+    @Getter
+    @Setter
+    private volatile long slowQueryThresholdMs = 1000;
+
+    /**
+     * 敏感数据脱敏器（未设置时慢 SQL 记录不保留参数）
+     */
+    @Setter
+    private volatile SensitiveDataMasker sensitiveDataMasker;
+
+    /**
+     * 指纹数量上限
+     */
+    @Getter
+    private final int maxStatements;
+
+    /**
+     * 指纹 -> 统计
+     */
+    private final Map<String, SqlStatementStats> statements = new ConcurrentHashMap<>();
+
+    /**
+     * 慢 SQL 环形缓冲区
+     */
+    private final SlowQueryBuffer slowQueries;
+
+    /**
+     * 监听器
+     */
+    private final List<SqlMetricsListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 构造函数，默认最多 1000 个指纹、保留最近 100 条慢 SQL
+     */
+    public SqlMetricsRegistry() {
+        this(1000, 100);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param maxStatements     指纹数量上限
+     * @param slowQueryCapacity 慢 SQL 缓冲区容量
+     */
+    public SqlMetricsRegistry(int maxStatements, int slowQueryCapacity) {
+        if (maxStatements <= 0) {
+            throw new IllegalArgumentException("指纹数量上限必须大于0");
+        }
+        this.maxStatements = maxStatements;
+        this.slowQueries = new SlowQueryBuffer(slowQueryCapacity);
+    }
+
+    /**
+     * 记录一次 SQL 执行
+     *
+     * @param operation    操作名
+     * @param sql          SQL 语句
+     * @param params       参数
+     * @param elapsedNanos 耗时（纳秒）
+     * @param rowsAffected 影响行数（可为 null）
+     * @param resultSize   返回行数（可为 null）
+     * @param exception    异常（成功时为 null）
+     */
+    public void record(String operation, String sql, Object params, long elapsedNanos, Integer rowsAffected, Integer resultSize, Exception exception) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            SqlStatementStats stats = statsFor(SqlFingerprint.of(sql), operation);
+            stats.record(elapsedNanos, rowsAffected, resultSize, exception != null);
+
+            if (elapsedNanos / 1_000_000 > slowQueryThresholdMs) {
+                slowQueries.add(buildSlowQueryRecord(stats, operation, sql, params, elapsedNanos, rowsAffected, resultSize, exception));
+            }
+        } catch (Exception e) {
+            // 指标采集不能影响业务执行
+            log.warn("记录 SQL 执行指标失败: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 获取所有指纹统计
+     *
+     * @return 指纹统计
+     */
+    public Collection<SqlStatementStats> getStatements() {
+        return statements.values();
+    }
+
+    /**
+     * 根据短标识获取指纹统计快照
+     *
+     * @param id 指纹短标识
+     * @return 统计快照，不存在时返回 null
+     */
+    public SqlStatementSnapshot getStatement(String id) {
+        for (SqlStatementStats stats : statements.values()) {
+            if (stats.getId().equals(id)) {
+                return stats.snapshot();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 获取排名靠前的指纹统计快照
+     *
+     * @param sortBy 排序字段: total（累计耗时，默认）、avg、max、p99、count、errors、rows
+     * @param limit  返回数量
+     * @return 统计快照列表
+     */
+    public List<SqlStatementSnapshot> getTopStatements(String sortBy, int limit) {
+        List<SqlStatementSnapshot> snapshots = new ArrayList<>(statements.size());
+        for (SqlStatementStats stats : statements.values()) {
+            snapshots.add(stats.snapshot());
+        }
+        snapshots.sort(comparatorOf(sortBy).reversed());
+        return limit > 0 && snapshots.size() > limit ? snapshots.subList(0, limit) : snapshots;
+    }
+
+    /**
+     * 获取慢 SQL 记录（按耗时倒序）
+     *
+     * @return 慢 SQL 记录
+     */
+    public List<SlowQueryRecord> getSlowQueries() {
+        return slowQueries.snapshot();
+    }
+
+    /**
+     * 添加监听器
+     *
+     * @param listener 监听器
+     */
+    public void addListener(SqlMetricsListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 清空所有统计与慢 SQL 记录
+     */
+    public void reset() {
+        List<SqlStatementStats> removed = new ArrayList<>(statements.values());
+        statements.clear();
+        slowQueries.clear();
+        for (SqlMetricsListener listener : listeners) {
+            listener.onReset(removed);
+        }
+    }
+
+    /**
+     * 获取（或创建）指纹统计
+     *
+     * @param fingerprint SQL 指纹
+     * @param operation   操作名
+     * @return 指纹统计
+     */
+    private SqlStatementStats statsFor(String fingerprint, String operation) {
+        SqlStatementStats stats = statements.get(fingerprint);
+        if (stats != null) {
+            return stats;
+        }
+
+        String key = statements.size() >= maxStatements ? OVERFLOW_FINGERPRINT : fingerprint;
+        boolean[] created = new boolean[1];
+        stats = statements.computeIfAbsent(key, k -> {
+            created[0] = true;
+            return new SqlStatementStats(k, OVERFLOW_FINGERPRINT.equals(k) ? "mixed" : operation);
+        });
+
+        if (created[0]) {
+            if (OVERFLOW_FINGERPRINT.equals(key)) {
+                log.warn("SQL 指纹数量超过上限 {}，后续新指纹计入 {}", maxStatements, OVERFLOW_FINGERPRINT);
+            }
+            for (SqlMetricsListener listener : listeners) {
+                listener.onStatementAdded(stats);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * 构建慢 SQL 记录
+     *
+     * @param stats        指纹统计
+     * @param operation    操作名
+     * @param sql          SQL 语句
+     * @param params       参数
+     * @param elapsedNanos 耗时（纳秒）
+     * @param rowsAffected 影响行数
+     * @param resultSize   返回行数
+     * @param exception    异常
+     * @return 慢 SQL 记录
+     */
+    private SlowQueryRecord buildSlowQueryRecord(SqlStatementStats stats, String operation, String sql, Object params, long elapsedNanos, Integer rowsAffected, Integer resultSize, Exception exception) {
+        SlowQueryRecord slowQueryRecord = new SlowQueryRecord();
+        slowQueryRecord.setId(stats.getId());
+        slowQueryRecord.setOperation(operation);
+        slowQueryRecord.setSql(sql != null && sql.length() > MAX_SQL_LENGTH ? sql.substring(0, MAX_SQL_LENGTH) + "..." : sql);
+        slowQueryRecord.setParams(sanitizeParams(params));
+        slowQueryRecord.setElapsedMs(elapsedNanos / 1_000_000.0);
+        slowQueryRecord.setRowsAffected(rowsAffected);
+        slowQueryRecord.setResultSize(resultSize);
+        slowQueryRecord.setError(exception != null ? exception.getClass().getSimpleName() + ": " + exception.getMessage() : null);
+        slowQueryRecord.setExecutedTime(System.currentTimeMillis());
+        return slowQueryRecord;
+    }
+
+    /**
+     * 参数脱敏
+     *
+     * @param params 参数
+     * @return 脱敏后的参数，未配置脱敏器时为 null
+     */
+    private Object sanitizeParams(Object params) {
+        SensitiveDataMasker masker = this.sensitiveDataMasker;
+        if (masker == null || params == null) {
+            return null;
+        }
+        if (params instanceof Map<?, ?> map) {
+            return masker.maskParams(map);
+        }
+        if (params instanceof CharSequence) {
+            return params.toString();
+        }
+        return "[" + params.getClass().getSimpleName() + "]";
+    }
+
+    /**
+     * 获取排序比较器
+     *
+     * @param sortBy 排序字段
+     * @return 比较器（升序）
+     */
+    private static Comparator<SqlStatementSnapshot> comparatorOf(String sortBy) {
+        String key = sortBy == null ? "total" : sortBy.toLowerCase(Locale.ROOT);
+        return switch (key) {
+            case "avg" -> Comparator.comparingDouble(SqlStatementSnapshot::getAvgMs);
+            case "max" -> Comparator.comparingDouble(SqlStatementSnapshot::getMaxMs);
+            case "p99" -> Comparator.comparingDouble(SqlStatementSnapshot::getP99Ms);
+            case "count" -> Comparator.comparingLong(SqlStatementSnapshot::getExecutions);
+            case "errors" -> Comparator.comparingLong(SqlStatementSnapshot::getErrors);
+            case "rows" -> Comparator.comparingLong(SqlStatementSnapshot::getRowsReturned);
+            default -> Comparator.comparingDouble(SqlStatementSnapshot::getTotalMs);
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package cn.refinex.common.jdbc.metrics;
+
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * SQL 指纹统计快照
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+public class SqlStatementSnapshot implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 指纹短标识
+     */
+    private String id;
+
+    /**
+     * SQL 指纹
+     */
+    private String fingerprint;
+
+    /**
+     * 操作名
+     */
+    private String operation;
+
+    /**
+     * 执行次数
+     */
+    private long executions;
+
+    /**
+     * 失败次数
+     */
+    private long errors;
+
+    /**
+     * 累计耗时（毫秒）
+     */
+    private double totalMs;
+
+    /**
+     * 平均耗时（毫秒）
+     */
+    private double avgMs;
+
+    /**
+     * 最大耗时（毫秒）
+     */
+    private double maxMs;
+
+    /**
+     * P50 耗时（毫秒）
+     */
+    private double p50Ms;
+
+    /**
+     * P95 耗时（毫秒）
+     */
+    private double p95Ms;
+
+    /**
+     * P99 耗时（毫秒）
+     */
+    private double p99Ms;
+
+    /**
+     * 累计返回行数
+     */
+    private long rowsReturned;
+
+    /**
+     * 累计影响行数
+     */
+    private long rowsAffected;
+
+    /**
+     * 最近一次执行时间（毫秒时间戳）
+     */
+    private long lastExecutedTime;
+}
@@ -0,0 +1,196 @@
+package cn.refinex.common.jdbc.metrics;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 单个 SQL 指纹的执行统计
+ * <p>
+ * 所有计数器均为 {@link LongAdder}/{@link LongAccumulator}，记录路径无锁，适合高并发下常开。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class SqlStatementStats {
+
+    /**
+     * 指纹短标识
+     */
+    @Getter
+    private final String id;
+
+    /**
+     * SQL 指纹
+     */
+    @Getter
+    private final String fingerprint;
+
+    /**
+     * 首次记录时的操作名（如 queryList、update）
+     */
+    @Getter
+    private final String operation;
+
+    /**
+     * 执行次数
+     */
+    private final LongAdder executions = new LongAdder();
+
+    /**
+     * 失败次数
+     */
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * 累计耗时（纳秒）
+     */
+    private final LongAdder totalNanos = new LongAdder();
+
+    /**
+     * 最大耗时（纳秒）
+     */
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * 累计返回行数
+     */
+    private final LongAdder rowsReturned = new LongAdder();
+
+    /**
+     * 累计影响行数
+     */
+    private final LongAdder rowsAffected = new LongAdder();
+
+    /**
+     * 延迟直方图
+     */
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    /**
+     * 最近一次执行时间（毫秒时间戳）
+     */
+    private volatile long lastExecutedTime;
+
+    /**
+     * 构造函数
+     *
+     * @param fingerprint SQL 指纹
+     * @param operation   操作名
+     */
+    public SqlStatementStats(String fingerprint, String operation) {
+        this.id = SqlFingerprint.idOf(fingerprint);
+        this.fingerprint = fingerprint;
+        this.operation = operation;
+    }
+
+    /**
+     * 记录一次执行
+     *
+     * @param elapsedNanos 耗时（纳秒）
+     * @param rowsAffected 影响行数（可为 null）
+     * @param resultSize   返回行数（可为 null）
+     * @param failed       是否失败
+     */
+    public void record(long elapsedNanos, Integer rowsAffected, Integer resultSize, boolean failed) {
+        executions.increment();
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulate(elapsedNanos);
+        histogram.record(elapsedNanos);
+
+        if (failed) {
+            errors.increment();
+        }
+        if (rowsAffected != null) {
+            this.rowsAffected.add(rowsAffected);
+        }
+        if (resultSize != null) {
+            rowsReturned.add(resultSize);
+        }
+        lastExecutedTime = System.currentTimeMillis();
+    }
+
+    /**
+     * 获取执行次数
+     *
+     * @return 执行次数
+     */
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    /**
+     * 获取失败次数
+     *
+     * @return 失败次数
+     */
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * 获取累计耗时（纳秒）
+     *
+     * @return 累计耗时
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * 获取累计返回行数
+     *
+     * @return 返回行数
+     */
+    public long getRowsReturned() {
+        return rowsReturned.sum();
+    }
+
+    /**
+     * 获取累计影响行数
+     *
+     * @return 影响行数
+     */
+    public long getRowsAffected() {
+        return rowsAffected.sum();
+    }
+
+    /**
+     * 估算分位耗时
+     *
+     * @param percentile 分位（0 到 1 之间）
+     * @return 分位耗时（毫秒）
+     */
+    public double percentileMs(double percentile) {
+        return histogram.percentileMs(percentile);
+    }
+
+    /**
+     * 生成统计快照
+     *
+     * @return 统计快照
+     */
+    public SqlStatementSnapshot snapshot() {
+        long count = executions.sum();
+        long total = totalNanos.sum();
+        double[] percentiles = histogram.percentilesMs(0.5, 0.95, 0.99);
+
+        SqlStatementSnapshot snapshot = new SqlStatementSnapshot();
+        snapshot.setId(id);
+        snapshot.setFingerprint(fingerprint);
+        snapshot.setOperation(operation);
+        snapshot.setExecutions(count);
+        snapshot.setErrors(errors.sum());
+        snapshot.setTotalMs(total / 1_000_000.0);
+        snapshot.setAvgMs(count == 0 ? 0 : total / 1_000_000.0 / count);
+        snapshot.setMaxMs(maxNanos.get() / 1_000_000.0);
+        snapshot.setP50Ms(percentiles[0]);
+        snapshot.setP95Ms(percentiles[1]);
+        snapshot.setP99Ms(percentiles[2]);
+        snapshot.setRowsReturned(rowsReturned.sum());
+        snapshot.setRowsAffected(rowsAffected.sum());
+        snapshot.setLastExecutedTime(lastExecutedTime);
+        return snapshot;
+    }
+}
@@ -0,0 +1,96 @@
+package cn.refinex.common.jdbc.page;
+
+import lombok.Data;
+import lombok.ToString;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 游标（Keyset）分页请求参数
+ * <p>
+ * 与 {@link PageRequest} 的 OFFSET 分页不同，游标分页通过上一页最后一行的排序键值构建
+ * seek 条件（如 {@code create_time < :last OR (create_time = :last AND id < :lastId)}），
+ * 第 N 页的查询代价与第 1 页相同。为保证翻页结果稳定，排序键的组合必须唯一，
+ * 通常在业务排序字段后追加主键。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+@ToString
+public class CursorPageRequest implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 每页记录数（默认15条）
+     */
+    private int pageSize;
+
+    /**
+     * 排序键列表（组合必须唯一）
+     */
+    private List<SortKey> sortKeys;
+
+    /**
+     * 游标令牌（上一页结果中的 nextCursor，首页为空）
+     */
+    private String cursor;
+
+    /**
+     * 是否查询总记录数（默认不查询）
+     */
+    private boolean searchCount;
+
+    /**
+     * 默认构造函数
+     */
+    public CursorPageRequest() {
+        this.pageSize = 15;
+        this.sortKeys = new ArrayList<>();
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param pageSize 每页记录数
+     * @param cursor   游标令牌
+     * @param sortKeys 排序键
+     */
+    public CursorPageRequest(int pageSize, String cursor, SortKey... sortKeys) {
+        this.pageSize = Math.max(pageSize, 1);
+        this.cursor = cursor;
+        this.sortKeys = new ArrayList<>(List.of(sortKeys));
+    }
+
+    /**
+     * 是否为首页
+     *
+     * @return 是否为首页
+     */
+    public boolean isFirstPage() {
+        return cursor == null || cursor.isBlank();
+    }
+
+    /**
+     * 验证分页参数有效性
+     *
+     * @throws IllegalArgumentException 参数无效时抛出
+     */
+    public void validate() {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("每页记录数必须大于等于1");
+        }
+        if (pageSize > 1000) {
+            throw new IllegalArgumentException("每页记录数不能超过1000");
+        }
+        if (sortKeys == null || sortKeys.isEmpty()) {
+            throw new IllegalArgumentException("游标分页排序键不能为空");
+        }
+        sortKeys.forEach(SortKey::validate);
+    }
+}
@@ -0,0 +1,82 @@
+package cn.refinex.common.jdbc.page;
+
+import lombok.Data;
+import lombok.ToString;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 游标（Keyset）分页结果对象
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+@ToString
+public class CursorPageResult<T> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 每页记录数
+     */
+    private int pageSize;
+
+    /**
+     * 总记录数（未查询总数时为 null）
+     */
+    private Long total;
+
+    /**
+     * 当前页数据列表
+     */
+    private List<T> records;
+
+    /**
+     * 是否有下一页
+     */
+    private boolean hasNext;
+
+    /**
+     * 下一页游标令牌（没有下一页时为 null）
+     */
+    private String nextCursor;
+
+    /**
+     * 默认构造函数
+     */
+    public CursorPageResult() {
+        this.records = Collections.emptyList();
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param records    数据列表
+     * @param pageSize   每页记录数
+     * @param nextCursor 下一页游标令牌
+     * @param total      总记录数（可为 null）
+     */
+    public CursorPageResult(List<T> records, int pageSize, String nextCursor, Long total) {
+        this.records = records != null ? records : Collections.emptyList();
+        this.pageSize = pageSize;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+        this.total = total;
+    }
+
+    /**
+     * 创建空分页结果
+     *
+     * @param pageSize 每页记录数
+     * @param total    总记录数（可为 null）
+     * @return 空分页结果
+     */
+    public static <T> CursorPageResult<T> empty(int pageSize, Long total) {
+        return new CursorPageResult<>(Collections.emptyList(), pageSize, null, total);
+    }
+}
@@ -0,0 +1,194 @@
+package cn.refinex.common.jdbc.page;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 游标令牌编解码器
+ * <p>
+ * 令牌为 URL 安全的 Base64 JSON，内容包含排序键签名与带类型标记的最后一行排序键值，
+ * 解码时按类型还原，保证 seek 条件绑定的参数类型与原列类型一致。
+ * 令牌对调用方不透明，排序键变化后旧令牌将被拒绝。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CursorTokenCodec {
+
+    /**
+     * JSON 对象映射器
+     */
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * 排序键签名字段
+     */
+    private static final String FIELD_SIGNATURE = "s";
+
+    /**
+     * 排序键值字段
+     */
+    private static final String FIELD_VALUES = "v";
+
+    /**
+     * 编码游标令牌
+     *
+     * @param sortKeys 排序键
+     * @param values   最后一行的排序键值（与排序键一一对应）
+     * @return 游标令牌
+     */
+    public static String encode(List<SortKey> sortKeys, Object[] values) {
+        ObjectNode root = OBJECT_MAPPER.createObjectNode();
+        root.put(FIELD_SIGNATURE, signature(sortKeys));
+
+        ArrayNode valueNodes = root.putArray(FIELD_VALUES);
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value == null) {
+                throw new IllegalArgumentException("游标分页排序列值不能为空: " + sortKeys.get(i).getColumn());
+            }
+            ArrayNode typed = valueNodes.addArray();
+            typed.add(typeOf(value));
+            typed.add(stringOf(value));
+        }
+
+        try {
+            byte[] json = OBJECT_MAPPER.writeValueAsBytes(root);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (Exception e) {
+            throw new IllegalStateException("游标令牌编码失败", e);
+        }
+    }
+
+    /**
+     * 解码游标令牌
+     *
+     * @param sortKeys 当前请求的排序键
+     * @param token    游标令牌
+     * @return 最后一行的排序键值
+     * @throws IllegalArgumentException 令牌无效或与排序键不匹配时抛出
+     */
+    public static Object[] decode(List<SortKey> sortKeys, String token) {
+        JsonNode root;
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(token);
+            root = OBJECT_MAPPER.readTree(new String(json, StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("游标令牌格式无效", e);
+        }
+
+        if (root == null || !signature(sortKeys).equals(root.path(FIELD_SIGNATURE).asText())) {
+            throw new IllegalArgumentException("游标令牌与排序字段不匹配");
+        }
+
+        JsonNode valueNodes = root.path(FIELD_VALUES);
+        if (!valueNodes.isArray() || valueNodes.size() != sortKeys.size()) {
+            throw new IllegalArgumentException("游标令牌格式无效");
+        }
+
+        List<Object> values = new ArrayList<>(valueNodes.size());
+        for (JsonNode typed : valueNodes) {
+            values.add(parse(typed.path(0).asText(), typed.path(1).asText()));
+        }
+        return values.toArray();
+    }
+
+    /**
+     * 计算排序键签名
+     *
+     * @param sortKeys 排序键
+     * @return 签名
+     */
+    private static String signature(List<SortKey> sortKeys) {
+        StringBuilder sb = new StringBuilder();
+        for (SortKey sortKey : sortKeys) {
+            sb.append(sortKey.getColumn().toLowerCase()).append(sortKey.isDescending() ? '-' : '+');
+        }
+        return Integer.toHexString(sb.toString().hashCode());
+    }
+
+    /**
+     * 获取值类型标记
+     *
+     * @param value 值
+     * @return 类型标记
+     */
+    private static String typeOf(Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte || value instanceof BigInteger) {
+            return "L";
+        }
+        if (value instanceof BigDecimal || value instanceof Double || value instanceof Float) {
+            return "N";
+        }
+        if (value instanceof LocalDateTime || value instanceof Timestamp || value instanceof Date) {
+            return "T";
+        }
+        if (value instanceof LocalDate) {
+            return "D";
+        }
+        if (value instanceof Boolean) {
+            return "B";
+        }
+        return "S";
+    }
+
+    /**
+     * 获取值的字符串形式
+     *
+     * @param value 值
+     * @return 字符串
+     */
+    private static String stringOf(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toString();
+        }
+        if (value instanceof Date date) {
+            return new Timestamp(date.getTime()).toLocalDateTime().toString();
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        return value.toString();
+    }
+
+    /**
+     * 按类型标记还原值
+     *
+     * @param type  类型标记
+     * @param value 字符串值
+     * @return 还原后的值
+     */
+    private static Object parse(String type, String value) {
+        try {
+            return switch (type) {
+                case "L" -> Long.valueOf(value);
+                case "N" -> new BigDecimal(value);
+                case "T" -> LocalDateTime.parse(value);
+                case "D" -> LocalDate.parse(value);
+                case "B" -> Boolean.valueOf(value);
+                case "S" -> value;
+                default -> throw new IllegalArgumentException("未知的游标值类型: " + type);
+            };
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalArgumentException("游标令牌格式无效", e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package cn.refinex.common.jdbc.page;
+
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 本地内存分页总数缓存
+ * <p>
+ * 条目按写入时间过期；条目数达到上限时先清理过期条目，仍超出上限则整体清空，避免动态条件导致内存无限增长。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class LocalPageCountCache implements PageCountCache {
+
+    /**
+     * 缓存有效期（毫秒）
+     */
+    @Getter
+    private final long ttlMillis;
+
+    /**
+     * 最大条目数
+     */
+    @Getter
+    private final int maxEntries;
+
+    /**
+     * 缓存键 -> 缓存条目
+     */
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 构造函数，默认缓存 30 秒、最多 10000 个条目
+     */
+    public LocalPageCountCache() {
+        this(30_000, 10_000);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param ttlMillis  缓存有效期（毫秒）
+     * @param maxEntries 最大条目数
+     */
+    public LocalPageCountCache(long ttlMillis, int maxEntries) {
+        if (ttlMillis <= 0) {
+            throw new IllegalArgumentException("缓存有效期必须大于0");
+        }
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("最大条目数必须大于0");
+        }
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public Long get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expireAt() <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.total();
+    }
+
+    @Override
+    public void put(String key, long total) {
+        long now = System.currentTimeMillis();
+        if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+            entries.values().removeIf(entry -> entry.expireAt() <= now);
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+        }
+        entries.put(key, new Entry(total, now + ttlMillis));
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * 获取当前条目数（含未清理的过期条目）
+     *
+     * @return 条目数
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 缓存条目
+     *
+     * @param total    总数
+     * @param expireAt 过期时间戳（毫秒）
+     */
+    private record Entry(long total, long expireAt) {
+    }
+}
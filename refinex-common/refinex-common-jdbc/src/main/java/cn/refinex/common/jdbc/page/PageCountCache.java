@@ -0,0 +1,35 @@
+package cn.refinex.common.jdbc.page;
+
+/**
+ * 分页总数缓存
+ * <p>
+ * 用于 {@link cn.refinex.common.jdbc.enums.PageCountMode#CACHED} 模式，缓存键由
+ * {@link cn.refinex.common.jdbc.core.JdbcTemplateManager} 根据归一化后的 COUNT SQL 与参数计算。
+ * 缓存值在有效期内可能与实际总数存在偏差，适合后台列表等对总数实时性要求不高的场景。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public interface PageCountCache {
+
+    /**
+     * 获取缓存的总数
+     *
+     * @param key 缓存键
+     * @return 总数，未命中或已过期时返回 null
+     */
+    Long get(String key);
+
+    /**
+     * 缓存总数
+     *
+     * @param key   缓存键
+     * @param total 总数
+     */
+    void put(String key, long total);
+
+    /**
+     * 清空缓存（数据大批量变更后可主动调用）
+     */
+    void clear();
+}
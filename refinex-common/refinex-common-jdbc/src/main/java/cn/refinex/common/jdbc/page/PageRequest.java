@@ -1,5 +1,6 @@
 package cn.refinex.common.jdbc.page;
 
+import cn.refinex.common.jdbc.enums.PageCountMode;
 import lombok.Data;
 import lombok.ToString;
 
@@ -39,6 +40,11 @@ public class PageRequest implements Serializable {
      */
     private String orderDirection;
 
+    /**
+     * 总数统计模式（默认精确统计）
+     */
+    private PageCountMode countMode = PageCountMode.EXACT;
+
     /**
      * 默认构造函数
      */
@@ -94,6 +100,22 @@ public class PageRequest implements Serializable {
         return pageSize;
     }
 
+    /**
+     * 复制分页参数并指定总数统计模式（不修改当前对象）
+     *
+     * @param countMode 总数统计模式
+     * @return 新的分页参数
+     */
+    public PageRequest withCountMode(PageCountMode countMode) {
+        PageRequest copy = new PageRequest();
+        copy.pageNum = this.pageNum;
+        copy.pageSize = this.pageSize;
+        copy.orderBy = this.orderBy;
+        copy.orderDirection = this.orderDirection;
+        copy.countMode = countMode;
+        return copy;
+    }
+
     /**
      * 验证分页参数有效性
      *
@@ -1,5 +1,6 @@
 package cn.refinex.common.jdbc.page;
 
+import cn.refinex.common.jdbc.enums.PageCountMode;
 import lombok.Data;
 import lombok.ToString;
 
@@ -33,6 +34,9 @@ public class PageResult<T> implements Serializable {
 
     /**
      * 总记录数
+     * <p>
+     * 统计模式为 {@link PageCountMode#ESTIMATED} 时为估算值；为 {@link PageCountMode#NONE} 时为已知的最小记录数
+     * （当前页之前的记录数 + 当前页记录数，存在下一页时再加 1）。
      */
     private long total;
 
@@ -56,6 +60,11 @@ public class PageResult<T> implements Serializable {
      */
     private boolean hasNext;
 
+    /**
+     * 总记录数的统计方式
+     */
+    private PageCountMode countMode = PageCountMode.EXACT;
+
     /**
      * 默认构造函数
      */
@@ -91,4 +100,26 @@ public class PageResult<T> implements Serializable {
     public static <T> PageResult<T> empty(int pageNum, int pageSize) {
         return new PageResult<>(Collections.emptyList(), 0, pageNum, pageSize);
     }
+
+    /**
+     * 创建不统计总数的分页结果
+     *
+     * @param records  数据列表（不含探测行）
+     * @param hasNext  是否存在下一页
+     * @param pageNum  当前页码
+     * @param pageSize 每页记录数
+     * @return 分页结果
+     */
+    public static <T> PageResult<T> ofProbe(List<T> records, boolean hasNext, int pageNum, int pageSize) {
+        PageResult<T> result = new PageResult<>();
+        result.records = records != null ? records : Collections.emptyList();
+        result.pageNum = pageNum;
+        result.pageSize = pageSize;
+        result.total = (long) (pageNum - 1) * pageSize + result.records.size() + (hasNext ? 1 : 0);
+        result.pages = hasNext ? pageNum + 1 : pageNum;
+        result.hasPrevious = pageNum > 1;
+        result.hasNext = hasNext;
+        result.countMode = PageCountMode.NONE;
+        return result;
+    }
 }
@@ -0,0 +1,116 @@
+package cn.refinex.common.jdbc.page;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 本地 + Redis 两级分页总数缓存
+ * <p>
+ * 先查本地缓存，未命中再查 Redis 并回填本地，多实例部署时同一查询条件只需统计一次。
+ * Redis 访问异常时仅记录日志并按未命中处理，不影响分页查询。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class RedisPageCountCache implements PageCountCache {
+
+    /**
+     * Redis 键前缀
+     */
+    public static final String KEY_PREFIX = "refinex:jdbc:page-count:";
+
+    /**
+     * Redis 模板
+     */
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 本地缓存
+     */
+    private final LocalPageCountCache localCache;
+
+    /**
+     * Redis 缓存有效期
+     */
+    private final Duration ttl;
+
+    /**
+     * 构造函数
+     *
+     * @param redisTemplate Redis 模板
+     * @param localCache    本地缓存
+     */
+    public RedisPageCountCache(StringRedisTemplate redisTemplate, LocalPageCountCache localCache) {
+        if (redisTemplate == null) {
+            throw new IllegalArgumentException("StringRedisTemplate 不能为空");
+        }
+        if (localCache == null) {
+            throw new IllegalArgumentException("本地缓存不能为空");
+        }
+        this.redisTemplate = redisTemplate;
+        this.localCache = localCache;
+        this.ttl = Duration.ofMillis(localCache.getTtlMillis());
+    }
+
+    @Override
+    public Long get(String key) {
+        Long total = localCache.get(key);
+        if (total != null) {
+            return total;
+        }
+
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+            if (value == null) {
+                return null;
+            }
+            total = Long.valueOf(value);
+            localCache.put(key, total);
+            return total;
+        } catch (Exception e) {
+            log.warn("读取 Redis 分页总数缓存失败: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String key, long total) {
+        localCache.put(key, total);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, String.valueOf(total), ttl);
+        } catch (Exception e) {
+            log.warn("写入 Redis 分页总数缓存失败: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void clear() {
+        localCache.clear();
+        try {
+            // 使用 SCAN 分批删除，避免 KEYS 阻塞 Redis
+            ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(500).build();
+            List<String> keys = new ArrayList<>();
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    keys.add(cursor.next());
+                    if (keys.size() >= 500) {
+                        redisTemplate.delete(keys);
+                        keys.clear();
+                    }
+                }
+            }
+            if (!keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        } catch (Exception e) {
+            log.warn("清空 Redis 分页总数缓存失败: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package cn.refinex.common.jdbc.page;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.regex.Pattern;
+
+/**
+ * 游标分页排序键
+ * <p>
+ * 排序键对应结果集中的列名（或别名），游标分页会在外层包装查询上按该列构建 seek 条件，
+ * 因此列名必须是简单标识符，且对应的列值不能为 NULL。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+@ToString
+@NoArgsConstructor
+public class SortKey implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 合法列名正则（防止 SQL 注入）
+     */
+    private static final Pattern COLUMN_PATTERN = Pattern.compile("^[A-Za-z_][A-Za-z0-9_]*$");
+
+    /**
+     * 排序列名（结果集中的列名或别名）
+     */
+    private String column;
+
+    /**
+     * 是否降序
+     */
+    private boolean descending;
+
+    /**
+     * 构造函数
+     *
+     * @param column     排序列名
+     * @param descending 是否降序
+     */
+    public SortKey(String column, boolean descending) {
+        this.column = column;
+        this.descending = descending;
+    }
+
+    /**
+     * 创建升序排序键
+     *
+     * @param column 排序列名
+     * @return 排序键
+     */
+    public static SortKey asc(String column) {
+        return new SortKey(column, false);
+    }
+
+    /**
+     * 创建降序排序键
+     *
+     * @param column 排序列名
+     * @return 排序键
+     */
+    public static SortKey desc(String column) {
+        return new SortKey(column, true);
+    }
+
+    /**
+     * 获取排序方向（ASC/DESC）
+     *
+     * @return 排序方向
+     */
+    public String getDirection() {
+        return descending ? "DESC" : "ASC";
+    }
+
+    /**
+     * 验证排序键有效性
+     *
+     * @throws IllegalArgumentException 参数无效时抛出
+     */
+    public void validate() {
+        if (column == null || !COLUMN_PATTERN.matcher(column).matches()) {
+            throw new IllegalArgumentException("排序列名不合法: " + column);
+        }
+    }
+}
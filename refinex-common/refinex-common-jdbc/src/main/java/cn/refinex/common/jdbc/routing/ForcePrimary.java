@@ -0,0 +1,23 @@
+package cn.refinex.common.jdbc.routing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 强制读主库
+ * <p>
+ * 开启读写分离后，标注该注解的方法（或类中所有方法）内通过 {@link cn.refinex.common.jdbc.core.JdbcTemplateManager}
+ * 执行的查询全部路由到主库，适用于写后立即读、对数据实时性要求高的场景。需要引入 spring-boot-starter-aop。
+ * 无法使用注解时可使用 {@link ReadWriteRoutingContext#forcePrimary(java.util.function.Supplier)}。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ForcePrimary {
+}
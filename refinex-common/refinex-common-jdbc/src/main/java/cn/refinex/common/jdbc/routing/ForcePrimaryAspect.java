@@ -0,0 +1,25 @@
+package cn.refinex.common.jdbc.routing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * 强制读主库切面, 拦截声明 {@link ForcePrimary} 注解的方法（或类）
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Aspect
+public class ForcePrimaryAspect {
+
+    @Around("@annotation(cn.refinex.common.jdbc.routing.ForcePrimary) || @within(cn.refinex.common.jdbc.routing.ForcePrimary)")
+    public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+        ReadWriteRoutingContext.enterForcePrimary();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReadWriteRoutingContext.exitForcePrimary();
+        }
+    }
+}
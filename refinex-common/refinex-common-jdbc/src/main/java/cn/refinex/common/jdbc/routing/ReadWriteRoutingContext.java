@@ -0,0 +1,141 @@
+package cn.refinex.common.jdbc.routing;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.function.Supplier;
+
+/**
+ * 读写分离路由上下文（线程级）
+ * <p>
+ * 记录当前线程是否强制读主库，以及最近一次写入的时间。{@link cn.refinex.common.jdbc.core.JdbcTemplateManager}
+ * 在写入后的读己之写窗口内将当前线程的查询路由到主库，避免刚写入的数据因从库复制延迟而读不到。
+ * Web 请求结束时由 {@link ReadWriteRoutingContextFilter} 调用 {@link #clear()} 清理；
+ * 非请求线程（定时任务、消息消费等）复用线程时窗口按时间自动失效，也可在任务结束时主动清理。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReadWriteRoutingContext {
+
+    /**
+     * 强制读主库的嵌套深度
+     */
+    private static final ThreadLocal<int[]> FORCE_PRIMARY_DEPTH = new ThreadLocal<>();
+
+    /**
+     * 最近一次写入的时间（System.nanoTime）
+     */
+    private static final ThreadLocal<long[]> LAST_WRITE_NANOS = new ThreadLocal<>();
+
+    /**
+     * 在强制读主库的上下文中执行
+     *
+     * @param supplier 执行逻辑
+     * @param <T>      返回类型
+     * @return 执行结果
+     */
+    public static <T> T forcePrimary(Supplier<T> supplier) {
+        enterForcePrimary();
+        try {
+            return supplier.get();
+        } finally {
+            exitForcePrimary();
+        }
+    }
+
+    /**
+     * 在强制读主库的上下文中执行
+     *
+     * @param runnable 执行逻辑
+     */
+    public static void forcePrimary(Runnable runnable) {
+        enterForcePrimary();
+        try {
+            runnable.run();
+        } finally {
+            exitForcePrimary();
+        }
+    }
+
+    /**
+     * 进入强制读主库上下文（需与 {@link #exitForcePrimary()} 成对调用）
+     */
+    public static void enterForcePrimary() {
+        int[] depth = FORCE_PRIMARY_DEPTH.get();
+        if (depth == null) {
+            FORCE_PRIMARY_DEPTH.set(new int[]{1});
+        } else {
+            depth[0]++;
+        }
+    }
+
+    /**
+     * 退出强制读主库上下文
+     */
+    public static void exitForcePrimary() {
+        int[] depth = FORCE_PRIMARY_DEPTH.get();
+        if (depth != null && --depth[0] <= 0) {
+            FORCE_PRIMARY_DEPTH.remove();
+        }
+    }
+
+    /**
+     * 当前线程是否强制读主库
+     *
+     * @return 是否强制读主库
+     */
+    public static boolean isForcePrimary() {
+        int[] depth = FORCE_PRIMARY_DEPTH.get();
+        return depth != null && depth[0] > 0;
+    }
+
+    /**
+     * 标记当前线程发生了写入
+     */
+    public static void markWrite() {
+        long[] lastWrite = LAST_WRITE_NANOS.get();
+        if (lastWrite == null) {
+            LAST_WRITE_NANOS.set(new long[]{System.nanoTime()});
+        } else {
+            lastWrite[0] = System.nanoTime();
+        }
+    }
+
+    /**
+     * 当前线程是否处于写入后的读己之写窗口内
+     *
+     * @param windowMillis 窗口时长（毫秒）
+     * @return 是否处于窗口内
+     */
+    public static boolean isWithinWriteWindow(long windowMillis) {
+        long[] lastWrite = LAST_WRITE_NANOS.get();
+        if (lastWrite == null) {
+            return false;
+        }
+        if (System.nanoTime() - lastWrite[0] < windowMillis * 1_000_000) {
+            return true;
+        }
+        LAST_WRITE_NANOS.remove();
+        return false;
+    }
+
+    /**
+     * 当前线程的查询是否必须走主库
+     *
+     * @param windowMillis 读己之写窗口时长（毫秒）
+     * @return 是否必须走主库
+     */
+    public static boolean isPrimaryRequired(long windowMillis) {
+        return isForcePrimary() || isWithinWriteWindow(windowMillis);
+    }
+
+    /**
+     * 清理当前线程的路由上下文
+     */
+    public static void clear() {
+        FORCE_PRIMARY_DEPTH.remove();
+        LAST_WRITE_NANOS.remove();
+    }
+}
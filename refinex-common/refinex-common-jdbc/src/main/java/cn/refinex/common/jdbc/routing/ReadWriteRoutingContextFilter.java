@@ -0,0 +1,49 @@
+package cn.refinex.common.jdbc.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 读写分离路由上下文清理过滤器
+ * <p>
+ * 请求结束时清理 {@link ReadWriteRoutingContext}，避免容器线程被复用时，上一个请求写入后的读主库状态
+ * 影响同一线程上的后续请求。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class ReadWriteRoutingContextFilter extends OncePerRequestFilter {
+
+    /**
+     * 执行请求并在结束后清理路由上下文
+     *
+     * @param request     请求
+     * @param response    响应
+     * @param filterChain 过滤器链
+     * @throws ServletException Servlet 异常
+     * @throws IOException      IO 异常
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadWriteRoutingContext.clear();
+        }
+    }
+
+    /**
+     * 异步请求的每次分派都需要清理
+     *
+     * @return false
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+}
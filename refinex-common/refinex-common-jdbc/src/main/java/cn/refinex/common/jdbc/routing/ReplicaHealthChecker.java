@@ -0,0 +1,156 @@
+package cn.refinex.common.jdbc.routing;
+
+import cn.hutool.core.thread.NamedThreadFactory;
+import cn.refinex.common.jdbc.dialect.DatabaseDialect;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 从库健康检查器
+ * <p>
+ * 定时检查每个从库的连通性与复制延迟（由 {@link DatabaseDialect#queryReplicationLagSeconds(Connection)} 提供），
+ * 延迟超过阈值、延迟查询失败或连接失败时记录失败，由 {@link ReplicaNode} 按连续失败/成功次数完成摘除与恢复。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class ReplicaHealthChecker {
+
+    /**
+     * 连接有效性校验超时（秒）
+     */
+    private static final int VALIDATION_TIMEOUT_SECONDS = 3;
+
+    /**
+     * 从库路由数据源
+     */
+    @Getter
+    private final ReplicaRoutingDataSource dataSource;
+
+    /**
+     * 数据库方言
+     */
+    private final DatabaseDialect databaseDialect;
+
+    /**
+     * 最大允许复制延迟（秒）
+     */
+    @Getter
+    private final long maxLagSeconds;
+
+    /**
+     * 检查间隔（毫秒）
+     */
+    @Getter
+    private final long intervalMillis;
+
+    /**
+     * 调度线程
+     */
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * 构造函数
+     *
+     * @param dataSource      从库路由数据源
+     * @param databaseDialect 数据库方言
+     * @param maxLagSeconds   最大允许复制延迟（秒）
+     * @param intervalMillis  检查间隔（毫秒）
+     */
+    public ReplicaHealthChecker(ReplicaRoutingDataSource dataSource, DatabaseDialect databaseDialect, long maxLagSeconds, long intervalMillis) {
+        if (dataSource == null) {
+            throw new IllegalArgumentException("从库路由数据源不能为空");
+        }
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("检查间隔必须大于0");
+        }
+        this.dataSource = dataSource;
+        this.databaseDialect = databaseDialect;
+        this.maxLagSeconds = maxLagSeconds;
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * 启动定时检查
+     */
+    public synchronized void start() {
+        if (scheduler != null || dataSource.getReplicas().isEmpty()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("refinex-replica-health-", true));
+        scheduler.scheduleWithFixedDelay(this::checkAll, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("从库健康检查已启动，从库数量: {}，检查间隔: {}ms，最大复制延迟: {}s", dataSource.getReplicas().size(), intervalMillis, maxLagSeconds);
+    }
+
+    /**
+     * 停止定时检查
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * 检查所有从库
+     */
+    public void checkAll() {
+        for (ReplicaNode node : dataSource.getReplicas()) {
+            try {
+                check(node);
+            } catch (Exception e) {
+                // 调度任务抛出异常会终止后续调度
+                log.warn("从库 {} 健康检查异常: {}", node.getName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 获取从库节点
+     *
+     * @return 从库节点
+     */
+    public List<ReplicaNode> getReplicas() {
+        return dataSource.getReplicas();
+    }
+
+    /**
+     * 检查单个从库
+     *
+     * @param node 从库节点
+     */
+    private void check(ReplicaNode node) {
+        try (Connection connection = node.getDataSource().getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                node.recordFailure("连接校验失败", null);
+                return;
+            }
+
+            Long lag;
+            try {
+                lag = databaseDialect != null ? databaseDialect.queryReplicationLagSeconds(connection) : null;
+            } catch (SQLException e) {
+                // 无法确认复制延迟时不能继续把读请求路由到该从库
+                log.warn("从库 {} 复制延迟查询失败，按不健康处理: {}", node.getName(), e.getMessage());
+                node.recordFailure("复制延迟查询失败: " + e.getMessage(), null);
+                return;
+            }
+            if (lag != null && lag > maxLagSeconds) {
+                node.recordFailure("复制延迟 " + (lag == Long.MAX_VALUE ? "未知（复制已停止）" : lag + "s") + " 超过阈值 " + maxLagSeconds + "s", lag);
+            } else {
+                node.recordSuccess(lag);
+            }
+        } catch (SQLException e) {
+            node.recordFailure("连接失败: " + e.getMessage(), null);
+        }
+    }
+}
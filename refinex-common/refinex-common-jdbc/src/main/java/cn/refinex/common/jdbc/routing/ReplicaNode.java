@@ -0,0 +1,152 @@
+package cn.refinex.common.jdbc.routing;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 从库节点
+ * <p>
+ * 维护从库的健康状态: 连续失败（连接失败或复制延迟超过阈值）达到剔除阈值后摘除，
+ * 摘除后连续健康检查成功达到恢复阈值后重新加入，避免延迟在阈值附近抖动时频繁上下线。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class ReplicaNode {
+
+    /**
+     * 从库名称
+     */
+    @Getter
+    private final String name;
+
+    /**
+     * 从库数据源
+     */
+    @Getter
+    private final DataSource dataSource;
+
+    /**
+     * 连续失败多少次后摘除
+     */
+    private final int failureThreshold;
+
+    /**
+     * 摘除后连续成功多少次后恢复
+     */
+    private final int recoveryThreshold;
+
+    /**
+     * 是否健康（可路由）
+     */
+    @Getter
+    private volatile boolean healthy = true;
+
+    /**
+     * 最近一次检测到的复制延迟（秒），未知时为 null
+     */
+    @Getter
+    private volatile Long lagSeconds;
+
+    /**
+     * 最近一次失败原因
+     */
+    @Getter
+    private volatile String lastError;
+
+    /**
+     * 最近一次健康检查时间戳（毫秒）
+     */
+    @Getter
+    private volatile long lastCheckTime;
+
+    /**
+     * 连续失败次数
+     */
+    private int consecutiveFailures;
+
+    /**
+     * 连续成功次数
+     */
+    private int consecutiveSuccesses;
+
+    /**
+     * 路由到该从库的连接数
+     */
+    private final LongAdder routedConnections = new LongAdder();
+
+    /**
+     * 构造函数
+     *
+     * @param name              从库名称
+     * @param dataSource        从库数据源
+     * @param failureThreshold  连续失败多少次后摘除
+     * @param recoveryThreshold 摘除后连续成功多少次后恢复
+     */
+    public ReplicaNode(String name, DataSource dataSource, int failureThreshold, int recoveryThreshold) {
+        if (dataSource == null) {
+            throw new IllegalArgumentException("从库数据源不能为空");
+        }
+        this.name = name;
+        this.dataSource = dataSource;
+        this.failureThreshold = Math.max(failureThreshold, 1);
+        this.recoveryThreshold = Math.max(recoveryThreshold, 1);
+    }
+
+    /**
+     * 记录一次成功（健康检查通过）
+     *
+     * @param lagSeconds 复制延迟（秒），未知时为 null
+     */
+    public synchronized void recordSuccess(Long lagSeconds) {
+        this.lagSeconds = lagSeconds;
+        this.lastCheckTime = System.currentTimeMillis();
+        this.consecutiveFailures = 0;
+        this.consecutiveSuccesses++;
+
+        if (!healthy && consecutiveSuccesses >= recoveryThreshold) {
+            healthy = true;
+            lastError = null;
+            log.info("从库 {} 恢复可用，复制延迟: {}s", name, lagSeconds);
+        }
+    }
+
+    /**
+     * 记录一次失败（连接失败或复制延迟超过阈值）
+     *
+     * @param reason     失败原因
+     * @param lagSeconds 复制延迟（秒），未知时为 null
+     */
+    public synchronized void recordFailure(String reason, Long lagSeconds) {
+        this.lagSeconds = lagSeconds;
+        this.lastError = reason;
+        this.lastCheckTime = System.currentTimeMillis();
+        this.consecutiveSuccesses = 0;
+        this.consecutiveFailures++;
+
+        if (healthy && consecutiveFailures >= failureThreshold) {
+            healthy = false;
+            log.warn("从库 {} 已摘除，原因: {}", name, reason);
+        }
+    }
+
+    /**
+     * 记录一次路由
+     */
+    void recordRouted() {
+        routedConnections.increment();
+    }
+
+    /**
+     * 获取路由到该从库的连接数
+     *
+     * @return 连接数
+     */
+    public long getRoutedConnections() {
+        return routedConnections.sum();
+    }
+}
@@ -0,0 +1,106 @@
+package cn.refinex.common.jdbc.routing;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 从库路由数据源
+ * <p>
+ * 在健康的从库之间轮询分配连接；从库获取连接失败时记录失败并尝试下一个从库，
+ * 所有从库均不可用时回退到主库，保证读请求不因从库故障而失败。
+ * <p>
+ * 注意: 该数据源只用于读，不应注册为 Spring 容器中的 {@link DataSource} Bean，
+ * 否则会干扰 Spring Boot 对唯一数据源的自动配置。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    /**
+     * 主库数据源（所有从库不可用时回退）
+     */
+    @Getter
+    private final DataSource primary;
+
+    /**
+     * 从库节点
+     */
+    @Getter
+    private final List<ReplicaNode> replicas;
+
+    /**
+     * 轮询计数器
+     */
+    private final AtomicInteger counter = new AtomicInteger();
+
+    /**
+     * 构造函数
+     *
+     * @param primary  主库数据源
+     * @param replicas 从库节点
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<ReplicaNode> replicas) {
+        if (primary == null) {
+            throw new IllegalArgumentException("主库数据源不能为空");
+        }
+        this.primary = primary;
+        this.replicas = replicas != null ? Collections.unmodifiableList(new ArrayList<>(replicas)) : Collections.emptyList();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return this.getConnection(null, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        int size = replicas.size();
+        if (size > 0) {
+            int start = Math.floorMod(counter.getAndIncrement(), size);
+            for (int i = 0; i < size; i++) {
+                ReplicaNode node = replicas.get((start + i) % size);
+                if (!node.isHealthy()) {
+                    continue;
+                }
+                try {
+                    Connection connection = username == null
+                            ? node.getDataSource().getConnection()
+                            : node.getDataSource().getConnection(username, password);
+                    node.recordRouted();
+                    return connection;
+                } catch (SQLException e) {
+                    node.recordFailure("获取连接失败: " + e.getMessage(), node.getLagSeconds());
+                    log.warn("从库 {} 获取连接失败，尝试其他节点: {}", node.getName(), e.getMessage());
+                }
+            }
+        }
+
+        log.debug("无可用从库，读请求回退到主库");
+        return username == null ? primary.getConnection() : primary.getConnection(username, password);
+    }
+
+    /**
+     * 是否存在健康的从库
+     *
+     * @return 是否存在
+     */
+    public boolean hasHealthyReplica() {
+        for (ReplicaNode node : replicas) {
+            if (node.isHealthy()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,194 @@
+package cn.refinex.common.jdbc.sql;
+
+import cn.hutool.core.thread.NamedThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 命名 SQL 文件监听器
+ * <p>
+ * 监听 {@link NamedSqlManager} 已加载的 SQL 文件所在目录，文件新增、修改或删除后重新加载。
+ * 只有文件系统上的 SQL 文件（开发环境的 target/classes、外部配置目录）可以监听，jar 内的文件不会变化。
+ * 编辑器保存文件时通常产生多个事件，同一批事件在 {@link #debounceMillis} 内合并后只重新加载一次。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class NamedSqlFileWatcher {
+
+    /**
+     * SQL 文件扩展名
+     */
+    private static final String SQL_SUFFIX = ".sql";
+
+    /**
+     * 命名 SQL 管理器
+     */
+    private final NamedSqlManager namedSqlManager;
+
+    /**
+     * 事件合并等待时间（毫秒）
+     */
+    private final long debounceMillis;
+
+    /**
+     * 文件监听服务
+     */
+    private WatchService watchService;
+
+    /**
+     * 监听线程
+     */
+    private Thread watchThread;
+
+    /**
+     * 构造函数
+     *
+     * @param namedSqlManager 命名 SQL 管理器
+     * @param debounceMillis  事件合并等待时间（毫秒）
+     */
+    public NamedSqlFileWatcher(NamedSqlManager namedSqlManager, long debounceMillis) {
+        if (namedSqlManager == null) {
+            throw new IllegalArgumentException("命名 SQL 管理器不能为空");
+        }
+        this.namedSqlManager = namedSqlManager;
+        this.debounceMillis = Math.max(debounceMillis, 0);
+    }
+
+    /**
+     * 启动监听
+     */
+    public synchronized void start() {
+        if (watchService != null) {
+            return;
+        }
+
+        Set<Path> directories = new LinkedHashSet<>();
+        for (Path file : namedSqlManager.getSqlFiles()) {
+            if (file.getParent() != null) {
+                directories.add(file.getParent());
+            }
+        }
+        if (directories.isEmpty()) {
+            log.info("没有位于文件系统上的 SQL 文件，不启动 SQL 文件监听");
+            return;
+        }
+
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            for (Path directory : directories) {
+                directory.register(watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY,
+                        StandardWatchEventKinds.ENTRY_DELETE);
+            }
+        } catch (IOException e) {
+            log.warn("启动 SQL 文件监听失败: {}", e.getMessage());
+            closeWatchService();
+            return;
+        }
+
+        watchThread = new NamedThreadFactory("refinex-sql-watcher-", true).newThread(this::watchLoop);
+        watchThread.start();
+        log.info("SQL 文件监听已启动，监听目录: {}", directories);
+    }
+
+    /**
+     * 停止监听
+     */
+    public synchronized void stop() {
+        closeWatchService();
+        if (watchThread != null) {
+            watchThread.interrupt();
+            watchThread = null;
+        }
+    }
+
+    /**
+     * 监听循环
+     */
+    private void watchLoop() {
+        WatchService service = this.watchService;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Set<Path> changedFiles = new LinkedHashSet<>();
+                WatchKey key = service.take();
+                do {
+                    collectChangedFiles(key, changedFiles);
+                    key = service.poll(debounceMillis, TimeUnit.MILLISECONDS);
+                } while (key != null);
+
+                for (Path file : changedFiles) {
+                    reload(file);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // 停止监听
+        }
+    }
+
+    /**
+     * 收集变更的 SQL 文件
+     *
+     * @param key          监听键
+     * @param changedFiles 变更的文件
+     */
+    private void collectChangedFiles(WatchKey key, Set<Path> changedFiles) {
+        Path directory = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // 事件丢失时重新加载目录下已知的所有文件
+                namedSqlManager.getSqlFiles().stream().filter(file -> directory.equals(file.getParent())).forEach(changedFiles::add);
+                continue;
+            }
+            Path file = directory.resolve((Path) event.context());
+            if (file.getFileName().toString().endsWith(SQL_SUFFIX)) {
+                changedFiles.add(file.toAbsolutePath().normalize());
+            }
+        }
+        key.reset();
+    }
+
+    /**
+     * 重新加载 SQL 文件
+     *
+     * @param file SQL 文件
+     */
+    private void reload(Path file) {
+        try {
+            int count = namedSqlManager.reload(file);
+            log.info("SQL 文件已重新加载: {}，SQL 定义数量: {}", file, count);
+        } catch (Exception e) {
+            // 监听线程不能因单个文件失败而退出
+            log.warn("重新加载 SQL 文件失败: {}, {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * 关闭文件监听服务
+     */
+    private void closeWatchService() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.debug("关闭 SQL 文件监听服务失败: {}", e.getMessage());
+            }
+            watchService = null;
+        }
+    }
+}
@@ -1,14 +1,31 @@
 package cn.refinex.common.jdbc.sql;
 
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.MapUtils;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 命名 SQL 管理器
+ * <p>
+ * 除编程注册外，可从 {@code *.sql} 文件加载命名 SQL（格式见 {@link SqlFileParser}），
+ * 位于文件系统上的 SQL 文件可由 {@link NamedSqlFileWatcher} 监听变更后重新加载。
+ * 设置 {@link ParsedSqlCache} 后注册时预先解析 SQL，覆盖或移除时同步失效旧 SQL 的解析结果。
  *
  * @author Refinex
  * @since 1.0.0
@@ -21,6 +38,27 @@ public class NamedSqlManager {
      */
     private final Map<String, SqlDefinition> sqlCache = new ConcurrentHashMap<>();
 
+    /**
+     * SQL 名称 -> 来源文件
+     */
+    private final Map<String, String> definitionSources = new ConcurrentHashMap<>();
+
+    /**
+     * 已加载的文件系统上的 SQL 文件
+     */
+    private final Set<Path> sqlFiles = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 资源解析器
+     */
+    private final ResourcePatternResolver resourcePatternResolver = new PathMatchingResourcePatternResolver();
+
+    /**
+     * 预解析 SQL 缓存（可选）
+     */
+    @Setter
+    private ParsedSqlCache parsedSqlCache;
+
     /**
      * 注册 SQL 定义
      *
@@ -31,11 +69,15 @@ public class NamedSqlManager {
             throw new IllegalArgumentException("SQL 定义不能为空");
         }
 
-        if (sqlCache.containsKey(definition.getName())) {
+        SqlDefinition previous = sqlCache.put(definition.getName(), definition);
+        definitionSources.remove(definition.getName());
+        if (previous != null) {
             log.warn("SQL 定义已存在，将被覆盖: {}", definition.getName());
+            invalidateParsedSql(previous, definition);
+        }
+        if (parsedSqlCache != null) {
+            parsedSqlCache.get(definition.getSql());
         }
-
-        sqlCache.put(definition.getName(), definition);
         log.info("注册 SQL 定义: {}", definition.getName());
     }
 
@@ -80,7 +122,9 @@ public class NamedSqlManager {
      * @param name SQL 名称
      */
     public void remove(String name) {
-        sqlCache.remove(name);
+        SqlDefinition previous = sqlCache.remove(name);
+        definitionSources.remove(name);
+        invalidateParsedSql(previous, null);
         log.info("移除 SQL 定义: {}", name);
     }
 
@@ -88,7 +132,160 @@ public class NamedSqlManager {
      * 清空所有 SQL 定义
      */
     public void clear() {
+        sqlCache.values().forEach(definition -> invalidateParsedSql(definition, null));
         sqlCache.clear();
+        definitionSources.clear();
+        sqlFiles.clear();
         log.info("清空所有 SQL 定义");
     }
+
+    /**
+     * 从资源位置加载 SQL 文件
+     *
+     * @param locations 资源位置（支持通配符，如 {@code classpath*:named-sql/**}{@code /*.sql}）
+     * @return 加载的 SQL 定义数量
+     */
+    public int load(Collection<String> locations) {
+        if (locations == null || locations.isEmpty()) {
+            return 0;
+        }
+
+        int count = 0;
+        for (String location : locations) {
+            try {
+                for (Resource resource : resourcePatternResolver.getResources(location)) {
+                    if (resource.isReadable()) {
+                        count += load(resource);
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("解析 SQL 文件位置失败: {}, {}", location, e.getMessage());
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 加载单个 SQL 文件，文件中已不存在的 SQL 定义（由该文件加载的）一并移除
+     *
+     * @param resource SQL 文件
+     * @return 加载的 SQL 定义数量
+     */
+    public synchronized int load(Resource resource) {
+        String source = describe(resource);
+        List<SqlDefinition> definitions;
+        try {
+            definitions = SqlFileParser.parse(resource);
+        } catch (IOException e) {
+            log.warn("读取 SQL 文件失败: {}, {}", source, e.getMessage());
+            return 0;
+        }
+
+        Set<String> loadedNames = new HashSet<>();
+        for (SqlDefinition definition : definitions) {
+            SqlDefinition current = sqlCache.get(definition.getName());
+            if (current != null && current.getSql().equals(definition.getSql()) && source.equals(definitionSources.get(definition.getName()))) {
+                current.setDescription(definition.getDescription());
+            } else {
+                register(definition);
+                definitionSources.put(definition.getName(), source);
+            }
+            loadedNames.add(definition.getName());
+        }
+        removeStaleDefinitions(source, loadedNames);
+
+        Path file = toPath(resource);
+        if (file != null) {
+            sqlFiles.add(file);
+        }
+        log.info("加载 SQL 文件: {}，SQL 定义数量: {}", source, definitions.size());
+        return definitions.size();
+    }
+
+    /**
+     * 重新加载文件系统上的 SQL 文件，文件已删除时移除由其加载的 SQL 定义
+     *
+     * @param file SQL 文件
+     * @return 加载的 SQL 定义数量
+     */
+    public synchronized int reload(Path file) {
+        Path normalized = file.toAbsolutePath().normalize();
+        if (Files.isRegularFile(normalized)) {
+            return load(new FileSystemResource(normalized));
+        }
+
+        if (sqlFiles.remove(normalized)) {
+            removeStaleDefinitions(normalized.toString(), Set.of());
+            log.info("SQL 文件已删除: {}", normalized);
+        }
+        return 0;
+    }
+
+    /**
+     * 获取已加载的文件系统上的 SQL 文件
+     *
+     * @return SQL 文件
+     */
+    public Set<Path> getSqlFiles() {
+        return Set.copyOf(sqlFiles);
+    }
+
+    /**
+     * 移除由指定文件加载但已不在文件中的 SQL 定义
+     *
+     * @param source      来源文件
+     * @param loadedNames 文件中当前的 SQL 名称
+     */
+    private void removeStaleDefinitions(String source, Set<String> loadedNames) {
+        List<String> staleNames = new ArrayList<>();
+        definitionSources.forEach((name, definitionSource) -> {
+            if (definitionSource.equals(source) && !loadedNames.contains(name)) {
+                staleNames.add(name);
+            }
+        });
+        staleNames.forEach(this::remove);
+    }
+
+    /**
+     * 失效被覆盖或移除的 SQL 的解析结果
+     *
+     * @param previous 原 SQL 定义
+     * @param current  新 SQL 定义（移除时为 null）
+     */
+    private void invalidateParsedSql(SqlDefinition previous, SqlDefinition current) {
+        if (parsedSqlCache == null || previous == null) {
+            return;
+        }
+        if (current == null || !previous.getSql().equals(current.getSql())) {
+            parsedSqlCache.invalidate(previous.getSql());
+        }
+    }
+
+    /**
+     * 获取资源的来源标识（文件系统上的文件为规范化的绝对路径）
+     *
+     * @param resource 资源
+     * @return 来源标识
+     */
+    private static String describe(Resource resource) {
+        Path file = toPath(resource);
+        return file != null ? file.toString() : resource.getDescription();
+    }
+
+    /**
+     * 获取资源在文件系统上的路径
+     *
+     * @param resource 资源
+     * @return 路径，不在文件系统上（如 jar 内）时返回 null
+     */
+    private static Path toPath(Resource resource) {
+        if (!resource.isFile()) {
+            return null;
+        }
+        try {
+            return resource.getFile().toPath().toAbsolutePath().normalize();
+        } catch (IOException e) {
+            return null;
+        }
+    }
 }
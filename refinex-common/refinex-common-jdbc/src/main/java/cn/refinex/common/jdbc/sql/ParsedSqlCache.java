@@ -0,0 +1,161 @@
+package cn.refinex.common.jdbc.sql;
+
+import lombok.Getter;
+import org.springframework.util.ConcurrentLruCache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 预解析 SQL 缓存
+ * <p>
+ * 以原始 SQL 为键缓存 {@link ParsedStatement}，容量有界并按最近最少使用淘汰。
+ * 动态拼接的 SQL（如按条件追加 WHERE 子句）取值组合有限，同样可以命中缓存；
+ * 命中/未命中次数通过 {@link #getStats()} 暴露。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class ParsedSqlCache {
+
+    /**
+     * 默认容量
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * 缓存容量
+     */
+    @Getter
+    private final int capacity;
+
+    /**
+     * 缓存
+     */
+    private final ConcurrentLruCache<String, ParsedStatement> cache;
+
+    /**
+     * 请求次数
+     */
+    private final LongAdder requests = new LongAdder();
+
+    /**
+     * 未命中（解析）次数
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * 构造函数，默认容量 1024
+     */
+    public ParsedSqlCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param capacity 缓存容量，0 表示不缓存
+     */
+    public ParsedSqlCache(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("预解析 SQL 缓存容量不能小于0");
+        }
+        this.capacity = capacity;
+        this.cache = new ConcurrentLruCache<>(capacity, sql -> {
+            misses.increment();
+            return ParsedStatement.parse(sql);
+        });
+    }
+
+    /**
+     * 获取预解析 SQL，未缓存时解析并缓存
+     *
+     * @param sql 命名参数 SQL
+     * @return 预解析 SQL
+     */
+    public ParsedStatement get(String sql) {
+        if (sql == null) {
+            throw new IllegalArgumentException("SQL 语句不能为空");
+        }
+        requests.increment();
+        return cache.get(sql);
+    }
+
+    /**
+     * 获取已缓存的预解析 SQL，不计入请求统计、也不触发解析
+     * <p>
+     * 供同一次执行中已经通过 {@link #get(String)} 取过解析结果的后续步骤使用，避免一次执行被统计两次。
+     *
+     * @param sql 命名参数 SQL
+     * @return 预解析 SQL，未缓存时返回 null
+     */
+    public ParsedStatement peek(String sql) {
+        if (sql == null || !cache.contains(sql)) {
+            return null;
+        }
+        return cache.get(sql);
+    }
+
+    /**
+     * 移除指定 SQL 的解析结果
+     *
+     * @param sql 命名参数 SQL
+     */
+    public void invalidate(String sql) {
+        if (sql != null) {
+            cache.remove(sql);
+        }
+    }
+
+    /**
+     * 清空缓存（统计不清零）
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * 获取当前缓存条目数
+     *
+     * @return 条目数
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * 获取命中次数
+     *
+     * @return 命中次数
+     */
+    public long getHitCount() {
+        return Math.max(requests.sum() - misses.sum(), 0);
+    }
+
+    /**
+     * 获取未命中次数
+     *
+     * @return 未命中次数
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 获取统计快照
+     *
+     * @return 统计快照
+     */
+    public ParsedSqlCacheStats getStats() {
+        long missCount = getMissCount();
+        long hitCount = getHitCount();
+        long total = hitCount + missCount;
+
+        ParsedSqlCacheStats stats = new ParsedSqlCacheStats();
+        stats.setCapacity(capacity);
+        stats.setSize(size());
+        stats.setHits(hitCount);
+        stats.setMisses(missCount);
+        stats.setHitRate(total == 0 ? 0.0 : (double) hitCount / total);
+        return stats;
+    }
+}
@@ -0,0 +1,44 @@
+package cn.refinex.common.jdbc.sql;
+
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 预解析 SQL 缓存统计快照
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+public class ParsedSqlCacheStats implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 缓存容量
+     */
+    private int capacity;
+
+    /**
+     * 当前条目数
+     */
+    private int size;
+
+    /**
+     * 命中次数
+     */
+    private long hits;
+
+    /**
+     * 未命中（解析）次数
+     */
+    private long misses;
+
+    /**
+     * 命中率
+     */
+    private double hitRate;
+}
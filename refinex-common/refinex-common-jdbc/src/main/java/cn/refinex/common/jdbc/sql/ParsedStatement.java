@@ -0,0 +1,152 @@
+package cn.refinex.common.jdbc.sql;
+
+import lombok.Getter;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.util.List;
+
+/**
+ * 预解析的命名参数 SQL
+ * <p>
+ * 解析时一次性计算参数位置以及参数均为单值时替换后的 JDBC SQL（{@code :name} 替换为 {@code ?}）和参数声明，
+ * 执行时只要参数中不存在集合/数组（需要展开为 {@code IN (?, ?, ?)}）且未声明 SQL 类型，就直接复用，
+ * 不再逐字符重建 SQL。对象不可变，可在线程间共享。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public final class ParsedStatement {
+
+    /**
+     * 原始 SQL
+     */
+    @Getter
+    private final String sql;
+
+    /**
+     * Spring 解析结果
+     */
+    @Getter
+    private final ParsedSql parsedSql;
+
+    /**
+     * 参数名（按出现顺序，可重复）
+     */
+    @Getter
+    private final List<String> parameterNames;
+
+    /**
+     * 参数均为单值时的 JDBC SQL
+     */
+    @Getter
+    private final String jdbcSql;
+
+    /**
+     * 参数均为单值且未声明类型时的参数声明
+     */
+    private final List<SqlParameter> declaredParameters;
+
+    /**
+     * 构造函数
+     *
+     * @param sql 原始 SQL
+     */
+    private ParsedStatement(String sql) {
+        this.sql = sql;
+        this.parsedSql = NamedParameterUtils.parseSqlStatement(sql);
+        this.declaredParameters = List.copyOf(NamedParameterUtils.buildSqlParameterList(parsedSql, EmptySqlParameterSource.INSTANCE));
+        this.parameterNames = declaredParameters.stream().map(SqlParameter::getName).toList();
+        this.jdbcSql = NamedParameterUtils.substituteNamedParameters(parsedSql, EmptySqlParameterSource.INSTANCE);
+    }
+
+    /**
+     * 解析 SQL
+     *
+     * @param sql 命名参数 SQL
+     * @return 预解析的 SQL
+     */
+    public static ParsedStatement parse(String sql) {
+        if (sql == null) {
+            throw new IllegalArgumentException("SQL 语句不能为空");
+        }
+        return new ParsedStatement(sql);
+    }
+
+    /**
+     * 创建 PreparedStatementCreatorFactory
+     * <p>
+     * 每次调用返回新的工厂（调用方可能继续设置主键回填等选项），但 SQL 与参数声明在可复用时直接取自解析结果。
+     *
+     * @param paramSource 参数源
+     * @return PreparedStatementCreatorFactory
+     */
+    public PreparedStatementCreatorFactory newFactory(SqlParameterSource paramSource) {
+        if (!isSingleValued(paramSource)) {
+            return new PreparedStatementCreatorFactory(
+                    NamedParameterUtils.substituteNamedParameters(parsedSql, paramSource),
+                    NamedParameterUtils.buildSqlParameterList(parsedSql, paramSource));
+        }
+        List<SqlParameter> parameters = isUntyped(paramSource)
+                ? declaredParameters
+                : NamedParameterUtils.buildSqlParameterList(parsedSql, paramSource);
+        return new PreparedStatementCreatorFactory(jdbcSql, parameters);
+    }
+
+    /**
+     * 按参数位置构建参数值数组
+     *
+     * @param paramSource 参数源
+     * @return 参数值数组
+     */
+    public Object[] buildValues(SqlParameterSource paramSource) {
+        return NamedParameterUtils.buildValueArray(parsedSql, paramSource, null);
+    }
+
+    /**
+     * 判断参数是否均为单值（替换后的 SQL 与参数值无关）
+     *
+     * @param paramSource 参数源
+     * @return 是否均为单值
+     */
+    private boolean isSingleValued(SqlParameterSource paramSource) {
+        for (String name : parameterNames) {
+            if (!paramSource.hasValue(name)) {
+                continue;
+            }
+            Object value = paramSource.getValue(name);
+            if (value instanceof SqlParameterValue parameterValue) {
+                value = parameterValue.getValue();
+            }
+            if (value instanceof Iterable<?> || (value != null && value.getClass().isArray() && !(value instanceof byte[]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 判断参数源是否未声明 SQL 类型
+     *
+     * @param paramSource 参数源
+     * @return 是否未声明类型
+     */
+    private boolean isUntyped(SqlParameterSource paramSource) {
+        for (String name : parameterNames) {
+            if (paramSource.getSqlType(name) != SqlParameterSource.TYPE_UNKNOWN || paramSource.getTypeName(name) != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return sql;
+    }
+}
@@ -0,0 +1,142 @@
+package cn.refinex.common.jdbc.sql;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 命名 SQL 文件解析器
+ * <p>
+ * 文件中每条 SQL 以 {@code -- name: xxx} 开头，可选紧跟 {@code -- description: xxx}，其后直到下一个
+ * {@code -- name:} 之前的内容为 SQL 正文（末尾分号会被去除）:
+ * <pre>
+ * -- name: user.selectById
+ * -- description: 根据ID查询用户
+ * SELECT id, username FROM sys_user WHERE id = :id;
+ * </pre>
+ * 文件中没有任何 {@code -- name:} 时，整个文件作为一条 SQL，名称为不含扩展名的文件名。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class SqlFileParser {
+
+    /**
+     * 名称声明
+     */
+    private static final Pattern NAME_PATTERN = Pattern.compile("^\\s*--\\s*name\\s*:\\s*(\\S+)\\s*$", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * 描述声明
+     */
+    private static final Pattern DESCRIPTION_PATTERN = Pattern.compile("^\\s*--\\s*description\\s*:\\s*(.*?)\\s*$", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * 解析 SQL 文件
+     *
+     * @param resource SQL 文件
+     * @return SQL 定义
+     * @throws IOException 读取失败
+     */
+    static List<SqlDefinition> parse(Resource resource) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            return parse(reader.lines().toList(), defaultName(resource.getFilename()), resource.getDescription());
+        }
+    }
+
+    /**
+     * 解析 SQL 文件内容
+     *
+     * @param lines       文件行
+     * @param defaultName 文件未声明名称时使用的名称
+     * @param source      来源描述（用于日志）
+     * @return SQL 定义
+     */
+    static List<SqlDefinition> parse(List<String> lines, String defaultName, String source) {
+        List<SqlDefinition> definitions = new ArrayList<>();
+        SqlDefinition current = null;
+        StringBuilder body = new StringBuilder();
+        boolean header = false;
+
+        for (String line : lines) {
+            Matcher nameMatcher = NAME_PATTERN.matcher(line);
+            if (nameMatcher.matches()) {
+                if (current == null && !body.toString().isBlank()) {
+                    log.warn("SQL 文件 {} 中首个 name 声明之前的内容被忽略", source);
+                }
+                addDefinition(definitions, current, body, source);
+                current = new SqlDefinition(nameMatcher.group(1), null, null);
+                body.setLength(0);
+                header = true;
+                continue;
+            }
+
+            if (header) {
+                Matcher descriptionMatcher = DESCRIPTION_PATTERN.matcher(line);
+                if (descriptionMatcher.matches()) {
+                    current.setDescription(descriptionMatcher.group(1));
+                    continue;
+                }
+                header = false;
+            }
+            body.append(line).append('\n');
+        }
+
+        if (current == null && defaultName != null) {
+            current = new SqlDefinition(defaultName, null, null);
+        }
+        addDefinition(definitions, current, body, source);
+        return definitions;
+    }
+
+    /**
+     * 补全 SQL 正文并加入结果
+     *
+     * @param definitions 结果
+     * @param definition  SQL 定义
+     * @param body        SQL 正文
+     * @param source      来源描述
+     */
+    private static void addDefinition(List<SqlDefinition> definitions, SqlDefinition definition, StringBuilder body, String source) {
+        if (definition == null) {
+            return;
+        }
+
+        String sql = body.toString().strip();
+        while (sql.endsWith(";")) {
+            sql = sql.substring(0, sql.length() - 1).stripTrailing();
+        }
+        if (sql.isEmpty()) {
+            log.warn("SQL 文件 {} 中的 SQL 定义 {} 没有内容，已忽略", source, definition.getName());
+            return;
+        }
+        definition.setSql(sql);
+        definitions.add(definition);
+    }
+
+    /**
+     * 获取文件未声明名称时使用的名称
+     *
+     * @param filename 文件名
+     * @return 不含扩展名的文件名
+     */
+    private static String defaultName(String filename) {
+        if (filename == null) {
+            return null;
+        }
+        int index = filename.lastIndexOf('.');
+        return index > 0 ? filename.substring(0, index) : filename;
+    }
+}
@@ -0,0 +1,76 @@
+package cn.refinex.common.jdbc.core;
+
+import cn.refinex.common.jdbc.sql.ParsedSqlCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 预解析 SQL 缓存 JDBC 模板测试
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@DisplayName("预解析 SQL 缓存 JDBC 模板测试")
+class CachingNamedParameterJdbcTemplateTest {
+
+    private ParsedSqlCache parsedSqlCache;
+    private CachingNamedParameterJdbcTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        parsedSqlCache = new ParsedSqlCache();
+        template = new CachingNamedParameterJdbcTemplate(dataSource, parsedSqlCache);
+        template.getJdbcTemplate().execute("CREATE TABLE t (id BIGINT, name VARCHAR(32))");
+    }
+
+    @Test
+    @DisplayName("单条执行每次只统计一次请求")
+    void testSingleExecutionCountedOnce() {
+        String sql = "INSERT INTO t (id, name) VALUES (:id, :name)";
+        template.update(sql, Map.of("id", 1L, "name", "a"));
+        template.update(sql, Map.of("id", 2L, "name", "b"));
+
+        assertEquals(1, parsedSqlCache.getMissCount());
+        assertEquals(1, parsedSqlCache.getHitCount());
+    }
+
+    @Test
+    @DisplayName("批量执行每次只统计一次请求，并复用缓存的替换结果")
+    void testBatchExecutionCountedOnce() {
+        String sql = "INSERT INTO t (id, name) VALUES (:id, :name)";
+        SqlParameterSource[] batch = {
+                new MapSqlParameterSource(Map.of("id", 1L, "name", "a")),
+                new MapSqlParameterSource(Map.of("id", 2L, "name", "b"))
+        };
+        assertArrayEquals(new int[]{1, 1}, template.batchUpdate(sql, batch));
+        assertArrayEquals(new int[]{1, 1}, template.batchUpdate(sql, batch));
+
+        assertEquals(1, parsedSqlCache.getMissCount());
+        assertEquals(1, parsedSqlCache.getHitCount());
+        assertEquals(4, template.queryForObject("SELECT COUNT(*) FROM t", Map.of(), Integer.class));
+    }
+
+    @Test
+    @DisplayName("未缓存时批量执行回退标准实现")
+    void testBatchWithoutCache() {
+        ParsedSqlCache disabled = new ParsedSqlCache(0);
+        CachingNamedParameterJdbcTemplate uncached = new CachingNamedParameterJdbcTemplate(template.getJdbcOperations(), disabled);
+        SqlParameterSource[] batch = {new MapSqlParameterSource(Map.of("id", 1L, "name", "a"))};
+
+        assertArrayEquals(new int[]{1}, uncached.batchUpdate("INSERT INTO t (id, name) VALUES (:id, :name)", batch));
+        assertEquals(1, disabled.getMissCount());
+        assertEquals(0, disabled.getHitCount());
+    }
+}
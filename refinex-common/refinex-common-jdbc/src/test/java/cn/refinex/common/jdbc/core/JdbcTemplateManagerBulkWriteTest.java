@@ -0,0 +1,208 @@
+package cn.refinex.common.jdbc.core;
+
+import cn.refinex.common.jdbc.batch.BulkWriteOptions;
+import cn.refinex.common.jdbc.batch.BulkWriteResult;
+import cn.refinex.common.jdbc.dialect.MySQLDialect;
+import cn.refinex.common.jdbc.dialect.OracleDialect;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 批量写入分块测试
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@DisplayName("批量写入分块测试")
+class JdbcTemplateManagerBulkWriteTest {
+
+    private RecordingJdbcTemplate jdbcTemplate;
+    private JdbcTemplateManager manager;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new RecordingJdbcTemplate(dataSource);
+        manager = new JdbcTemplateManager(new NamedParameterJdbcTemplate(jdbcTemplate));
+        jdbcTemplate.execute("CREATE TABLE t (id BIGINT PRIMARY KEY, name VARCHAR(32), score INT)");
+    }
+
+    @Test
+    @DisplayName("多行插入按方言的占位符上限切分分块")
+    void testSplitByParameterLimit() {
+        // 3 列、每条语句最多 7 个占位符：每个分块 2 行
+        manager.setDatabaseDialect(new LimitedDialect(7));
+
+        BulkWriteResult result = manager.bulkInsert("t", rows(0, 5), BulkWriteOptions.defaults());
+
+        assertTrue(result.isSuccess());
+        assertEquals(5, result.getSuccessRows());
+        assertEquals(List.of(List.of(0, 2), List.of(2, 4), List.of(4, 5)), ranges(result));
+        assertEquals(List.of(2, 2, 1), jdbcTemplate.multiRowCounts);
+        assertTrue(jdbcTemplate.batchSqls.isEmpty());
+        assertEquals(5, count());
+    }
+
+    @Test
+    @DisplayName("分块行数小于占位符上限时按分块行数切分")
+    void testSplitByChunkSize() {
+        BulkWriteOptions options = new BulkWriteOptions();
+        options.setChunkSize(3);
+
+        BulkWriteResult result = manager.bulkInsert("t", rows(0, 7), options);
+
+        assertEquals(List.of(List.of(0, 3), List.of(3, 6), List.of(6, 7)), ranges(result));
+        assertEquals(List.of(3, 3, 1), jdbcTemplate.multiRowCounts);
+        assertEquals(7, count());
+    }
+
+    @Test
+    @DisplayName("关闭多行插入或方言不支持时回退为单行 SQL 的 JDBC 批处理")
+    void testBatchFallback() {
+        BulkWriteOptions options = new BulkWriteOptions();
+        options.setChunkSize(2);
+        options.setMultiRowInsert(false);
+        manager.bulkInsert("t", rows(0, 3), options);
+
+        manager.setDatabaseDialect(new OracleDialect());
+        manager.bulkInsert("t", rows(3, 6), BulkWriteOptions.defaults());
+
+        assertTrue(jdbcTemplate.multiRowCounts.isEmpty());
+        assertEquals(3, jdbcTemplate.batchSqls.size());
+        assertTrue(jdbcTemplate.batchSqls.stream().allMatch(sql -> sql.endsWith("VALUES (?, ?, ?)")));
+        assertEquals(6, count());
+    }
+
+    @Test
+    @DisplayName("插入或更新使用方言的插入或更新语句，并同样按占位符上限切分")
+    void testUpsertPath() {
+        manager.setDatabaseDialect(new LimitedDialect(7));
+        manager.bulkInsert("t", rows(0, 2), BulkWriteOptions.defaults());
+        jdbcTemplate.multiRowSqls.clear();
+        jdbcTemplate.multiRowCounts.clear();
+
+        List<Map<String, Object>> upserts = rows(1, 4);
+        upserts.forEach(row -> row.put("name", "updated-" + row.get("id")));
+        BulkWriteOptions options = new BulkWriteOptions();
+        options.setConflictColumns(List.of("id"));
+        options.setUpdateColumns(List.of("name"));
+        BulkWriteResult result = manager.bulkInsert("t", upserts, options);
+
+        assertTrue(result.isSuccess());
+        assertEquals(List.of(2, 1), jdbcTemplate.multiRowCounts);
+        assertTrue(jdbcTemplate.multiRowSqls.stream().allMatch(sql -> sql.startsWith("MERGE INTO t")));
+        assertEquals(4, count());
+        assertEquals("name-0", name(0));
+        assertEquals("updated-1", name(1));
+        assertEquals("updated-3", name(3));
+    }
+
+    @Test
+    @DisplayName("方言不支持插入或更新时在写入前拒绝")
+    void testUpsertUnsupported() {
+        manager.setDatabaseDialect(new OracleDialect());
+        BulkWriteOptions options = new BulkWriteOptions();
+        options.setUpdateColumns(List.of("name"));
+
+        assertThrows(UnsupportedOperationException.class, () -> manager.bulkInsert("t", rows(0, 3), options));
+        assertThrows(UnsupportedOperationException.class, () -> manager.bulkInsert("t", List.of(), options));
+        assertTrue(jdbcTemplate.multiRowSqls.isEmpty());
+        assertTrue(jdbcTemplate.batchSqls.isEmpty());
+        assertEquals(0, count());
+    }
+
+    private static List<Map<String, Object>> rows(int from, int to) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", (long) i);
+            row.put("name", "name-" + i);
+            row.put("score", i * 10);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static List<List<Integer>> ranges(BulkWriteResult result) {
+        return result.getChunks().stream()
+                .map(chunk -> List.of(chunk.getFromIndex(), chunk.getToIndex()))
+                .toList();
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM t", Integer.class);
+    }
+
+    private String name(long id) {
+        return jdbcTemplate.queryForObject("SELECT name FROM t WHERE id = ?", String.class, id);
+    }
+
+    /**
+     * 限制占位符数量的方言，插入或更新语句改写为 H2 的 {@code MERGE INTO ... KEY (...) VALUES ...}
+     */
+    private static final class LimitedDialect extends MySQLDialect {
+
+        private final int maxParameters;
+
+        private LimitedDialect(int maxParameters) {
+            this.maxParameters = maxParameters;
+        }
+
+        @Override
+        public int getMaxParametersPerStatement() {
+            return maxParameters;
+        }
+
+        @Override
+        public String getUpsertSql(String tableName, List<String> columns, int rowCount, List<String> conflictColumns, List<String> updateColumns) {
+            String insert = getMultiRowInsertSql(tableName, columns, rowCount);
+            int values = insert.indexOf(" VALUES ");
+            return "MERGE" + insert.substring("INSERT".length(), values)
+                    + " KEY (" + String.join(", ", conflictColumns) + ")" + insert.substring(values);
+        }
+    }
+
+    /**
+     * 记录多行语句（按 SQL 中的 VALUES 行数）与 JDBC 批处理语句的 JDBC 模板
+     */
+    private static final class RecordingJdbcTemplate extends JdbcTemplate {
+
+        private final List<String> multiRowSqls = new CopyOnWriteArrayList<>();
+        private final List<Integer> multiRowCounts = new CopyOnWriteArrayList<>();
+        private final List<String> batchSqls = new CopyOnWriteArrayList<>();
+
+        private RecordingJdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            multiRowSqls.add(sql);
+            multiRowCounts.add(sql.split("\\),\\s*\\(", -1).length);
+            return super.update(sql, args);
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            batchSqls.add(sql);
+            return super.batchUpdate(sql, batchArgs);
+        }
+    }
+}
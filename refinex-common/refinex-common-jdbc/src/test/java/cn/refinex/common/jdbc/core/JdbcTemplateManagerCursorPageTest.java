@@ -0,0 +1,152 @@
+package cn.refinex.common.jdbc.core;
+
+import cn.refinex.common.jdbc.dialect.MySQLDialect;
+import cn.refinex.common.jdbc.dialect.PostgreSQLDialect;
+import cn.refinex.common.jdbc.page.CursorPageRequest;
+import cn.refinex.common.jdbc.page.CursorPageResult;
+import cn.refinex.common.jdbc.page.SortKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 游标分页 seek 条件测试
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@DisplayName("游标分页 seek 条件测试")
+class JdbcTemplateManagerCursorPageTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcTemplateManager manager;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        manager = new JdbcTemplateManager(new NamedParameterJdbcTemplate(jdbcTemplate));
+        jdbcTemplate.execute("CREATE TABLE t (id BIGINT PRIMARY KEY, grp INT, score INT, name VARCHAR(32))");
+
+        // 分组与分数大量重复，保证排序依赖后续排序键决胜
+        for (int id = 1; id <= 37; id++) {
+            jdbcTemplate.update("INSERT INTO t VALUES (?, ?, ?, ?)", id, id % 3, id % 5, "n" + id);
+        }
+    }
+
+    @Test
+    @DisplayName("排序方向混合时使用展开形式：每个排序键按方向比较，前缀排序键取等值")
+    void testExpandedPredicate() {
+        List<SortKey> sortKeys = List.of(SortKey.asc("grp"), SortKey.desc("score"), SortKey.asc("id"));
+
+        assertEquals("((grp > :p0) OR (grp = :p0 AND score < :p1) OR (grp = :p0 AND score = :p1 AND id > :p2))",
+                new PostgreSQLDialect().getSeekPredicate(sortKeys, "p"));
+    }
+
+    @Test
+    @DisplayName("PostgreSQL 排序方向一致时使用行值比较")
+    void testRowValuePredicate() {
+        PostgreSQLDialect dialect = new PostgreSQLDialect();
+
+        assertEquals("(grp, id) < (:p0, :p1)", dialect.getSeekPredicate(List.of(SortKey.desc("grp"), SortKey.desc("id")), "p"));
+        assertEquals("(id) > (:p0)", dialect.getSeekPredicate(List.of(SortKey.asc("id")), "p"));
+    }
+
+    @Test
+    @DisplayName("MySQL 多排序键时追加首列范围条件以便使用索引")
+    void testMySqlPredicate() {
+        MySQLDialect dialect = new MySQLDialect();
+
+        assertEquals("grp <= :p0 AND ((grp < :p0) OR (grp = :p0 AND id > :p1))",
+                dialect.getSeekPredicate(List.of(SortKey.desc("grp"), SortKey.asc("id")), "p"));
+        assertEquals("((id > :p0))", dialect.getSeekPredicate(List.of(SortKey.asc("id")), "p"));
+    }
+
+    @Test
+    @DisplayName("多列、升降序混合排序时逐页遍历与整体排序结果一致，且无重复与遗漏")
+    void testTraversalMatchesOrderBy() {
+        assertTraversal("grp ASC, score DESC, id ASC", 4, SortKey.asc("grp"), SortKey.desc("score"), SortKey.asc("id"));
+        assertTraversal("grp DESC, id DESC", 5, SortKey.desc("grp"), SortKey.desc("id"));
+        assertTraversal("score ASC, grp DESC, id DESC", 7, SortKey.asc("score"), SortKey.desc("grp"), SortKey.desc("id"));
+        assertTraversal("id ASC", 37, SortKey.asc("id"));
+
+        manager.setDatabaseDialect(new PostgreSQLDialect());
+        assertTraversal("grp DESC, score DESC, id DESC", 4, SortKey.desc("grp"), SortKey.desc("score"), SortKey.desc("id"));
+        assertTraversal("grp ASC, score DESC, id ASC", 6, SortKey.asc("grp"), SortKey.desc("score"), SortKey.asc("id"));
+    }
+
+    @Test
+    @DisplayName("原 SQL 的 ORDER BY 被排序键替换，原有过滤条件保留")
+    void testOriginalOrderByReplaced() {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageResult<Map<String, Object>> page = manager.queryCursorPage(
+                    "SELECT id, grp FROM t WHERE grp = :grp ORDER BY name", Map.of("grp", 1),
+                    new CursorPageRequest(3, cursor, SortKey.desc("id")));
+            page.getRecords().forEach(row -> ids.add(((Number) row.get("id")).longValue()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(jdbcTemplate.queryForList("SELECT id FROM t WHERE grp = 1 ORDER BY id DESC", Long.class), ids);
+    }
+
+    @Test
+    @DisplayName("下一页边界行的排序键为 NULL 时拒绝生成游标")
+    void testNullSortKeyRejected() {
+        jdbcTemplate.update("UPDATE t SET score = NULL WHERE id = 2");
+
+        CursorPageResult<Map<String, Object>> first = manager.queryCursorPage("SELECT * FROM t", Map.of(),
+                new CursorPageRequest(1, null, SortKey.asc("id"), SortKey.asc("score")));
+        assertTrue(first.isHasNext());
+
+        assertThrows(IllegalArgumentException.class, () -> manager.queryCursorPage("SELECT * FROM t", Map.of(),
+                new CursorPageRequest(1, first.getNextCursor(), SortKey.asc("id"), SortKey.asc("score"))));
+
+        // 最后一页不生成游标，NULL 不影响
+        CursorPageResult<Map<String, Object>> last = manager.queryCursorPage("SELECT * FROM t WHERE id = 2", Map.of(),
+                new CursorPageRequest(1, null, SortKey.asc("id"), SortKey.asc("score")));
+        assertFalse(last.isHasNext());
+        assertNull(last.getNextCursor());
+    }
+
+    /**
+     * 逐页遍历并与整体 ORDER BY 的结果对照
+     *
+     * @param orderBy  对照用的 ORDER BY
+     * @param pageSize 每页记录数
+     * @param sortKeys 排序键
+     */
+    private void assertTraversal(String orderBy, int pageSize, SortKey... sortKeys) {
+        List<Long> expected = jdbcTemplate.queryForList("SELECT id FROM t ORDER BY " + orderBy, Long.class);
+
+        List<Long> actual = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageResult<Map<String, Object>> page = manager.queryCursorPage("SELECT * FROM t", Map.of(),
+                    new CursorPageRequest(pageSize, cursor, sortKeys));
+            assertTrue(page.getRecords().size() <= pageSize);
+            page.getRecords().forEach(row -> actual.add(((Number) row.get("id")).longValue()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null && pages <= expected.size());
+
+        assertEquals(expected, actual, orderBy);
+    }
+}
@@ -0,0 +1,140 @@
+package cn.refinex.common.jdbc.mapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 行映射器注册表测试
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@DisplayName("行映射器注册表测试")
+class RowMapperRegistryTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private RowMapperRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        registry = new RowMapperRegistry();
+        jdbcTemplate.execute("CREATE TABLE t_user (id BIGINT, user_name VARCHAR(32), age INT, score INT)");
+        jdbcTemplate.update("INSERT INTO t_user VALUES (1, 'a', 10, 100), (2, 'b', 20, NULL)");
+    }
+
+    @Test
+    @DisplayName("按列签名映射，未查询的属性保持默认值，映射计划按列签名复用")
+    void testMapByColumnSignature() {
+        List<UserRow> full = jdbcTemplate.query("SELECT id, user_name, age FROM t_user ORDER BY id", registry.getRowMapper(UserRow.class));
+        assertEquals(2, full.size());
+        assertEquals("b", full.get(1).getUserName());
+        assertEquals(20, full.get(1).getAge());
+
+        List<UserRow> projected = jdbcTemplate.query("SELECT user_name FROM t_user ORDER BY id", registry.getRowMapper(UserRow.class));
+        assertNull(projected.get(0).getId());
+        assertEquals(0, projected.get(0).getAge());
+
+        jdbcTemplate.query("SELECT id, user_name, age FROM t_user ORDER BY id", registry.getRowMapper(UserRow.class));
+        assertEquals(2, registry.getPlanMisses());
+        assertEquals(1, registry.getPlanHits());
+    }
+
+    @Test
+    @DisplayName("不同投影的结果集交替映射时各自使用绑定的映射计划")
+    void testInterleavedProjections() throws Exception {
+        RowMapper<UserRow> first = registry.getRowMapper(UserRow.class);
+        RowMapper<UserRow> second = registry.getRowMapper(UserRow.class);
+        assertNotSame(first, second);
+
+        try (Connection connection = dataSource.getConnection();
+             Statement s1 = connection.createStatement();
+             Statement s2 = connection.createStatement();
+             ResultSet byName = s1.executeQuery("SELECT user_name FROM t_user ORDER BY id");
+             ResultSet byAge = s2.executeQuery("SELECT age, id FROM t_user ORDER BY id")) {
+            int row = 0;
+            while (byName.next() && byAge.next()) {
+                UserRow named = first.mapRow(byName, row);
+                UserRow aged = second.mapRow(byAge, row);
+                row++;
+                assertEquals(row == 1 ? "a" : "b", named.getUserName());
+                assertEquals(row * 10, aged.getAge());
+                assertEquals((long) row, aged.getId());
+            }
+            assertEquals(2, row);
+        }
+        assertEquals(2, registry.getPlanMisses());
+        assertEquals(0, registry.getPlanHits());
+    }
+
+    @Test
+    @DisplayName("NULL 写入基本类型属性时抛出 TypeMismatchException")
+    void testNullIntoPrimitiveThrows() {
+        List<UserRow> rows = jdbcTemplate.query("SELECT id, score FROM t_user WHERE id = 1", registry.getRowMapper(UserRow.class));
+        assertEquals(100, rows.get(0).getScore());
+
+        assertThrows(TypeMismatchException.class,
+                () -> jdbcTemplate.query("SELECT id, score FROM t_user WHERE id = 2", registry.getRowMapper(UserRow.class)));
+    }
+
+    /**
+     * 测试实体
+     */
+    public static class UserRow {
+
+        private Long id;
+        private String userName;
+        private int age;
+        private int score;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getUserName() {
+            return userName;
+        }
+
+        public void setUserName(String userName) {
+            this.userName = userName;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public int getScore() {
+            return score;
+        }
+
+        public void setScore(int score) {
+            this.score = score;
+        }
+    }
+}
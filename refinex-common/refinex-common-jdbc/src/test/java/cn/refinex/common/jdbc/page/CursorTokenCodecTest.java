@@ -0,0 +1,93 @@
+package cn.refinex.common.jdbc.page;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 游标令牌编解码器测试
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@DisplayName("游标令牌编解码器测试")
+class CursorTokenCodecTest {
+
+    private static final List<SortKey> SORT_KEYS = List.of(SortKey.desc("create_time"), SortKey.asc("id"));
+
+    @Test
+    @DisplayName("各类型排序键值编码后按类型还原")
+    void testRoundTrip() {
+        LocalDateTime time = LocalDateTime.of(2025, 1, 2, 3, 4, 5, 123_000_000);
+        assertArrayEquals(new Object[]{time, 42L},
+                CursorTokenCodec.decode(SORT_KEYS, CursorTokenCodec.encode(SORT_KEYS, new Object[]{time, 42L})));
+
+        // 整数统一还原为 Long，Timestamp 还原为 LocalDateTime
+        assertArrayEquals(new Object[]{time, 7L},
+                CursorTokenCodec.decode(SORT_KEYS, CursorTokenCodec.encode(SORT_KEYS, new Object[]{Timestamp.valueOf(time), 7})));
+
+        List<SortKey> keys = List.of(SortKey.asc("amount"), SortKey.asc("day"), SortKey.desc("enabled"), SortKey.asc("name"));
+        Object[] values = {new BigDecimal("1234.5000"), LocalDate.of(2025, 2, 28), Boolean.TRUE, "中文, \"quoted\""};
+        assertArrayEquals(values, CursorTokenCodec.decode(keys, CursorTokenCodec.encode(keys, values)));
+    }
+
+    @Test
+    @DisplayName("排序键或排序方向变化后拒绝旧令牌")
+    void testSignatureMismatch() {
+        String token = CursorTokenCodec.encode(SORT_KEYS, new Object[]{LocalDateTime.now(), 1L});
+
+        assertThrows(IllegalArgumentException.class,
+                () -> CursorTokenCodec.decode(List.of(SortKey.asc("create_time"), SortKey.asc("id")), token));
+        assertThrows(IllegalArgumentException.class,
+                () -> CursorTokenCodec.decode(List.of(SortKey.desc("create_time"), SortKey.asc("user_id")), token));
+        assertThrows(IllegalArgumentException.class,
+                () -> CursorTokenCodec.decode(List.of(SortKey.desc("create_time")), token));
+    }
+
+    @Test
+    @DisplayName("篡改或格式错误的令牌抛出 IllegalArgumentException")
+    void testMalformedToken() {
+        String token = CursorTokenCodec.encode(SORT_KEYS, new Object[]{LocalDateTime.of(2025, 1, 1, 0, 0), 1L});
+        char last = token.charAt(token.length() - 1);
+        String tampered = token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+        String signature = json(token).replaceAll("\"v\":.*", "");
+
+        for (String bad : List.of(
+                "!!!not-base64!!!",
+                tampered,
+                encode("not json"),
+                encode("[1, 2]"),
+                encode(signature + "\"v\":[[\"L\",\"1\"]]}"),
+                encode(signature + "\"v\":[[\"X\",\"1\"],[\"L\",\"1\"]]}"),
+                encode(signature + "\"v\":[[\"T\",\"yesterday\"],[\"L\",\"1\"]]}"),
+                encode(signature + "\"v\":[[\"T\",\"2025-01-01T00:00\"],[\"L\",\"1 OR 1=1\"]]}"),
+                encode(signature + "\"v\":{\"a\":1}}"))) {
+            assertThrows(IllegalArgumentException.class, () -> CursorTokenCodec.decode(SORT_KEYS, bad), bad);
+        }
+    }
+
+    @Test
+    @DisplayName("排序键值为 NULL 时拒绝编码")
+    void testNullSortValueRejected() {
+        assertThrows(IllegalArgumentException.class, () -> CursorTokenCodec.encode(SORT_KEYS, new Object[]{null, 1L}));
+        assertThrows(IllegalArgumentException.class, () -> CursorTokenCodec.encode(SORT_KEYS, new Object[]{LocalDateTime.now(), null}));
+    }
+
+    private static String json(String token) {
+        return new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+    }
+
+    private static String encode(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
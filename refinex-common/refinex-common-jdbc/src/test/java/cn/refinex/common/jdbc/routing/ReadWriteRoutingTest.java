@@ -0,0 +1,142 @@
+package cn.refinex.common.jdbc.routing;
+
+import cn.refinex.common.jdbc.core.JdbcTemplateManager;
+import cn.refinex.common.jdbc.dialect.MySQLDialect;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 读写分离路由测试（主库与从库各用一个内存 H2 数据库模拟，通过表中的标记区分查询落在哪个库）
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@DisplayName("读写分离路由测试")
+class ReadWriteRoutingTest {
+
+    private static final String WHERE_AM_I = "SELECT name FROM node";
+
+    private ReplicaNode replicaNode;
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplateManager manager;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = createDatabase("primary");
+        DataSource replica = createDatabase("replica");
+
+        replicaNode = new ReplicaNode("replica", replica, 2, 1);
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replicaNode));
+
+        manager = new JdbcTemplateManager(new NamedParameterJdbcTemplate(primary));
+        manager.setReplicaJdbcTemplate(new NamedParameterJdbcTemplate(routingDataSource));
+        manager.setReadYourWritesWindowMs(60_000);
+        ReadWriteRoutingContext.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadWriteRoutingContext.clear();
+        manager.shutdown();
+    }
+
+    @Test
+    @DisplayName("无写入时查询走从库")
+    void testReadGoesToReplica() {
+        assertEquals("replica", whereAmI());
+        assertEquals(1, replicaNode.getRoutedConnections());
+    }
+
+    @Test
+    @DisplayName("写入后读己之写窗口内查询走主库，清理上下文后恢复走从库")
+    void testReadYourWrites() {
+        manager.update("UPDATE node SET name = name", Map.of());
+        assertEquals("primary", whereAmI());
+
+        ReadWriteRoutingContext.clear();
+        assertEquals("replica", whereAmI());
+    }
+
+    @Test
+    @DisplayName("强制读主库上下文内查询走主库，嵌套退出后恢复走从库")
+    void testForcePrimary() {
+        ReadWriteRoutingContext.forcePrimary(() -> {
+            assertEquals("primary", whereAmI());
+            ReadWriteRoutingContext.forcePrimary(() -> assertEquals("primary", whereAmI()));
+            assertEquals("primary", whereAmI());
+        });
+        assertEquals("replica", whereAmI());
+    }
+
+    @Test
+    @DisplayName("请求结束后过滤器清理线程上的读主库状态")
+    void testFilterClearsContextAfterRequest() throws Exception {
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response) {
+                manager.update("UPDATE node SET name = name", Map.of());
+                assertEquals("primary", whereAmI());
+            }
+        };
+        new ReadWriteRoutingContextFilter().doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), chain);
+
+        // 同一线程上的下一个请求不受上一个请求写入的影响
+        assertFalse(ReadWriteRoutingContext.isPrimaryRequired(60_000));
+        assertEquals("replica", whereAmI());
+    }
+
+    @Test
+    @DisplayName("从库复制延迟查询失败时按不健康处理，所有从库被摘除后回退主库")
+    void testReplicaWithUnknownLagIsRemoved() {
+        // H2 不支持 SHOW REPLICA STATUS / SHOW SLAVE STATUS，模拟缺少 REPLICATION CLIENT 权限
+        ReplicaHealthChecker checker = new ReplicaHealthChecker(routingDataSource, new MySQLDialect(), 10, 1000);
+        checker.checkAll();
+        assertTrue(replicaNode.isHealthy());
+        checker.checkAll();
+        assertFalse(replicaNode.isHealthy());
+        assertTrue(replicaNode.getLastError().startsWith("复制延迟查询失败"));
+
+        assertEquals("primary", whereAmI());
+    }
+
+    @Test
+    @DisplayName("从库恢复后重新参与路由")
+    void testReplicaRecovery() {
+        replicaNode.recordFailure("down", null);
+        replicaNode.recordFailure("down", null);
+        assertEquals("primary", whereAmI());
+
+        replicaNode.recordSuccess(0L);
+        assertTrue(replicaNode.isHealthy());
+        assertEquals("replica", whereAmI());
+    }
+
+    private String whereAmI() {
+        return manager.queryString(WHERE_AM_I, Map.of(), false);
+    }
+
+    private static DataSource createDatabase(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        NamedParameterJdbcTemplate template = new NamedParameterJdbcTemplate(dataSource);
+        template.getJdbcTemplate().execute("CREATE TABLE node (name VARCHAR(16))");
+        template.getJdbcTemplate().update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -8,10 +8,16 @@ import cn.refinex.mq.redis.config.properties.RefinexRedisMQProperties;
 import cn.refinex.mq.redis.core.RedisMQTemplate;
 import cn.refinex.mq.redis.core.job.RedisPendingMessageResendJob;
 import cn.refinex.mq.redis.core.job.RedisStreamMessageCleanupJob;
+import cn.refinex.mq.redis.core.job.RedisStreamMetricsSampleJob;
+import cn.refinex.mq.redis.core.metrics.RedisStreamMetrics;
 import cn.refinex.mq.redis.core.pubsub.AbstractRedisChannelMessageListener;
 import cn.refinex.mq.redis.core.stream.AbstractRedisStreamMessageListener;
+import cn.refinex.mq.redis.core.stream.RedisStreamAckBatcher;
+import cn.refinex.mq.redis.core.stream.RedisStreamListenerContainer;
+import cn.refinex.mq.redis.core.stream.RedisStreamMessageDispatcher;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
@@ -43,6 +49,7 @@ import java.util.Properties;
  *     <li>Redis Stream 集群消费容器</li>
  *     <li>Pending 消息重发定时任务</li>
  *     <li>Stream 消息清理定时任务</li>
+ *     <li>Stream 消费指标与采样任务</li>
  * </ul>
  *
  * <h3>前置条件：</h3>
@@ -122,6 +129,49 @@ public class RefinexRedisMQConsumerAutoConfiguration {
         }
     }
 
+    /**
+     * 创建 Stream 批量 ACK 合并器
+     *
+     * <p>消费成功的消息 ID 合并为多 ID 的 XACK 发送，减少 ACK 的网络往返。</p>
+     *
+     * @param redisMQTemplate Redis MQ 模板
+     * @param properties      Redis MQ 配置属性
+     * @return RedisStreamAckBatcher 实例
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnBean(AbstractRedisStreamMessageListener.class)
+    public RedisStreamAckBatcher redisStreamAckBatcher(RedisMQTemplate redisMQTemplate, RefinexRedisMQProperties properties) {
+        RefinexRedisMQProperties.ConsumerProperties consumer = properties.getStream().getConsumer();
+        return new RedisStreamAckBatcher(redisMQTemplate.getRedisTemplate(), consumer.getAckBatchSize(), consumer.getAckInterval());
+    }
+
+    /**
+     * 创建 Stream 消费指标注册表
+     *
+     * <p>记录每个监听器的消费次数、失败次数与处理耗时，并定期采样 Stream 长度、积压与 Pending 情况。</p>
+     *
+     * @param redisMQTemplate Redis MQ 模板
+     * @return RedisStreamMetrics 实例
+     */
+    @Bean
+    @ConditionalOnBean(AbstractRedisStreamMessageListener.class)
+    @ConditionalOnProperty(prefix = "refinex.mq.redis.stream.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public RedisStreamMetrics redisStreamMetrics(RedisMQTemplate redisMQTemplate) {
+        return new RedisStreamMetrics(redisMQTemplate.getRedisTemplate());
+    }
+
+    /**
+     * 创建 Stream 消费指标采样任务
+     *
+     * @param metrics Stream 消费指标注册表
+     * @return RedisStreamMetricsSampleJob 实例
+     */
+    @Bean
+    @ConditionalOnBean(RedisStreamMetrics.class)
+    public RedisStreamMetricsSampleJob redisStreamMetricsSampleJob(RedisStreamMetrics metrics) {
+        return new RedisStreamMetricsSampleJob(metrics);
+    }
+
     /**
      * 创建 Redis Stream 集群消费容器
      *
@@ -134,6 +184,7 @@ public class RefinexRedisMQConsumerAutoConfiguration {
      *     <li>支持消息确认（ACK）机制</li>
      *     <li>未确认消息会保留在 Pending 列表中</li>
      *     <li>消费者宕机后消息可被其他消费者接管</li>
+     *     <li>每个监听器独立的处理线程，支持并发、分区顺序与批量消费（{@link RedisStreamMessageDispatcher}）</li>
      * </ul>
      *
      * <h4>重要说明：</h4>
@@ -142,6 +193,8 @@ public class RefinexRedisMQConsumerAutoConfiguration {
      * @param redisMQTemplate Redis MQ 模板
      * @param listeners       所有 Stream 消息监听器
      * @param properties      Redis MQ 配置属性
+     * @param ackBatcher      批量 ACK 合并器
+     * @param metricsProvider Stream 消费指标注册表（未启用时为空）
      * @return StreamMessageListenerContainer 实例
      */
     @Bean(initMethod = "start", destroyMethod = "stop")
@@ -149,7 +202,9 @@ public class RefinexRedisMQConsumerAutoConfiguration {
     public StreamMessageListenerContainer<String, ObjectRecord<String, String>> redisStreamMessageListenerContainer(
             RedisMQTemplate redisMQTemplate,
             List<AbstractRedisStreamMessageListener<?>> listeners,
-            RefinexRedisMQProperties properties) {
+            RefinexRedisMQProperties properties,
+            RedisStreamAckBatcher ackBatcher,
+            ObjectProvider<RedisStreamMetrics> metricsProvider) {
 
         log.info("[Redis MQ] 开始初始化 Stream 消费容器，监听器数量: {}", listeners.size());
 
@@ -163,7 +218,15 @@ public class RefinexRedisMQConsumerAutoConfiguration {
 
         // 为每个监听器注册 Stream 消息监听器
         String consumerName = buildConsumerName();
-        listeners.forEach(listener -> registerStreamListener(container, redisTemplate, redisMQTemplate,listener, consumerName));
+        RefinexRedisMQProperties.ConsumerProperties consumerProperties = properties.getStream().getConsumer();
+        RedisStreamMetrics metrics = metricsProvider.getIfAvailable();
+        listeners.forEach(listener -> {
+            listener.setAckBatcher(ackBatcher);
+            if (metrics != null) {
+                listener.setMetrics(metrics.register(listener.getStreamKey(), listener.getGroup(), listener.getClass().getSimpleName()));
+            }
+            registerStreamListener(container, redisTemplate, redisMQTemplate, listener, consumerName, consumerProperties);
+        });
 
         log.info("[Redis MQ] Stream 消费容器初始化完成");
         return container;
@@ -194,8 +257,10 @@ public class RefinexRedisMQConsumerAutoConfiguration {
                         .targetType(String.class)
                         .build();
 
-        // 创建 Stream 消费容器
-        return StreamMessageListenerContainer.create(redisTemplate.getRequiredConnectionFactory(), options);
+        // 创建 Stream 消费容器，停止时同时停止各监听器的分发器
+        return new RedisStreamListenerContainer<>(
+                StreamMessageListenerContainer.create(redisTemplate.getRequiredConnectionFactory(), options),
+                properties.getStream().getConsumer().getShutdownTimeout());
     }
 
     /**
@@ -209,12 +274,14 @@ public class RefinexRedisMQConsumerAutoConfiguration {
      * @param redisMQTemplate Redis MQ 模板
      * @param listener        Stream 消息监听器
      * @param consumerName    消费者名称
+     * @param consumerProps   消息消费配置
      */
     private void registerStreamListener(StreamMessageListenerContainer<String, ObjectRecord<String, String>> container,
                                         RedisTemplate<String, ?> redisTemplate,
                                         RedisMQTemplate redisMQTemplate,
                                         AbstractRedisStreamMessageListener<?> listener,
-                                        String consumerName) {
+                                        String consumerName,
+                                        RefinexRedisMQProperties.ConsumerProperties consumerProps) {
         try {
             log.info("[Redis MQ] 开始注册 Stream 监听器 - StreamKey: {}, 监听器: {}",
                     listener.getStreamKey(), listener.getClass().getSimpleName());
@@ -239,11 +306,12 @@ public class RefinexRedisMQConsumerAutoConfiguration {
                             // 当发生错误时，不取消消费者组，继续监听
                             .cancelOnError(throwable -> false);
 
-            // 注册 Stream 读取请求到容器
-            container.register(builder.build(), listener);
+            // 注册 Stream 读取请求到容器，由分发器将消息交给监听器的处理线程
+            int concurrency = Optional.ofNullable(listener.getConcurrency()).orElse(consumerProps.getConcurrency());
+            container.register(builder.build(), new RedisStreamMessageDispatcher<>(listener, concurrency, consumerProps.getLaneCapacity()));
 
-            log.info("[Redis MQ] 注册 Stream 监听器成功 - StreamKey: {}, 消费者组: {}, 消费者: {}",
-                    listener.getStreamKey(), listener.getGroup(), consumerName);
+            log.info("[Redis MQ] 注册 Stream 监听器成功 - StreamKey: {}, 消费者组: {}, 消费者: {}, 并发度: {}",
+                    listener.getStreamKey(), listener.getGroup(), consumerName, concurrency);
         } catch (Exception e) {
             log.error("[Redis MQ] 注册 Stream 监听器失败 - StreamKey: {}, 监听器: {}",
                     listener.getStreamKey(), listener.getClass().getSimpleName(), e);
@@ -270,16 +338,16 @@ public class RefinexRedisMQConsumerAutoConfiguration {
     }
 
     /**
-     * 创建 Pending 消息重发任务
+     * 创建 Pending 消息恢复任务
      *
-     * <p>该任务负责扫描所有 Stream 的 Pending 列表，将超时未确认的消息重新投递到 Stream 中，确保消息不丢失。</p>
+     * <p>该任务负责分页扫描所有 Stream 的 Pending 列表，将到期未确认的消息认领到当前节点重新处理，确保消息不丢失。</p>
      *
      * <h4>工作机制：</h4>
      * <ol>
-     *     <li>定时扫描所有 Stream 的 Pending 列表</li>
-     *     <li>识别超时未确认的消息</li>
-     *     <li>将超时消息重新投递</li>
-     *     <li>确认原消息已处理</li>
+     *     <li>每个 Stream 独立加锁，多个节点并行恢复不同的 Stream</li>
+     *     <li>按投递次数指数退避，识别到期的消息</li>
+     *     <li>通过 XCLAIM 认领到期消息，交给监听器处理线程</li>
+     *     <li>超过最大投递次数的消息转入死信 Stream</li>
      * </ol>
      *
      * @param listeners      Stream 消息监听器列表
@@ -299,8 +367,8 @@ public class RefinexRedisMQConsumerAutoConfiguration {
             RedissonClient redissonClient,
             RefinexRedisMQProperties properties) {
 
-        log.info("[Redis MQ] 初始化 Pending 消息重发任务");
-        return new RedisPendingMessageResendJob(listeners, redisTemplate, groupName, redissonClient, properties);
+        log.info("[Redis MQ] 初始化 Pending 消息恢复任务");
+        return new RedisPendingMessageResendJob(listeners, redisTemplate, groupName, buildConsumerName(), redissonClient, properties);
     }
 
     /**
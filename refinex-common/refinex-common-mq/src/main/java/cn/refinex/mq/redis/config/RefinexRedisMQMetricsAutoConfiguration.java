@@ -0,0 +1,75 @@
+package cn.refinex.mq.redis.config;
+
+import cn.refinex.mq.redis.core.metrics.RedisStreamMetrics;
+import cn.refinex.mq.redis.core.metrics.RedisStreamMetricsEndpoint;
+import cn.refinex.mq.redis.core.metrics.RedisStreamMetricsMeterBinder;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Redis Stream 消费指标自动配置类
+ * <p>
+ * 在 {@link RedisStreamMetrics} 存在的前提下:
+ * <ul>
+ *     <li>类路径存在 Actuator 时注册 {@code streammetrics} 端点</li>
+ *     <li>类路径存在 Micrometer 时将消费指标导出为 {@code refinex.mq.stream.*} 指标</li>
+ * </ul>
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+@AutoConfiguration(after = RefinexRedisMQConsumerAutoConfiguration.class)
+@ConditionalOnBean(RedisStreamMetrics.class)
+public class RefinexRedisMQMetricsAutoConfiguration {
+
+    /**
+     * Actuator 端点配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({Endpoint.class, ConditionalOnAvailableEndpoint.class})
+    static class RedisStreamMetricsEndpointConfiguration {
+
+        /**
+         * 配置 Stream 消费指标端点
+         *
+         * @param streamMetrics Stream 消费指标注册表
+         * @return Stream 消费指标端点
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnAvailableEndpoint(endpoint = RedisStreamMetricsEndpoint.class)
+        public RedisStreamMetricsEndpoint redisStreamMetricsEndpoint(RedisStreamMetrics streamMetrics) {
+            log.info("[Redis MQ] 注册 Stream 消费指标端点: streammetrics");
+            return new RedisStreamMetricsEndpoint(streamMetrics);
+        }
+    }
+
+    /**
+     * Micrometer 指标配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class RedisStreamMetricsMeterBinderConfiguration {
+
+        /**
+         * 配置 Stream 消费指标 Micrometer 绑定器
+         *
+         * @param streamMetrics Stream 消费指标注册表
+         * @return Micrometer 绑定器
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public RedisStreamMetricsMeterBinder redisStreamMetricsMeterBinder(RedisStreamMetrics streamMetrics) {
+            return new RedisStreamMetricsMeterBinder(streamMetrics);
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package cn.refinex.mq.redis.config;
 
+import cn.refinex.mq.redis.config.properties.RefinexRedisMQProperties;
 import cn.refinex.mq.redis.core.RedisMQTemplate;
 import cn.refinex.mq.redis.core.interceptor.RedisMessageInterceptor;
+import cn.refinex.mq.redis.core.stream.RedisStreamBatchProducer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
 import java.util.List;
@@ -18,6 +25,7 @@ import java.util.List;
  * <ul>
  *     <li>创建 RedisMQTemplate 用于消息发送</li>
  *     <li>自动注册所有消息拦截器</li>
+ *     <li>创建 Stream 批量异步生产者（Pipeline 批量 XADD）</li>
  *     <li>支持 Pub/Sub 和 Stream 两种消息模式</li>
  * </ul>
  *
@@ -34,6 +42,9 @@ import java.util.List;
  *     // 发送 Stream 消息（集群消费）
  *     RecordId recordId = redisMQTemplate.send(message);
  *
+ *     // 或批量异步发送 Stream 消息
+ *     CompletableFuture<RecordId> future = redisMQTemplate.sendAsync(message);
+ *
  *     // 或发送 Channel 消息（广播消费）
  *     redisMQTemplate.send(broadcastMessage);
  * }
@@ -45,6 +56,7 @@ import java.util.List;
  */
 @Slf4j
 @AutoConfiguration
+@EnableConfigurationProperties(RefinexRedisMQProperties.class)
 public class RefinexRedisMQProducerAutoConfiguration {
 
     /**
@@ -70,15 +82,21 @@ public class RefinexRedisMQProducerAutoConfiguration {
      *     <li>性能监控和统计</li>
      * </ul>
      *
-     * @param redisTemplate Spring Data Redis 模板，用于底层 Redis 操作
-     * @param interceptors  所有注册的消息拦截器，按照 Spring 的 @Order 排序
+     * @param redisTemplate         Spring Data Redis 模板，用于底层 Redis 操作
+     * @param interceptors          所有注册的消息拦截器，按照 Spring 的 @Order 排序
+     * @param properties            Redis MQ 配置
+     * @param batchProducerProvider Stream 批量异步生产者（未启用时不存在）
      * @return RedisMQTemplate 实例
      */
     @Bean
-    public RedisMQTemplate redisMQTemplate(StringRedisTemplate redisTemplate, List<RedisMessageInterceptor> interceptors) {
+    public RedisMQTemplate redisMQTemplate(StringRedisTemplate redisTemplate, List<RedisMessageInterceptor> interceptors,
+                                           RefinexRedisMQProperties properties,
+                                           ObjectProvider<RedisStreamBatchProducer> batchProducerProvider) {
         log.info("[Redis MQ] 开始初始化 RedisMQTemplate，拦截器数量: {}", interceptors.size());
 
         RedisMQTemplate redisMQTemplate = new RedisMQTemplate(redisTemplate);
+        redisMQTemplate.setStreamAddOptions(buildStreamAddOptions(properties.getStream().getProducer()));
+        redisMQTemplate.setStreamBatchProducer(batchProducerProvider.getIfAvailable());
 
         // 注册所有拦截器
         interceptors.forEach(interceptor -> {
@@ -89,4 +107,36 @@ public class RefinexRedisMQProducerAutoConfiguration {
         log.info("[Redis MQ] RedisMQTemplate 初始化完成");
         return redisMQTemplate;
     }
+
+    /**
+     * 创建 Stream 批量异步生产者
+     *
+     * <p>
+     * 消息进入有界缓冲后由后台线程攒批，通过一次 Pipeline 执行多条 XADD，
+     * 适合登录日志、操作日志等突发的高频消息。可通过
+     * {@code refinex.mq.redis.stream.producer.async-enabled=false} 关闭，关闭后 sendAsync 退化为同步发送。
+     * </p>
+     *
+     * @param redisTemplate Spring Data Redis 模板
+     * @param properties    Redis MQ 配置
+     * @return RedisStreamBatchProducer 实例
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "refinex.mq.redis.stream.producer", name = "async-enabled", havingValue = "true", matchIfMissing = true)
+    public RedisStreamBatchProducer redisStreamBatchProducer(StringRedisTemplate redisTemplate, RefinexRedisMQProperties properties) {
+        RefinexRedisMQProperties.ProducerProperties producer = properties.getStream().getProducer();
+        return new RedisStreamBatchProducer(redisTemplate, producer, buildStreamAddOptions(producer));
+    }
+
+    /**
+     * 构建 Stream 消息的 XADD 选项
+     *
+     * @param producer 消息发送配置
+     * @return 配置了 max-length 时为 MAXLEN ~ 近似裁剪，否则不裁剪
+     */
+    private static XAddOptions buildStreamAddOptions(RefinexRedisMQProperties.ProducerProperties producer) {
+        Long maxLength = producer.getMaxLength();
+        return maxLength == null ? XAddOptions.none() : XAddOptions.maxlen(maxLength).approximateTrimming(true);
+    }
 }
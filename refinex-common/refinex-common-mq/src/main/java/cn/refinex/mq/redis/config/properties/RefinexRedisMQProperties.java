@@ -18,14 +18,33 @@ import java.time.Duration;
  *     redis:
  *       stream:
  *         batch-size: 20
+ *         consumer:
+ *           concurrency: 4
+ *           lane-capacity: 256
+ *           ack-batch-size: 100
+ *           ack-interval: 100ms
+ *         producer:
+ *           async-enabled: true
+ *           batch-size: 100
+ *           linger: 5ms
+ *           buffer-capacity: 10000
+ *           offer-timeout: 1s
+ *           max-length: 100000
  *         pending-message:
- *           resend-enabled: true
- *           expire-time: 10m
+ *           enabled: true
+ *           expire-time: 5m
+ *           max-backoff: 30m
+ *           max-deliveries: 16
+ *           page-size: 100
+ *           interval: 5s
  *           lock-timeout: 30s
  *         cleanup:
  *           enabled: true
  *           max-length: 20000
  *           lock-timeout: 60s
+ *         metrics:
+ *           enabled: true
+ *           sample-interval: 15s
  * }</pre>
  *
  * @author Refinex
@@ -67,40 +86,201 @@ public class RefinexRedisMQProperties {
          */
         @NotNull(message = "消息清理配置不能为空")
         private CleanupProperties cleanup = new CleanupProperties();
+
+        /**
+         * 消息消费配置
+         */
+        @NotNull(message = "消息消费配置不能为空")
+        private ConsumerProperties consumer = new ConsumerProperties();
+
+        /**
+         * 消息发送配置
+         */
+        @NotNull(message = "消息发送配置不能为空")
+        private ProducerProperties producer = new ProducerProperties();
+
+        /**
+         * 消费指标配置
+         */
+        @NotNull(message = "消费指标配置不能为空")
+        private MetricsProperties metrics = new MetricsProperties();
+    }
+
+    /**
+     * Stream 消费指标配置
+     */
+    @Data
+    public static class MetricsProperties {
+
+        /**
+         * 是否启用消费指标（Stream 长度、积压、Pending、消费速率与处理耗时）
+         */
+        private Boolean enabled = true;
+
+        /**
+         * Stream 长度、积压与 Pending 的采样间隔
+         *
+         * <p>每次采样每个监听器执行 2 ~ 3 条 XINFO / XPENDING 命令，不宜过于频繁</p>
+         */
+        @NotNull(message = "采样间隔不能为空")
+        private Duration sampleInterval = Duration.ofSeconds(15);
+    }
+
+    /**
+     * Stream 消息消费配置
+     */
+    @Data
+    public static class ConsumerProperties {
+
+        /**
+         * 每个监听器的默认消费并发度（处理线程数）
+         *
+         * <p>监听器可重写 getConcurrency 单独指定；需要顺序消费的消息通过分区键固定到同一线程</p>
+         */
+        @Min(value = 1, message = "消费并发度必须大于等于 1")
+        private Integer concurrency = 1;
+
+        /**
+         * 每个处理线程的队列容量
+         *
+         * <p>队列已满时暂停拉取新消息</p>
+         */
+        @Min(value = 1, message = "队列容量必须大于等于 1")
+        private Integer laneCapacity = 256;
+
+        /**
+         * 累计多少条 ACK 后合并发送
+         */
+        @Min(value = 1, message = "ACK 批次大小必须大于等于 1")
+        private Integer ackBatchSize = 100;
+
+        /**
+         * ACK 最长合并时间
+         *
+         * <p>消息处理成功后最多延迟该时间确认</p>
+         */
+        @NotNull(message = "ACK 合并时间不能为空")
+        private Duration ackInterval = Duration.ofMillis(100);
+
+        /**
+         * 停止时等待处理线程退出的最长时间
+         *
+         * <p>超时后不再等待，未确认的消息会被重新投递</p>
+         */
+        @NotNull(message = "停止超时时间不能为空")
+        private Duration shutdownTimeout = Duration.ofSeconds(10);
     }
 
     /**
-     * Pending 消息重发配置
+     * Stream 消息发送配置
+     */
+    @Data
+    public static class ProducerProperties {
+
+        /**
+         * 是否启用批量异步发送
+         *
+         * <p>关闭时 sendAsync 退化为同步发送</p>
+         */
+        private Boolean asyncEnabled = true;
+
+        /**
+         * 每批最多发送的消息数量
+         *
+         * <p>一批消息通过一次 Pipeline 发送</p>
+         */
+        @Min(value = 1, message = "批次大小必须大于等于 1")
+        private Integer batchSize = 100;
+
+        /**
+         * 批次最长等待时间
+         *
+         * <p>第一条消息等待超过该时间后，不足一批也立即发送</p>
+         */
+        @NotNull(message = "批次等待时间不能为空")
+        private Duration linger = Duration.ofMillis(5);
+
+        /**
+         * 发送缓冲容量
+         *
+         * <p>缓冲已满时发送方阻塞等待，超过 offer-timeout 仍无空位则发送失败</p>
+         */
+        @Min(value = 1, message = "发送缓冲容量必须大于等于 1")
+        private Integer bufferCapacity = 10000;
+
+        /**
+         * 缓冲已满时的最长等待时间
+         */
+        @NotNull(message = "缓冲等待时间不能为空")
+        private Duration offerTimeout = Duration.ofSeconds(1);
+
+        /**
+         * 发送时裁剪的 Stream 最大长度（MAXLEN ~，近似裁剪）
+         *
+         * <p>为空时发送不裁剪，仅依赖定时清理任务</p>
+         */
+        @Min(value = 1000, message = "保留消息数量不能少于 1000")
+        private Long maxLength;
+    }
+
+    /**
+     * Pending 消息恢复配置
      */
     @Data
     public static class PendingMessageProperties {
 
         /**
-         * 是否启用 Pending 消息重发功能
+         * 是否启用 Pending 消息恢复功能
          *
-         * <p>推荐开启，用于处理消费者崩溃后未确认的消息</p>
+         * <p>推荐开启，用于处理消费者崩溃或处理失败后未确认的消息</p>
          */
         private Boolean enabled = true;
 
         /**
-         * 消息超时时间
+         * 消息超时时间（第一次重试的退避时间）
          *
-         * <p>超过该时间未确认的消息将被重新投递。
-         * 建议值：5-15 分钟，根据业务处理时长调整</p>
+         * <p>超过该时间未确认的消息将被认领并重新处理，之后每次重试的退避时间翻倍。
+         * 建议值：应大于消息的正常处理时间，根据业务处理时长调整</p>
          */
         @NotNull(message = "消息超时时间不能为空")
         private Duration expireTime = Duration.ofMinutes(5);
 
         /**
-         * 定时任务 Cron 表达式
+         * 最大退避时间
+         */
+        @NotNull(message = "最大退避时间不能为空")
+        private Duration maxBackoff = Duration.ofMinutes(30);
+
+        /**
+         * 最大投递次数
          *
-         * <p>默认每分钟的第 35 秒执行，避开整点高峰</p>
+         * <p>达到该次数仍未确认的消息转入死信 Stream（原 Stream Key + dead-letter-suffix）</p>
          */
-        @NotNull(message = "定时任务 Cron 表达式不能为空")
-        private String cron = "35 * * * * ?";
+        @Min(value = 1, message = "最大投递次数必须大于等于 1")
+        private Integer maxDeliveries = 16;
 
         /**
-         * 分布式锁超时时间
+         * 死信 Stream Key 后缀
+         */
+        @NotNull(message = "死信 Stream Key 后缀不能为空")
+        private String deadLetterSuffix = ":dlq";
+
+        /**
+         * 每页扫描的 Pending 消息数量
+         */
+        @Min(value = 1, message = "每页扫描数量必须大于等于 1")
+        private Integer pageSize = 100;
+
+        /**
+         * 扫描间隔
+         *
+         * <p>每次扫描会持续分页认领，直到没有到期的消息或达到锁超时时间的一半</p>
+         */
+        @NotNull(message = "扫描间隔不能为空")
+        private Duration interval = Duration.ofSeconds(5);
+
+        /**
+         * 分布式锁超时时间（每个 Stream 一把锁）
          *
          * <p>防止任务执行时间过长导致锁一直被占用</p>
          */
@@ -6,14 +6,18 @@ import cn.refinex.mq.redis.core.interceptor.RedisMessageInterceptor;
 import cn.refinex.mq.redis.core.message.AbstractRedisMessage;
 import cn.refinex.mq.redis.core.pubsub.AbstractRedisChannelMessage;
 import cn.refinex.mq.redis.core.stream.AbstractRedisStreamMessage;
+import cn.refinex.mq.redis.core.stream.RedisStreamBatchProducer;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
 import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.connection.stream.StreamRecords;
 import org.springframework.data.redis.core.RedisTemplate;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Redis MQ 操作模板类
@@ -62,6 +66,15 @@ import java.util.List;
  *         // 返回消息记录ID，可用于追踪
  *         return recordId;
  *     }
+ *
+ *     // 批量异步发送 Stream 消息（日志等高频消息）
+ *     public void sendLog(LoginLogMessage message) {
+ *         redisMQTemplate.sendAsync(message)
+ *                 .exceptionally(e -> {
+ *                     log.warn("登录日志发送失败", e);
+ *                     return null;
+ *                 });
+ *     }
  * }
  * }</pre>
  *
@@ -159,6 +172,20 @@ public class RedisMQTemplate {
     @Getter
     private final List<RedisMessageInterceptor> interceptors = new ArrayList<>();
 
+    /**
+     * Stream 消息的 XADD 选项（发送时裁剪策略），默认不裁剪
+     */
+    @Getter
+    @Setter
+    private XAddOptions streamAddOptions = XAddOptions.none();
+
+    /**
+     * Stream 批量异步生产者，未启用时为 null
+     */
+    @Getter
+    @Setter
+    private RedisStreamBatchProducer streamBatchProducer;
+
     /**
      * 构造函数
      *
@@ -305,9 +332,9 @@ public class RedisMQTemplate {
             recordId = redisTemplate.opsForStream().add(
                     StreamRecords.newRecord()
                             .ofObject(jsonMessage)
-                            .withStreamKey(streamKey));
+                            .withStreamKey(streamKey), streamAddOptions);
 
-            log.info("[RedisMQTemplate] Stream 消息发送成功 - StreamKey: {}, MessageId: {}, 消息类型: {}",
+            log.debug("[RedisMQTemplate] Stream 消息发送成功 - StreamKey: {}, MessageId: {}, 消息类型: {}",
                     streamKey, recordId, message.getClass().getSimpleName());
 
             return recordId;
@@ -322,6 +349,56 @@ public class RedisMQTemplate {
         }
     }
 
+    /**
+     * 批量异步发送 Stream 可靠消息
+     *
+     * <p>消息进入发送缓冲后立即返回，由 {@link RedisStreamBatchProducer} 攒批后通过 Pipeline 发送，
+     * 一批消息只需一次网络往返，适合登录日志、操作日志等高频写入的消息。</p>
+     *
+     * <h4>特性说明：</h4>
+     * <ul>
+     *     <li><strong>拦截器：</strong>发送前后拦截器都在调用线程执行（便于读取线程上下文），sendMessageAfter 在消息进入缓冲后执行</li>
+     *     <li><strong>发送结果：</strong>通过 Future 获取消息记录 ID 或失败原因</li>
+     *     <li><strong>背压：</strong>缓冲已满时调用方阻塞等待，超时后返回失败的 Future</li>
+     *     <li><strong>未启用：</strong>未启用批量异步发送时同步发送，结果包装为已完成的 Future</li>
+     * </ul>
+     *
+     * @param message 要发送的消息对象，必须继承自 AbstractRedisStreamMessage
+     * @param <T>     消息类型
+     * @return 发送结果，完成时携带消息记录 ID
+     * @throws IllegalArgumentException 如果消息为 null
+     */
+    public <T extends AbstractRedisStreamMessage> CompletableFuture<RecordId> sendAsync(T message) {
+        if (message == null) {
+            throw new IllegalArgumentException("发送的消息不能为 null");
+        }
+
+        RedisStreamBatchProducer producer = streamBatchProducer;
+        if (producer == null) {
+            try {
+                return CompletableFuture.completedFuture(send(message));
+            } catch (SystemException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        String streamKey = message.getStreamKey();
+        try {
+            // 执行发送前拦截器
+            sendMessageBefore(message);
+
+            // 序列化后进入发送缓冲
+            return producer.submit(streamKey, JsonUtils.toJson(message));
+        } catch (Exception e) {
+            log.error("[RedisMQTemplate] Stream 消息提交失败 - StreamKey: {}, 消息类型: {}",
+                    streamKey, message.getClass().getSimpleName(), e);
+            return CompletableFuture.failedFuture(e instanceof SystemException ? e : new SystemException("Stream 消息发送失败", e));
+        } finally {
+            // 执行发送后拦截器（无论成功或失败都执行）
+            sendMessageAfter(message);
+        }
+    }
+
     /**
      * 添加消息拦截器
      *
@@ -8,38 +8,45 @@ import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
 import org.springframework.data.redis.connection.stream.*;
 import org.springframework.data.redis.core.StreamOperations;
 import org.springframework.scheduling.annotation.Scheduled;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Redis Stream Pending 消息重发定时任务
+ * Redis Stream Pending 消息恢复定时任务
  *
  * <p>
- * 该任务负责处理消费者崩溃后未确认的消息，确保消息不会丢失。
- * 当消费者处理消息过程中发生宕机或异常时，消息会停留在 Pending 列表中，
- * 本任务会定期扫描超时的 Pending 消息并重新投递。
+ * 该任务负责处理消费者崩溃或处理失败后未确认的消息，确保消息不会丢失。
+ * 消息处理失败或消费者宕机时，消息会停留在 Pending 列表中，
+ * 本任务会分页扫描到期的 Pending 消息，认领到当前节点重新处理。
  * </p>
  *
  * <h3>工作原理：</h3>
  * <ol>
- *     <li>定时扫描所有 Stream 的消费者组</li>
- *     <li>获取每个消费者的 Pending 消息列表</li>
- *     <li>识别超过超时时间仍未确认的消息</li>
- *     <li>将超时消息重新投递到 Stream</li>
- *     <li>确认原消息，从 Pending 列表中移除</li>
+ *     <li>每隔 {@code interval} 扫描一次，每个 Stream 独立加锁，多个节点可以同时恢复不同的 Stream</li>
+ *     <li>按消息 ID 分页执行 {@code XPENDING}，获取每条消息的空闲时间与投递次数</li>
+ *     <li>空闲时间达到退避时间（{@code expire-time × 2^(投递次数-1)}，不超过 {@code max-backoff}）的消息
+ *     通过 {@code XCLAIM} 认领到当前消费者，交给监听器的处理线程重新处理</li>
+ *     <li>投递次数达到 {@code max-deliveries} 的消息转入死信 Stream 并 ACK</li>
+ *     <li>持续翻页直到扫描完或达到锁超时时间的一半</li>
  * </ol>
  *
- * <h3>为什么需要重发机制：</h3>
+ * <h3>为什么需要恢复机制：</h3>
  * <p>在分布式环境中，消费者可能因为以下原因无法完成消息处理：</p>
  * <ul>
  *     <li>消费者进程崩溃或重启</li>
  *     <li>网络故障导致 ACK 失败</li>
- *     <li>处理超时但未完成</li>
+ *     <li>处理超时或业务异常</li>
  *     <li>消费者被强制停止</li>
  * </ul>
  *
@@ -51,17 +58,21 @@ import java.util.concurrent.TimeUnit;
  *       stream:
  *         pending-message:
  *           enabled: true              # 是否启用
- *           expire-time: 5m            # 消息超时时间
- *           cron: "35 * * * * ?"       # 执行频率
+ *           expire-time: 5m            # 消息超时时间（第一次重试的退避时间）
+ *           max-backoff: 30m           # 最大退避时间
+ *           max-deliveries: 16         # 最大投递次数，超过后转入死信 Stream
+ *           dead-letter-suffix: ":dlq" # 死信 Stream Key 后缀
+ *           page-size: 100             # 每页扫描数量
+ *           interval: 5s               # 扫描间隔
  *           lock-timeout: 30s          # 分布式锁超时时间
  * }</pre>
  *
  * <h3>重要说明：</h3>
  * <ul>
- *     <li><strong>分布式锁：</strong>使用 Redisson 分布式锁，确保集群环境下只有一个实例执行</li>
- *     <li><strong>超时时间：</strong>应大于消息的正常处理时间，避免误重发</li>
- *     <li><strong>执行频率：</strong>不宜过高，建议 1-5 分钟执行一次</li>
- *     <li><strong>重发策略：</strong>重新投递消息，而不是直接分配给其他消费者</li>
+ *     <li><strong>分布式锁：</strong>每个 Stream 一把 Redisson 锁，各节点从随机位置开始遍历 Stream，分散恢复压力</li>
+ *     <li><strong>超时时间：</strong>应大于消息的正常处理时间，避免误认领</li>
+ *     <li><strong>认领而非重发：</strong>使用 XCLAIM 转移消息归属，消息 ID 不变，投递次数由 Redis 记录</li>
+ *     <li><strong>死信消息：</strong>保留原消息字段，并附加 {@code dlq-source-id}、{@code dlq-group}、{@code dlq-deliveries} 字段</li>
  * </ul>
  *
  * @author 芋道源码
@@ -74,9 +85,9 @@ import java.util.concurrent.TimeUnit;
 public class RedisPendingMessageResendJob {
 
     /**
-     * 分布式锁的 Key
+     * 分布式锁的 Key 前缀（后接 Stream Key）
      */
-    private static final String LOCK_KEY = "refinex:mq:redis:pending-message-resend:lock";
+    private static final String LOCK_KEY_PREFIX = "refinex:mq:redis:pending-message-resend:lock:";
 
     /**
      * 所有 Stream 消息监听器
@@ -93,6 +104,11 @@ public class RedisPendingMessageResendJob {
      */
     private final String groupName;
 
+    /**
+     * 当前节点的消费者名称（认领的消息归属该消费者）
+     */
+    private final String consumerName;
+
     /**
      * Redisson 客户端，用于分布式锁
      */
@@ -109,66 +125,78 @@ public class RedisPendingMessageResendJob {
      * @param listeners       Stream 消息监听器列表
      * @param redisMQTemplate Redis MQ 模板
      * @param groupName       消费者组名称
+     * @param consumerName    当前节点的消费者名称
      * @param redissonClient  Redisson 客户端
      * @param properties      配置属性
      */
     public RedisPendingMessageResendJob(List<AbstractRedisStreamMessageListener<?>> listeners,
                                         RedisMQTemplate redisMQTemplate,
                                         String groupName,
+                                        String consumerName,
                                         RedissonClient redissonClient,
                                         RefinexRedisMQProperties properties) {
         this.listeners = listeners;
         this.redisMQTemplate = redisMQTemplate;
         this.groupName = groupName;
+        this.consumerName = consumerName;
         this.redissonClient = redissonClient;
         this.properties = properties;
     }
 
     /**
-     * 定时执行消息重发任务
+     * 定时执行消息恢复任务
      *
      * <p>
-     * 执行时机由配置文件中的 cron 表达式控制，默认每分钟的第 35 秒执行。
-     * 选择第 35 秒是为了避开整点任务过多导致的资源竞争。
-     * </p>
-     *
-     * <p>
-     * 该方法使用分布式锁确保集群环境下只有一个实例执行任务，
-     * 采用非阻塞的 tryLock 方式，如果获取锁失败则直接跳过本次执行。
+     * 执行间隔由配置文件中的 interval 控制，默认 5 秒。
+     * 各节点以随机顺序遍历 Stream，对每个 Stream 非阻塞地 tryLock，获取失败说明其他节点正在恢复，直接跳过。
      * </p>
      */
-    @Scheduled(cron = "${refinex.mq.redis.stream.pending-message.cron:35 * * * * ?}")
+    @Scheduled(fixedDelayString = "${refinex.mq.redis.stream.pending-message.interval:5s}")
     public void execute() {
         // 检查功能是否启用
         if (!isEnabled()) {
             return;
         }
 
-        // 获取分布式锁和设置超时时间
-        RLock lock = redissonClient.getLock(LOCK_KEY);
-        long lockTimeout = properties.getStream().getPendingMessage().getLockTimeout().getSeconds();
+        StreamOperations<String, Object, Object> ops = redisMQTemplate.getRedisTemplate().opsForStream();
+        List<AbstractRedisStreamMessageListener<?>> shuffled = new ArrayList<>(listeners);
+        Collections.shuffle(shuffled);
+        for (AbstractRedisStreamMessageListener<?> listener : shuffled) {
+            try {
+                recoverWithLock(ops, listener);
+            } catch (Exception e) {
+                log.error("[Pending消息恢复] 处理 Stream({}) 的 Pending 消息异常", listener.getStreamKey(), e);
+            }
+        }
+    }
+
+    /**
+     * 获取 Stream 的分布式锁后恢复其 Pending 消息
+     *
+     * @param ops      Stream 操作对象
+     * @param listener 消息监听器
+     */
+    private void recoverWithLock(StreamOperations<String, Object, Object> ops, AbstractRedisStreamMessageListener<?> listener) {
+        String streamKey = listener.getStreamKey();
+        RLock lock = redissonClient.getLock(LOCK_KEY_PREFIX + streamKey);
+        Duration lockTimeout = properties.getStream().getPendingMessage().getLockTimeout();
 
         try {
             // 尝试获取锁，避免阻塞
-            boolean locked = lock.tryLock(0, lockTimeout, TimeUnit.SECONDS);
-            if (!locked) {
-                log.debug("[Pending消息重发] 未获取到分布式锁，跳过本次执行");
+            if (!lock.tryLock(0, lockTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.debug("[Pending消息恢复] Stream({}) 正在被其他节点恢复，跳过", streamKey);
                 return;
             }
 
-            log.info("[Pending消息重发] 开始执行任务，监听器数量: {}", listeners.size());
             long startTime = System.currentTimeMillis();
-
-            processPendingMessages();
-
-            long cost = System.currentTimeMillis() - startTime;
-            log.info("[Pending消息重发] 任务执行完成，耗时: {} ms", cost);
-
+            RecoveryResult result = recover(ops, listener, System.nanoTime() + lockTimeout.toNanos() / 2);
+            if (result.claimed > 0 || result.deadLettered > 0) {
+                log.info("[Pending消息恢复] Stream({}) 恢复完成 - 扫描: {}, 重新处理: {}, 转入死信: {}, 耗时: {} ms",
+                        streamKey, result.scanned, result.claimed, result.deadLettered, System.currentTimeMillis() - startTime);
+            }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            log.error("[Pending消息重发] 获取分布式锁被中断", e);
-        } catch (Exception e) {
-            log.error("[Pending消息重发] 执行任务异常", e);
+            log.error("[Pending消息恢复] 获取 Stream({}) 的分布式锁被中断", streamKey, e);
         } finally {
             if (lock.isHeldByCurrentThread()) {
                 lock.unlock();
@@ -177,153 +205,180 @@ public class RedisPendingMessageResendJob {
     }
 
     /**
-     * 处理所有 Pending 消息
+     * 分页扫描并恢复单个 Stream 的 Pending 消息
+     *
+     * @param ops           Stream 操作对象
+     * @param listener      消息监听器
+     * @param deadlineNanos 截止时间（纳秒），到达后停止翻页，剩余消息下次继续
+     * @return 恢复结果
      */
-    private void processPendingMessages() {
-        // 获取 Stream 操作对象
-        StreamOperations<String, Object, Object> ops = redisMQTemplate.getRedisTemplate().opsForStream();
-        // 遍历所有监听器，处理其对应的 Pending 消息
-        listeners.forEach(listener -> {
-            try {
-                processPendingMessagesForListener(ops, listener);
-            } catch (Exception e) {
-                log.error("[Pending消息重发] 处理 Stream({}) 的 Pending 消息异常", listener.getStreamKey(), e);
+    private RecoveryResult recover(StreamOperations<String, Object, Object> ops, AbstractRedisStreamMessageListener<?> listener, long deadlineNanos) {
+        String streamKey = listener.getStreamKey();
+        RefinexRedisMQProperties.PendingMessageProperties config = properties.getStream().getPendingMessage();
+        int pageSize = config.getPageSize();
+        RecoveryResult result = new RecoveryResult();
+
+        Range<String> range = Range.unbounded();
+        while (System.nanoTime() < deadlineNanos) {
+            PendingMessages page = ops.pending(streamKey, groupName, range, pageSize);
+            if (page == null || page.isEmpty()) {
+                break;
+            }
+            result.scanned += page.size();
+
+            // 按退避时间与投递次数分类
+            List<RecordId> due = new ArrayList<>();
+            Map<RecordId, Long> dead = new LinkedHashMap<>();
+            RecordId lastId = null;
+            for (PendingMessage pending : page) {
+                lastId = pending.getId();
+                long deliveries = pending.getTotalDeliveryCount();
+                Duration idle = pending.getElapsedTimeSinceLastDelivery();
+                if (idle.compareTo(config.getExpireTime()) < 0) {
+                    // 正在处理中
+                    continue;
+                }
+                if (deliveries >= config.getMaxDeliveries()) {
+                    dead.put(pending.getId(), deliveries);
+                } else if (idle.compareTo(backoff(config, deliveries)) >= 0) {
+                    due.add(pending.getId());
+                }
             }
-        });
+
+            result.claimed += claimAndDeliver(ops, listener, due);
+            result.deadLettered += deadLetter(ops, streamKey, dead);
+
+            if (page.size() < pageSize || lastId == null) {
+                break;
+            }
+            // 下一页从最后一条消息之后开始
+            range = Range.rightUnbounded(Range.Bound.inclusive(nextId(lastId)));
+        }
+        return result;
     }
 
     /**
-     * 处理单个监听器的 Pending 消息
+     * 认领到期的消息并交给监听器重新处理
      *
      * @param ops      Stream 操作对象
      * @param listener 消息监听器
+     * @param ids      到期的消息 ID
+     * @return 认领并投递的消息数量
      */
-    private void processPendingMessagesForListener(StreamOperations<String, Object, Object> ops, AbstractRedisStreamMessageListener<?> listener) {
-        // 获取 Stream 键
+    private int claimAndDeliver(StreamOperations<String, Object, Object> ops, AbstractRedisStreamMessageListener<?> listener, List<RecordId> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
         String streamKey = listener.getStreamKey();
-
-        // 获取消费者组的 Pending 消息摘要
-        PendingMessagesSummary summary = ops.pending(streamKey, groupName);
-        // 如果没有 Pending 消息，则直接返回
-        if (summary == null || summary.getTotalPendingMessages() == 0) {
-            log.debug("[Pending消息重发] Stream({}) 无 Pending 消息", streamKey);
-            return;
+        // minIdle 保证认领期间被其他节点处理过的消息不会被重复认领
+        List<MapRecord<String, Object, Object>> records = ops.claim(streamKey, groupName, consumerName,
+                XClaimOptions.minIdle(properties.getStream().getPendingMessage().getExpireTime()).ids(ids));
+        if (CollUtil.isEmpty(records)) {
+            return 0;
         }
 
-        log.info("[Pending消息重发] Stream({}) 总 Pending 消息数: {}", streamKey, summary.getTotalPendingMessages());
-
-        // 遍历每个消费者的 Pending 消息，处理其消息
-        Map<String, Long> pendingPerConsumer = summary.getPendingMessagesPerConsumer();
-        pendingPerConsumer.forEach((consumerName, count) ->
-                processConsumerPendingMessages(ops, streamKey, consumerName, count));
+        int delivered = 0;
+        for (MapRecord<String, Object, Object> record : records) {
+            if (!listener.deliver(ops.map(record, String.class))) {
+                // 处理通道已满：剩余消息保留在 Pending 列表，由下次扫描处理，不阻塞定时任务线程
+                log.warn("[Pending消息恢复] Stream({}) 处理通道已满，暂停投递，{} 条消息保留在 Pending 列表", streamKey, records.size() - delivered);
+                break;
+            }
+            delivered++;
+        }
+        return delivered;
     }
 
     /**
-     * 处理单个消费者的 Pending 消息
+     * 将超过最大投递次数的消息转入死信 Stream 并 ACK
+     * <p>
+     * 只 ACK 经 {@code XRANGE} 确认已从 Stream 中删除的消息，以及本次 {@code XCLAIM} 认领到并写入死信的消息；
+     * 未认领到的消息说明期间被其他消费者重新读取或认领，保留在 Pending 列表由下次扫描处理。
+     * 已删除的消息先排除再认领（Redis 7 之前 {@code XCLAIM} 对已删除的消息返回空内容）。
      *
-     * @param ops          Stream 操作对象
-     * @param streamKey    Stream 键
-     * @param consumerName 消费者名称
-     * @param pendingCount Pending 消息数量
+     * @param ops       Stream 操作对象
+     * @param streamKey Stream 键
+     * @param dead      消息 ID -> 投递次数
+     * @return 转入死信的消息数量
      */
-    private void processConsumerPendingMessages(StreamOperations<String, Object, Object> ops, String streamKey, String consumerName, Long pendingCount) {
-        // 如果 Pending 消息数为 0，则直接返回
-        if (pendingCount == null || pendingCount == 0) {
-            return;
+    private int deadLetter(StreamOperations<String, Object, Object> ops, String streamKey, Map<RecordId, Long> dead) {
+        if (dead.isEmpty()) {
+            return 0;
         }
 
-        log.info("[Pending消息重发] Stream({}) 消费者({}) Pending 消息数: {}", streamKey, consumerName, pendingCount);
-
-        try {
-            // 获取该消费者的所有 Pending 消息详情
-            PendingMessages pendingMessages = ops.pending(
-                    streamKey,
-                    Consumer.from(groupName, consumerName),
-                    Range.unbounded(),
-                    pendingCount
-            );
-
-            // 如果没有 Pending 消息，则直接返回
-            if (CollUtil.isEmpty(pendingMessages)) {
-                return;
-            }
-
-            // 处理每条 Pending 消息
-            int resendCount = 0;
-            // 获取配置的过期时间，默认 5 分钟
-            long expireSeconds = properties.getStream().getPendingMessage().getExpireTime().getSeconds();
-
-            // 遍历每个 Pending 消息，判断是否需要重发
-            for (PendingMessage pendingMessage : pendingMessages) {
-                // 如果消息过期时间超过配置的过期时间，则需要重发
-                if (shouldResend(pendingMessage, expireSeconds)) {
-                    resendMessage(ops, streamKey, pendingMessage);
-                    resendCount++;
-                }
+        // 已从 Stream 中删除（被裁剪）的消息直接 ACK，避免一直留在 Pending 列表
+        List<RecordId> acknowledged = new ArrayList<>();
+        List<RecordId> existing = new ArrayList<>();
+        for (RecordId id : dead.keySet()) {
+            if (isDeleted(ops, streamKey, id)) {
+                acknowledged.add(id);
+                log.warn("[Pending消息恢复] 消息({}) 已从 Stream({}) 中删除，直接 ACK", id, streamKey);
+            } else {
+                existing.add(id);
             }
+        }
 
-            if (resendCount > 0) {
-                log.info("[Pending消息重发] Stream({}) 消费者({}) 重发消息数: {}", streamKey, consumerName, resendCount);
+        int claimed = 0;
+        if (!existing.isEmpty()) {
+            RefinexRedisMQProperties.PendingMessageProperties config = properties.getStream().getPendingMessage();
+            List<MapRecord<String, Object, Object>> records = ops.claim(streamKey, groupName, consumerName,
+                    XClaimOptions.minIdle(config.getExpireTime()).ids(existing));
+
+            String deadLetterKey = streamKey + config.getDeadLetterSuffix();
+            XAddOptions addOptions = XAddOptions.maxlen(properties.getStream().getCleanup().getMaxLength()).approximateTrimming(true);
+            for (MapRecord<String, Object, Object> record : CollUtil.emptyIfNull(records)) {
+                Map<Object, Object> fields = new LinkedHashMap<>(record.getValue());
+                fields.put("dlq-source-id", record.getId().getValue());
+                fields.put("dlq-group", groupName);
+                fields.put("dlq-deliveries", String.valueOf(dead.getOrDefault(record.getId(), 0L)));
+                ops.add(StreamRecords.newRecord().in(deadLetterKey).ofMap(fields), addOptions);
+                acknowledged.add(record.getId());
+                claimed++;
+                log.warn("[Pending消息恢复] 消息超过最大投递次数，已转入死信 - Stream: {}, MessageId: {}, 死信 Stream: {}",
+                        streamKey, record.getId(), deadLetterKey);
             }
+        }
 
-        } catch (Exception e) {
-            log.error("[Pending消息重发] 处理消费者({}) 的 Pending 消息异常", consumerName, e);
+        if (!acknowledged.isEmpty()) {
+            ops.acknowledge(streamKey, groupName, acknowledged.toArray(new RecordId[0]));
         }
+        return claimed;
     }
 
     /**
-     * 判断消息是否应该重发
+     * 判断消息是否已从 Stream 中删除
      *
-     * @param pendingMessage Pending 消息对象
-     * @param expireSeconds  配置的过期时间（秒）
-     * @return 如果消息过期时间超过配置的过期时间，则返回 true，否则返回 false
+     * @param ops       Stream 操作对象
+     * @param streamKey Stream 键
+     * @param id        消息 ID
+     * @return 消息不存在时返回 true
      */
-    private boolean shouldResend(PendingMessage pendingMessage, long expireSeconds) {
-        long elapsedSeconds = pendingMessage.getElapsedTimeSinceLastDelivery().getSeconds();
-        return elapsedSeconds >= expireSeconds;
+    private static boolean isDeleted(StreamOperations<String, Object, Object> ops, String streamKey, RecordId id) {
+        List<MapRecord<String, Object, Object>> found = ops.range(streamKey, Range.closed(id.getValue(), id.getValue()));
+        return CollUtil.isEmpty(found);
     }
 
     /**
-     * 重发单个 Pending 消息
+     * 计算退避时间：expire-time × 2^(投递次数-1)，不超过 max-backoff
      *
-     * @param ops            Stream 操作对象
-     * @param streamKey      Stream 键
-     * @param pendingMessage Pending 消息对象
+     * @param config     Pending 消息恢复配置
+     * @param deliveries 已投递次数
+     * @return 退避时间
      */
-    private void resendMessage(StreamOperations<String, Object, Object> ops, String streamKey, PendingMessage pendingMessage) {
-        try {
-            // 获取 Pending 消息的 ID 字符串
-            String messageId = pendingMessage.getIdAsString();
-
-            // 获取原消息内容
-            List<MapRecord<String, Object, Object>> records = ops.range(
-                    streamKey,
-                    Range.of(Range.Bound.inclusive(messageId), Range.Bound.inclusive(messageId))
-            );
-
-            // 如果记录为空，说明消息已被删除，ACK 原消息，避免一直重试
-            if (CollUtil.isEmpty(records)) {
-                log.warn("[Pending消息重发] 消息({}) 不存在，可能已被删除", messageId);
-                // ACK 原消息，避免一直重试
-                ops.acknowledge(groupName, streamKey, messageId);
-                return;
-            }
-
-            // 获取原消息记录中的第一个元素（因为范围查询返回的是一个列表）, 但是列表中只有一个元素
-            MapRecord<String, Object, Object> originalRecord = records.get(0);
-
-            // 重新投递消息（创建新消息）
-            RecordId newRecordId = ops.add(StreamRecords.newRecord()
-                    .ofObject(originalRecord.getValue())
-                    .withStreamKey(streamKey));
-
-            // 确认原消息
-            Long ackCount = ops.acknowledge(groupName, originalRecord);
-            log.info("[Pending消息重发] 消息重发成功 - 原消息ID: {}, 新消息ID: {}, ACK结果: {}", messageId, newRecordId, ackCount);
+    private static Duration backoff(RefinexRedisMQProperties.PendingMessageProperties config, long deliveries) {
+        int shift = (int) Math.min(Math.max(deliveries - 1, 0), 30);
+        Duration backoff = config.getExpireTime().multipliedBy(1L << shift);
+        return backoff.compareTo(config.getMaxBackoff()) > 0 ? config.getMaxBackoff() : backoff;
+    }
 
-        } catch (Exception e) {
-            log.error("[Pending消息重发] 重发消息({}) 失败", pendingMessage.getIdAsString(), e);
-        }
+    /**
+     * 计算紧邻的下一个消息 ID
+     *
+     * @param id 消息 ID
+     * @return 下一个消息 ID 字符串
+     */
+    private static String nextId(RecordId id) {
+        return id.getTimestamp() + "-" + (id.getSequence() + 1);
     }
 
     /**
@@ -332,4 +387,16 @@ public class RedisPendingMessageResendJob {
     private boolean isEnabled() {
         return properties.getStream().getPendingMessage().getEnabled();
     }
+
+    /**
+     * 单个 Stream 的恢复结果
+     */
+    private static final class RecoveryResult {
+
+        private long scanned;
+
+        private long claimed;
+
+        private long deadLettered;
+    }
 }
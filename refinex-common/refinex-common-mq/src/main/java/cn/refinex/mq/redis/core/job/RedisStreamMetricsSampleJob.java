@@ -0,0 +1,33 @@
+package cn.refinex.mq.redis.core.job;
+
+import cn.refinex.mq.redis.core.metrics.RedisStreamMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Redis Stream 消费指标采样定时任务
+ *
+ * <p>定期采样每个监听器对应 Stream 的长度、消费者组积压与 Pending 情况。
+ * 采样只读取本实例关注的 Stream，不加分布式锁，各实例独立采样。</p>
+ *
+ * @author Refinex
+ * @see RedisStreamMetrics
+ * @since 1.0.0
+ */
+@RequiredArgsConstructor
+public class RedisStreamMetricsSampleJob {
+
+    /**
+     * 消费指标注册表
+     */
+    private final RedisStreamMetrics metrics;
+
+    /**
+     * 采样 Stream 指标
+     */
+    @Scheduled(initialDelayString = "${refinex.mq.redis.stream.metrics.sample-interval:15s}",
+            fixedDelayString = "${refinex.mq.redis.stream.metrics.sample-interval:15s}")
+    public void sample() {
+        metrics.sample();
+    }
+}
@@ -0,0 +1,239 @@
+package cn.refinex.mq.redis.core.metrics;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 单个 Stream 监听器的消费指标
+ * <p>
+ * 消费次数、失败次数与处理耗时由监听器在每次处理后记录；Stream 长度、积压、Pending 等由
+ * {@link RedisStreamMetrics#sample()} 定时采样写入。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Getter
+public class RedisStreamListenerMetrics {
+
+    /**
+     * 处理耗时分桶上界（毫秒），最后一个桶为超出最大上界的部分
+     */
+    private static final long[] LATENCY_BUCKETS_MILLIS = {1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    /**
+     * 所属指标注册表（用于通知指标监听器）
+     */
+    @Getter(AccessLevel.NONE)
+    private final RedisStreamMetrics owner;
+
+    /**
+     * Stream Key
+     */
+    private final String streamKey;
+
+    /**
+     * 消费者组
+     */
+    private final String group;
+
+    /**
+     * 监听器名称
+     */
+    private final String listener;
+
+    @Getter(AccessLevel.NONE)
+    private final LongAdder consumed = new LongAdder();
+
+    @Getter(AccessLevel.NONE)
+    private final LongAdder failed = new LongAdder();
+
+    @Getter(AccessLevel.NONE)
+    private final LongAdder invocations = new LongAdder();
+
+    @Getter(AccessLevel.NONE)
+    private final LongAdder totalNanos = new LongAdder();
+
+    @Getter(AccessLevel.NONE)
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    @Getter(AccessLevel.NONE)
+    private final LongAdder[] latencyBuckets = new LongAdder[LATENCY_BUCKETS_MILLIS.length + 1];
+
+    /**
+     * Stream 长度（采样）
+     */
+    private volatile long length = -1;
+
+    /**
+     * 消费者组积压条数（采样，Redis 7.0 起由 XINFO GROUPS 提供，低版本或无法计算时为 -1）
+     */
+    private volatile long lag = -1;
+
+    /**
+     * 消费者组积压时间（采样，最新消息与最后投递消息的 ID 时间差，毫秒）
+     */
+    private volatile long lagMillis = -1;
+
+    /**
+     * Pending 消息数量（采样）
+     */
+    private volatile long pending = -1;
+
+    /**
+     * 最早一条 Pending 消息的空闲时间（采样，毫秒）
+     */
+    private volatile long oldestPendingIdleMillis;
+
+    /**
+     * 最近两次采样之间的消费速率（条/秒）
+     */
+    private volatile double consumeRate;
+
+    /**
+     * 最近一次采样时间（毫秒时间戳）
+     */
+    private volatile long sampledAt;
+
+    /**
+     * 上次采样时的消费次数（计算速率用）
+     */
+    @Getter(AccessLevel.NONE)
+    private long lastSampledConsumed;
+
+    /**
+     * 构造函数
+     *
+     * @param owner     所属指标注册表
+     * @param streamKey Stream Key
+     * @param group     消费者组
+     * @param listener  监听器名称
+     */
+    RedisStreamListenerMetrics(RedisStreamMetrics owner, String streamKey, String group, String listener) {
+        this.owner = owner;
+        this.streamKey = streamKey;
+        this.group = group;
+        this.listener = listener;
+        for (int i = 0; i < latencyBuckets.length; i++) {
+            latencyBuckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 记录一次处理（单条或一批消息）
+     *
+     * @param count   消息数量
+     * @param nanos   处理耗时（纳秒）
+     * @param success 是否成功
+     */
+    public void record(int count, long nanos, boolean success) {
+        invocations.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+        latencyBuckets[bucketOf(TimeUnit.NANOSECONDS.toMillis(nanos))].increment();
+        if (success) {
+            consumed.add(count);
+        } else {
+            failed.add(count);
+        }
+        owner.notifyConsumed(this, count, nanos, success);
+    }
+
+    /**
+     * 消费成功的消息数量
+     *
+     * @return 消息数量
+     */
+    public long getConsumed() {
+        return consumed.sum();
+    }
+
+    /**
+     * 处理失败的消息数量
+     *
+     * @return 消息数量
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * 处理次数（批量消费时一批计一次）
+     *
+     * @return 处理次数
+     */
+    public long getInvocations() {
+        return invocations.sum();
+    }
+
+    /**
+     * 平均处理耗时（毫秒）
+     *
+     * @return 平均耗时
+     */
+    public double getMeanMillis() {
+        long count = invocations.sum();
+        return count == 0 ? 0 : totalNanos.sum() / 1_000_000.0 / count;
+    }
+
+    /**
+     * 最大处理耗时（毫秒）
+     *
+     * @return 最大耗时
+     */
+    public double getMaxMillis() {
+        return maxNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * 处理耗时分布（桶上界 -> 次数）
+     *
+     * @return 耗时分布
+     */
+    public Map<String, Long> getLatencyHistogram() {
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < LATENCY_BUCKETS_MILLIS.length; i++) {
+            histogram.put("<=" + LATENCY_BUCKETS_MILLIS[i] + "ms", latencyBuckets[i].sum());
+        }
+        histogram.put(">" + LATENCY_BUCKETS_MILLIS[LATENCY_BUCKETS_MILLIS.length - 1] + "ms", latencyBuckets[LATENCY_BUCKETS_MILLIS.length].sum());
+        return histogram;
+    }
+
+    /**
+     * 写入采样结果
+     *
+     * @param length                  Stream 长度
+     * @param lag                     积压条数
+     * @param lagMillis               积压时间（毫秒）
+     * @param pending                 Pending 消息数量
+     * @param oldestPendingIdleMillis 最早一条 Pending 消息的空闲时间（毫秒）
+     */
+    synchronized void updateSample(long length, long lag, long lagMillis, long pending, long oldestPendingIdleMillis) {
+        long now = System.currentTimeMillis();
+        long currentConsumed = consumed.sum();
+        if (sampledAt > 0 && now > sampledAt) {
+            consumeRate = (currentConsumed - lastSampledConsumed) * 1000.0 / (now - sampledAt);
+        }
+        lastSampledConsumed = currentConsumed;
+        this.length = length;
+        this.lag = lag;
+        this.lagMillis = lagMillis;
+        this.pending = pending;
+        this.oldestPendingIdleMillis = oldestPendingIdleMillis;
+        this.sampledAt = now;
+    }
+
+    private static int bucketOf(long millis) {
+        for (int i = 0; i < LATENCY_BUCKETS_MILLIS.length; i++) {
+            if (millis <= LATENCY_BUCKETS_MILLIS[i]) {
+                return i;
+            }
+        }
+        return LATENCY_BUCKETS_MILLIS.length;
+    }
+}
@@ -0,0 +1,205 @@
+package cn.refinex.mq.redis.core.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Redis Stream 消费指标注册表
+ * <p>
+ * 每个 Stream 监听器（Stream + 消费者组）对应一个 {@link RedisStreamListenerMetrics}：
+ * <ul>
+ *     <li>消费次数、失败次数、处理耗时分布：监听器每次处理后记录</li>
+ *     <li>Stream 长度、积压、Pending 数量与最早 Pending 消息空闲时间：{@link #sample()} 低频采样，
+ *     每个监听器 2 ~ 3 条命令（{@code XINFO STREAM}、{@code XINFO GROUPS}，有 Pending 时再加一条 {@code XPENDING}）</li>
+ * </ul>
+ * 指标通过 Actuator 端点 {@code streammetrics} 查看，引入 Micrometer 时同时导出为 {@code refinex.mq.stream.*} 指标。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class RedisStreamMetrics {
+
+    /**
+     * Spring Data Redis 模板，用于采样
+     */
+    private final RedisTemplate<String, ?> redisTemplate;
+
+    /**
+     * Stream Key + 消费者组 -> 监听器指标
+     */
+    private final Map<String, RedisStreamListenerMetrics> listenerMetrics = new ConcurrentHashMap<>();
+
+    /**
+     * 指标监听器
+     */
+    private final List<RedisStreamMetricsListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 构造函数
+     *
+     * @param redisTemplate Redis 模板对象
+     */
+    public RedisStreamMetrics(RedisTemplate<String, ?> redisTemplate) {
+        if (redisTemplate == null) {
+            throw new IllegalArgumentException("Redis 模板不能为空");
+        }
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 注册监听器指标（同一 Stream 与消费者组重复注册时返回已有指标）
+     *
+     * @param streamKey Stream Key
+     * @param group     消费者组
+     * @param listener  监听器名称
+     * @return 监听器指标
+     */
+    public RedisStreamListenerMetrics register(String streamKey, String group, String listener) {
+        RedisStreamListenerMetrics[] created = new RedisStreamListenerMetrics[1];
+        RedisStreamListenerMetrics metrics = listenerMetrics.computeIfAbsent(streamKey + "|" + group, key -> {
+            created[0] = new RedisStreamListenerMetrics(this, streamKey, group, listener);
+            return created[0];
+        });
+        if (created[0] != null) {
+            listeners.forEach(l -> l.onListenerRegistered(metrics));
+        }
+        return metrics;
+    }
+
+    /**
+     * 获取所有监听器指标
+     *
+     * @return 监听器指标
+     */
+    public Collection<RedisStreamListenerMetrics> getListenerMetrics() {
+        return Collections.unmodifiableCollection(listenerMetrics.values());
+    }
+
+    /**
+     * 添加指标监听器
+     *
+     * @param listener 指标监听器
+     */
+    public void addListener(RedisStreamMetricsListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 采样所有监听器的 Stream 长度、积压与 Pending 情况
+     */
+    public void sample() {
+        StreamOperations<String, Object, Object> ops = redisTemplate.opsForStream();
+        for (RedisStreamListenerMetrics metrics : listenerMetrics.values()) {
+            try {
+                sample(ops, metrics);
+            } catch (Exception e) {
+                log.warn("[Redis MQ] Stream 指标采样失败 - StreamKey: {}, Group: {}: {}", metrics.getStreamKey(), metrics.getGroup(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 通知指标监听器完成一次处理
+     *
+     * @param metrics 监听器指标
+     * @param count   消息数量
+     * @param nanos   处理耗时（纳秒）
+     * @param success 是否成功
+     */
+    void notifyConsumed(RedisStreamListenerMetrics metrics, int count, long nanos, boolean success) {
+        for (RedisStreamMetricsListener listener : listeners) {
+            try {
+                listener.onConsumed(metrics, count, nanos, success);
+            } catch (Exception e) {
+                log.warn("[Redis MQ] Stream 指标监听器执行异常 - 监听器: {}", listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    /**
+     * 采样单个监听器
+     *
+     * @param ops     Stream 操作对象
+     * @param metrics 监听器指标
+     */
+    private void sample(StreamOperations<String, Object, Object> ops, RedisStreamListenerMetrics metrics) {
+        String streamKey = metrics.getStreamKey();
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(streamKey))) {
+            metrics.updateSample(0, 0, 0, 0, 0);
+            return;
+        }
+
+        StreamInfo.XInfoStream stream = ops.info(streamKey);
+        StreamInfo.XInfoGroup group = ops.groups(streamKey).stream()
+                .filter(g -> metrics.getGroup().equals(g.groupName()))
+                .findFirst()
+                .orElse(null);
+        if (group == null) {
+            metrics.updateSample(stream.streamLength(), -1, -1, 0, 0);
+            return;
+        }
+
+        long pending = group.pendingCount() == null ? 0 : group.pendingCount();
+        long oldestIdle = 0;
+        if (pending > 0) {
+            PendingMessages oldest = ops.pending(streamKey, metrics.getGroup(), Range.unbounded(), 1);
+            if (oldest != null && !oldest.isEmpty()) {
+                oldestIdle = oldest.get(0).getElapsedTimeSinceLastDelivery().toMillis();
+            }
+        }
+
+        metrics.updateSample(stream.streamLength(), parseLag(group.getRaw().get("lag")),
+                lagMillis(stream.lastGeneratedId(), group.lastDeliveredId()), pending, oldestIdle);
+    }
+
+    /**
+     * 解析 XINFO GROUPS 的 lag 字段（Redis 7.0+）
+     *
+     * @param raw 原始值
+     * @return 积压条数，不可用时返回 -1
+     */
+    private static long parseLag(Object raw) {
+        if (raw instanceof Number number) {
+            return number.longValue();
+        }
+        if (raw instanceof String text && !text.isEmpty()) {
+            try {
+                return Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 计算积压时间：最新消息与最后投递消息的 ID 时间差
+     *
+     * @param lastGeneratedId 最新消息 ID
+     * @param lastDeliveredId 最后投递消息 ID
+     * @return 积压时间（毫秒）
+     */
+    private static long lagMillis(String lastGeneratedId, String lastDeliveredId) {
+        if (lastGeneratedId == null || lastDeliveredId == null) {
+            return -1;
+        }
+        try {
+            return Math.max(0, RecordId.of(lastGeneratedId).getTimestamp() - RecordId.of(lastDeliveredId).getTimestamp());
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package cn.refinex.mq.redis.core.metrics;
+
+/**
+ * Stream 消费指标监听器
+ * <p>
+ * 用于将消费事件转发到外部监控系统（如 Micrometer），在监听器处理线程中同步回调，实现需保证轻量。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public interface RedisStreamMetricsListener {
+
+    /**
+     * 注册了新的监听器指标
+     *
+     * @param metrics 监听器指标
+     */
+    default void onListenerRegistered(RedisStreamListenerMetrics metrics) {
+    }
+
+    /**
+     * 完成一次处理（单条或一批消息）
+     *
+     * @param metrics 监听器指标
+     * @param count   消息数量
+     * @param nanos   处理耗时（纳秒）
+     * @param success 是否成功
+     */
+    default void onConsumed(RedisStreamListenerMetrics metrics, int count, long nanos, boolean success) {
+    }
+}
@@ -0,0 +1,155 @@
+package cn.refinex.mq.redis.core.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis Stream 消费指标 Micrometer 绑定器
+ * <p>
+ * 每个监听器注册一组以 {@code stream}、{@code group}、{@code listener} 为标签的指标:
+ * <ul>
+ *     <li>{@code refinex.mq.stream.length}: Stream 长度</li>
+ *     <li>{@code refinex.mq.stream.lag}: 消费者组积压条数（Redis 7.0+，低版本为 -1）</li>
+ *     <li>{@code refinex.mq.stream.lag.time}: 最新消息与最后投递消息的时间差</li>
+ *     <li>{@code refinex.mq.stream.pending} / {@code refinex.mq.stream.pending.oldest.idle}: Pending 数量与最早 Pending 消息空闲时间</li>
+ *     <li>{@code refinex.mq.stream.consumed} / {@code refinex.mq.stream.errors}: 消费成功与失败的消息数量</li>
+ *     <li>{@code refinex.mq.stream.consume.rate}: 最近两次采样之间的消费速率（条/秒）</li>
+ *     <li>{@code refinex.mq.stream.consume}: 处理耗时（带直方图，result 标签为 success/failure）</li>
+ * </ul>
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class RedisStreamMetricsMeterBinder implements MeterBinder, RedisStreamMetricsListener {
+
+    /**
+     * Stream 消费指标注册表
+     */
+    private final RedisStreamMetrics streamMetrics;
+
+    /**
+     * 已绑定的 Micrometer 注册表
+     */
+    private final List<MeterRegistry> meterRegistries = new ArrayList<>();
+
+    /**
+     * 监听器指标 -> 处理耗时 Timer（成功/失败各一组，每个 Micrometer 注册表一个）
+     */
+    private final Map<RedisStreamListenerMetrics, ListenerTimers> timers = new ConcurrentHashMap<>();
+
+    /**
+     * 构造函数
+     *
+     * @param streamMetrics Stream 消费指标注册表
+     */
+    public RedisStreamMetricsMeterBinder(RedisStreamMetrics streamMetrics) {
+        this.streamMetrics = streamMetrics;
+    }
+
+    @Override
+    public synchronized void bindTo(MeterRegistry registry) {
+        boolean first = meterRegistries.isEmpty();
+        meterRegistries.add(registry);
+
+        for (RedisStreamListenerMetrics metrics : streamMetrics.getListenerMetrics()) {
+            register(registry, metrics);
+        }
+        if (first) {
+            streamMetrics.addListener(this);
+        }
+    }
+
+    @Override
+    public synchronized void onListenerRegistered(RedisStreamListenerMetrics metrics) {
+        for (MeterRegistry registry : meterRegistries) {
+            register(registry, metrics);
+        }
+    }
+
+    @Override
+    public void onConsumed(RedisStreamListenerMetrics metrics, int count, long nanos, boolean success) {
+        ListenerTimers listenerTimers = timers.get(metrics);
+        if (listenerTimers == null) {
+            return;
+        }
+        for (Timer timer : success ? listenerTimers.success() : listenerTimers.failure()) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 为监听器注册指标
+     *
+     * @param registry Micrometer 注册表
+     * @param metrics  监听器指标
+     */
+    private void register(MeterRegistry registry, RedisStreamListenerMetrics metrics) {
+        Tags tags = Tags.of("stream", metrics.getStreamKey(), "group", metrics.getGroup(), "listener", metrics.getListener());
+
+        Gauge.builder("refinex.mq.stream.length", metrics, RedisStreamListenerMetrics::getLength)
+                .tags(tags)
+                .description("Stream 长度")
+                .register(registry);
+        Gauge.builder("refinex.mq.stream.lag", metrics, RedisStreamListenerMetrics::getLag)
+                .tags(tags)
+                .description("消费者组积压条数")
+                .register(registry);
+        TimeGauge.builder("refinex.mq.stream.lag.time", metrics, TimeUnit.MILLISECONDS, RedisStreamListenerMetrics::getLagMillis)
+                .tags(tags)
+                .description("最新消息与最后投递消息的时间差")
+                .register(registry);
+        Gauge.builder("refinex.mq.stream.pending", metrics, RedisStreamListenerMetrics::getPending)
+                .tags(tags)
+                .description("Pending 消息数量")
+                .register(registry);
+        TimeGauge.builder("refinex.mq.stream.pending.oldest.idle", metrics, TimeUnit.MILLISECONDS, RedisStreamListenerMetrics::getOldestPendingIdleMillis)
+                .tags(tags)
+                .description("最早一条 Pending 消息的空闲时间")
+                .register(registry);
+        FunctionCounter.builder("refinex.mq.stream.consumed", metrics, RedisStreamListenerMetrics::getConsumed)
+                .tags(tags)
+                .description("消费成功的消息数量")
+                .register(registry);
+        FunctionCounter.builder("refinex.mq.stream.errors", metrics, RedisStreamListenerMetrics::getFailed)
+                .tags(tags)
+                .description("处理失败的消息数量")
+                .register(registry);
+        Gauge.builder("refinex.mq.stream.consume.rate", metrics, RedisStreamListenerMetrics::getConsumeRate)
+                .tags(tags)
+                .description("消费速率（条/秒）")
+                .register(registry);
+
+        ListenerTimers listenerTimers = timers.computeIfAbsent(metrics, k -> new ListenerTimers(new CopyOnWriteArrayList<>(), new CopyOnWriteArrayList<>()));
+        listenerTimers.success().add(Timer.builder("refinex.mq.stream.consume")
+                .tags(tags.and("result", "success"))
+                .description("消息处理耗时")
+                .publishPercentileHistogram()
+                .register(registry));
+        listenerTimers.failure().add(Timer.builder("refinex.mq.stream.consume")
+                .tags(tags.and("result", "failure"))
+                .description("消息处理耗时")
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    /**
+     * 监听器的处理耗时 Timer
+     *
+     * @param success 处理成功的 Timer
+     * @param failure 处理失败的 Timer
+     */
+    private record ListenerTimers(List<Timer> success, List<Timer> failure) {
+    }
+}
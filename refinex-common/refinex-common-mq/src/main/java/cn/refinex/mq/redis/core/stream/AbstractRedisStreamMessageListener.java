@@ -5,15 +5,18 @@ import cn.refinex.common.json.utils.JsonUtils;
 import cn.refinex.mq.redis.core.RedisMQTemplate;
 import cn.refinex.mq.redis.core.interceptor.RedisMessageInterceptor;
 import cn.refinex.mq.redis.core.message.AbstractRedisMessage;
+import cn.refinex.mq.redis.core.metrics.RedisStreamListenerMetrics;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.connection.stream.ObjectRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.stream.StreamListener;
 
 import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -26,7 +29,9 @@ import java.util.List;
  *     <li>自动解析泛型，获取消息类型</li>
  *     <li>自动反序列化 JSON 消息</li>
  *     <li>自动执行拦截器链</li>
- *     <li>自动 ACK 消息确认</li>
+ *     <li>自动 ACK 消息确认（可合并为批量 ACK）</li>
+ *     <li>可配置并发度、分区顺序消费与批量消费</li>
+ *     <li>记录消费次数、失败次数与处理耗时</li>
  *     <li>提供模板方法，简化业务实现</li>
  * </ul>
  *
@@ -47,6 +52,11 @@ import java.util.List;
 @Slf4j
 public abstract class AbstractRedisStreamMessageListener<T extends AbstractRedisStreamMessage> implements StreamListener<String, ObjectRecord<String, String>> {
 
+    /**
+     * Pending 消息恢复时等待处理通道空闲的最长时间
+     */
+    private static final Duration DELIVER_TIMEOUT = Duration.ofMillis(200);
+
     /**
      * 消息类型的 Class 对象
      */
@@ -71,6 +81,23 @@ public abstract class AbstractRedisStreamMessageListener<T extends AbstractRedis
     @Setter
     private RedisMQTemplate redisMQTemplate;
 
+    /**
+     * 批量 ACK 合并器，为 null 时每批消息立即 ACK
+     */
+    @Setter
+    private RedisStreamAckBatcher ackBatcher;
+
+    /**
+     * 消费指标，为 null 时不记录
+     */
+    @Setter
+    private RedisStreamListenerMetrics metrics;
+
+    /**
+     * 消息分发器，注册到消费容器时设置
+     */
+    private RedisStreamMessageDispatcher<T> dispatcher;
+
     /**
      * 构造函数
      *
@@ -88,52 +115,45 @@ public abstract class AbstractRedisStreamMessageListener<T extends AbstractRedis
     /**
      * 处理接收到的 Redis Stream 消息
      *
-     * <p>该方法由 Spring Data Redis 框架调用，负责消息的反序列化、业务处理、ACK 确认和拦截器执行。</p>
+     * <p>该方法由 Spring Data Redis 框架调用，负责消息的反序列化、业务处理、ACK 确认和拦截器执行。
+     * 通过 {@link RedisStreamMessageDispatcher} 注册时由分发器调用 {@link #consume(List, List)}，不经过该方法。</p>
      *
      * @param message Redis Stream 消息记录
      */
     @Override
     public final void onMessage(ObjectRecord<String, String> message) {
-        T messageObj = null;
-        boolean success = false;
-
+        T messageObj;
         try {
-            // 反序列化消息
-            messageObj = JsonUtils.convert(message.getValue(), messageType);
-            if (messageObj == null) {
-                log.warn("[Stream监听器] 消息反序列化结果为 null - StreamKey: {}, MessageId: {}", streamKey, message.getId());
-                // 空消息直接 ACK，避免重复处理
-                acknowledgeMessage(message);
-                return;
-            }
-
-            log.debug("[Stream监听器] 接收到消息 - StreamKey: {}, MessageId: {}, 消息类型: {}", streamKey, message.getId(), messageType.getSimpleName());
-
-            // 执行消费前拦截器
-            consumeMessageBefore(messageObj);
-
-            // 处理业务逻辑
-            this.onMessage(messageObj);
-
-            // 业务处理成功，ACK 消息
-            acknowledgeMessage(message);
-            success = true;
-
-            log.debug("[Stream监听器] 消息处理成功 - StreamKey: {}, MessageId: {}", streamKey, message.getId());
+            messageObj = convert(message);
         } catch (Exception e) {
-            log.error("[Stream监听器] 处理消息异常 - StreamKey: {}, MessageId: {}, 消息类型: {}", streamKey, message.getId(), messageType.getSimpleName(), e);
+            log.error("[Stream监听器] 消息反序列化异常 - StreamKey: {}, MessageId: {}, 消息类型: {}", streamKey, message.getId(), messageType.getSimpleName(), e);
             // 不 ACK，消息会保留在 Pending 列表，超时后会被重新投递
-        } finally {
-            // 执行消费后拦截器（即使发生异常也要执行）
-            if (messageObj != null) {
-                consumeMessageAfter(messageObj);
-            }
+            return;
+        }
+        if (messageObj == null) {
+            // 空消息直接 ACK，避免重复处理
+            acknowledge(List.of(message.getId()));
+            return;
+        }
+        consume(List.of(message.getId()), List.of(messageObj));
+    }
 
-            // 记录处理结果
-            if (!success) {
-                log.warn("[Stream监听器] 消息未被确认，将进入 Pending 列表 - StreamKey: {}, MessageId: {}", streamKey, message.getId());
-            }
+    /**
+     * 投递消息：存在分发器时交给处理线程，否则在当前线程处理
+     *
+     * <p>用于 Pending 消息恢复：认领（XCLAIM）到当前消费者的消息通过该方法重新处理。
+     * 处理通道已满时最多等待 {@link #DELIVER_TIMEOUT}，不阻塞调用方的定时任务线程；未能投递的消息保留在 Pending 列表，由下次扫描处理。</p>
+     *
+     * @param message Redis Stream 消息记录
+     * @return true 已投递，false 处理通道已满或分发器已停止
+     */
+    public boolean deliver(ObjectRecord<String, String> message) {
+        RedisStreamMessageDispatcher<T> current = dispatcher;
+        if (current != null) {
+            return current.offer(message, DELIVER_TIMEOUT);
         }
+        onMessage(message);
+        return true;
     }
 
     /**
@@ -156,8 +176,7 @@ public abstract class AbstractRedisStreamMessageListener<T extends AbstractRedis
      *
      * <p><strong>注意事项：</strong></p>
      * <ul>
-     *     <li>该方法应该尽快返回，避免阻塞其他消息的处理</li>
-     *     <li>如果处理耗时较长，建议异步处理或使用线程池</li>
+     *     <li>处理较慢时可通过 {@link #getConcurrency()} 提高并发度，而不是在方法内自行异步处理（异步处理会在完成前 ACK）</li>
      *     <li>根据业务需求决定是否抛出异常触发重试</li>
      *     <li>重试次数过多的消息应该转入死信队列</li>
      * </ul>
@@ -167,26 +186,156 @@ public abstract class AbstractRedisStreamMessageListener<T extends AbstractRedis
      */
     public abstract void onMessage(T message);
 
+    /**
+     * 批量处理业务消息
+     *
+     * <p>{@link #getConsumeBatchSize()} 大于 1 时，分发器一次取出多条消息调用该方法，默认逐条调用 {@link #onMessage(AbstractRedisStreamMessage)}。
+     * 一批消息整体 ACK：正常返回时全部确认，抛出异常时全部保留在 Pending 列表等待重新投递。</p>
+     *
+     * <p>批量处理时，这一批消息的消费前拦截器先依次执行，处理完成后再依次执行消费后拦截器。</p>
+     *
+     * @param messages 已反序列化的消息对象（同一分区的消息保持发送顺序）
+     */
+    public void onMessages(List<T> messages) {
+        messages.forEach(this::onMessage);
+    }
+
+    /**
+     * 消费并发度（处理线程数）
+     *
+     * <p>返回 null 时使用 {@code refinex.mq.redis.stream.consumer.concurrency} 配置。
+     * 每个处理线程独立排队，慢消息只阻塞所在线程，不影响消息拉取与其他线程。</p>
+     *
+     * @return 并发度
+     */
+    public Integer getConcurrency() {
+        return null;
+    }
+
+    /**
+     * 每次调用 {@link #onMessages(List)} 最多处理的消息数量
+     *
+     * <p>默认 1，即逐条调用 {@link #onMessage(AbstractRedisStreamMessage)} 并逐条确认。</p>
+     *
+     * @return 批量处理大小
+     */
+    public int getConsumeBatchSize() {
+        return 1;
+    }
+
+    /**
+     * 获取消息的分区键
+     *
+     * <p>分区键相同的消息总是分发到同一个处理线程，按发送顺序依次处理（例如按用户ID、订单号保证顺序）；
+     * 返回 null 时消息分发到当前最空闲的处理线程，不保证顺序。</p>
+     *
+     * <p>注意：处理失败的消息会在超时后重新投递，此时顺序无法保证。</p>
+     *
+     * @param message 已反序列化的消息对象
+     * @return 分区键，不需要顺序时返回 null
+     */
+    public String getPartitionKey(T message) {
+        return null;
+    }
+
+    /**
+     * 设置消息分发器
+     *
+     * @param dispatcher 消息分发器
+     */
+    void setDispatcher(RedisStreamMessageDispatcher<T> dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * 反序列化消息
+     *
+     * @param record Redis Stream 消息记录
+     * @return 消息对象，消息体为空时返回 null
+     */
+    T convert(ObjectRecord<String, String> record) {
+        T messageObj = JsonUtils.fromJson(record.getValue(), messageType);
+        if (messageObj == null) {
+            log.warn("[Stream监听器] 消息反序列化结果为 null - StreamKey: {}, MessageId: {}", streamKey, record.getId());
+        }
+        return messageObj;
+    }
+
+    /**
+     * 处理一批消息：执行拦截器与业务逻辑，成功后 ACK
+     *
+     * @param recordIds 消息记录 ID
+     * @param messages  已反序列化的消息对象（与记录 ID 一一对应）
+     */
+    void consume(List<RecordId> recordIds, List<T> messages) {
+        boolean success = false;
+
+        try {
+            log.debug("[Stream监听器] 接收到消息 - StreamKey: {}, MessageId: {}, 消息类型: {}", streamKey, recordIds, messageType.getSimpleName());
+
+            // 执行消费前拦截器
+            messages.forEach(this::consumeMessageBefore);
+
+            // 处理业务逻辑
+            long start = System.nanoTime();
+            boolean handled = false;
+            try {
+                if (messages.size() == 1) {
+                    this.onMessage(messages.get(0));
+                } else {
+                    this.onMessages(messages);
+                }
+                handled = true;
+            } finally {
+                if (metrics != null) {
+                    metrics.record(messages.size(), System.nanoTime() - start, handled);
+                }
+            }
+
+            // 业务处理成功，ACK 消息
+            acknowledge(recordIds);
+            success = true;
+
+            log.debug("[Stream监听器] 消息处理成功 - StreamKey: {}, MessageId: {}", streamKey, recordIds);
+        } catch (Exception e) {
+            log.error("[Stream监听器] 处理消息异常 - StreamKey: {}, MessageId: {}, 消息类型: {}", streamKey, recordIds, messageType.getSimpleName(), e);
+            // 不 ACK，消息会保留在 Pending 列表，超时后会被重新投递
+        } finally {
+            // 执行消费后拦截器（即使发生异常也要执行）
+            messages.forEach(this::consumeMessageAfter);
+
+            // 记录处理结果
+            if (!success) {
+                log.warn("[Stream监听器] 消息未被确认，将进入 Pending 列表 - StreamKey: {}, MessageId: {}", streamKey, recordIds);
+            }
+        }
+    }
+
     /**
      * 确认消息已处理
      *
-     * <p>发送 ACK 到 Redis，将消息从 Pending 列表中移除。</p>
+     * <p>配置了 {@link RedisStreamAckBatcher} 时合并为批量 ACK，否则立即发送一条多 ID 的 XACK，将消息从 Pending 列表中移除。</p>
      *
-     * @param message Redis Stream 消息记录
+     * @param recordIds 消息记录 ID
      */
-    private void acknowledgeMessage(ObjectRecord<String, String> message) {
+    void acknowledge(List<RecordId> recordIds) {
+        if (ackBatcher != null) {
+            ackBatcher.acknowledge(streamKey, group, recordIds);
+            return;
+        }
+
         try {
             Long ackCount = redisMQTemplate.getRedisTemplate()
                     .opsForStream()
-                    .acknowledge(group, message);
+                    .acknowledge(streamKey, group, recordIds.toArray(new RecordId[0]));
 
-            if (ackCount > 0) {
-                log.debug("[Stream监听器] 消息 ACK 成功 - StreamKey: {}, MessageId: {}, ACK数量: {}", streamKey, message.getId(), ackCount);
+            if (ackCount != null && ackCount > 0) {
+                log.debug("[Stream监听器] 消息 ACK 成功 - StreamKey: {}, MessageId: {}, ACK数量: {}", streamKey, recordIds, ackCount);
             } else {
-                log.warn("[Stream监听器] 消息 ACK 返回 0，可能已被确认 - StreamKey: {}, MessageId: {}", streamKey, message.getId());
+                log.warn("[Stream监听器] 消息 ACK 返回 0，可能已被确认 - StreamKey: {}, MessageId: {}", streamKey, recordIds);
             }
         } catch (Exception e) {
-            log.error("[Stream监听器] 消息 ACK 失败 - StreamKey: {}, MessageId: {}", streamKey, message.getId(), e);
+            log.error("[Stream监听器] 消息 ACK 失败 - StreamKey: {}, MessageId: {}", streamKey, recordIds, e);
             // ACK 失败不影响业务处理结果，消息会在超时后被重新投递
         }
     }
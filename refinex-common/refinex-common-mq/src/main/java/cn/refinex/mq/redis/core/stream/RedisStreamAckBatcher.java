@@ -0,0 +1,183 @@
+package cn.refinex.mq.redis.core.stream;
+
+import cn.hutool.core.thread.NamedThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis Stream 批量 ACK 合并器
+ *
+ * <p>消费成功的消息 ID 按 Stream 与消费者组暂存，累计达到 {@code ackBatchSize} 条或每隔 {@code ackInterval}
+ * 合并为一条多 ID 的 {@code XACK} 发送，避免每条消息单独一次网络往返。</p>
+ *
+ * <h3>注意事项：</h3>
+ * <ul>
+ *     <li>ACK 最多延迟 {@code ackInterval}，期间进程崩溃的消息会留在 Pending 列表并被重新投递，消费逻辑需保证幂等</li>
+ *     <li>ACK 失败只记录日志，未确认的消息同样会被重新投递</li>
+ *     <li>{@link #stop()} 会发送所有暂存的 ACK，之后提交的 ACK 直接发送</li>
+ * </ul>
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class RedisStreamAckBatcher {
+
+    /**
+     * Spring Data Redis 模板，用于底层 Redis 操作
+     */
+    private final RedisTemplate<String, ?> redisTemplate;
+
+    /**
+     * 累计多少条 ACK 后立即发送
+     */
+    private final int ackBatchSize;
+
+    /**
+     * 定时发送间隔
+     */
+    private final Duration ackInterval;
+
+    /**
+     * Stream 与消费者组 -> 暂存的消息 ID
+     */
+    private final ConcurrentMap<AckTarget, List<RecordId>> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 定时发送线程
+     */
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * 是否已停止（停止后直接发送）
+     */
+    private volatile boolean stopped;
+
+    /**
+     * 构造函数
+     *
+     * @param redisTemplate Redis 模板对象
+     * @param ackBatchSize  累计多少条 ACK 后立即发送
+     * @param ackInterval   定时发送间隔
+     */
+    public RedisStreamAckBatcher(RedisTemplate<String, ?> redisTemplate, int ackBatchSize, Duration ackInterval) {
+        if (redisTemplate == null) {
+            throw new IllegalArgumentException("Redis 模板不能为空");
+        }
+        if (ackBatchSize <= 0 || ackInterval == null || ackInterval.isNegative() || ackInterval.isZero()) {
+            throw new IllegalArgumentException("ACK 批次大小与发送间隔必须大于 0");
+        }
+        this.redisTemplate = redisTemplate;
+        this.ackBatchSize = ackBatchSize;
+        this.ackInterval = ackInterval;
+    }
+
+    /**
+     * 启动定时发送
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("refinex-redis-stream-ack-", true));
+        long intervalMillis = ackInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushAll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 停止定时发送并发送所有暂存的 ACK
+     */
+    public synchronized void stop() {
+        stopped = true;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        flushAll();
+    }
+
+    /**
+     * 提交消费成功的消息 ID
+     *
+     * @param streamKey Stream Key
+     * @param group     消费者组
+     * @param recordIds 消息 ID
+     */
+    public void acknowledge(String streamKey, String group, Collection<RecordId> recordIds) {
+        if (recordIds == null || recordIds.isEmpty()) {
+            return;
+        }
+        AckTarget target = new AckTarget(streamKey, group);
+        if (stopped) {
+            send(target, new ArrayList<>(recordIds));
+            return;
+        }
+
+        List<RecordId> ready = null;
+        List<RecordId> ids = pending.computeIfAbsent(target, key -> new ArrayList<>());
+        synchronized (ids) {
+            ids.addAll(recordIds);
+            if (ids.size() >= ackBatchSize) {
+                ready = new ArrayList<>(ids);
+                ids.clear();
+            }
+        }
+        if (ready != null) {
+            send(target, ready);
+        }
+    }
+
+    /**
+     * 发送所有暂存的 ACK
+     */
+    public void flushAll() {
+        pending.forEach((target, ids) -> {
+            List<RecordId> ready;
+            synchronized (ids) {
+                if (ids.isEmpty()) {
+                    return;
+                }
+                ready = new ArrayList<>(ids);
+                ids.clear();
+            }
+            send(target, ready);
+        });
+    }
+
+    /**
+     * 发送一条多 ID 的 XACK
+     *
+     * @param target    Stream 与消费者组
+     * @param recordIds 消息 ID
+     */
+    private void send(AckTarget target, List<RecordId> recordIds) {
+        try {
+            Long ackCount = redisTemplate.opsForStream()
+                    .acknowledge(target.streamKey(), target.group(), recordIds.toArray(new RecordId[0]));
+            log.debug("[Stream监听器] 批量 ACK 完成 - StreamKey: {}, 提交数量: {}, ACK数量: {}", target.streamKey(), recordIds.size(), ackCount);
+        } catch (Exception e) {
+            // ACK 失败不影响业务处理结果，消息会在超时后被重新投递
+            log.error("[Stream监听器] 批量 ACK 失败 - StreamKey: {}, 消息数量: {}", target.streamKey(), recordIds.size(), e);
+        }
+    }
+
+    /**
+     * ACK 目标
+     *
+     * @param streamKey Stream Key
+     * @param group     消费者组
+     */
+    private record AckTarget(String streamKey, String group) {
+    }
+}
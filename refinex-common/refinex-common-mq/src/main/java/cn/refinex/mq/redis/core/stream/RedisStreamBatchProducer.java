@@ -0,0 +1,285 @@
+package cn.refinex.mq.redis.core.stream;
+
+import cn.hutool.core.thread.NamedThreadFactory;
+import cn.refinex.common.exception.SystemException;
+import cn.refinex.mq.redis.config.properties.RefinexRedisMQProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis Stream 批量异步生产者
+ *
+ * <p>消息先进入有界缓冲队列，由后台线程按"数量或等待时间"触发批量发送：攒够 {@code batchSize} 条，
+ * 或第一条消息等待超过 {@code linger} 时，将这一批消息通过一次 Pipeline 执行多条 {@code XADD}，
+ * 一批消息只需一次网络往返。</p>
+ *
+ * <h3>特性说明：</h3>
+ * <ul>
+ *     <li><strong>异步结果：</strong>发送结果通过 {@link CompletableFuture} 返回，完成时携带消息记录 ID</li>
+ *     <li><strong>背压：</strong>缓冲队列已满时调用方最多阻塞 {@code offerTimeout}，仍无空位则返回失败的 Future</li>
+ *     <li><strong>顺序：</strong>同一 Stream 的消息按提交顺序写入</li>
+ *     <li><strong>裁剪：</strong>配置 {@code max-length} 时每条 {@code XADD} 附带 {@code MAXLEN ~}，发送时即控制 Stream 长度</li>
+ *     <li><strong>停止：</strong>{@link #stop()} 会先发送缓冲中剩余的消息再退出</li>
+ * </ul>
+ *
+ * @author Refinex
+ * @see cn.refinex.mq.redis.core.RedisMQTemplate#sendAsync(AbstractRedisStreamMessage)
+ * @since 1.0.0
+ */
+@Slf4j
+public class RedisStreamBatchProducer {
+
+    /**
+     * 停止时等待剩余消息发送完成的最长时间
+     */
+    private static final long STOP_TIMEOUT_MILLIS = 5000L;
+
+    /**
+     * Spring Data Redis 模板，用于底层 Redis 操作
+     */
+    private final RedisTemplate<String, ?> redisTemplate;
+
+    /**
+     * XADD 选项（裁剪策略）
+     */
+    private final XAddOptions addOptions;
+
+    /**
+     * 每批最多发送的消息数量
+     */
+    private final int batchSize;
+
+    /**
+     * 批次最长等待时间（纳秒）
+     */
+    private final long lingerNanos;
+
+    /**
+     * 缓冲队列已满时的最长等待时间（纳秒）
+     */
+    private final long offerTimeoutNanos;
+
+    /**
+     * 待发送消息缓冲队列
+     */
+    private final BlockingQueue<PendingRecord> buffer;
+
+    /**
+     * 后台发送线程
+     */
+    private Thread flusher;
+
+    /**
+     * 是否正在运行
+     */
+    private volatile boolean running;
+
+    /**
+     * 构造函数
+     *
+     * @param redisTemplate Redis 模板对象
+     * @param properties    生产者配置
+     * @param addOptions    XADD 选项
+     */
+    public RedisStreamBatchProducer(RedisTemplate<String, ?> redisTemplate,
+                                    RefinexRedisMQProperties.ProducerProperties properties,
+                                    XAddOptions addOptions) {
+        if (redisTemplate == null || properties == null || addOptions == null) {
+            throw new IllegalArgumentException("Redis 模板、生产者配置与 XADD 选项不能为空");
+        }
+        this.redisTemplate = redisTemplate;
+        this.addOptions = addOptions;
+        this.batchSize = properties.getBatchSize();
+        this.lingerNanos = properties.getLinger().toNanos();
+        this.offerTimeoutNanos = properties.getOfferTimeout().toNanos();
+        this.buffer = new ArrayBlockingQueue<>(properties.getBufferCapacity());
+    }
+
+    /**
+     * 启动后台发送线程
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        flusher = new NamedThreadFactory("refinex-redis-stream-producer-", true).newThread(this::runLoop);
+        flusher.start();
+        log.info("[Redis MQ] Stream 批量生产者已启动 - batchSize: {}, linger: {}, bufferCapacity: {}",
+                batchSize, Duration.ofNanos(lingerNanos), buffer.remainingCapacity());
+    }
+
+    /**
+     * 停止后台发送线程（先发送缓冲中剩余的消息）
+     */
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            flusher.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 超时未发送的消息直接失败，避免调用方永久等待
+        List<PendingRecord> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        remaining.forEach(record -> record.future.completeExceptionally(new SystemException("Stream 批量生产者已停止，消息未发送")));
+        if (!remaining.isEmpty()) {
+            log.warn("[Redis MQ] Stream 批量生产者停止时仍有 {} 条消息未发送", remaining.size());
+        }
+    }
+
+    /**
+     * 提交消息
+     *
+     * @param streamKey Stream Key
+     * @param payload   消息内容（JSON）
+     * @return 发送结果，完成时携带消息记录 ID；缓冲已满或生产者未运行时为失败的 Future
+     */
+    public CompletableFuture<RecordId> submit(String streamKey, String payload) {
+        PendingRecord record = new PendingRecord(streamKey, payload, new CompletableFuture<>());
+        if (!running) {
+            record.future.completeExceptionally(new SystemException("Stream 批量生产者未运行"));
+            return record.future;
+        }
+
+        try {
+            if (!buffer.offer(record, offerTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                record.future.completeExceptionally(new SystemException("Stream 消息发送缓冲已满，StreamKey: " + streamKey));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            record.future.completeExceptionally(new SystemException("Stream 消息提交被中断", e));
+        }
+        return record.future;
+    }
+
+    /**
+     * 当前缓冲中待发送的消息数量
+     *
+     * @return 消息数量
+     */
+    public int getBufferedCount() {
+        return buffer.size();
+    }
+
+    /**
+     * 后台发送循环：停止后继续发送缓冲中剩余的消息
+     */
+    private void runLoop() {
+        List<PendingRecord> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                // 中断时仍发送已取出的消息
+                Thread.currentThread().interrupt();
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 收集一批消息：攒够 batchSize 条或第一条消息等待超过 linger 时返回
+     *
+     * @param batch 批次
+     * @throws InterruptedException 等待被中断
+     */
+    private void collect(List<PendingRecord> batch) throws InterruptedException {
+        // 空闲时定期醒来检查运行状态
+        PendingRecord first = buffer.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < batchSize) {
+            if (buffer.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !running) {
+                return;
+            }
+            PendingRecord next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * 通过一次 Pipeline 发送一批消息并完成对应的 Future
+     *
+     * @param batch 批次
+     */
+    private void flush(List<PendingRecord> batch) {
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, ?> streamOperations = (RedisOperations<String, ?>) operations;
+                    for (PendingRecord record : batch) {
+                        streamOperations.opsForStream().add(StreamRecords.newRecord()
+                                .ofObject(record.payload)
+                                .withStreamKey(record.streamKey), addOptions);
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.error("[Redis MQ] Stream 消息批量发送失败 - 消息数量: {}", batch.size(), e);
+            SystemException failure = new SystemException("Stream 消息发送失败", e);
+            batch.forEach(record -> record.future.completeExceptionally(failure));
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            PendingRecord record = batch.get(i);
+            Object result = i < results.size() ? results.get(i) : null;
+            if (result instanceof RecordId recordId) {
+                record.future.complete(recordId);
+            } else {
+                record.future.completeExceptionally(new SystemException("Stream 消息发送失败，StreamKey: " + record.streamKey));
+            }
+        }
+        log.debug("[Redis MQ] Stream 消息批量发送完成 - 消息数量: {}", batch.size());
+    }
+
+    /**
+     * 待发送的消息
+     *
+     * @param streamKey Stream Key
+     * @param payload   消息内容（JSON）
+     * @param future    发送结果
+     */
+    private record PendingRecord(String streamKey, String payload, CompletableFuture<RecordId> future) {
+    }
+}
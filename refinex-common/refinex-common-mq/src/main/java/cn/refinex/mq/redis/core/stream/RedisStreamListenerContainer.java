@@ -0,0 +1,103 @@
+package cn.refinex.mq.redis.core.stream;
+
+import org.springframework.data.redis.connection.stream.Record;
+import org.springframework.data.redis.stream.StreamListener;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.Subscription;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Redis Stream 消费容器（停止时同时停止分发器）
+ *
+ * <p>委托给 Spring Data Redis 的 {@link StreamMessageListenerContainer}，记录注册的 {@link RedisStreamMessageDispatcher}：
+ * 停止时先停止拉取，再中断并等待各分发器的处理线程退出。容器依赖 {@link RedisStreamAckBatcher}，
+ * 销毁顺序保证处理线程全部退出后才发送最后一批 ACK，不会有处理线程在 ACK 发送后继续提交。</p>
+ *
+ * @param <K> Stream Key 类型
+ * @param <V> 消息记录类型
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class RedisStreamListenerContainer<K, V extends Record<K, ?>> implements StreamMessageListenerContainer<K, V> {
+
+    /**
+     * 实际的消费容器
+     */
+    private final StreamMessageListenerContainer<K, V> delegate;
+
+    /**
+     * 等待分发器处理线程退出的最长时间
+     */
+    private final Duration shutdownTimeout;
+
+    /**
+     * 已注册的分发器
+     */
+    private final List<RedisStreamMessageDispatcher<?>> dispatchers = new CopyOnWriteArrayList<>();
+
+    /**
+     * 构造函数
+     *
+     * @param delegate        实际的消费容器
+     * @param shutdownTimeout 等待分发器处理线程退出的最长时间
+     */
+    public RedisStreamListenerContainer(StreamMessageListenerContainer<K, V> delegate, Duration shutdownTimeout) {
+        if (delegate == null || shutdownTimeout == null || shutdownTimeout.isNegative()) {
+            throw new IllegalArgumentException("消费容器不能为空，停止超时时间不能小于 0");
+        }
+        this.delegate = delegate;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    @Override
+    public Subscription register(StreamReadRequest<K> streamRequest, StreamListener<K, V> listener) {
+        Subscription subscription = delegate.register(streamRequest, listener);
+        if (listener instanceof RedisStreamMessageDispatcher<?> dispatcher) {
+            dispatchers.add(dispatcher);
+        }
+        return subscription;
+    }
+
+    @Override
+    public void remove(Subscription subscription) {
+        delegate.remove(subscription);
+    }
+
+    @Override
+    public void start() {
+        delegate.start();
+    }
+
+    /**
+     * 停止拉取，再停止所有分发器
+     */
+    @Override
+    public void stop() {
+        delegate.stop();
+        dispatchers.forEach(dispatcher -> dispatcher.stop(shutdownTimeout));
+    }
+
+    @Override
+    public void stop(Runnable callback) {
+        stop();
+        callback.run();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return delegate.isRunning();
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return delegate.isAutoStartup();
+    }
+
+    @Override
+    public int getPhase() {
+        return delegate.getPhase();
+    }
+}
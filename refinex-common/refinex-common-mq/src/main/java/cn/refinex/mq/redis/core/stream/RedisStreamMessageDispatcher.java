@@ -0,0 +1,342 @@
+package cn.refinex.mq.redis.core.stream;
+
+import cn.hutool.core.thread.NamedThreadFactory;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.ObjectRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.stream.StreamListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redis Stream 消息并发分发器
+ *
+ * <p>代替监听器注册到 {@link org.springframework.data.redis.stream.StreamMessageListenerContainer}，
+ * 拉取线程只负责反序列化与分发，业务处理在监听器独立的处理线程（通道）中执行，慢消息不再阻塞消息拉取。</p>
+ *
+ * <h3>分发规则：</h3>
+ * <ul>
+ *     <li><strong>分区顺序：</strong>{@link AbstractRedisStreamMessageListener#getPartitionKey} 不为 null 时，按分区键哈希固定到一个通道，
+ *     同一分区的消息按拉取顺序串行处理</li>
+ *     <li><strong>无序：</strong>分区键为 null 时分发到未完成消息（排队与处理中）最少的通道</li>
+ *     <li><strong>批量：</strong>通道每次最多取出 {@link AbstractRedisStreamMessageListener#getConsumeBatchSize()} 条消息一起处理</li>
+ *     <li><strong>背压：</strong>通道队列已满时拉取线程阻塞，停止从 Redis 拉取新消息</li>
+ * </ul>
+ *
+ * <p>处理线程为守护线程，容器停止时由 {@link RedisStreamListenerContainer} 调用 {@link #stop(Duration)}：停止接收新消息，
+ * 等待各通道处理完已排队的消息，超时后才中断仍在运行的处理线程；之后再由 {@link RedisStreamAckBatcher#stop()} 发送暂存的 ACK。
+ * 被中断或尚未处理的消息没有 ACK，会留在 Pending 列表并被重新投递。</p>
+ *
+ * @param <T> 消息类型
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class RedisStreamMessageDispatcher<T extends AbstractRedisStreamMessage> implements StreamListener<String, ObjectRecord<String, String>> {
+
+    /**
+     * 业务监听器
+     */
+    @Getter
+    private final AbstractRedisStreamMessageListener<T> listener;
+
+    /**
+     * 处理通道
+     */
+    private final List<Lane> lanes;
+
+    /**
+     * 处理线程
+     */
+    private final List<Thread> threads;
+
+    /**
+     * 每批最多处理的消息数量
+     */
+    private final int consumeBatchSize;
+
+    /**
+     * 入队等待的轮询间隔（纳秒），每个间隔检查一次分发器是否已停止
+     */
+    private static final long OFFER_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /**
+     * 是否接收新消息（停止后不再接收，处理线程处理完已排队的消息后退出）
+     */
+    private volatile boolean accepting = true;
+
+    /**
+     * 停止信号：停止时放入各通道队列，唤醒等待消息的处理线程
+     */
+    private final Delivery<T> stopSignal = new Delivery<>(null, null);
+
+    /**
+     * 构造函数
+     *
+     * @param listener     业务监听器
+     * @param concurrency  并发度（处理线程数）
+     * @param laneCapacity 每个通道的队列容量
+     */
+    public RedisStreamMessageDispatcher(AbstractRedisStreamMessageListener<T> listener, int concurrency, int laneCapacity) {
+        if (listener == null) {
+            throw new IllegalArgumentException("监听器不能为空");
+        }
+        if (concurrency <= 0 || laneCapacity <= 0) {
+            throw new IllegalArgumentException("并发度与通道容量必须大于 0");
+        }
+        this.listener = listener;
+        this.consumeBatchSize = Math.max(1, listener.getConsumeBatchSize());
+        this.lanes = new ArrayList<>(concurrency);
+        this.threads = new ArrayList<>(concurrency);
+
+        NamedThreadFactory threadFactory = new NamedThreadFactory("refinex-redis-stream-" + listener.getStreamKey() + "-", true);
+        for (int i = 0; i < concurrency; i++) {
+            Lane lane = new Lane(new ArrayBlockingQueue<>(laneCapacity));
+            lanes.add(lane);
+            Thread thread = threadFactory.newThread(lane);
+            threads.add(thread);
+            thread.start();
+        }
+        listener.setDispatcher(this);
+    }
+
+    /**
+     * 接收拉取到的消息并分发到处理通道
+     * <p>
+     * 通道队列已满时拉取线程一直等待（背压），直到入队成功或分发器停止。
+     *
+     * @param record Redis Stream 消息记录
+     */
+    @Override
+    public void onMessage(ObjectRecord<String, String> record) {
+        dispatch(record, -1);
+    }
+
+    /**
+     * 在指定时间内分发消息，通道队列已满时最多等待 {@code timeout}
+     * <p>
+     * 用于 Pending 消息恢复等不能长时间阻塞的调用方，未能入队的消息没有 ACK，保留在 Pending 列表。
+     *
+     * @param record  Redis Stream 消息记录
+     * @param timeout 最长等待时间
+     * @return true 已处理（入队、或反序列化失败/空消息已按规则处理），false 等待超时或分发器已停止，未入队
+     */
+    public boolean offer(ObjectRecord<String, String> record, Duration timeout) {
+        return dispatch(record, Math.max(0, timeout.toNanos()));
+    }
+
+    /**
+     * 反序列化并分发消息
+     *
+     * @param record       Redis Stream 消息记录
+     * @param timeoutNanos 队列已满时的最长等待时间，负数表示一直等待到分发器停止
+     * @return 是否已处理
+     */
+    private boolean dispatch(ObjectRecord<String, String> record, long timeoutNanos) {
+        if (!accepting) {
+            // 消息未 ACK，保留在 Pending 列表
+            return false;
+        }
+
+        T message;
+        try {
+            message = listener.convert(record);
+        } catch (Exception e) {
+            log.error("[Stream监听器] 消息反序列化异常 - StreamKey: {}, MessageId: {}", listener.getStreamKey(), record.getId(), e);
+            // 不 ACK，消息会保留在 Pending 列表，超时后会被重新投递
+            return true;
+        }
+        if (message == null) {
+            // 空消息直接 ACK，避免重复处理
+            listener.acknowledge(List.of(record.getId()));
+            return true;
+        }
+
+        Lane lane = selectLane(listener.getPartitionKey(message));
+        lane.load.incrementAndGet();
+        Delivery<T> delivery = new Delivery<>(record.getId(), message);
+        long deadline = System.nanoTime() + timeoutNanos;
+        try {
+            while (true) {
+                long wait = timeoutNanos < 0 ? OFFER_INTERVAL_NANOS : Math.min(OFFER_INTERVAL_NANOS, deadline - System.nanoTime());
+                if (lane.queue.offer(delivery, Math.max(0, wait), TimeUnit.NANOSECONDS)) {
+                    return true;
+                }
+                // 分发器停止后不再等待（处理线程即将退出），等待超时则放弃；消息未 ACK，保留在 Pending 列表
+                if (!accepting || (timeoutNanos >= 0 && deadline - System.nanoTime() <= 0)) {
+                    lane.load.decrementAndGet();
+                    return false;
+                }
+            }
+        } catch (InterruptedException e) {
+            // 容器停止：消息未 ACK，保留在 Pending 列表
+            lane.load.decrementAndGet();
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 停止分发器：停止接收新消息，等待处理线程处理完已排队的消息后退出，超时后中断仍在运行的处理线程
+     * <p>
+     * 被中断的批次不再 ACK，中断时队列中尚未处理的消息同样留在 Pending 列表，之后被重新投递。
+     *
+     * @param timeout 等待处理线程退出的最长时间
+     */
+    public void stop(Duration timeout) {
+        if (!accepting) {
+            return;
+        }
+        accepting = false;
+        // 唤醒空闲的处理线程；队列已满时放入失败，处理线程处理完队列后同样会退出
+        lanes.forEach(lane -> lane.queue.offer(stopSignal));
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        for (Thread thread : threads) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            try {
+                if (remainingMillis > 0) {
+                    thread.join(remainingMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        for (Thread thread : threads) {
+            if (thread.isAlive()) {
+                log.warn("[Stream监听器] 处理线程未在超时时间内处理完消息，中断处理 - StreamKey: {}, 线程: {}", listener.getStreamKey(), thread.getName());
+                thread.interrupt();
+            }
+        }
+    }
+
+    /**
+     * 当前未完成（排队与处理中）的消息数量
+     *
+     * @return 消息数量
+     */
+    public int getInFlightCount() {
+        int count = 0;
+        for (Lane lane : lanes) {
+            count += lane.load.get();
+        }
+        return count;
+    }
+
+    /**
+     * 选择处理通道
+     *
+     * @param partitionKey 分区键
+     * @return 分区键不为空时按哈希固定选择，否则选择未完成消息最少的通道
+     */
+    private Lane selectLane(String partitionKey) {
+        if (lanes.size() == 1) {
+            return lanes.get(0);
+        }
+        if (partitionKey != null) {
+            return lanes.get(Math.floorMod(spread(partitionKey.hashCode()), lanes.size()));
+        }
+
+        Lane selected = lanes.get(0);
+        int selectedLoad = selected.load.get();
+        for (int i = 1; i < lanes.size() && selectedLoad > 0; i++) {
+            int load = lanes.get(i).load.get();
+            if (load < selectedLoad) {
+                selected = lanes.get(i);
+                selectedLoad = load;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * 打散哈希值，避免分区键哈希的低位分布不均
+     *
+     * @param hash 原始哈希
+     * @return 打散后的哈希
+     */
+    private static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        return hash;
+    }
+
+    /**
+     * 待处理的消息
+     *
+     * @param recordId 消息记录 ID
+     * @param message  已反序列化的消息对象
+     * @param <T>      消息类型
+     */
+    private record Delivery<T>(RecordId recordId, T message) {
+    }
+
+    /**
+     * 处理通道：单线程串行处理队列中的消息
+     */
+    private final class Lane implements Runnable {
+
+        private final BlockingQueue<Delivery<T>> queue;
+
+        /**
+         * 未完成（排队与处理中）的消息数量
+         */
+        private final AtomicInteger load = new AtomicInteger();
+
+        private Lane(BlockingQueue<Delivery<T>> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public void run() {
+            List<Delivery<T>> batch = new ArrayList<>(consumeBatchSize);
+            List<RecordId> recordIds = new ArrayList<>(consumeBatchSize);
+            List<T> messages = new ArrayList<>(consumeBatchSize);
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    Delivery<T> first = queue.poll(1, TimeUnit.SECONDS);
+                    if (first == null || first == stopSignal) {
+                        // 停止后处理完已排队的消息再退出
+                        if (!accepting && queue.isEmpty()) {
+                            break;
+                        }
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, consumeBatchSize - 1);
+                    if (batch.remove(stopSignal)) {
+                        // 停止信号放回队尾，处理完剩余消息后再次取到时退出
+                        queue.offer(stopSignal);
+                    }
+
+                    for (Delivery<T> delivery : batch) {
+                        recordIds.add(delivery.recordId());
+                        messages.add(delivery.message());
+                    }
+                    // 拷贝一份交给监听器，监听器可能持有列表引用
+                    listener.consume(List.copyOf(recordIds), List.copyOf(messages));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    // consume 内部已处理业务异常，这里兜底避免通道线程退出
+                    log.error("[Stream监听器] 处理通道异常 - StreamKey: {}", listener.getStreamKey(), e);
+                } finally {
+                    load.addAndGet(-batch.size());
+                    batch.clear();
+                    recordIds.clear();
+                    messages.clear();
+                }
+            }
+        }
+    }
+}
@@ -3,14 +3,19 @@ package cn.refinex.common.redis;
 import cn.refinex.common.enums.HttpStatusCode;
 import cn.refinex.common.exception.SystemException;
 import cn.refinex.common.redis.basic.*;
+import cn.refinex.common.redis.pipeline.RedisPipeline;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -19,6 +24,7 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * 提供 Redis 各种数据类型的操作服务，作为统一的访问入口。
  * 集成了 String、Hash、List、Set、ZSet 等数据类型的专业化服务。
+ * 需要连续执行多条命令时使用 {@link #pipeline()}，将多次网络往返合并为一次。
  * </p>
  *
  * @author Refinex
@@ -37,6 +43,11 @@ public class RedisService {
     private final RedisSetService setService;
     private final RedisZSetService zSetService;
 
+    /**
+     * 按前缀删除时每批 SCAN/UNLINK 的 key 数量
+     */
+    private static final int DELETE_BY_PREFIX_BATCH_SIZE = 500;
+
     // ========== 通用操作 ==========
 
     /**
@@ -196,6 +207,94 @@ public class RedisService {
         }
     }
 
+    /**
+     * 按前缀删除 key
+     * <p>
+     * 使用 SCAN 增量遍历（不阻塞 Redis，区别于 {@link #keys(String)}），每批通过 UNLINK 异步删除。
+     *
+     * @param prefix 键前缀（不含通配符，其中的通配符会被转义）
+     * @return 删除的数量
+     */
+    public long deleteByPrefix(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            throw new IllegalArgumentException("删除前缀不能为空");
+        }
+
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(escapePattern(prefix) + "*")
+                .count(DELETE_BY_PREFIX_BATCH_SIZE)
+                .build();
+        long deleted = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> batch = new ArrayList<>(DELETE_BY_PREFIX_BATCH_SIZE);
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= DELETE_BY_PREFIX_BATCH_SIZE) {
+                    deleted += unlink(batch);
+                    batch.clear();
+                }
+            }
+            deleted += unlink(batch);
+            return deleted;
+        } catch (Exception e) {
+            log.error("按前缀删除 key 失败，prefix: {}, 已删除: {}", prefix, deleted, e);
+            throw new SystemException(HttpStatusCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // ========== 管道 ==========
+
+    /**
+     * 创建 Redis 管道
+     *
+     * @return RedisPipeline
+     */
+    public RedisPipeline pipeline() {
+        return new RedisPipeline(redisTemplate, RedisPipeline.DEFAULT_FLUSH_SIZE);
+    }
+
+    /**
+     * 创建 Redis 管道
+     *
+     * @param flushSize 每次网络往返发送的命令数
+     * @return RedisPipeline
+     */
+    public RedisPipeline pipeline(int flushSize) {
+        return new RedisPipeline(redisTemplate, flushSize);
+    }
+
+    /**
+     * 异步删除一批 key
+     *
+     * @param keys 键集合
+     * @return 删除的数量
+     */
+    private long unlink(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long count = redisTemplate.unlink(keys);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 转义 SCAN MATCH 模式中的通配符
+     *
+     * @param text 原始文本
+     * @return 转义后的文本
+     */
+    public static String escapePattern(String text) {
+        StringBuilder sb = new StringBuilder(text.length() + 8);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '*' || c == '?' || c == '[' || c == ']' || c == '\\') {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
     // ========== 数据类型专业化服务访问器 ==========
 
     /**
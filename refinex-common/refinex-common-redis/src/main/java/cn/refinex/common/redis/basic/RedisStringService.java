@@ -2,6 +2,7 @@ package cn.refinex.common.redis.basic;
 
 import cn.refinex.common.enums.HttpStatusCode;
 import cn.refinex.common.exception.SystemException;
+import cn.refinex.common.redis.pipeline.RedisPipeline;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisCallback;
@@ -12,7 +13,9 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * Redis String 类型操作服务
@@ -219,6 +222,55 @@ public class RedisStringService {
         }
     }
 
+    /**
+     * 获取值，类型不匹配时视为未命中
+     * <p>
+     * 用于直接存储对象的缓存：旧版本写入的 JSON 字符串等其他类型的值返回 null，由调用方回源后覆盖写入。
+     *
+     * @param key   键
+     * @param clazz 目标类型
+     * @param <T>   类型参数
+     * @return 值，不存在或类型不匹配时返回 null
+     */
+    public <T> T getIfInstance(String key, Class<T> clazz) {
+        Object value = get(key);
+        if (clazz.isInstance(value)) {
+            return clazz.cast(value);
+        }
+        if (value != null) {
+            log.debug("缓存值类型不匹配，视为未命中，key: {}, expected: {}, actual: {}", key, clazz.getName(), value.getClass().getName());
+        }
+        return null;
+    }
+
+    /**
+     * 获取列表值，类型不匹配时视为未命中
+     *
+     * @param key         键
+     * @param elementType 元素类型
+     * @param <E>         元素类型参数
+     * @return 列表，不存在、不是列表或元素类型不匹配时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    public <E> List<E> getList(String key, Class<E> elementType) {
+        Object value = get(key);
+        return value instanceof List<?> list && isElementsOf(list, elementType) ? (List<E>) list : null;
+    }
+
+    /**
+     * 获取集合值，类型不匹配时视为未命中
+     *
+     * @param key         键
+     * @param elementType 元素类型
+     * @param <E>         元素类型参数
+     * @return 集合，不存在、不是集合或元素类型不匹配时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    public <E> Set<E> getSet(String key, Class<E> elementType) {
+        Object value = get(key);
+        return value instanceof Set<?> set && isElementsOf(set, elementType) ? (Set<E>) set : null;
+    }
+
     /**
      * 获取并设置新值（原子操作）
      *
@@ -251,6 +303,34 @@ public class RedisStringService {
         }
     }
 
+    /**
+     * 批量设置值并指定统一的过期时间（管道执行，MSET 不支持过期时间）
+     *
+     * @param map      键值对映射
+     * @param duration 过期时间
+     */
+    public void multiSet(Map<String, Object> map, Duration duration) {
+        multiSet(map, key -> duration);
+    }
+
+    /**
+     * 批量设置值并按 key 指定过期时间（管道执行）
+     * <p>
+     * 可用于为每个 key 加随机偏移，避免同时过期导致缓存雪崩。
+     *
+     * @param map         键值对映射
+     * @param ttlResolver key -> 过期时间
+     */
+    public void multiSet(Map<String, Object> map, Function<String, Duration> ttlResolver) {
+        if (map == null || map.isEmpty()) {
+            return;
+        }
+
+        RedisPipeline pipeline = new RedisPipeline(redisTemplate, RedisPipeline.DEFAULT_FLUSH_SIZE);
+        map.forEach((key, value) -> pipeline.string().set(key, value, ttlResolver.apply(key)));
+        pipeline.execute();
+    }
+
     /**
      * 仅当所有 key 都不存在时批量设置值
      *
@@ -495,4 +575,20 @@ public class RedisStringService {
             throw new SystemException(HttpStatusCode.INTERNAL_SERVER_ERROR);
         }
     }
+
+    /**
+     * 校验集合元素类型
+     *
+     * @param collection  集合
+     * @param elementType 元素类型
+     * @return 所有非空元素都是指定类型时返回 true
+     */
+    private static boolean isElementsOf(Collection<?> collection, Class<?> elementType) {
+        for (Object element : collection) {
+            if (element != null && !elementType.isInstance(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
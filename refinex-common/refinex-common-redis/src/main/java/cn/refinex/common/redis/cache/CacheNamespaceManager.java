@@ -0,0 +1,353 @@
+package cn.refinex.common.redis.cache;
+
+import cn.hutool.core.thread.NamedThreadFactory;
+import cn.hutool.core.util.IdUtil;
+import cn.refinex.common.enums.HttpStatusCode;
+import cn.refinex.common.exception.SystemException;
+import cn.refinex.common.redis.RedisService;
+import cn.refinex.common.redis.properties.RefinexRedisProperties;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 缓存命名空间管理器（基于代数的批量失效）
+ * <p>
+ * 每个命名空间在 Redis 中维护一个代数计数器，缓存键形如 {@code <namespace>:v<代数>:<suffix>}：
+ * <ul>
+ *     <li>失效整个命名空间只需一次 {@code INCR}，之后读写都落到新代数的键上，旧代数的键不再被访问，随 TTL 自然过期</li>
+ *     <li>代数在本地缓存，失效时通过 Redis Pub/Sub 广播给其他节点（自身作为 {@link MessageListener} 订阅）；
+ *     广播丢失时本地代数最多陈旧 {@code refinex.redis.namespace.generation-refresh-interval}</li>
+ *     <li>失效后延迟 {@code refinex.redis.namespace.sweep-delay} 在后台通过 {@code SCAN} + {@code UNLINK} 清理旧代数的键，
+ *     不阻塞 Redis；延迟期间多次失效只清理一次。也可直接调用 {@link #sweep(String)} / {@link #sweepAsync(String)}</li>
+ *     <li>{@link #getOrLoad(String, String, Class, Duration, Supplier)} 封装"读缓存、未命中时加载并回写"的通用流程</li>
+ * </ul>
+ * 相比 {@code KEYS} + {@code DEL}，失效操作与键数量无关，也不会出现"删除后被并发的旧查询结果重新写回"的问题。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class CacheNamespaceManager implements MessageListener {
+
+    /**
+     * 代数计数器 Redis Key 前缀
+     */
+    private static final String GENERATION_KEY_PREFIX = "cache_namespace:";
+
+    /**
+     * 代数在缓存键中的标记
+     */
+    private static final String GENERATION_MARK = ":v";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final RefinexRedisProperties.CacheNamespaceProperties properties;
+
+    /**
+     * 当前节点标识
+     */
+    @Getter
+    private final String nodeId = IdUtil.fastSimpleUUID();
+
+    /**
+     * 命名空间 -> 本地缓存的代数
+     */
+    private final ConcurrentMap<String, LocalGeneration> generations = new ConcurrentHashMap<>();
+
+    /**
+     * 已安排延迟清理、尚未执行的命名空间
+     */
+    private final Set<String> pendingSweeps = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 旧代数清理线程池
+     */
+    private final ScheduledExecutorService sweepExecutor = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("refinex-cache-namespace-sweep-", true));
+
+    /**
+     * 构造函数
+     *
+     * @param redisTemplate Redis 模板
+     * @param properties    命名空间配置
+     */
+    public CacheNamespaceManager(RedisTemplate<String, Object> redisTemplate, RefinexRedisProperties.CacheNamespaceProperties properties) {
+        if (redisTemplate == null || properties == null) {
+            throw new IllegalArgumentException("Redis 模板与命名空间配置不能为空");
+        }
+        if (properties.getSweepBatchSize() <= 0) {
+            throw new IllegalArgumentException("旧代数清理批次大小必须大于 0");
+        }
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * 构建命名空间内的缓存键
+     *
+     * @param namespace 命名空间（如 dict:type:page_query）
+     * @param suffix    命名空间内的键
+     * @return 带当前代数的缓存键，格式：{namespace}:v{generation}:{suffix}
+     */
+    public String key(String namespace, String suffix) {
+        return namespace + GENERATION_MARK + generation(namespace) + ":" + suffix;
+    }
+
+    /**
+     * 读取命名空间内的缓存，未命中时加载并写入当前代数的缓存
+     * <p>
+     * 读写 Redis 失败时直接返回加载结果；加载结果为 null 时不缓存。
+     *
+     * @param namespace 命名空间
+     * @param suffix    命名空间内的键
+     * @param type      缓存值类型
+     * @param ttl       过期时间
+     * @param loader    加载函数
+     * @param <T>       缓存值类型
+     * @return 缓存值或加载结果
+     */
+    public <T> T getOrLoad(String namespace, String suffix, Class<T> type, Duration ttl, Supplier<T> loader) {
+        String cacheKey = null;
+        try {
+            cacheKey = key(namespace, suffix);
+            Object cached = redisTemplate.opsForValue().get(cacheKey);
+            if (type.isInstance(cached)) {
+                return type.cast(cached);
+            }
+        } catch (Exception e) {
+            log.warn("读取命名空间缓存失败，namespace: {}", namespace, e);
+        }
+
+        T value = loader.get();
+        if (cacheKey != null && value != null) {
+            try {
+                redisTemplate.opsForValue().set(cacheKey, value, ttl);
+            } catch (Exception e) {
+                log.warn("写入命名空间缓存失败，namespace: {}", namespace, e);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 获取命名空间当前代数（优先使用本地缓存）
+     *
+     * @param namespace 命名空间
+     * @return 当前代数，从未失效过时为 0
+     */
+    public long generation(String namespace) {
+        checkNamespace(namespace);
+        LocalGeneration local = generations.get(namespace);
+        long now = System.nanoTime();
+        if (local != null && now - local.loadedNanos < properties.getGenerationRefreshInterval().toNanos()) {
+            return local.generation;
+        }
+
+        Object value = redisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + namespace);
+        long generation = value == null ? 0L : Long.parseLong(value.toString());
+        return update(namespace, generation, now);
+    }
+
+    /**
+     * 失效整个命名空间：代数加一、广播给其他节点，并安排延迟清理旧代数的键
+     *
+     * @param namespace 命名空间
+     * @return 新的代数
+     */
+    public long invalidate(String namespace) {
+        checkNamespace(namespace);
+        Long generation = redisTemplate.opsForValue().increment(GENERATION_KEY_PREFIX + namespace);
+        if (generation == null) {
+            throw new SystemException(HttpStatusCode.INTERNAL_SERVER_ERROR, "命名空间代数递增失败，namespace: " + namespace);
+        }
+        update(namespace, generation, System.nanoTime());
+
+        try {
+            redisTemplate.convertAndSend(properties.getChannel(), new NamespaceInvalidationMessage(nodeId, namespace, generation));
+        } catch (Exception e) {
+            log.warn("命名空间失效广播发送失败，namespace: {}, generation: {}", namespace, generation, e);
+        }
+        scheduleSweep(namespace);
+        return generation;
+    }
+
+    /**
+     * 安排延迟清理旧代数的键
+     * <p>
+     * 延迟执行让失效前已开始的查询先写完旧代数的键，避免清理后又被写回；同一命名空间在执行前多次失效只清理一次。
+     *
+     * @param namespace 命名空间
+     */
+    private void scheduleSweep(String namespace) {
+        Duration delay = properties.getSweepDelay();
+        if (!properties.isSweepAfterInvalidate() || delay == null || !pendingSweeps.add(namespace)) {
+            return;
+        }
+        try {
+            sweepExecutor.schedule(() -> {
+                pendingSweeps.remove(namespace);
+                try {
+                    sweep(namespace);
+                } catch (Exception e) {
+                    log.warn("命名空间旧代数清理失败，namespace: {}", namespace, e);
+                }
+            }, delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            // 已关闭时不再清理，旧代数的键随 TTL 过期
+            pendingSweeps.remove(namespace);
+            log.debug("命名空间旧代数清理未安排，namespace: {}: {}", namespace, e.getMessage());
+        }
+    }
+
+    /**
+     * 清理命名空间中旧代数的键（SCAN + UNLINK，在调用线程执行）
+     *
+     * @param namespace 命名空间
+     * @return 清理的键数量
+     */
+    public long sweep(String namespace) {
+        checkNamespace(namespace);
+        long current = generation(namespace);
+        String prefix = namespace + GENERATION_MARK;
+        int batchSize = properties.getSweepBatchSize();
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(RedisService.escapePattern(prefix) + "*")
+                .count(batchSize)
+                .build();
+
+        long deleted = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> batch = new ArrayList<>(batchSize);
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                long generation = parseGeneration(key, prefix.length());
+                if (generation >= 0 && generation < current) {
+                    batch.add(key);
+                }
+                if (batch.size() >= batchSize) {
+                    deleted += unlink(batch);
+                    batch.clear();
+                }
+            }
+            deleted += unlink(batch);
+        }
+        log.debug("命名空间旧代数清理完成，namespace: {}, generation: {}, deleted: {}", namespace, current, deleted);
+        return deleted;
+    }
+
+    /**
+     * 在后台线程清理命名空间中旧代数的键
+     *
+     * @param namespace 命名空间
+     * @return 清理的键数量
+     */
+    public CompletableFuture<Long> sweepAsync(String namespace) {
+        return CompletableFuture.supplyAsync(() -> sweep(namespace), sweepExecutor);
+    }
+
+    /**
+     * 停止后台清理线程
+     */
+    public void shutdown() {
+        sweepExecutor.shutdownNow();
+    }
+
+    /**
+     * 接收其他节点的失效广播，更新本地代数
+     *
+     * @param message 消息
+     * @param pattern 订阅模式
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object body;
+        try {
+            body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        } catch (Exception e) {
+            log.warn("命名空间失效消息反序列化失败", e);
+            return;
+        }
+        if (!(body instanceof NamespaceInvalidationMessage invalidation) || nodeId.equals(invalidation.getNodeId())
+                || invalidation.getNamespace() == null) {
+            return;
+        }
+        update(invalidation.getNamespace(), invalidation.getGeneration(), System.nanoTime());
+    }
+
+    /**
+     * 更新本地代数（代数只增不减，避免较慢的 GET 结果覆盖更新的广播）
+     *
+     * @param namespace  命名空间
+     * @param generation 代数
+     * @param now        当前时间（纳秒）
+     * @return 更新后的代数
+     */
+    private long update(String namespace, long generation, long now) {
+        return generations.merge(namespace, new LocalGeneration(generation, now),
+                (old, fresh) -> new LocalGeneration(Math.max(old.generation, fresh.generation), now)).generation;
+    }
+
+    /**
+     * 解析缓存键中的代数
+     *
+     * @param key    缓存键
+     * @param offset 代数起始位置
+     * @return 代数，不是合法的命名空间键时返回 -1
+     */
+    private static long parseGeneration(String key, int offset) {
+        int end = key.indexOf(':', offset);
+        if (end <= offset) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(key, offset, end, 10);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 批量删除键（UNLINK，后台释放内存）
+     *
+     * @param keys 键
+     * @return 删除的数量
+     */
+    private long unlink(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long count = redisTemplate.unlink(keys);
+        return count == null ? 0 : count;
+    }
+
+    private static void checkNamespace(String namespace) {
+        if (namespace == null || namespace.isEmpty()) {
+            throw new IllegalArgumentException("缓存命名空间不能为空");
+        }
+    }
+
+    /**
+     * 本地缓存的代数
+     *
+     * @param generation  代数
+     * @param loadedNanos 加载时间（纳秒）
+     */
+    private record LocalGeneration(long generation, long loadedNanos) {
+    }
+}
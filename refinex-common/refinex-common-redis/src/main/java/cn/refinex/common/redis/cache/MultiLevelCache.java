@@ -0,0 +1,350 @@
+package cn.refinex.common.redis.cache;
+
+import lombok.Getter;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * 二级缓存：Caffeine 本地缓存（L1）+ Redis 远程缓存（L2）
+ * <p>
+ * 读取时优先命中本地缓存，未命中再查询 Redis 并回填本地；写入、删除时先更新 Redis 再更新本地，
+ * 并通过 Pub/Sub 广播让其他节点删除对应的本地条目。
+ * <p>
+ * 本地条目以键的字符串形式存储（与 RedisCache 生成 Redis Key 的方式一致），保证广播中的键能在各节点上匹配。
+ * 为避免"读取 Redis 旧值 → 收到失效广播 → 回填旧值"的竞争，每次失效递增版本号，回填前版本号发生变化则放弃回填。
+ * <p>
+ * 本地条目直接保存值对象，本地命中时不做反序列化，返回的对象由所有调用方共享，调用方不应修改。
+ * 从 Redis 读取的值本身就是新反序列化的对象，直接放入本地缓存；调用方写入的值除字符串、数值、枚举等不可变值外，
+ * 在写入时序列化再反序列化出一份副本放入本地缓存，避免调用方随后修改自己持有的对象污染本地缓存。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class MultiLevelCache extends AbstractValueAdaptingCache {
+
+    /**
+     * 可直接共享的不可变值类型
+     */
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, BigInteger.class, BigDecimal.class,
+            LocalDate.class, LocalTime.class, LocalDateTime.class, Instant.class, Duration.class
+    );
+
+    /**
+     * 缓存名称（不含 {@code #ttl} 部分，与 Redis 缓存名称一致）
+     */
+    private final String name;
+
+    /**
+     * 远程（二级）缓存
+     */
+    @Getter
+    private final Cache remoteCache;
+
+    /**
+     * 本地（一级）缓存
+     */
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+
+    /**
+     * 失效广播（缓存名称, 键；键为 null 表示清空）
+     */
+    private final BiConsumer<String, String> invalidationPublisher;
+
+    /**
+     * 写入时复制可变值的序列化方式，为 null 时本地直接保存值的引用
+     */
+    private final RedisSerializationContext.SerializationPair<Object> valueSerializationPair;
+
+    /**
+     * 本地失效版本号
+     */
+    private final AtomicLong invalidationVersion = new AtomicLong();
+
+    /**
+     * 远程缓存命中次数
+     */
+    private final LongAdder remoteHits = new LongAdder();
+
+    /**
+     * 远程缓存未命中次数
+     */
+    private final LongAdder remoteMisses = new LongAdder();
+
+    /**
+     * 远程缓存删除次数（显式 evict/clear）
+     */
+    private final LongAdder remoteEvictions = new LongAdder();
+
+    /**
+     * 构造函数
+     *
+     * @param name                  缓存名称
+     * @param remoteCache           远程缓存
+     * @param localCache            本地缓存（需开启 recordStats）
+     * @param allowNullValues        是否允许缓存 null 值
+     * @param valueSerializationPair 写入时复制可变值的序列化方式（通常与远程缓存一致），为 null 时本地直接保存值的引用
+     * @param invalidationPublisher  失效广播
+     */
+    public MultiLevelCache(String name, Cache remoteCache, com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                           boolean allowNullValues, RedisSerializationContext.SerializationPair<Object> valueSerializationPair,
+                           BiConsumer<String, String> invalidationPublisher) {
+        super(allowNullValues);
+        if (remoteCache == null || localCache == null) {
+            throw new IllegalArgumentException("远程缓存与本地缓存不能为空");
+        }
+        this.name = name;
+        this.remoteCache = remoteCache;
+        this.localCache = localCache;
+        this.valueSerializationPair = valueSerializationPair;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = toLocalKey(key);
+        Object value = localCache.getIfPresent(localKey);
+        if (value != null) {
+            return value;
+        }
+
+        long version = invalidationVersion.get();
+        ValueWrapper wrapper = remoteCache.get(key);
+        if (wrapper == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+
+        Object storeValue = toStoreValue(wrapper.get());
+        putLocal(localKey, storeValue, version);
+        return storeValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = toLocalKey(key);
+        Object value = localCache.getIfPresent(localKey);
+        if (value != null) {
+            return (T) fromStoreValue(value);
+        }
+
+        long version = invalidationVersion.get();
+        AtomicBoolean loaded = new AtomicBoolean();
+        T result = remoteCache.get(key, () -> {
+            loaded.set(true);
+            return valueLoader.call();
+        });
+        if (loaded.get()) {
+            remoteMisses.increment();
+        } else {
+            remoteHits.increment();
+        }
+
+        // 加载器返回的值仍被调用方持有，需复制后放入本地缓存；从 Redis 读取的值可直接放入
+        Object storeValue = toStoreValue(result);
+        putLocal(localKey, loaded.get() ? copyValue(storeValue) : storeValue, version);
+        return result;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remoteCache.put(key, value);
+        String localKey = toLocalKey(key);
+        invalidationVersion.incrementAndGet();
+        localCache.put(localKey, copyValue(toStoreValue(value)));
+        publish(localKey);
+    }
+
+    /**
+     * 远程缓存已由调用方写入（如通过管道批量写入）时，只写入本地条目并广播其他节点删除本地条目
+     *
+     * @param key   缓存键
+     * @param value 缓存值
+     */
+    public void putLocal(Object key, Object value) {
+        String localKey = toLocalKey(key);
+        invalidationVersion.incrementAndGet();
+        localCache.put(localKey, copyValue(toStoreValue(value)));
+        publish(localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remoteCache.putIfAbsent(key, value);
+        String localKey = toLocalKey(key);
+        invalidationVersion.incrementAndGet();
+        if (existing == null) {
+            localCache.put(localKey, copyValue(toStoreValue(value)));
+            publish(localKey);
+        } else {
+            localCache.put(localKey, toStoreValue(existing.get()));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        remoteEvictions.increment();
+        String localKey = toLocalKey(key);
+        evictLocal(localKey);
+        publish(localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = remoteCache.evictIfPresent(key);
+        remoteEvictions.increment();
+        String localKey = toLocalKey(key);
+        evictLocal(localKey);
+        publish(localKey);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        remoteEvictions.increment();
+        clearLocal();
+        publish(null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean present = remoteCache.invalidate();
+        remoteEvictions.increment();
+        clearLocal();
+        publish(null);
+        return present;
+    }
+
+    /**
+     * 删除本地条目（不影响远程缓存，用于处理其他节点的失效广播）
+     *
+     * @param localKey 键的字符串形式
+     */
+    public void evictLocal(String localKey) {
+        invalidationVersion.incrementAndGet();
+        localCache.invalidate(localKey);
+    }
+
+    /**
+     * 清空本地缓存（不影响远程缓存，用于处理其他节点的失效广播）
+     */
+    public void clearLocal() {
+        invalidationVersion.incrementAndGet();
+        localCache.invalidateAll();
+    }
+
+    /**
+     * 获取统计信息
+     *
+     * @return 统计信息
+     */
+    public MultiLevelCacheStats getStats() {
+        com.github.benmanes.caffeine.cache.stats.CacheStats localStats = localCache.stats();
+
+        MultiLevelCacheStats stats = new MultiLevelCacheStats();
+        stats.setName(name);
+        stats.setLocalSize(localCache.estimatedSize());
+        stats.setLocalHits(localStats.hitCount());
+        stats.setLocalMisses(localStats.missCount());
+        stats.setLocalEvictions(localStats.evictionCount());
+        stats.setRemoteHits(remoteHits.sum());
+        stats.setRemoteMisses(remoteMisses.sum());
+        stats.setRemoteEvictions(remoteEvictions.sum());
+        return stats;
+    }
+
+    /**
+     * 回填本地缓存，期间发生过失效则放弃
+     *
+     * @param localKey   键的字符串形式
+     * @param storeValue 存储值
+     * @param version    读取远程缓存前的失效版本号
+     */
+    private void putLocal(String localKey, Object storeValue, long version) {
+        if (storeValue == null) {
+            return;
+        }
+        localCache.asMap().compute(localKey, (k, current) -> {
+            if (current != null) {
+                return current;
+            }
+            return invalidationVersion.get() == version ? storeValue : null;
+        });
+    }
+
+    /**
+     * 复制调用方写入的值：不可变值直接共享，其余值序列化再反序列化出副本
+     *
+     * @param storeValue 存储值
+     * @return 可放入本地缓存的值
+     */
+    private Object copyValue(Object storeValue) {
+        if (valueSerializationPair == null || storeValue == null || isImmutable(storeValue)) {
+            return storeValue;
+        }
+        return valueSerializationPair.read(valueSerializationPair.write(storeValue));
+    }
+
+    /**
+     * 判断值是否不可变（可在调用方之间共享）
+     *
+     * @param value 存储值
+     * @return 是否不可变
+     */
+    private static boolean isImmutable(Object value) {
+        return value instanceof NullValue || value instanceof Enum<?> || IMMUTABLE_TYPES.contains(value.getClass());
+    }
+
+    /**
+     * 广播失效
+     *
+     * @param localKey 键的字符串形式，null 表示清空
+     */
+    private void publish(String localKey) {
+        if (invalidationPublisher != null) {
+            invalidationPublisher.accept(name, localKey);
+        }
+    }
+
+    /**
+     * 转换为本地缓存键
+     *
+     * @param key 缓存键
+     * @return 键的字符串形式
+     */
+    private static String toLocalKey(Object key) {
+        return key instanceof String str ? str : String.valueOf(key);
+    }
+}
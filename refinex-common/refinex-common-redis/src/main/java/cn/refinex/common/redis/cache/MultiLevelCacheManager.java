@@ -0,0 +1,236 @@
+package cn.refinex.common.redis.cache;
+
+import cn.hutool.core.util.IdUtil;
+import cn.refinex.common.redis.properties.RefinexRedisProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 二级缓存管理器
+ * <p>
+ * 包装 Redis 缓存管理器（{@link TimeoutRedisCacheManager}），为配置的缓存在前面加一层有界的 Caffeine 本地缓存，
+ * 适合字典数据、系统配置、角色权限等读多写少的热点数据。本地条目的过期时间取缓存名称中 {@code #ttl} 与
+ * {@code refinex.redis.local-cache.expire-after-write} 的较小值。
+ * <p>
+ * 写入、删除会通过 Redis Pub/Sub 广播到其他节点删除本地条目（自身作为 {@link MessageListener} 订阅同一 Channel）。
+ * Pub/Sub 不保证送达，广播丢失时其他节点的本地数据最多陈旧一个本地过期时间。
+ * <p>
+ * 各缓存的命中统计通过 {@link #getStats()} 获取，引入 Micrometer 时由 {@link MultiLevelCacheMeterBinder} 导出为指标。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class MultiLevelCacheManager implements CacheManager, MessageListener {
+
+    /**
+     * 远程（二级）缓存管理器
+     */
+    private final CacheManager remoteCacheManager;
+
+    /**
+     * Redis 模板（发送失效广播）
+     */
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 本地缓存配置
+     */
+    private final RefinexRedisProperties.LocalCacheProperties properties;
+
+    /**
+     * 当前节点标识
+     */
+    @Getter
+    private final String nodeId = IdUtil.fastSimpleUUID();
+
+    /**
+     * 缓存名称（含 {@code #ttl}）-> 缓存
+     */
+    private final ConcurrentMap<String, Cache> cacheMap = new ConcurrentHashMap<>(16);
+
+    /**
+     * 二级缓存创建监听器
+     */
+    private final List<Consumer<MultiLevelCache>> cacheListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 构造函数
+     *
+     * @param remoteCacheManager 远程缓存管理器
+     * @param redisTemplate      Redis 模板
+     * @param properties         本地缓存配置
+     */
+    public MultiLevelCacheManager(CacheManager remoteCacheManager, RedisTemplate<String, Object> redisTemplate,
+                                  RefinexRedisProperties.LocalCacheProperties properties) {
+        if (remoteCacheManager == null || redisTemplate == null || properties == null) {
+            throw new IllegalArgumentException("远程缓存管理器、Redis 模板与本地缓存配置不能为空");
+        }
+        if (properties.getMaximumSize() <= 0) {
+            throw new IllegalArgumentException("本地缓存条目上限必须大于 0");
+        }
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = cacheMap.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        AtomicBoolean created = new AtomicBoolean();
+        cache = cacheMap.computeIfAbsent(name, key -> {
+            created.set(true);
+            return createCache(key);
+        });
+        if (created.get() && cache instanceof MultiLevelCache multiLevelCache) {
+            cacheListeners.forEach(listener -> listener.accept(multiLevelCache));
+        }
+        return cache;
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * 获取已创建的二级缓存（未启用本地缓存的缓存不包含在内）
+     *
+     * @return 二级缓存
+     */
+    public List<MultiLevelCache> getMultiLevelCaches() {
+        return cacheMap.values().stream()
+                .filter(MultiLevelCache.class::isInstance)
+                .map(MultiLevelCache.class::cast)
+                .toList();
+    }
+
+    /**
+     * 获取所有二级缓存的统计信息
+     *
+     * @return 统计信息
+     */
+    public List<MultiLevelCacheStats> getStats() {
+        return getMultiLevelCaches().stream().map(MultiLevelCache::getStats).toList();
+    }
+
+    /**
+     * 注册二级缓存创建监听器（缓存按需创建，监听器用于为后续创建的缓存注册指标等）
+     *
+     * @param listener 监听器
+     */
+    public void addCacheListener(Consumer<MultiLevelCache> listener) {
+        cacheListeners.add(listener);
+    }
+
+    /**
+     * 处理其他节点的失效广播
+     *
+     * @param message 消息
+     * @param pattern 订阅模式
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object body;
+        try {
+            body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        } catch (Exception e) {
+            log.warn("本地缓存失效消息反序列化失败", e);
+            return;
+        }
+        if (!(body instanceof CacheInvalidationMessage invalidation) || nodeId.equals(invalidation.getNodeId())) {
+            return;
+        }
+
+        for (Cache cache : cacheMap.values()) {
+            if (cache instanceof MultiLevelCache multiLevelCache && multiLevelCache.getName().equals(invalidation.getCacheName())) {
+                if (invalidation.getKey() == null) {
+                    multiLevelCache.clearLocal();
+                } else {
+                    multiLevelCache.evictLocal(invalidation.getKey());
+                }
+            }
+        }
+    }
+
+    /**
+     * 创建缓存，未启用本地缓存的直接返回远程缓存
+     *
+     * @param name 缓存名称（可能包含 {@code #ttl}）
+     * @return 缓存，远程缓存管理器不提供该缓存时返回 null
+     */
+    private Cache createCache(String name) {
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null || !isLocalCacheEnabled(remoteCache.getName())) {
+            return remoteCache;
+        }
+
+        Duration expireAfterWrite = properties.getExpireAfterWrite();
+        Duration ttl = TimeoutRedisCacheManager.resolveTtl(name);
+        if (ttl != null && !ttl.isZero() && !ttl.isNegative() && (expireAfterWrite == null || ttl.compareTo(expireAfterWrite) < 0)) {
+            expireAfterWrite = ttl;
+        }
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .recordStats();
+        if (expireAfterWrite != null) {
+            builder.expireAfterWrite(expireAfterWrite);
+        }
+
+        boolean allowNullValues = true;
+        RedisSerializationContext.SerializationPair<Object> valueSerializationPair = null;
+        if (remoteCache instanceof RedisCache redisCache) {
+            allowNullValues = redisCache.getCacheConfiguration().getAllowCacheNullValues();
+            valueSerializationPair = redisCache.getCacheConfiguration().getValueSerializationPair();
+        }
+        log.info("缓存 [{}] 启用本地缓存，maximumSize: {}, expireAfterWrite: {}", remoteCache.getName(), properties.getMaximumSize(), expireAfterWrite);
+        return new MultiLevelCache(remoteCache.getName(), remoteCache, builder.build(), allowNullValues, valueSerializationPair, this::publishInvalidation);
+    }
+
+    /**
+     * 判断缓存是否启用本地缓存
+     *
+     * @param cacheName 缓存名称（不含 {@code #ttl}）
+     * @return 是否启用
+     */
+    private boolean isLocalCacheEnabled(String cacheName) {
+        List<String> cacheNames = properties.getCacheNames();
+        return cacheNames == null || cacheNames.isEmpty() || cacheNames.contains(cacheName);
+    }
+
+    /**
+     * 广播失效消息，发送失败只记录日志（其他节点的本地条目会在过期后自然失效）
+     *
+     * @param cacheName 缓存名称
+     * @param key       键的字符串形式，null 表示清空
+     */
+    private void publishInvalidation(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(properties.getInvalidationChannel(), new CacheInvalidationMessage(nodeId, cacheName, key));
+        } catch (Exception e) {
+            log.warn("本地缓存失效广播发送失败，cacheName: {}, key: {}", cacheName, key, e);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package cn.refinex.common.redis.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 二级缓存 Micrometer 绑定器
+ * <p>
+ * 每个启用本地缓存的缓存注册一组以 {@code cache} 为标签的指标，缓存按需创建，创建后再注册:
+ * <ul>
+ *     <li>{@code refinex.cache.local.gets}: 本地缓存命中/未命中次数（result 标签为 hit/miss）</li>
+ *     <li>{@code refinex.cache.local.evictions}: 本地缓存容量或过期淘汰次数</li>
+ *     <li>{@code refinex.cache.local.size}: 本地缓存条目数（估算值）</li>
+ *     <li>{@code refinex.cache.remote.gets}: 本地未命中后 Redis 命中/未命中次数（result 标签为 hit/miss）</li>
+ *     <li>{@code refinex.cache.remote.evictions}: 显式删除次数</li>
+ * </ul>
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class MultiLevelCacheMeterBinder implements MeterBinder {
+
+    /**
+     * 二级缓存管理器
+     */
+    private final MultiLevelCacheManager cacheManager;
+
+    /**
+     * 已绑定的 Micrometer 注册表
+     */
+    private final List<MeterRegistry> meterRegistries = new ArrayList<>();
+
+    /**
+     * 构造函数
+     *
+     * @param cacheManager 二级缓存管理器
+     */
+    public MultiLevelCacheMeterBinder(MultiLevelCacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public synchronized void bindTo(MeterRegistry registry) {
+        boolean first = meterRegistries.isEmpty();
+        meterRegistries.add(registry);
+
+        for (MultiLevelCache cache : cacheManager.getMultiLevelCaches()) {
+            register(registry, cache);
+        }
+        if (first) {
+            cacheManager.addCacheListener(this::onCacheCreated);
+        }
+    }
+
+    /**
+     * 为新创建的缓存注册指标
+     *
+     * @param cache 二级缓存
+     */
+    private synchronized void onCacheCreated(MultiLevelCache cache) {
+        for (MeterRegistry registry : meterRegistries) {
+            register(registry, cache);
+        }
+    }
+
+    /**
+     * 为缓存注册指标
+     *
+     * @param registry Micrometer 注册表
+     * @param cache    二级缓存
+     */
+    private void register(MeterRegistry registry, MultiLevelCache cache) {
+        Tags tags = Tags.of("cache", cache.getName());
+
+        FunctionCounter.builder("refinex.cache.local.gets", cache, c -> c.getStats().getLocalHits())
+                .tags(tags).tag("result", "hit")
+                .description("本地缓存命中次数")
+                .register(registry);
+        FunctionCounter.builder("refinex.cache.local.gets", cache, c -> c.getStats().getLocalMisses())
+                .tags(tags).tag("result", "miss")
+                .description("本地缓存未命中次数")
+                .register(registry);
+        FunctionCounter.builder("refinex.cache.local.evictions", cache, c -> c.getStats().getLocalEvictions())
+                .tags(tags)
+                .description("本地缓存淘汰次数")
+                .register(registry);
+        Gauge.builder("refinex.cache.local.size", cache, c -> c.getStats().getLocalSize())
+                .tags(tags)
+                .description("本地缓存条目数")
+                .register(registry);
+        FunctionCounter.builder("refinex.cache.remote.gets", cache, c -> c.getStats().getRemoteHits())
+                .tags(tags).tag("result", "hit")
+                .description("远程缓存命中次数")
+                .register(registry);
+        FunctionCounter.builder("refinex.cache.remote.gets", cache, c -> c.getStats().getRemoteMisses())
+                .tags(tags).tag("result", "miss")
+                .description("远程缓存未命中次数")
+                .register(registry);
+        FunctionCounter.builder("refinex.cache.remote.evictions", cache, c -> c.getStats().getRemoteEvictions())
+                .tags(tags)
+                .description("远程缓存删除次数")
+                .register(registry);
+    }
+}
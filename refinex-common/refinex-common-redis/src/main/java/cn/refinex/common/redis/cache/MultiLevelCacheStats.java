@@ -0,0 +1,79 @@
+package cn.refinex.common.redis.cache;
+
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 二级缓存统计信息
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+public class MultiLevelCacheStats implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 缓存名称
+     */
+    private String name;
+
+    /**
+     * 本地缓存条目数（估算值）
+     */
+    private long localSize;
+
+    /**
+     * 本地缓存命中次数
+     */
+    private long localHits;
+
+    /**
+     * 本地缓存未命中次数
+     */
+    private long localMisses;
+
+    /**
+     * 本地缓存淘汰次数（容量或过期淘汰，不含显式删除）
+     */
+    private long localEvictions;
+
+    /**
+     * 远程缓存命中次数
+     */
+    private long remoteHits;
+
+    /**
+     * 远程缓存未命中次数
+     */
+    private long remoteMisses;
+
+    /**
+     * 远程缓存删除次数（显式 evict/clear，Redis 自身的过期不可见）
+     */
+    private long remoteEvictions;
+
+    /**
+     * 获取本地缓存命中率
+     *
+     * @return 命中率（0 ~ 1）
+     */
+    public double getLocalHitRate() {
+        long total = localHits + localMisses;
+        return total == 0 ? 0D : (double) localHits / total;
+    }
+
+    /**
+     * 获取整体命中率（本地或远程命中）
+     *
+     * @return 命中率（0 ~ 1）
+     */
+    public double getHitRate() {
+        long total = localHits + localMisses;
+        return total == 0 ? 0D : (double) (localHits + remoteHits) / total;
+    }
+}
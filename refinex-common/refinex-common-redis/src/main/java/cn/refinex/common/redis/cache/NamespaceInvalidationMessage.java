@@ -0,0 +1,38 @@
+package cn.refinex.common.redis.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 缓存命名空间失效广播消息
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NamespaceInvalidationMessage implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 发送节点标识（节点忽略自己发出的消息）
+     */
+    private String nodeId;
+
+    /**
+     * 命名空间
+     */
+    private String namespace;
+
+    /**
+     * 失效后的代数
+     */
+    private long generation;
+}
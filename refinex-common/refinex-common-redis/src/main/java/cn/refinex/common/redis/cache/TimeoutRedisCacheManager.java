@@ -84,6 +84,27 @@ public class TimeoutRedisCacheManager extends RedisCacheManager {
         return super.createRedisCache(name, cacheConfig);
     }
 
+    /**
+     * 解析缓存名称中的过期时间。
+     *
+     * @param name 缓存名称（如 "key#30s"）
+     * @return 过期时间，名称中未指定时返回 null
+     * @throws IllegalArgumentException 如果 ttl 格式无效或无法解析
+     */
+    public static Duration resolveTtl(String name) {
+        if (StrUtil.isEmpty(name)) {
+            return null;
+        }
+
+        String[] names = name.split(SPLIT);
+        if (names.length != 2) {
+            return null;
+        }
+
+        int colonIndex = names[1].indexOf(':');
+        return parseDuration(colonIndex >= 0 ? names[1].substring(0, colonIndex) : names[1]);
+    }
+
     /**
      * 解析过期时间字符串为 Duration。
      *
@@ -91,7 +112,7 @@ public class TimeoutRedisCacheManager extends RedisCacheManager {
      * @return 过期时间 Duration
      * @throws IllegalArgumentException 如果 ttlStr 格式无效或无法解析
      */
-    private Duration parseDuration(String ttlStr) {
+    private static Duration parseDuration(String ttlStr) {
         Objects.requireNonNull(ttlStr, "TTL string must not be null");
         if (ttlStr.isBlank()) {
             throw new IllegalArgumentException("TTL string must not be empty");
@@ -114,7 +135,7 @@ public class TimeoutRedisCacheManager extends RedisCacheManager {
      * @return 时间值
      * @throws IllegalArgumentException 如果 ttlStr 格式无效或无法解析
      */
-    private long removeDurationSuffix(String ttlStr) {
+    private static long removeDurationSuffix(String ttlStr) {
         String numberStr = ttlStr.substring(0, ttlStr.length() - 1);
         if (numberStr.isBlank()) {
             throw new IllegalArgumentException("Invalid TTL format: " + ttlStr);
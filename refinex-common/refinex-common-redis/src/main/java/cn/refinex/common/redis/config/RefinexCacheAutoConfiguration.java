@@ -1,13 +1,21 @@
 package cn.refinex.common.redis.config;
 
 import cn.hutool.core.util.StrUtil;
+import cn.refinex.common.redis.cache.CacheNamespaceManager;
+import cn.refinex.common.redis.cache.MultiLevelCacheManager;
+import cn.refinex.common.redis.cache.MultiLevelCacheMeterBinder;
 import cn.refinex.common.redis.cache.TimeoutRedisCacheManager;
 import cn.refinex.common.redis.properties.RefinexRedisProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
@@ -15,6 +23,8 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.util.StringUtils;
 
@@ -26,6 +36,9 @@ import java.util.Objects;
  *
  * <p>
  * 配置 Redis 缓存，包括自定义过期时间的 RedisCacheManager 和 RedisCacheConfiguration。
+ * 开启 {@code refinex.redis.local-cache.enabled} 后，注册 Caffeine + Redis 的二级缓存管理器作为首选 CacheManager，
+ * 类路径存在 Micrometer 时将各缓存的命中统计导出为 {@code refinex.cache.*} 指标。
+ * 同时注册基于代数失效的缓存命名空间管理器 {@link CacheNamespaceManager}（{@code refinex.redis.namespace.enabled=false} 时不注册）。
  * </p>
  *
  * @author 芋道源码
@@ -41,16 +54,17 @@ public class RefinexCacheAutoConfiguration {
      * 配置 RedisCacheConfiguration。
      * <p>
      * 1. 设置缓存键前缀为单冒号（:），避免 Redis Desktop Manager 显示多余空格。
-     * 2. 使用 JSON 序列化方式存储缓存值。
+     * 2. 使用 JSON（可配置为 Smile / 压缩）序列化方式存储缓存值。
      * 3. 应用 CacheProperties.Redis 的配置（如 TTL、是否缓存空值、是否使用键前缀）。
      * </p>
      *
-     * @param cacheProperties Spring Boot 缓存属性配置
+     * @param cacheProperties        Spring Boot 缓存属性配置
+     * @param refinexRedisProperties 自定义缓存属性配置
      * @return RedisCacheConfiguration 实例
      */
     @Bean
     @Primary
-    public RedisCacheConfiguration redisCacheConfiguration(CacheProperties cacheProperties) {
+    public RedisCacheConfiguration redisCacheConfiguration(CacheProperties cacheProperties, RefinexRedisProperties refinexRedisProperties) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig();
 
         // 设置缓存键前缀，使用单冒号（:）分隔
@@ -64,9 +78,9 @@ public class RefinexCacheAutoConfiguration {
             return cacheName + StrUtil.COLON;
         });
 
-        // 设置 JSON 序列化方式
+        // 设置 JSON（可配置为 Smile / 压缩）序列化方式
         config = config.serializeValuesWith(RedisSerializationContext.SerializationPair
-                .fromSerializer(RefinexRedisAutoConfiguration.buildRedisSerializer()));
+                .fromSerializer(RefinexRedisAutoConfiguration.buildRedisSerializer(refinexRedisProperties.getSerializer())));
 
         // 应用 CacheProperties.Redis 配置
         CacheProperties.Redis redisProperties = cacheProperties.getRedis();
@@ -106,4 +120,89 @@ public class RefinexCacheAutoConfiguration {
         // 创建 TimeoutRedisCacheManager
         return new TimeoutRedisCacheManager(cacheWriter, redisCacheConfiguration);
     }
+
+    /**
+     * 配置二级缓存管理器（Caffeine 本地缓存 + Redis 远程缓存）。
+     *
+     * @param redisCacheManager      Redis 缓存管理器
+     * @param redisTemplate          Redis 模板
+     * @param refinexRedisProperties 自定义缓存属性配置
+     * @return MultiLevelCacheManager 实例
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "refinex.redis.local-cache", name = "enabled", havingValue = "true")
+    public MultiLevelCacheManager multiLevelCacheManager(RedisCacheManager redisCacheManager, RedisTemplate<String, Object> redisTemplate, RefinexRedisProperties refinexRedisProperties) {
+        return new MultiLevelCacheManager(redisCacheManager, redisTemplate, refinexRedisProperties.getLocalCache());
+    }
+
+    /**
+     * 配置本地缓存失效广播的监听容器。
+     *
+     * @param redisTemplate          Redis 模板
+     * @param multiLevelCacheManager 二级缓存管理器
+     * @param refinexRedisProperties 自定义缓存属性配置
+     * @return RedisMessageListenerContainer 实例
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "refinex.redis.local-cache", name = "enabled", havingValue = "true")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisTemplate<String, Object> redisTemplate, MultiLevelCacheManager multiLevelCacheManager, RefinexRedisProperties refinexRedisProperties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(Objects.requireNonNull(redisTemplate.getConnectionFactory(), "RedisConnectionFactory must not be null"));
+        container.addMessageListener(multiLevelCacheManager, new ChannelTopic(refinexRedisProperties.getLocalCache().getInvalidationChannel()));
+        return container;
+    }
+
+    /**
+     * 配置缓存命名空间管理器（基于代数的批量失效）。
+     *
+     * @param redisTemplate          Redis 模板
+     * @param refinexRedisProperties 自定义缓存属性配置
+     * @return CacheNamespaceManager 实例
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "refinex.redis.namespace", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public CacheNamespaceManager cacheNamespaceManager(RedisTemplate<String, Object> redisTemplate, RefinexRedisProperties refinexRedisProperties) {
+        return new CacheNamespaceManager(redisTemplate, refinexRedisProperties.getNamespace());
+    }
+
+    /**
+     * 配置缓存命名空间失效广播的监听容器。
+     *
+     * @param redisTemplate          Redis 模板
+     * @param cacheNamespaceManager  缓存命名空间管理器
+     * @param refinexRedisProperties 自定义缓存属性配置
+     * @return RedisMessageListenerContainer 实例
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "cacheNamespaceListenerContainer")
+    @ConditionalOnProperty(prefix = "refinex.redis.namespace", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer cacheNamespaceListenerContainer(RedisTemplate<String, Object> redisTemplate, CacheNamespaceManager cacheNamespaceManager, RefinexRedisProperties refinexRedisProperties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(Objects.requireNonNull(redisTemplate.getConnectionFactory(), "RedisConnectionFactory must not be null"));
+        container.addMessageListener(cacheNamespaceManager, new ChannelTopic(refinexRedisProperties.getNamespace().getChannel()));
+        return container;
+    }
+
+    /**
+     * 二级缓存 Micrometer 指标配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnProperty(prefix = "refinex.redis.local-cache", name = "enabled", havingValue = "true")
+    static class MultiLevelCacheMetricsConfiguration {
+
+        /**
+         * 配置二级缓存 Micrometer 绑定器
+         *
+         * @param multiLevelCacheManager 二级缓存管理器
+         * @return Micrometer 绑定器
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public MultiLevelCacheMeterBinder multiLevelCacheMeterBinder(MultiLevelCacheManager multiLevelCacheManager) {
+            return new MultiLevelCacheMeterBinder(multiLevelCacheManager);
+        }
+    }
 }
@@ -2,6 +2,7 @@ package cn.refinex.common.redis.config;
 
 import cn.hutool.core.util.ReflectUtil;
 import cn.refinex.common.redis.properties.RefinexRedisProperties;
+import cn.refinex.common.redis.serializer.CompactRedisSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.redisson.spring.starter.RedissonAutoConfigurationV2;
@@ -27,14 +28,15 @@ import java.util.Objects;
 public class RefinexRedisAutoConfiguration {
 
     /**
-     * 创建 RedisTemplate Bean，使用 JSON 序列化方式
+     * 创建 RedisTemplate Bean，值使用 {@link CompactRedisSerializer} 序列化（默认与 JSON 序列化一致）
      *
-     * @param factory Redis 连接工厂
+     * @param factory                Redis 连接工厂
+     * @param refinexRedisProperties 自定义 Redis 属性配置
      * @return RedisTemplate 实例
      * @throws NullPointerException 如果 factory 为 null
      */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory factory) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory factory, RefinexRedisProperties refinexRedisProperties) {
         Objects.requireNonNull(factory, "RedisConnectionFactory must not be null");
 
         // 创建 RedisTemplate 对象
@@ -44,8 +46,8 @@ public class RefinexRedisAutoConfiguration {
         // 使用 String 序列化方式，序列化 KEY 和 HASH KEY
         template.setKeySerializer(RedisSerializer.string());
         template.setHashKeySerializer(RedisSerializer.string());
-        // 使用 JSON 序列化方式序列化 VALUE 和 HASH VALUE
-        RedisSerializer<?> serializer = buildRedisSerializer();
+        // 使用 JSON（可配置为 Smile / 压缩）序列化方式序列化 VALUE 和 HASH VALUE
+        RedisSerializer<?> serializer = buildRedisSerializer(refinexRedisProperties.getSerializer());
         template.setValueSerializer(serializer);
         template.setHashValueSerializer(serializer);
         return template;
@@ -68,4 +70,16 @@ public class RefinexRedisAutoConfiguration {
         return json;
     }
 
+    /**
+     * 构建紧凑序列化器，按配置选择写入格式与压缩算法，同时兼容读取原有的 JSON 值。
+     *
+     * @param properties 序列化配置
+     * @return RedisSerializer 实例
+     */
+    public static RedisSerializer<Object> buildRedisSerializer(RefinexRedisProperties.SerializerProperties properties) {
+        RedisSerializer<Object> json = buildRedisSerializer();
+        ObjectMapper objectMapper = (ObjectMapper) ReflectUtil.getFieldValue(json, "mapper");
+        return new CompactRedisSerializer(json, objectMapper, properties.getFormat(), properties.getCompression(),
+                properties.getCompressionThreshold(), properties.getMaxDecompressedLength());
+    }
 }
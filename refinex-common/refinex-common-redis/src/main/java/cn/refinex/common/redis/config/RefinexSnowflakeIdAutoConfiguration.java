@@ -0,0 +1,57 @@
+package cn.refinex.common.redis.config;
+
+import cn.refinex.common.config.SnowflakeIdAutoConfig;
+import cn.refinex.common.redis.id.SnowflakeWorkerIdLeaser;
+import cn.refinex.common.redis.properties.RefinexRedisProperties;
+import cn.refinex.common.utils.algorithm.SnowflakeIdGenerator;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * 基于 Redis 租约节点ID的 Snowflake 自动配置类
+ * <p>
+ * 开启 {@code refinex.redis.snowflake.worker-id-lease-enabled} 后，启动时从 Redis 租用一个节点ID创建
+ * {@link SnowflakeIdGenerator}，取代 {@link SnowflakeIdAutoConfig} 中固定配置的 worker-id/datacenter-id，
+ * 多实例部署无需为每个实例单独配置。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@AutoConfiguration(after = RefinexRedisAutoConfiguration.class, before = SnowflakeIdAutoConfig.class)
+@ConditionalOnProperty(prefix = "refinex.redis.snowflake", name = "worker-id-lease-enabled", havingValue = "true")
+public class RefinexSnowflakeIdAutoConfiguration {
+
+    /**
+     * 创建 Snowflake 节点ID租约分配器
+     *
+     * @param redisTemplate          Redis 模板
+     * @param refinexRedisProperties Redis 配置
+     * @return SnowflakeWorkerIdLeaser 实例
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnMissingBean
+    public SnowflakeWorkerIdLeaser snowflakeWorkerIdLeaser(RedisTemplate<String, Object> redisTemplate, RefinexRedisProperties refinexRedisProperties) {
+        RefinexRedisProperties.SnowflakeProperties snowflake = refinexRedisProperties.getSnowflake();
+        return new SnowflakeWorkerIdLeaser(redisTemplate, snowflake.getLeaseTtl(), snowflake.getHeartbeatInterval(),
+                snowflake.getLeaseSafetyMargin());
+    }
+
+    /**
+     * 创建使用租约节点ID的 Snowflake ID 生成器
+     *
+     * @param snowflakeWorkerIdLeaser 节点ID租约分配器（已完成抢占）
+     * @param refinexRedisProperties  Redis 配置
+     * @return SnowflakeIdGenerator 实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SnowflakeIdGenerator snowflakeIdGenerator(SnowflakeWorkerIdLeaser snowflakeWorkerIdLeaser, RefinexRedisProperties refinexRedisProperties) {
+        SnowflakeIdGenerator generator = SnowflakeIdGenerator.ofNodeId(snowflakeWorkerIdLeaser.getNodeId(), refinexRedisProperties.getSnowflake().getMaxBackwardMs());
+        snowflakeWorkerIdLeaser.setReassignListener(generator::reassignNodeId);
+        generator.setNodeIdDeadline(snowflakeWorkerIdLeaser::getLeaseDeadline);
+        return generator;
+    }
+}
@@ -0,0 +1,269 @@
+package cn.refinex.common.redis.id;
+
+import cn.hutool.core.thread.NamedThreadFactory;
+import cn.hutool.core.util.IdUtil;
+import cn.refinex.common.enums.HttpStatusCode;
+import cn.refinex.common.exception.SystemException;
+import cn.refinex.common.utils.algorithm.SnowflakeIdGenerator;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 基于 Redis 租约的 Snowflake 节点ID分配器
+ * <p>
+ * 启动时从随机位置开始依次尝试 {@code SET NX PX} 抢占 0 ~ 1023 中的一个节点ID，之后按心跳间隔续期；
+ * 续期发现租约已被其他实例占用时重新抢占新的节点ID并通过回调通知生成器切换。Redis 只在启动与心跳时访问，
+ * 发号完全在本地完成。
+ * <p>
+ * Redis 不可用超过租约有效期时，其他新启动的实例可能抢到同一节点ID。为此记录最近一次续期成功的时间，
+ * 生成器通过 {@link #getLeaseDeadline()} 在超过 {@code 租约有效期 - 安全余量} 后拒绝发号，心跳恢复后自动恢复发号。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class SnowflakeWorkerIdLeaser {
+
+    /**
+     * Redis Key 前缀
+     */
+    private static final String REDIS_KEY_PREFIX = "id_generator:snowflake:node:";
+
+    /**
+     * 续期脚本：租约仍属于当前实例时续期，返回 1；否则返回 0
+     */
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+
+    /**
+     * 释放脚本：租约仍属于当前实例时删除
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end", Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 租约有效期
+     */
+    private final Duration leaseTtl;
+
+    /**
+     * 心跳间隔
+     */
+    private final Duration heartbeatInterval;
+
+    /**
+     * 租约安全余量
+     */
+    private final Duration safetyMargin;
+
+    /**
+     * 时钟（毫秒）
+     */
+    private final LongSupplier clock;
+
+    /**
+     * 当前实例标识（租约值）
+     */
+    @Getter
+    private final String instanceId = IdUtil.fastSimpleUUID();
+
+    /**
+     * 当前持有的节点ID，未持有时为 -1
+     */
+    @Getter
+    private volatile long nodeId = -1;
+
+    /**
+     * 最近一次获取或续期租约成功的时间（毫秒，取发起请求前的时间），未持有时为 0
+     */
+    @Getter
+    private volatile long lastRenewedAt;
+
+    /**
+     * 节点ID变更回调（租约丢失后重新抢占时触发）
+     */
+    @Setter
+    private LongConsumer reassignListener;
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * 构造函数
+     *
+     * @param redisTemplate     Redis 模板
+     * @param leaseTtl          租约有效期
+     * @param heartbeatInterval 心跳间隔（需明显小于租约有效期）
+     * @param safetyMargin      租约安全余量（心跳间隔与安全余量之和需小于租约有效期）
+     */
+    public SnowflakeWorkerIdLeaser(RedisTemplate<String, Object> redisTemplate, Duration leaseTtl, Duration heartbeatInterval,
+                                   Duration safetyMargin) {
+        this(redisTemplate, leaseTtl, heartbeatInterval, safetyMargin, System::currentTimeMillis);
+    }
+
+    /**
+     * 构造函数（指定时钟，需与生成器使用同一时钟）
+     *
+     * @param redisTemplate     Redis 模板
+     * @param leaseTtl          租约有效期
+     * @param heartbeatInterval 心跳间隔（需明显小于租约有效期）
+     * @param safetyMargin      租约安全余量（心跳间隔与安全余量之和需小于租约有效期）
+     * @param clock             时钟（毫秒）
+     */
+    SnowflakeWorkerIdLeaser(RedisTemplate<String, Object> redisTemplate, Duration leaseTtl, Duration heartbeatInterval,
+                            Duration safetyMargin, LongSupplier clock) {
+        if (redisTemplate == null) {
+            throw new IllegalArgumentException("Redis 模板不能为空");
+        }
+        if (leaseTtl == null || heartbeatInterval == null || heartbeatInterval.isNegative() || heartbeatInterval.isZero()
+                || heartbeatInterval.compareTo(leaseTtl) >= 0) {
+            throw new IllegalArgumentException("心跳间隔必须大于 0 且小于租约有效期");
+        }
+        if (safetyMargin == null || safetyMargin.isNegative() || heartbeatInterval.plus(safetyMargin).compareTo(leaseTtl) >= 0) {
+            throw new IllegalArgumentException("租约安全余量不能小于 0，且与心跳间隔之和必须小于租约有效期");
+        }
+        this.redisTemplate = redisTemplate;
+        this.leaseTtl = leaseTtl;
+        this.heartbeatInterval = heartbeatInterval;
+        this.safetyMargin = safetyMargin;
+        this.clock = clock;
+    }
+
+    /**
+     * 抢占节点ID并启动心跳
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        long startedAt = clock.getAsLong();
+        nodeId = acquire();
+        lastRenewedAt = startedAt;
+        scheduler = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("refinex-snowflake-lease-", true));
+        long intervalMillis = heartbeatInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::heartbeat, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Snowflake 节点ID租约已获取，nodeId: {}, instanceId: {}, ttl: {}", nodeId, instanceId, leaseTtl);
+    }
+
+    /**
+     * 停止心跳并释放节点ID
+     */
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+        lastRenewedAt = 0;
+        try {
+            release(nodeId);
+        } catch (Exception e) {
+            log.warn("Snowflake 节点ID租约释放失败，nodeId: {}", nodeId, e);
+        }
+    }
+
+    /**
+     * 续期租约，租约被占用时重新抢占
+     */
+    void heartbeat() {
+        try {
+            long startedAt = clock.getAsLong();
+            if (renew(nodeId)) {
+                lastRenewedAt = startedAt;
+                return;
+            }
+
+            // 租约已过期：尝试重新占用原节点ID，失败说明已被其他实例占用，改为抢占新的节点ID
+            if (tryAcquire(nodeId)) {
+                lastRenewedAt = startedAt;
+                log.warn("Snowflake 节点ID租约已过期并重新获取，nodeId: {}", nodeId);
+                return;
+            }
+            long previous = nodeId;
+            nodeId = acquire();
+            log.error("Snowflake 节点ID租约被其他实例占用，已切换节点ID: {} -> {}", previous, nodeId);
+            if (reassignListener != null) {
+                reassignListener.accept(nodeId);
+            }
+            // 生成器切换到新节点ID后才恢复租约有效期
+            lastRenewedAt = startedAt;
+        } catch (Exception e) {
+            // 调度任务抛出异常会终止后续调度
+            log.warn("Snowflake 节点ID租约续期失败，nodeId: {}: {}", nodeId, e.getMessage());
+        }
+    }
+
+    /**
+     * 获取可安全使用当前节点ID的截止时间
+     * <p>
+     * 截止时间为最近一次续期成功时间加上租约有效期再减去安全余量，超过后租约可能已在 Redis 过期并被其他实例占用。
+     *
+     * @return 截止时间（毫秒），未持有租约时为 0
+     */
+    public long getLeaseDeadline() {
+        long renewedAt = lastRenewedAt;
+        return renewedAt == 0 ? 0 : renewedAt + leaseTtl.toMillis() - safetyMargin.toMillis();
+    }
+
+    /**
+     * 从随机位置开始抢占一个空闲节点ID
+     *
+     * @return 节点ID
+     */
+    private long acquire() {
+        long size = SnowflakeIdGenerator.MAX_NODE_ID + 1;
+        long offset = ThreadLocalRandom.current().nextLong(size);
+        for (long i = 0; i < size; i++) {
+            long candidate = (offset + i) % size;
+            if (tryAcquire(candidate)) {
+                return candidate;
+            }
+        }
+        throw new SystemException(HttpStatusCode.INTERNAL_SERVER_ERROR, "Snowflake 节点ID已全部被占用");
+    }
+
+    /**
+     * 尝试占用指定节点ID
+     *
+     * @param candidate 节点ID
+     * @return 是否占用成功
+     */
+    protected boolean tryAcquire(long candidate) {
+        Boolean success = redisTemplate.opsForValue().setIfAbsent(REDIS_KEY_PREFIX + candidate, instanceId, leaseTtl);
+        return Boolean.TRUE.equals(success);
+    }
+
+    /**
+     * 续期指定节点ID的租约
+     *
+     * @param nodeId 节点ID
+     * @return 租约仍属于当前实例并已续期时返回 true
+     */
+    protected boolean renew(long nodeId) {
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(REDIS_KEY_PREFIX + nodeId), instanceId, leaseTtl.toMillis());
+        return renewed != null && renewed == 1L;
+    }
+
+    /**
+     * 释放指定节点ID的租约（仍属于当前实例时）
+     *
+     * @param nodeId 节点ID
+     */
+    protected void release(long nodeId) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(REDIS_KEY_PREFIX + nodeId), instanceId);
+    }
+}
@@ -0,0 +1,71 @@
+package cn.refinex.common.redis.pipeline;
+
+import java.util.function.Function;
+
+/**
+ * 管道命令的结果
+ * <p>
+ * 命令入队时返回，{@link RedisPipeline#execute()} 执行后才能通过 {@link #get()} 取值。
+ *
+ * @param <T> 结果类型
+ * @author Refinex
+ * @since 1.0.0
+ */
+public final class PipelineResult<T> {
+
+    /**
+     * 原始结果 -> 目标类型
+     */
+    private final Function<Object, T> converter;
+
+    /**
+     * 是否已执行
+     */
+    private volatile boolean done;
+
+    /**
+     * 结果
+     */
+    private T value;
+
+    /**
+     * 构造函数
+     *
+     * @param converter 原始结果转换函数
+     */
+    PipelineResult(Function<Object, T> converter) {
+        this.converter = converter;
+    }
+
+    /**
+     * 获取结果
+     *
+     * @return 结果
+     * @throws IllegalStateException 管道尚未执行时
+     */
+    public T get() {
+        if (!done) {
+            throw new IllegalStateException("管道尚未执行，无法获取结果");
+        }
+        return value;
+    }
+
+    /**
+     * 是否已执行
+     *
+     * @return 是否已执行
+     */
+    public boolean isDone() {
+        return done;
+    }
+
+    /**
+     * 设置结果
+     *
+     * @param raw 管道返回的原始结果
+     */
+    void complete(Object raw) {
+        this.value = raw == null ? null : converter.apply(raw);
+        this.done = true;
+    }
+}
@@ -0,0 +1,796 @@
+package cn.refinex.common.redis.pipeline;
+
+import cn.refinex.common.enums.HttpStatusCode;
+import cn.refinex.common.exception.SystemException;
+import cn.refinex.common.redis.cache.MultiLevelCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Redis 管道
+ * <p>
+ * 按数据类型（String/Hash/List/Set/ZSet）入队命令，{@link #execute()} 时通过 Redis Pipeline 一次性发送，
+ * 每 {@code flushSize} 条命令一次网络往返。入队方法返回 {@link PipelineResult}，执行后按入队顺序填充结果。
+ * <p>
+ * 使用示例：
+ * <pre>{@code
+ * RedisPipeline pipeline = redisService.pipeline();
+ * PipelineResult<String> name = pipeline.string().get("user:1:name", String.class);
+ * PipelineResult<Long> count = pipeline.string().increment("login:error:1");
+ * pipeline.expire("login:error:1", Duration.ofMinutes(30));
+ * pipeline.cache().put(cacheManager.getCache("dict:type"), "gender", type);
+ * pipeline.execute();
+ * }</pre>
+ * {@link #cache()} 按 RedisCacheManager 的 Key 格式、值序列化方式与过期时间写入 Spring Cache 条目，
+ * 二级缓存（{@link MultiLevelCache}）的本地条目在管道执行成功后写入。
+ * 管道不是事务：命令之间没有原子性，某条命令失败不会回滚其他命令。实例不是线程安全的，应在单个方法内创建并执行。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class RedisPipeline {
+
+    /**
+     * 默认每次网络往返发送的命令数
+     */
+    public static final int DEFAULT_FLUSH_SIZE = 1000;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 每次网络往返发送的命令数
+     */
+    private final int flushSize;
+
+    /**
+     * 已入队的命令
+     */
+    private final List<Command> commands = new ArrayList<>();
+
+    /**
+     * 管道执行成功后的回调（如写入二级缓存的本地条目）
+     */
+    private final List<Runnable> afterExecute = new ArrayList<>();
+
+    private final StringCommands stringCommands = new StringCommands();
+    private final HashCommands hashCommands = new HashCommands();
+    private final ListCommands listCommands = new ListCommands();
+    private final SetCommands setCommands = new SetCommands();
+    private final ZSetCommands zSetCommands = new ZSetCommands();
+    private final CacheCommands cacheCommands = new CacheCommands();
+
+    /**
+     * 构造函数
+     *
+     * @param redisTemplate Redis 模板
+     * @param flushSize     每次网络往返发送的命令数
+     */
+    public RedisPipeline(RedisTemplate<String, Object> redisTemplate, int flushSize) {
+        if (redisTemplate == null) {
+            throw new IllegalArgumentException("Redis 模板不能为空");
+        }
+        if (flushSize <= 0) {
+            throw new IllegalArgumentException("管道批次大小必须大于 0");
+        }
+        this.redisTemplate = redisTemplate;
+        this.flushSize = flushSize;
+    }
+
+    // ========== 数据类型命令 ==========
+
+    /**
+     * String 类型命令
+     *
+     * @return StringCommands
+     */
+    public StringCommands string() {
+        return stringCommands;
+    }
+
+    /**
+     * Hash 类型命令
+     *
+     * @return HashCommands
+     */
+    public HashCommands hash() {
+        return hashCommands;
+    }
+
+    /**
+     * List 类型命令
+     *
+     * @return ListCommands
+     */
+    public ListCommands list() {
+        return listCommands;
+    }
+
+    /**
+     * Set 类型命令
+     *
+     * @return SetCommands
+     */
+    public SetCommands set() {
+        return setCommands;
+    }
+
+    /**
+     * ZSet 类型命令
+     *
+     * @return ZSetCommands
+     */
+    public ZSetCommands zSet() {
+        return zSetCommands;
+    }
+
+    /**
+     * Spring Cache 命令
+     *
+     * @return CacheCommands
+     */
+    public CacheCommands cache() {
+        return cacheCommands;
+    }
+
+    // ========== 通用命令 ==========
+
+    /**
+     * 删除 key
+     *
+     * @param key 键
+     * @return 是否删除
+     */
+    public PipelineResult<Boolean> delete(String key) {
+        // 管道中返回的是 DEL 的原始结果（删除数量）
+        return enqueue(ops -> ops.delete(key), raw -> raw instanceof Number number ? number.longValue() > 0 : cast(raw, Boolean.class));
+    }
+
+    /**
+     * 异步删除 key（UNLINK）
+     *
+     * @param keys 键集合
+     * @return 删除的数量
+     */
+    public PipelineResult<Long> unlink(Collection<String> keys) {
+        return enqueue(ops -> ops.unlink(keys), Long.class);
+    }
+
+    /**
+     * 设置 key 的过期时间
+     *
+     * @param key      键
+     * @param duration 过期时间
+     * @return 是否设置成功
+     */
+    public PipelineResult<Boolean> expire(String key, Duration duration) {
+        return enqueue(ops -> ops.expire(key, duration), Boolean.class);
+    }
+
+    /**
+     * 判断 key 是否存在
+     *
+     * @param key 键
+     * @return 是否存在
+     */
+    public PipelineResult<Boolean> hasKey(String key) {
+        return enqueue(ops -> ops.hasKey(key), Boolean.class);
+    }
+
+    // ========== 执行 ==========
+
+    /**
+     * 已入队的命令数
+     *
+     * @return 命令数
+     */
+    public int size() {
+        return commands.size();
+    }
+
+    /**
+     * 执行所有已入队的命令并填充结果，执行后清空队列（实例可继续复用）
+     */
+    public void execute() {
+        if (commands.isEmpty()) {
+            return;
+        }
+
+        List<Command> pending = new ArrayList<>(commands);
+        List<Runnable> callbacks = new ArrayList<>(afterExecute);
+        commands.clear();
+        afterExecute.clear();
+        try {
+            for (int from = 0; from < pending.size(); from += flushSize) {
+                flush(pending.subList(from, Math.min(from + flushSize, pending.size())));
+            }
+            callbacks.forEach(Runnable::run);
+        } catch (SystemException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Redis 管道执行失败，命令数: {}", pending.size(), e);
+            throw new SystemException(HttpStatusCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 通过一次 Pipeline 发送一批命令
+     *
+     * @param batch 命令
+     */
+    private void flush(List<Command> batch) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                for (Command command : batch) {
+                    command.action().accept(ops);
+                }
+                return null;
+            }
+        });
+
+        // 状态回复类命令（HMSET、LTRIM 等）不出现在结果中，结果按位置对应其余命令，数量不一致时无法对应
+        long expected = batch.stream().filter(command -> command.result() != null).count();
+        if (results.size() != expected) {
+            log.error("Redis 管道结果数量与命令不一致，命令数: {}, 期望结果数: {}, 实际结果数: {}", batch.size(), expected, results.size());
+            throw new SystemException(HttpStatusCode.INTERNAL_SERVER_ERROR);
+        }
+
+        int index = 0;
+        for (Command command : batch) {
+            if (command.result() != null) {
+                command.result().complete(results.get(index++));
+            }
+        }
+    }
+
+    /**
+     * 入队有返回值的命令
+     *
+     * @param action 命令
+     * @param type   结果类型
+     * @param <T>    结果类型
+     * @return 结果
+     */
+    private <T> PipelineResult<T> enqueue(Consumer<RedisOperations<String, Object>> action, Class<T> type) {
+        return enqueue(action, raw -> cast(raw, type));
+    }
+
+    /**
+     * 入队有返回值的命令
+     *
+     * @param action    命令
+     * @param converter 结果转换函数
+     * @param <T>       结果类型
+     * @return 结果
+     */
+    private <T> PipelineResult<T> enqueue(Consumer<RedisOperations<String, Object>> action, Function<Object, T> converter) {
+        PipelineResult<T> result = new PipelineResult<>(converter);
+        commands.add(new Command(action, result));
+        return result;
+    }
+
+    /**
+     * 入队无返回值的命令（状态回复类命令）
+     *
+     * @param action 命令
+     */
+    private void enqueueStatus(Consumer<RedisOperations<String, Object>> action) {
+        commands.add(new Command(action, null));
+    }
+
+    /**
+     * 类型转换
+     *
+     * @param raw  原始结果
+     * @param type 目标类型
+     * @param <T>  目标类型
+     * @return 转换后的结果
+     */
+    private static <T> T cast(Object raw, Class<T> type) {
+        if (type.isInstance(raw)) {
+            return type.cast(raw);
+        }
+        throw new ClassCastException("无法将值转换为指定类型: " + type.getName());
+    }
+
+    /**
+     * 入队的命令
+     *
+     * @param action 命令
+     * @param result 结果，状态回复类命令为 null
+     */
+    private record Command(Consumer<RedisOperations<String, Object>> action, PipelineResult<?> result) {
+    }
+
+    // ========== Spring Cache ==========
+
+    /**
+     * Spring Cache 命令（仅支持 {@link RedisCache} 及以其为远程缓存的 {@link MultiLevelCache}）
+     */
+    public final class CacheCommands {
+
+        /**
+         * 写入缓存条目，过期时间取缓存配置
+         *
+         * @param cache 缓存
+         * @param key   缓存键
+         * @param value 缓存值，null 表示缓存空值（缓存需允许空值）
+         * @return 是否写入成功
+         */
+        public PipelineResult<Boolean> put(Cache cache, Object key, Object value) {
+            return put(cache, key, value, null);
+        }
+
+        /**
+         * 写入缓存条目并指定过期时间
+         *
+         * @param cache 缓存
+         * @param key   缓存键
+         * @param value 缓存值，null 表示缓存空值（缓存需允许空值）
+         * @param ttl   过期时间，为 null 时取缓存配置
+         * @return 是否写入成功
+         */
+        public PipelineResult<Boolean> put(Cache cache, Object key, Object value, Duration ttl) {
+            RedisCache redisCache = resolveRedisCache(cache);
+            RedisCacheConfiguration config = redisCache.getCacheConfiguration();
+            if (value == null && !config.getAllowCacheNullValues()) {
+                throw new IllegalArgumentException("缓存不允许空值: " + redisCache.getName());
+            }
+
+            // 与 RedisCache 一致：Key 为 前缀 + 键的字符串形式，空值以 NullValue 的 JDK 序列化结果保存
+            String cacheKey = convertKey(config, key);
+            if (config.usePrefix()) {
+                cacheKey = config.getKeyPrefixFor(redisCache.getName()) + cacheKey;
+            }
+            byte[] rawKey = ByteUtils.getBytes(config.getKeySerializationPair().write(cacheKey));
+            byte[] rawValue = value == null
+                    ? RedisSerializer.java().serialize(NullValue.INSTANCE)
+                    : ByteUtils.getBytes(config.getValueSerializationPair().write(value));
+            Duration timeToLive = ttl != null ? ttl : config.getTtlFunction().getTimeToLive(key, value);
+            Expiration expiration = timeToLive != null && !timeToLive.isZero() && !timeToLive.isNegative()
+                    ? Expiration.from(timeToLive)
+                    : Expiration.persistent();
+
+            PipelineResult<Boolean> result = enqueue(ops -> ops.execute((RedisCallback<Boolean>) connection ->
+                    connection.stringCommands().set(rawKey, rawValue, expiration, RedisStringCommands.SetOption.upsert())), Boolean.class);
+            if (cache instanceof MultiLevelCache multiLevelCache) {
+                afterExecute.add(() -> multiLevelCache.putLocal(key, value));
+            }
+            return result;
+        }
+
+        /**
+         * 获取缓存对应的 RedisCache
+         *
+         * @param cache 缓存
+         * @return RedisCache
+         */
+        private RedisCache resolveRedisCache(Cache cache) {
+            Cache target = cache instanceof MultiLevelCache multiLevelCache ? multiLevelCache.getRemoteCache() : cache;
+            if (target instanceof RedisCache redisCache) {
+                return redisCache;
+            }
+            throw new IllegalArgumentException("不支持在管道中写入的缓存类型: " + (cache == null ? null : cache.getClass().getName()));
+        }
+
+        /**
+         * 将缓存键转换为字符串（与 RedisCache 一致，优先使用缓存配置的类型转换服务）
+         *
+         * @param config 缓存配置
+         * @param key    缓存键
+         * @return 键的字符串形式
+         */
+        private String convertKey(RedisCacheConfiguration config, Object key) {
+            if (key instanceof String str) {
+                return str;
+            }
+            if (key != null && config.getConversionService().canConvert(key.getClass(), String.class)) {
+                return config.getConversionService().convert(key, String.class);
+            }
+            return String.valueOf(key);
+        }
+    }
+
+    // ========== String ==========
+
+    /**
+     * String 类型命令
+     */
+    public final class StringCommands {
+
+        /**
+         * 设置值
+         *
+         * @param key   键
+         * @param value 值
+         * @return 是否设置成功
+         */
+        public PipelineResult<Boolean> set(String key, Object value) {
+            return enqueue(ops -> ops.opsForValue().set(key, value), Boolean.class);
+        }
+
+        /**
+         * 设置值并指定过期时间
+         *
+         * @param key      键
+         * @param value    值
+         * @param duration 过期时间
+         * @return 是否设置成功
+         */
+        public PipelineResult<Boolean> set(String key, Object value, Duration duration) {
+            return enqueue(ops -> ops.opsForValue().set(key, value, duration), Boolean.class);
+        }
+
+        /**
+         * 仅当 key 不存在时设置值并指定过期时间
+         *
+         * @param key      键
+         * @param value    值
+         * @param duration 过期时间
+         * @return true 设置成功，false key 已存在
+         */
+        public PipelineResult<Boolean> setIfAbsent(String key, Object value, Duration duration) {
+            return enqueue(ops -> ops.opsForValue().setIfAbsent(key, value, duration), Boolean.class);
+        }
+
+        /**
+         * 获取值
+         *
+         * @param key 键
+         * @return 值
+         */
+        public PipelineResult<Object> get(String key) {
+            return enqueue(ops -> ops.opsForValue().get(key), Function.identity());
+        }
+
+        /**
+         * 获取值并转换为指定类型
+         *
+         * @param key   键
+         * @param clazz 类型
+         * @param <T>   类型
+         * @return 值
+         */
+        public <T> PipelineResult<T> get(String key, Class<T> clazz) {
+            return enqueue(ops -> ops.opsForValue().get(key), clazz);
+        }
+
+        /**
+         * 递增 1
+         *
+         * @param key 键
+         * @return 递增后的值
+         */
+        public PipelineResult<Long> increment(String key) {
+            return enqueue(ops -> ops.opsForValue().increment(key), Long.class);
+        }
+
+        /**
+         * 递增指定值
+         *
+         * @param key   键
+         * @param delta 增量
+         * @return 递增后的值
+         */
+        public PipelineResult<Long> increment(String key, long delta) {
+            return enqueue(ops -> ops.opsForValue().increment(key, delta), Long.class);
+        }
+
+        /**
+         * 递减 1
+         *
+         * @param key 键
+         * @return 递减后的值
+         */
+        public PipelineResult<Long> decrement(String key) {
+            return enqueue(ops -> ops.opsForValue().decrement(key), Long.class);
+        }
+    }
+
+    // ========== Hash ==========
+
+    /**
+     * Hash 类型命令
+     */
+    public final class HashCommands {
+
+        /**
+         * 设置字段值
+         *
+         * @param key   键
+         * @param field 字段
+         * @param value 值
+         * @return 是否为新字段
+         */
+        public PipelineResult<Boolean> put(String key, String field, Object value) {
+            return enqueue(ops -> ops.opsForHash().put(key, field, value), Boolean.class);
+        }
+
+        /**
+         * 批量设置字段值
+         *
+         * @param key 键
+         * @param map 字段值映射
+         */
+        public void putAll(String key, Map<String, Object> map) {
+            enqueueStatus(ops -> ops.opsForHash().putAll(key, map));
+        }
+
+        /**
+         * 获取字段值
+         *
+         * @param key   键
+         * @param field 字段
+         * @return 值
+         */
+        public PipelineResult<Object> get(String key, String field) {
+            return enqueue(ops -> ops.opsForHash().get(key, field), Function.identity());
+        }
+
+        /**
+         * 获取所有字段值
+         *
+         * @param key 键
+         * @return 字段值映射
+         */
+        @SuppressWarnings("unchecked")
+        public PipelineResult<Map<Object, Object>> entries(String key) {
+            return enqueue(ops -> ops.opsForHash().entries(key), raw -> (Map<Object, Object>) raw);
+        }
+
+        /**
+         * 删除字段
+         *
+         * @param key    键
+         * @param fields 字段
+         * @return 删除的数量
+         */
+        public PipelineResult<Long> delete(String key, Object... fields) {
+            return enqueue(ops -> ops.opsForHash().delete(key, fields), Long.class);
+        }
+
+        /**
+         * 字段值递增
+         *
+         * @param key   键
+         * @param field 字段
+         * @param delta 增量
+         * @return 递增后的值
+         */
+        public PipelineResult<Long> increment(String key, String field, long delta) {
+            return enqueue(ops -> ops.opsForHash().increment(key, field, delta), Long.class);
+        }
+    }
+
+    // ========== List ==========
+
+    /**
+     * List 类型命令
+     */
+    public final class ListCommands {
+
+        /**
+         * 从左侧插入
+         *
+         * @param key   键
+         * @param value 值
+         * @return 插入后的列表长度
+         */
+        public PipelineResult<Long> leftPush(String key, Object value) {
+            return enqueue(ops -> ops.opsForList().leftPush(key, value), Long.class);
+        }
+
+        /**
+         * 从右侧插入
+         *
+         * @param key   键
+         * @param value 值
+         * @return 插入后的列表长度
+         */
+        public PipelineResult<Long> rightPush(String key, Object value) {
+            return enqueue(ops -> ops.opsForList().rightPush(key, value), Long.class);
+        }
+
+        /**
+         * 从右侧批量插入
+         *
+         * @param key    键
+         * @param values 值集合
+         * @return 插入后的列表长度
+         */
+        public PipelineResult<Long> rightPushAll(String key, Collection<Object> values) {
+            return enqueue(ops -> ops.opsForList().rightPushAll(key, values), Long.class);
+        }
+
+        /**
+         * 获取指定范围的元素
+         *
+         * @param key   键
+         * @param start 开始位置
+         * @param end   结束位置
+         * @return 元素列表
+         */
+        @SuppressWarnings("unchecked")
+        public PipelineResult<List<Object>> range(String key, long start, long end) {
+            return enqueue(ops -> ops.opsForList().range(key, start, end), raw -> (List<Object>) raw);
+        }
+
+        /**
+         * 裁剪列表
+         *
+         * @param key   键
+         * @param start 开始位置
+         * @param end   结束位置
+         */
+        public void trim(String key, long start, long end) {
+            enqueueStatus(ops -> ops.opsForList().trim(key, start, end));
+        }
+
+        /**
+         * 获取列表长度
+         *
+         * @param key 键
+         * @return 列表长度
+         */
+        public PipelineResult<Long> size(String key) {
+            return enqueue(ops -> ops.opsForList().size(key), Long.class);
+        }
+    }
+
+    // ========== Set ==========
+
+    /**
+     * Set 类型命令
+     */
+    public final class SetCommands {
+
+        /**
+         * 添加元素
+         *
+         * @param key    键
+         * @param values 值
+         * @return 新增的数量
+         */
+        public PipelineResult<Long> add(String key, Object... values) {
+            return enqueue(ops -> ops.opsForSet().add(key, values), Long.class);
+        }
+
+        /**
+         * 移除元素
+         *
+         * @param key    键
+         * @param values 值
+         * @return 移除的数量
+         */
+        public PipelineResult<Long> remove(String key, Object... values) {
+            return enqueue(ops -> ops.opsForSet().remove(key, values), Long.class);
+        }
+
+        /**
+         * 判断是否为成员
+         *
+         * @param key   键
+         * @param value 值
+         * @return 是否为成员
+         */
+        public PipelineResult<Boolean> isMember(String key, Object value) {
+            return enqueue(ops -> ops.opsForSet().isMember(key, value), Boolean.class);
+        }
+
+        /**
+         * 获取所有成员
+         *
+         * @param key 键
+         * @return 成员集合
+         */
+        @SuppressWarnings("unchecked")
+        public PipelineResult<Set<Object>> members(String key) {
+            return enqueue(ops -> ops.opsForSet().members(key), raw -> (Set<Object>) raw);
+        }
+    }
+
+    // ========== ZSet ==========
+
+    /**
+     * ZSet 类型命令
+     */
+    public final class ZSetCommands {
+
+        /**
+         * 添加元素
+         *
+         * @param key   键
+         * @param value 值
+         * @param score 分数
+         * @return 是否为新元素
+         */
+        public PipelineResult<Boolean> add(String key, Object value, double score) {
+            return enqueue(ops -> ops.opsForZSet().add(key, value, score), Boolean.class);
+        }
+
+        /**
+         * 移除元素
+         *
+         * @param key    键
+         * @param values 值
+         * @return 移除的数量
+         */
+        public PipelineResult<Long> remove(String key, Object... values) {
+            return enqueue(ops -> ops.opsForZSet().remove(key, values), Long.class);
+        }
+
+        /**
+         * 增加分数
+         *
+         * @param key   键
+         * @param value 值
+         * @param delta 增量
+         * @return 增加后的分数
+         */
+        public PipelineResult<Double> incrementScore(String key, Object value, double delta) {
+            return enqueue(ops -> ops.opsForZSet().incrementScore(key, value, delta), Double.class);
+        }
+
+        /**
+         * 获取分数
+         *
+         * @param key   键
+         * @param value 值
+         * @return 分数
+         */
+        public PipelineResult<Double> score(String key, Object value) {
+            return enqueue(ops -> ops.opsForZSet().score(key, value), Double.class);
+        }
+
+        /**
+         * 按排名获取元素（从小到大）
+         *
+         * @param key   键
+         * @param start 开始排名
+         * @param end   结束排名
+         * @return 元素集合
+         */
+        @SuppressWarnings("unchecked")
+        public PipelineResult<Set<Object>> range(String key, long start, long end) {
+            return enqueue(ops -> ops.opsForZSet().range(key, start, end), raw -> (Set<Object>) raw);
+        }
+
+        /**
+         * 按排名获取元素及分数（从小到大）
+         *
+         * @param key   键
+         * @param start 开始排名
+         * @param end   结束排名
+         * @return 元素及分数集合
+         */
+        @SuppressWarnings("unchecked")
+        public PipelineResult<Set<ZSetOperations.TypedTuple<Object>>> rangeWithScores(String key, long start, long end) {
+            return enqueue(ops -> ops.opsForZSet().rangeWithScores(key, start, end), raw -> (Set<ZSetOperations.TypedTuple<Object>>) raw);
+        }
+    }
+}
@@ -1,11 +1,47 @@
 package cn.refinex.common.redis.properties;
 
+import cn.refinex.common.redis.serializer.CompactRedisSerializer;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Refinex Redis 配置类
  *
+ * <h3>配置示例：</h3>
+ * <pre>{@code
+ * refinex:
+ *   redis:
+ *     redis-scan-batch-size: 30
+ *     serializer:
+ *       format: json
+ *       compression: lz4
+ *       compression-threshold: 1024
+ *     local-cache:
+ *       enabled: true
+ *       maximum-size: 10000
+ *       expire-after-write: 5m
+ *       cache-names:
+ *         - dict_data
+ *         - sys_config
+ *     id-segment:
+ *       initial-step: 1000
+ *       max-step: 1000000
+ *       prefetch-watermark: 0.5
+ *       target-lease-interval: 30s
+ *     snowflake:
+ *       worker-id-lease-enabled: true
+ *       lease-ttl: 60s
+ *       heartbeat-interval: 20s
+ *       lease-safety-margin: 10s
+ *     namespace:
+ *       generation-refresh-interval: 30s
+ *       sweep-delay: 30s
+ * }</pre>
+ *
  * @author Refinex
  * @since 1.0.0
  */
@@ -17,4 +53,189 @@ public class RefinexRedisProperties {
      * redis scan 一次返回数量, 默认 30
      */
     private Integer redisScanBatchSize = 30;
+
+    /**
+     * Redis 值序列化配置
+     */
+    private SerializerProperties serializer = new SerializerProperties();
+
+    /**
+     * 本地（一级）缓存配置
+     */
+    private LocalCacheProperties localCache = new LocalCacheProperties();
+
+    /**
+     * 号段 ID 分配配置
+     */
+    private IdSegmentProperties idSegment = new IdSegmentProperties();
+
+    /**
+     * Snowflake 节点ID租约配置
+     */
+    private SnowflakeProperties snowflake = new SnowflakeProperties();
+
+    /**
+     * 缓存命名空间（代数失效）配置
+     */
+    private CacheNamespaceProperties namespace = new CacheNamespaceProperties();
+
+    /**
+     * Redis 值序列化配置
+     */
+    @Data
+    public static class SerializerProperties {
+
+        /**
+         * 写入格式，默认 JSON；SMILE 需在应用中引入 jackson-dataformat-smile（本模块为 optional 依赖）。读取时按值自身的格式解码，与该配置无关
+         */
+        private CompactRedisSerializer.Format format = CompactRedisSerializer.Format.JSON;
+
+        /**
+         * 压缩算法，默认不压缩（滚动升级时需等所有节点都升级到支持压缩的版本后再开启）
+         */
+        private CompactRedisSerializer.Compression compression = CompactRedisSerializer.Compression.NONE;
+
+        /**
+         * 压缩阈值（字节），编码结果小于该值时不压缩
+         */
+        private int compressionThreshold = 1024;
+
+        /**
+         * 解压后最大长度（字节），LZ4 声明长度或 Deflate 解压结果超出时拒绝读取，默认 64 MB
+         */
+        private int maxDecompressedLength = CompactRedisSerializer.DEFAULT_MAX_DECOMPRESSED_LENGTH;
+    }
+
+    /**
+     * 本地（一级）缓存配置
+     */
+    @Data
+    public static class LocalCacheProperties {
+
+        /**
+         * 是否启用 Caffeine 本地缓存 + Redis 远程缓存的二级缓存，默认关闭
+         */
+        private boolean enabled = false;
+
+        /**
+         * 每个缓存的本地条目上限，超出后按 Caffeine 的 W-TinyLFU 策略淘汰
+         */
+        private long maximumSize = 10000;
+
+        /**
+         * 本地条目最长存活时间
+         * <p>
+         * 实际过期时间取该值与缓存名称中 {@code #ttl} 的较小值；失效广播丢失时，本地数据最多陈旧这么久。
+         */
+        private Duration expireAfterWrite = Duration.ofMinutes(5);
+
+        /**
+         * 启用本地缓存的缓存名称（不含 {@code #ttl} 部分），为空时所有缓存都启用
+         */
+        private List<String> cacheNames = new ArrayList<>();
+
+        /**
+         * 本地缓存失效广播的 Pub/Sub Channel
+         */
+        private String invalidationChannel = "refinex:cache:invalidation";
+    }
+
+    /**
+     * 号段 ID 分配配置
+     */
+    @Data
+    public static class IdSegmentProperties {
+
+        /**
+         * 初始（也是最小）号段长度
+         */
+        private long initialStep = 1000;
+
+        /**
+         * 最大号段长度
+         */
+        private long maxStep = 1000000;
+
+        /**
+         * 预取水位：当前号段消耗比例达到该值时异步申请下一号段（0 ~ 1）
+         */
+        private double prefetchWatermark = 0.5;
+
+        /**
+         * 期望的号段申请间隔
+         * <p>
+         * 两次申请间隔小于该值时号段长度翻倍（不超过 maxStep），大于两倍该值时减半（不低于 initialStep）。
+         */
+        private Duration targetLeaseInterval = Duration.ofSeconds(30);
+    }
+
+    /**
+     * Snowflake 节点ID租约配置
+     */
+    @Data
+    public static class SnowflakeProperties {
+
+        /**
+         * 是否通过 Redis 租约分配 Snowflake 节点ID（替代固定配置的 snowflake.worker-id/datacenter-id），默认关闭
+         */
+        private boolean workerIdLeaseEnabled = false;
+
+        /**
+         * 租约有效期
+         */
+        private Duration leaseTtl = Duration.ofSeconds(60);
+
+        /**
+         * 心跳（续期）间隔
+         */
+        private Duration heartbeatInterval = Duration.ofSeconds(20);
+
+        /**
+         * 租约安全余量：距上次续期成功超过 {@code lease-ttl - lease-safety-margin} 后停止发号，
+         * 需小于 {@code lease-ttl - heartbeat-interval}
+         */
+        private Duration leaseSafetyMargin = Duration.ofSeconds(10);
+
+        /**
+         * 容忍的最大时钟回拨毫秒数
+         */
+        private long maxBackwardMs = 2;
+    }
+
+    /**
+     * 缓存命名空间（代数失效）配置
+     */
+    @Data
+    public static class CacheNamespaceProperties {
+
+        /**
+         * 是否注册缓存命名空间管理器及其失效广播监听容器，默认开启
+         */
+        private boolean enabled = true;
+
+        /**
+         * 命名空间失效广播的 Pub/Sub Channel
+         */
+        private String channel = "refinex:cache:namespace";
+
+        /**
+         * 本地代数的最长使用时间，超过后重新从 Redis 读取；失效广播丢失时，本地代数最多陈旧这么久
+         */
+        private Duration generationRefreshInterval = Duration.ofSeconds(30);
+
+        /**
+         * 旧代数清理时每批 SCAN / UNLINK 的键数量
+         */
+        private int sweepBatchSize = 500;
+
+        /**
+         * 失效后是否自动在后台清理旧代数的键
+         */
+        private boolean sweepAfterInvalidate = true;
+
+        /**
+         * 失效后延迟多久清理旧代数的键，应大于单次查询加写缓存的耗时
+         */
+        private Duration sweepDelay = Duration.ofSeconds(30);
+    }
 }
@@ -0,0 +1,390 @@
+package cn.refinex.common.redis.serializer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.util.ClassUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 紧凑的 Redis 值序列化器（可选二进制格式 + 透明压缩）
+ * <p>
+ * 在 JSON 序列化器（带类型信息）的基础上支持：
+ * <ul>
+ *     <li>二进制格式：{@link Format#SMILE}（Jackson Smile，与 JSON 共用同一 ObjectMapper 配置与类型信息），
+ *     本模块以 optional 方式声明 {@code com.fasterxml.jackson.dataformat:jackson-dataformat-smile}，写入或读取 SMILE 的应用需自行引入，
+ *     未引入时配置 SMILE 格式启动失败，读到 SMILE 值时抛出 {@link SerializationException}</li>
+ *     <li>压缩：编码结果不小于阈值时按 {@link Compression#DEFLATE} 或 {@link Compression#LZ4} 压缩，压缩后没有变小则保留原文</li>
+ * </ul>
+ * 存储格式：未压缩的 JSON 与原有格式完全一致（滚动升级期间旧节点仍可读取）；其他情况为
+ * {@code [0xC1][格式 << 4 | 压缩算法][数据]}，LZ4 数据前额外写入 4 字节原始长度。0xC1 在 UTF-8 中不会出现，
+ * 读取时据此区分新旧格式，旧的 JSON 值始终按 JSON 解码，因此切换格式或压缩算法无需清理缓存。
+ * <p>
+ * 解压时 LZ4 使用带边界检查的 {@code safeDecompressor}，LZ4 声明的原始长度与 Deflate 解压结果均不能超过
+ * {@code maxDecompressedLength}，损坏或恶意构造的数据抛出 {@link SerializationException}，不会越界读取或耗尽内存。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    /**
+     * 新格式标记字节（UTF-8 中不会出现）
+     */
+    private static final byte MAGIC = (byte) 0xC1;
+
+    /**
+     * 头部长度（标记字节 + 格式与压缩算法字节）
+     */
+    private static final int HEADER_LENGTH = 2;
+
+    /**
+     * Smile 工厂类名
+     */
+    private static final String SMILE_FACTORY_CLASS = "com.fasterxml.jackson.dataformat.smile.SmileFactory";
+
+    /**
+     * 默认解压后最大长度（64 MB）
+     */
+    public static final int DEFAULT_MAX_DECOMPRESSED_LENGTH = 64 * 1024 * 1024;
+
+    /**
+     * JSON 序列化器（写入 JSON 格式与读取旧格式）
+     */
+    private final RedisSerializer<Object> jsonSerializer;
+
+    /**
+     * Smile ObjectMapper（复制自 JSON ObjectMapper，Smile 不可用时为 null）
+     */
+    private final ObjectMapper smileMapper;
+
+    @Getter
+    private final Format format;
+
+    @Getter
+    private final Compression compression;
+
+    /**
+     * 压缩阈值（字节），编码结果小于该值时不压缩
+     */
+    @Getter
+    private final int compressionThreshold;
+
+    /**
+     * 解压后最大长度（字节），超出时拒绝解压
+     */
+    @Getter
+    private final int maxDecompressedLength;
+
+    /**
+     * 构造函数，解压后最大长度为 {@link #DEFAULT_MAX_DECOMPRESSED_LENGTH}
+     *
+     * @param jsonSerializer       JSON 序列化器
+     * @param jsonMapper           JSON 序列化器使用的 ObjectMapper（SMILE 格式复制其配置）
+     * @param format               写入格式
+     * @param compression          压缩算法
+     * @param compressionThreshold 压缩阈值（字节）
+     */
+    public CompactRedisSerializer(RedisSerializer<Object> jsonSerializer, ObjectMapper jsonMapper,
+                                  Format format, Compression compression, int compressionThreshold) {
+        this(jsonSerializer, jsonMapper, format, compression, compressionThreshold, DEFAULT_MAX_DECOMPRESSED_LENGTH);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param jsonSerializer       JSON 序列化器
+     * @param jsonMapper           JSON 序列化器使用的 ObjectMapper（SMILE 格式复制其配置）
+     * @param format               写入格式
+     * @param compression          压缩算法
+     * @param compressionThreshold  压缩阈值（字节）
+     * @param maxDecompressedLength 解压后最大长度（字节）
+     */
+    public CompactRedisSerializer(RedisSerializer<Object> jsonSerializer, ObjectMapper jsonMapper,
+                                  Format format, Compression compression, int compressionThreshold, int maxDecompressedLength) {
+        if (jsonSerializer == null || jsonMapper == null || format == null || compression == null) {
+            throw new IllegalArgumentException("JSON 序列化器、ObjectMapper、格式与压缩算法不能为空");
+        }
+        if (compressionThreshold < 0) {
+            throw new IllegalArgumentException("压缩阈值不能小于 0");
+        }
+        if (maxDecompressedLength <= 0) {
+            throw new IllegalArgumentException("解压后最大长度必须大于 0");
+        }
+        this.jsonSerializer = jsonSerializer;
+        this.smileMapper = createSmileMapper(jsonMapper);
+        if (format == Format.SMILE && smileMapper == null) {
+            throw new IllegalStateException("使用 SMILE 格式需引入 jackson-dataformat-smile");
+        }
+        this.format = format;
+        this.compression = compression;
+        this.compressionThreshold = compressionThreshold;
+        this.maxDecompressedLength = maxDecompressedLength;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        byte[] encoded = encode(value);
+        Compression used = Compression.NONE;
+        byte[] body = encoded;
+        if (compression != Compression.NONE && encoded.length >= compressionThreshold) {
+            byte[] compressed = compress(encoded);
+            if (compressed.length < encoded.length) {
+                used = compression;
+                body = compressed;
+            }
+        }
+
+        // 未压缩的 JSON 保持原有格式
+        if (format == Format.JSON && used == Compression.NONE) {
+            return encoded;
+        }
+        byte[] result = new byte[HEADER_LENGTH + body.length];
+        result[0] = MAGIC;
+        result[1] = (byte) (format.code << 4 | used.code);
+        System.arraycopy(body, 0, result, HEADER_LENGTH, body.length);
+        return result;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        // 旧格式（以及未压缩的 JSON）
+        if (bytes[0] != MAGIC) {
+            return jsonSerializer.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_LENGTH) {
+            throw new SerializationException("Redis 值格式错误：头部不完整");
+        }
+
+        Format valueFormat = Format.of(bytes[1] >> 4 & 0x0F);
+        Compression valueCompression = Compression.of(bytes[1] & 0x0F);
+        byte[] body = decompress(valueCompression, Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length));
+        if (valueFormat == Format.JSON) {
+            return jsonSerializer.deserialize(body);
+        }
+        if (smileMapper == null) {
+            throw new SerializationException("读取 SMILE 格式的 Redis 值需引入 jackson-dataformat-smile");
+        }
+        try {
+            return smileMapper.readValue(body, Object.class);
+        } catch (IOException e) {
+            throw new SerializationException("Redis 值 SMILE 反序列化失败", e);
+        }
+    }
+
+    /**
+     * 按写入格式编码
+     *
+     * @param value 值
+     * @return 编码结果
+     */
+    private byte[] encode(Object value) {
+        if (format == Format.JSON) {
+            return jsonSerializer.serialize(value);
+        }
+        try {
+            return smileMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Redis 值 SMILE 序列化失败", e);
+        }
+    }
+
+    /**
+     * 按配置的压缩算法压缩
+     *
+     * @param data 原始数据
+     * @return 压缩后的数据
+     */
+    private byte[] compress(byte[] data) {
+        if (compression == Compression.LZ4) {
+            LZ4Compressor compressor = Lz4Holder.FACTORY.fastCompressor();
+            byte[] compressed = new byte[4 + compressor.maxCompressedLength(data.length)];
+            writeInt(compressed, data.length);
+            int length = compressor.compress(data, 0, data.length, compressed, 4, compressed.length - 4);
+            return Arrays.copyOf(compressed, 4 + length);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + 16);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream deflaterOut = new DeflaterOutputStream(out, deflater)) {
+            deflaterOut.write(data);
+        } catch (IOException e) {
+            throw new SerializationException("Redis 值压缩失败", e);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 按值自身记录的压缩算法解压
+     *
+     * @param valueCompression 压缩算法
+     * @param data             压缩数据
+     * @return 原始数据
+     */
+    private byte[] decompress(Compression valueCompression, byte[] data) {
+        switch (valueCompression) {
+            case NONE:
+                return data;
+            case LZ4:
+                if (data.length < 4) {
+                    throw new SerializationException("Redis 值格式错误：LZ4 数据不完整");
+                }
+                int declaredLength = readInt(data);
+                if (declaredLength < 0 || declaredLength > maxDecompressedLength) {
+                    throw new SerializationException("Redis 值格式错误：LZ4 原始长度 " + declaredLength + " 超出范围");
+                }
+                byte[] restored = new byte[declaredLength];
+                LZ4SafeDecompressor decompressor = Lz4Holder.FACTORY.safeDecompressor();
+                int length;
+                try {
+                    length = decompressor.decompress(data, 4, data.length - 4, restored, 0, declaredLength);
+                } catch (LZ4Exception e) {
+                    throw new SerializationException("Redis 值格式错误：LZ4 数据损坏", e);
+                }
+                if (length != declaredLength) {
+                    throw new SerializationException("Redis 值格式错误：LZ4 解压长度 " + length + " 与声明长度 " + declaredLength + " 不一致");
+                }
+                return restored;
+            case DEFLATE:
+            default:
+                try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(data))) {
+                    // 多读一个字节判断是否超出上限
+                    byte[] inflated = in.readNBytes(maxDecompressedLength + 1);
+                    if (inflated.length > maxDecompressedLength) {
+                        throw new SerializationException("Redis 值格式错误：Deflate 解压后超过 " + maxDecompressedLength + " 字节");
+                    }
+                    return inflated;
+                } catch (IOException e) {
+                    throw new SerializationException("Redis 值解压失败", e);
+                }
+        }
+    }
+
+    /**
+     * 复制 JSON ObjectMapper 的配置（模块、类型信息等）创建 Smile ObjectMapper
+     *
+     * @param jsonMapper JSON ObjectMapper
+     * @return Smile ObjectMapper，未引入 jackson-dataformat-smile 时返回 null
+     */
+    private static ObjectMapper createSmileMapper(ObjectMapper jsonMapper) {
+        ClassLoader classLoader = CompactRedisSerializer.class.getClassLoader();
+        if (!ClassUtils.isPresent(SMILE_FACTORY_CLASS, classLoader)) {
+            return null;
+        }
+        try {
+            JsonFactory smileFactory = (JsonFactory) BeanUtils.instantiateClass(ClassUtils.forName(SMILE_FACTORY_CLASS, classLoader));
+            return jsonMapper.copyWith(smileFactory);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static void writeInt(byte[] target, int value) {
+        target[0] = (byte) (value >>> 24);
+        target[1] = (byte) (value >>> 16);
+        target[2] = (byte) (value >>> 8);
+        target[3] = (byte) value;
+    }
+
+    private static int readInt(byte[] source) {
+        return (source[0] & 0xFF) << 24 | (source[1] & 0xFF) << 16 | (source[2] & 0xFF) << 8 | source[3] & 0xFF;
+    }
+
+    /**
+     * 写入格式
+     */
+    public enum Format {
+
+        /**
+         * JSON（带类型信息）
+         */
+        JSON(0),
+
+        /**
+         * Jackson Smile 二进制 JSON（带类型信息）
+         */
+        SMILE(1);
+
+        private final int code;
+
+        Format(int code) {
+            this.code = code;
+        }
+
+        private static Format of(int code) {
+            for (Format value : values()) {
+                if (value.code == code) {
+                    return value;
+                }
+            }
+            throw new SerializationException("Redis 值格式错误：未知的编码格式 " + code);
+        }
+    }
+
+    /**
+     * 压缩算法
+     */
+    public enum Compression {
+
+        /**
+         * 不压缩
+         */
+        NONE(0),
+
+        /**
+         * JDK Deflate（压缩率较高）
+         */
+        DEFLATE(1),
+
+        /**
+         * LZ4（速度快，适合缓存）
+         */
+        LZ4(2);
+
+        private final int code;
+
+        Compression(int code) {
+            this.code = code;
+        }
+
+        private static Compression of(int code) {
+            for (Compression value : values()) {
+                if (value.code == code) {
+                    return value;
+                }
+            }
+            throw new SerializationException("Redis 值格式错误：未知的压缩算法 " + code);
+        }
+    }
+
+    /**
+     * 延迟加载 LZ4（仅在使用 LZ4 时初始化原生库）
+     */
+    private static final class Lz4Holder {
+
+        private static final LZ4Factory FACTORY = LZ4Factory.fastestInstance();
+    }
+}
@@ -0,0 +1,212 @@
+package cn.refinex.common.redis.id;
+
+import cn.refinex.common.redis.properties.RefinexRedisProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 号段 ID 生成器测试（以内存计数器模拟 Redis 的号段租用，不依赖 Redis）
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@DisplayName("号段 ID 生成器测试")
+class SegmentIdGeneratorTest {
+
+    private final List<FakeLeaseGenerator> generators = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        generators.forEach(SegmentIdGenerator::destroy);
+    }
+
+    @Test
+    @DisplayName("单节点从起始值开始连续递增")
+    void testSequentialFromStartId() {
+        FakeLeaseGenerator generator = create(new LeaseStore(), properties(10, 10, Duration.ofSeconds(30)));
+
+        for (long expected = 1000; expected < 1100; expected++) {
+            assertEquals(expected, generator.nextId("order"));
+        }
+        assertEquals(500, generator.nextId("user", 500));
+        assertEquals(501, generator.nextId("user", 1));
+    }
+
+    @Test
+    @DisplayName("号段消耗到预取水位时异步申请下一号段，切换时不再同步申请")
+    void testPrefetchAtWatermark() throws Exception {
+        LeaseStore store = new LeaseStore();
+        FakeLeaseGenerator generator = create(store, properties(10, 10, Duration.ofSeconds(30)));
+
+        for (int i = 0; i < 4; i++) {
+            generator.nextId();
+        }
+        assertEquals(1, generator.steps.size());
+
+        // 第 5 个 ID 达到 50% 水位，触发预取
+        generator.nextId();
+        awaitLeases(generator, 2);
+
+        for (int i = 0; i < 5; i++) {
+            generator.nextId();
+        }
+        assertEquals(1010, generator.nextId());
+        assertEquals(2, generator.steps.size());
+    }
+
+    @Test
+    @DisplayName("号段申请频繁时步长翻倍，且不超过最大步长")
+    void testAdaptiveStep() {
+        FakeLeaseGenerator generator = create(new LeaseStore(), properties(10, 40, Duration.ofHours(1)));
+
+        for (int i = 0; i < 200; i++) {
+            generator.nextId();
+        }
+        List<Long> steps = List.copyOf(generator.steps);
+        assertEquals(List.of(10L, 20L, 40L), steps.subList(0, 3));
+        assertTrue(steps.stream().allMatch(step -> step <= 40));
+    }
+
+    @Test
+    @DisplayName("预取失败时改为同步申请")
+    void testPrefetchFailureFallsBackToSyncLease() {
+        FakeLeaseGenerator generator = create(new LeaseStore(), properties(4, 4, Duration.ofSeconds(30)));
+        generator.nextId();
+
+        generator.failNext.set(true);
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            assertTrue(ids.add(generator.nextId()));
+        }
+        assertTrue(generator.failures.get() >= 1);
+    }
+
+    @Test
+    @DisplayName("多线程、多节点共享同一计数器时 ID 不重复")
+    void testConcurrentNodesUnique() throws Exception {
+        LeaseStore store = new LeaseStore();
+        List<FakeLeaseGenerator> nodes = List.of(
+                create(store, properties(16, 256, Duration.ofSeconds(30))),
+                create(store, properties(16, 256, Duration.ofSeconds(30))));
+
+        int threads = 8;
+        int perThread = 5_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                SegmentIdGenerator node = nodes.get(t % nodes.size());
+                futures.add(executor.submit(() -> {
+                    long last = 0;
+                    for (int i = 0; i < perThread; i++) {
+                        long id = node.nextId();
+                        assertTrue(ids.add(id), "重复 ID: " + id);
+                        assertTrue(id > last, "单线程内 ID 未递增");
+                        last = id;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(threads * perThread, ids.size());
+    }
+
+    @Test
+    @DisplayName("号段参数非法时拒绝创建")
+    void testInvalidProperties() {
+        assertThrows(IllegalArgumentException.class, () -> create(new LeaseStore(), properties(0, 10, Duration.ofSeconds(30))));
+        assertThrows(IllegalArgumentException.class, () -> create(new LeaseStore(), properties(10, 5, Duration.ofSeconds(30))));
+
+        RefinexRedisProperties redisProperties = properties(10, 10, Duration.ofSeconds(30));
+        redisProperties.getIdSegment().setPrefetchWatermark(1.5);
+        assertThrows(IllegalArgumentException.class, () -> create(new LeaseStore(), redisProperties));
+    }
+
+    private FakeLeaseGenerator create(LeaseStore store, RefinexRedisProperties redisProperties) {
+        FakeLeaseGenerator generator = new FakeLeaseGenerator(store, redisProperties);
+        generators.add(generator);
+        return generator;
+    }
+
+    private static RefinexRedisProperties properties(long initialStep, long maxStep, Duration targetLeaseInterval) {
+        RefinexRedisProperties redisProperties = new RefinexRedisProperties();
+        redisProperties.getIdSegment().setInitialStep(initialStep);
+        redisProperties.getIdSegment().setMaxStep(maxStep);
+        redisProperties.getIdSegment().setTargetLeaseInterval(targetLeaseInterval);
+        return redisProperties;
+    }
+
+    private static void awaitLeases(FakeLeaseGenerator generator, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (generator.steps.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(count, generator.steps.size());
+    }
+
+    /**
+     * 模拟 Redis 中按业务类型保存的号段计数器（与租用脚本一致：不存在时初始化为 startId - 1 再 INCRBY）
+     */
+    private static final class LeaseStore {
+
+        private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+        private long lease(String businessType, long step, long startId) {
+            return counters.computeIfAbsent(businessType, key -> new AtomicLong(startId - 1)).addAndGet(step);
+        }
+    }
+
+    /**
+     * 以 {@link LeaseStore} 代替 Redis 租用号段，并记录每次申请的步长
+     */
+    private static final class FakeLeaseGenerator extends SegmentIdGenerator {
+
+        private final LeaseStore store;
+
+        private final List<Long> steps = new CopyOnWriteArrayList<>();
+
+        private final AtomicBoolean failNext = new AtomicBoolean();
+
+        private final AtomicLong failures = new AtomicLong();
+
+        private FakeLeaseGenerator(LeaseStore store, RefinexRedisProperties redisProperties) {
+            super(null, redisProperties);
+            this.store = store;
+        }
+
+        @Override
+        protected long leaseSegment(String businessType, long step, long startId) {
+            if (failNext.compareAndSet(true, false)) {
+                failures.incrementAndGet();
+                throw new IllegalStateException("模拟 Redis 不可用");
+            }
+            steps.add(step);
+            return store.lease(businessType, step, startId);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package cn.refinex.common.redis.id;
+
+import cn.refinex.common.utils.algorithm.SnowflakeIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Snowflake ID 生成器测试（以可控时钟模拟时间推进与回拨）
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@DisplayName("Snowflake ID 生成器测试")
+class SnowflakeIdGeneratorTest {
+
+    private static final int SEQUENCE_SIZE = 4096;
+
+    private final AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+
+    @Test
+    @DisplayName("同一毫秒序列号用完后借用后续毫秒，超前达到容忍范围时等待时钟追上")
+    void testSequenceRollover() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 1, 2, clock::get);
+
+        long first = generator.nextId();
+        long last = first;
+        for (int i = 1; i < SEQUENCE_SIZE * 3; i++) {
+            long id = generator.nextId();
+            assertTrue(id > last, "ID 未递增");
+            assertEquals(timestamp(first) + i / SEQUENCE_SIZE, timestamp(id));
+            assertEquals(i % SEQUENCE_SIZE, sequence(id));
+            last = id;
+        }
+
+        // 已超前 2ms，时钟不前进时不再发号
+        CompletableFuture<Long> blocked = CompletableFuture.supplyAsync(generator::nextId);
+        Thread.sleep(50);
+        assertFalse(blocked.isDone());
+
+        clock.incrementAndGet();
+        long resumed = blocked.get(5, TimeUnit.SECONDS);
+        assertEquals(timestamp(first) + 3, timestamp(resumed));
+        assertEquals(0, sequence(resumed));
+    }
+
+    @Test
+    @DisplayName("批量获取跨毫秒时 ID 连续递增")
+    void testNextIdsAcrossMilliseconds() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 1, 2, clock::get);
+
+        long[] ids = generator.nextIds(SEQUENCE_SIZE + 100);
+        for (int i = 1; i < ids.length; i++) {
+            assertTrue(ids[i] > ids[i - 1], "ID 未递增");
+        }
+        assertEquals(timestamp(ids[0]) + 1, timestamp(ids[ids.length - 1]));
+        assertEquals(99, sequence(ids[ids.length - 1]));
+        assertTrue(generator.nextId() > ids[ids.length - 1]);
+    }
+
+    @Test
+    @DisplayName("容忍范围内的时钟回拨沿用上次时间戳，超出时拒绝发号")
+    void testClockBackward() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 1, 2, clock::get);
+        long before = generator.nextId();
+
+        clock.addAndGet(-2);
+        long during = generator.nextId();
+        assertTrue(during > before);
+        assertEquals(timestamp(before), timestamp(during));
+
+        clock.addAndGet(-1);
+        assertThrows(IllegalStateException.class, generator::nextId);
+        assertThrows(IllegalStateException.class, () -> generator.nextIds(10));
+
+        clock.addAndGet(4);
+        assertTrue(generator.nextId() > during);
+    }
+
+    @Test
+    @DisplayName("超过节点ID有效截止时间后拒绝发号，截止时间推后后恢复")
+    void testNodeIdDeadline() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 1, 2, clock::get);
+        AtomicLong deadline = new AtomicLong(clock.get() + 10);
+        generator.setNodeIdDeadline(deadline::get);
+
+        clock.addAndGet(9);
+        generator.nextId();
+
+        clock.incrementAndGet();
+        assertThrows(IllegalStateException.class, generator::nextId);
+        assertThrows(IllegalStateException.class, () -> generator.nextIds(10));
+
+        deadline.addAndGet(100);
+        generator.nextId();
+    }
+
+    @Test
+    @DisplayName("重新分配节点ID后新 ID 使用新节点ID且保持递增")
+    void testReassignNodeId() {
+        SnowflakeIdGenerator generator = SnowflakeIdGenerator.ofNodeId(5, 2, clock::get);
+        long before = generator.nextId();
+        assertEquals(5, nodeId(before));
+
+        generator.reassignNodeId(SnowflakeIdGenerator.MAX_NODE_ID);
+        long after = generator.nextId();
+        assertEquals(SnowflakeIdGenerator.MAX_NODE_ID, nodeId(after));
+        assertTrue(after > before);
+
+        assertThrows(IllegalArgumentException.class, () -> generator.reassignNodeId(SnowflakeIdGenerator.MAX_NODE_ID + 1));
+    }
+
+    @Test
+    @DisplayName("多线程并发发号（含批量）时 ID 不重复且单线程内递增")
+    void testConcurrentUnique() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 1);
+
+        int threads = 8;
+        int perThread = 20_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                boolean batch = t % 2 == 0;
+                futures.add(executor.submit(() -> {
+                    long last = 0;
+                    for (int i = 0; i < perThread; i += batch ? 100 : 1) {
+                        for (long id : batch ? generator.nextIds(100) : new long[]{generator.nextId()}) {
+                            assertTrue(ids.add(id), "重复 ID: " + id);
+                            assertTrue(id > last, "单线程内 ID 未递增");
+                            last = id;
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(threads * perThread, ids.size());
+    }
+
+    private static long timestamp(long id) {
+        return id >>> 22;
+    }
+
+    private static long nodeId(long id) {
+        return (id >>> 12) & SnowflakeIdGenerator.MAX_NODE_ID;
+    }
+
+    private static long sequence(long id) {
+        return id & (SEQUENCE_SIZE - 1);
+    }
+}
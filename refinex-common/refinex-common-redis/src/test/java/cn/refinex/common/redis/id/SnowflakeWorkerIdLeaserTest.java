@@ -0,0 +1,214 @@
+package cn.refinex.common.redis.id;
+
+import cn.refinex.common.utils.algorithm.SnowflakeIdGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Snowflake 节点ID租约分配器测试（以内存 Map 模拟 Redis 中的租约，以可控时钟模拟时间推进，不依赖 Redis）
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@DisplayName("Snowflake 节点ID租约分配器测试")
+class SnowflakeWorkerIdLeaserTest {
+
+    private static final Duration LEASE_TTL = Duration.ofSeconds(60);
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(20);
+    private static final Duration SAFETY_MARGIN = Duration.ofSeconds(10);
+
+    private final AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+    private final Map<Long, String> leases = new ConcurrentHashMap<>();
+    private final List<FakeLeaser> leasers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        leasers.forEach(SnowflakeWorkerIdLeaser::stop);
+    }
+
+    @Test
+    @DisplayName("启动时抢占空闲节点ID，截止时间为租约有效期减去安全余量，停止时释放")
+    void testAcquireAndRelease() {
+        FakeLeaser first = start();
+        FakeLeaser second = start();
+
+        assertNotEquals(first.getNodeId(), second.getNodeId());
+        assertEquals(first.getInstanceId(), leases.get(first.getNodeId()));
+        assertEquals(clock.get() + LEASE_TTL.toMillis() - SAFETY_MARGIN.toMillis(), first.getLeaseDeadline());
+
+        first.stop();
+        assertEquals(0, first.getLeaseDeadline());
+        assertFalse(leases.containsKey(first.getNodeId()));
+    }
+
+    @Test
+    @DisplayName("续期成功后截止时间推后")
+    void testRenewExtendsDeadline() {
+        FakeLeaser leaser = start();
+        long deadline = leaser.getLeaseDeadline();
+
+        clock.addAndGet(HEARTBEAT_INTERVAL.toMillis());
+        leaser.heartbeat();
+
+        assertEquals(deadline + HEARTBEAT_INTERVAL.toMillis(), leaser.getLeaseDeadline());
+        assertEquals(1, leaser.renewals.get());
+    }
+
+    @Test
+    @DisplayName("续期失败时截止时间不变，超过后生成器拒绝发号，续期恢复后恢复发号")
+    void testRenewFailureStopsIssuing() {
+        FakeLeaser leaser = start();
+        SnowflakeIdGenerator generator = generator(leaser);
+        long deadline = leaser.getLeaseDeadline();
+
+        leaser.redisDown.set(true);
+        for (int i = 0; i < 2; i++) {
+            clock.addAndGet(HEARTBEAT_INTERVAL.toMillis());
+            leaser.heartbeat();
+            assertEquals(deadline, leaser.getLeaseDeadline());
+            generator.nextId();
+        }
+
+        // 距上次续期成功 50s（有效期 60s - 安全余量 10s）
+        clock.addAndGet(LEASE_TTL.toMillis() - SAFETY_MARGIN.toMillis() - 2 * HEARTBEAT_INTERVAL.toMillis());
+        assertThrows(IllegalStateException.class, generator::nextId);
+
+        leaser.redisDown.set(false);
+        leaser.heartbeat();
+        assertTrue(leaser.getLeaseDeadline() > clock.get());
+        generator.nextId();
+    }
+
+    @Test
+    @DisplayName("租约过期但未被占用时重新占用原节点ID")
+    void testExpiredLeaseReacquired() {
+        FakeLeaser leaser = start();
+        long nodeId = leaser.getNodeId();
+
+        leases.remove(nodeId);
+        clock.addAndGet(HEARTBEAT_INTERVAL.toMillis());
+        leaser.heartbeat();
+
+        assertEquals(nodeId, leaser.getNodeId());
+        assertEquals(leaser.getInstanceId(), leases.get(nodeId));
+        assertTrue(leaser.reassigned.isEmpty());
+        assertEquals(clock.get() + LEASE_TTL.toMillis() - SAFETY_MARGIN.toMillis(), leaser.getLeaseDeadline());
+    }
+
+    @Test
+    @DisplayName("租约被其他实例占用时切换到新的节点ID并通知生成器")
+    void testLeaseTakenOverSwitchesNodeId() {
+        FakeLeaser leaser = start();
+        SnowflakeIdGenerator generator = generator(leaser);
+        long nodeId = leaser.getNodeId();
+        long before = generator.nextId();
+
+        leases.put(nodeId, "other-instance");
+        clock.addAndGet(HEARTBEAT_INTERVAL.toMillis());
+        leaser.heartbeat();
+
+        long newNodeId = leaser.getNodeId();
+        assertNotEquals(nodeId, newNodeId);
+        assertEquals(List.of(newNodeId), leaser.reassigned);
+        assertEquals(leaser.getInstanceId(), leases.get(newNodeId));
+        assertEquals("other-instance", leases.get(nodeId));
+
+        long after = generator.nextId();
+        assertEquals(newNodeId, (after >>> 12) & SnowflakeIdGenerator.MAX_NODE_ID);
+        assertTrue(after > before);
+
+        // 停止时只释放自己持有的租约
+        leaser.stop();
+        assertEquals("other-instance", leases.get(nodeId));
+        assertFalse(leases.containsKey(newNodeId));
+    }
+
+    @Test
+    @DisplayName("心跳间隔与安全余量非法时拒绝创建")
+    void testInvalidDurations() {
+        assertThrows(IllegalArgumentException.class, () -> new FakeLeaser(LEASE_TTL, LEASE_TTL, SAFETY_MARGIN));
+        assertThrows(IllegalArgumentException.class, () -> new FakeLeaser(LEASE_TTL, HEARTBEAT_INTERVAL, Duration.ofSeconds(40)));
+        assertThrows(IllegalArgumentException.class, () -> new FakeLeaser(LEASE_TTL, HEARTBEAT_INTERVAL, Duration.ofSeconds(-1)));
+    }
+
+    private FakeLeaser start() {
+        FakeLeaser leaser = new FakeLeaser(LEASE_TTL, HEARTBEAT_INTERVAL, SAFETY_MARGIN);
+        leasers.add(leaser);
+        leaser.start();
+        return leaser;
+    }
+
+    /**
+     * 按自动配置的方式将生成器与租约分配器关联
+     */
+    private SnowflakeIdGenerator generator(FakeLeaser leaser) {
+        SnowflakeIdGenerator generator = SnowflakeIdGenerator.ofNodeId(leaser.getNodeId(), 2, clock::get);
+        leaser.setReassignListener(nodeId -> {
+            leaser.reassigned.add(nodeId);
+            generator.reassignNodeId(nodeId);
+        });
+        generator.setNodeIdDeadline(leaser::getLeaseDeadline);
+        return generator;
+    }
+
+    /**
+     * 以 {@link #leases} 代替 Redis 中的节点ID租约（过期由测试直接删除或改写模拟）
+     */
+    private final class FakeLeaser extends SnowflakeWorkerIdLeaser {
+
+        private final AtomicBoolean redisDown = new AtomicBoolean();
+
+        private final AtomicLong renewals = new AtomicLong();
+
+        private final List<Long> reassigned = new CopyOnWriteArrayList<>();
+
+        private FakeLeaser(Duration leaseTtl, Duration heartbeatInterval, Duration safetyMargin) {
+            super(new RedisTemplate<>(), leaseTtl, heartbeatInterval, safetyMargin, clock::get);
+            setReassignListener(reassigned::add);
+        }
+
+        @Override
+        protected boolean tryAcquire(long candidate) {
+            checkRedis();
+            return leases.putIfAbsent(candidate, getInstanceId()) == null;
+        }
+
+        @Override
+        protected boolean renew(long nodeId) {
+            checkRedis();
+            boolean renewed = getInstanceId().equals(leases.get(nodeId));
+            if (renewed) {
+                renewals.incrementAndGet();
+            }
+            return renewed;
+        }
+
+        @Override
+        protected void release(long nodeId) {
+            leases.remove(nodeId, getInstanceId());
+        }
+
+        private void checkRedis() {
+            if (redisDown.get()) {
+                throw new IllegalStateException("模拟 Redis 不可用");
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package cn.refinex.gateway.accesslog;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * 访问日志事件
+ * <p>
+ * 由 {@link AccessLogRingBuffer} 预分配并循环复用：请求线程认领槽位后原地写入字段，后台写入线程读取并格式化，
+ * 请求路径上不创建事件对象，也不拼接日志字符串。请求体只拷贝前 N 个字节到预分配的数组中。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Getter
+public class AccessLogEvent {
+
+    /**
+     * 请求开始时间（毫秒时间戳）
+     */
+    private long timestamp;
+
+    /**
+     * 请求方法
+     */
+    private String method;
+
+    /**
+     * 原始请求路径
+     */
+    private String path;
+
+    /**
+     * 原始查询字符串
+     */
+    private String query;
+
+    /**
+     * 路由 ID，未匹配路由时为 null
+     */
+    private String routeId;
+
+    /**
+     * 客户端 IP
+     */
+    private String clientIp;
+
+    /**
+     * 响应状态码，未知时为 0
+     */
+    private int status;
+
+    /**
+     * 总耗时（纳秒）
+     */
+    private long totalNanos;
+
+    /**
+     * 下游服务耗时（纳秒，发出请求到收到响应头），未转发时为 -1
+     */
+    private long upstreamNanos;
+
+    /**
+     * 请求体类型
+     */
+    private BodyType bodyType;
+
+    /**
+     * 请求体总长度（字节），未知时为 -1
+     */
+    private long bodyLength;
+
+    /**
+     * 请求被取消或异常终止时的原因
+     */
+    private String error;
+
+    /**
+     * 请求体前 N 个字节（预分配）
+     */
+    @Getter(AccessLevel.NONE)
+    private final byte[] body;
+
+    /**
+     * 已拷贝的请求体字节数
+     */
+    private int bodyCaptured;
+
+    /**
+     * 构造函数
+     *
+     * @param maxBodyLength 请求体最多记录的字节数
+     */
+    AccessLogEvent(int maxBodyLength) {
+        this.body = new byte[maxBodyLength];
+    }
+
+    /**
+     * 写入请求与响应信息
+     *
+     * @param timestamp     请求开始时间（毫秒时间戳）
+     * @param method        请求方法
+     * @param path          原始请求路径
+     * @param query         原始查询字符串
+     * @param routeId       路由 ID
+     * @param clientIp      客户端 IP
+     * @param status        响应状态码
+     * @param totalNanos    总耗时（纳秒）
+     * @param upstreamNanos 下游服务耗时（纳秒）
+     * @param error         异常终止原因
+     */
+    public void set(long timestamp, String method, String path, String query, String routeId, String clientIp,
+                    int status, long totalNanos, long upstreamNanos, String error) {
+        this.timestamp = timestamp;
+        this.method = method;
+        this.path = path;
+        this.query = query;
+        this.routeId = routeId;
+        this.clientIp = clientIp;
+        this.status = status;
+        this.totalNanos = totalNanos;
+        this.upstreamNanos = upstreamNanos;
+        this.error = error;
+        this.bodyType = BodyType.NONE;
+        this.bodyLength = -1;
+        this.bodyCaptured = 0;
+    }
+
+    /**
+     * 记录请求体类型与长度，不拷贝内容
+     *
+     * @param bodyType   请求体类型
+     * @param bodyLength 请求体总长度（字节）
+     */
+    public void setBody(BodyType bodyType, long bodyLength) {
+        this.bodyType = bodyType;
+        this.bodyLength = bodyLength;
+        this.bodyCaptured = 0;
+    }
+
+    /**
+     * 拷贝请求体的前 N 个字节
+     *
+     * @param buffers    请求体内容（只读视图，不改变原缓冲区的读取位置）
+     * @param bodyLength 请求体总长度（字节）
+     */
+    public void captureBody(Iterator<ByteBuffer> buffers, long bodyLength) {
+        this.bodyType = BodyType.JSON;
+        this.bodyLength = bodyLength;
+        int captured = 0;
+        while (buffers.hasNext()) {
+            ByteBuffer buffer = buffers.next();
+            int length = Math.min(buffer.remaining(), body.length - captured);
+            if (length <= 0) {
+                break;
+            }
+            buffer.duplicate().get(body, captured, length);
+            captured += length;
+        }
+        this.bodyCaptured = bodyLength > captured ? trimIncompleteChar(captured) : captured;
+    }
+
+    /**
+     * 截断时去掉末尾不完整的 UTF-8 字符
+     *
+     * @param length 已拷贝的字节数
+     * @return 以完整字符结尾的字节数
+     */
+    private int trimIncompleteChar(int length) {
+        // 向前找到最后一个字符的首字节（最多回退 3 个后续字节）
+        int start = length - 1;
+        while (start > 0 && length - start < 4 && (body[start] & 0xC0) == 0x80) {
+            start--;
+        }
+        if (start < 0) {
+            return length;
+        }
+        int lead = body[start] & 0xFF;
+        int expected = lead < 0x80 ? 1 : lead >= 0xF0 ? 4 : lead >= 0xE0 ? 3 : 2;
+        return length - start < expected ? start : length;
+    }
+
+    /**
+     * 请求体内容（UTF-8 解码，由后台写入线程调用）
+     *
+     * @return 请求体内容，未拷贝时返回 null
+     */
+    public String bodyAsString() {
+        return bodyCaptured == 0 ? null : new String(body, 0, bodyCaptured, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 请求体是否被截断
+     *
+     * @return 被截断返回 true
+     */
+    public boolean isBodyTruncated() {
+        return bodyType == BodyType.JSON && bodyLength > bodyCaptured;
+    }
+
+    /**
+     * 请求体类型
+     */
+    public enum BodyType {
+
+        /**
+         * 无请求体或非 JSON 请求
+         */
+        NONE,
+
+        /**
+         * JSON 请求体
+         */
+        JSON,
+
+        /**
+         * 加密请求体，不记录内容
+         */
+        ENCRYPT,
+
+        /**
+         * JSON 请求体超出缓存上限，未缓存，只记录长度
+         */
+        UNCACHED
+    }
+}
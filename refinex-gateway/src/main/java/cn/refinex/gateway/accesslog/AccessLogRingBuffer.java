@@ -0,0 +1,150 @@
+package cn.refinex.gateway.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 访问日志环形缓冲区（多生产者、单消费者、无锁）
+ * <p>
+ * 槽位中的 {@link AccessLogEvent} 在创建时一次性分配并循环复用，每个槽位带一个序号标记其状态:
+ * <ul>
+ *     <li>序号 == 位置：槽位空闲，生产者通过 CAS 推进写指针认领</li>
+ *     <li>序号 == 位置 + 1：事件已发布，等待消费者读取</li>
+ *     <li>消费者读取后将序号置为 位置 + 容量，槽位进入下一轮</li>
+ * </ul>
+ * 缓冲区已满时 {@link #tryClaim()} 直接返回 -1 并计入丢弃数，生产者（Netty 事件循环线程）永不阻塞。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class AccessLogRingBuffer {
+
+    private final AccessLogEvent[] events;
+
+    private final AtomicLongArray sequences;
+
+    private final int mask;
+
+    /**
+     * 写指针（下一个待认领的位置）
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * 读指针（仅消费者线程访问）
+     */
+    private long head;
+
+    /**
+     * 缓冲区已满被丢弃的事件数
+     */
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * 构造函数
+     *
+     * @param capacity      容量（向上取整为 2 的幂）
+     * @param maxBodyLength 每个事件最多记录的请求体字节数
+     */
+    public AccessLogRingBuffer(int capacity, int maxBodyLength) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("访问日志缓冲区容量必须在 1 ~ 2^30 之间");
+        }
+        if (maxBodyLength < 0) {
+            throw new IllegalArgumentException("请求体最大记录长度不能为负数");
+        }
+        int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.mask = size - 1;
+        this.events = new AccessLogEvent[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            events[i] = new AccessLogEvent(maxBodyLength);
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 认领一个空闲槽位
+     *
+     * @return 槽位位置，缓冲区已满时返回 -1
+     */
+    public long tryClaim() {
+        while (true) {
+            long position = tail.get();
+            long diff = sequences.get((int) (position & mask)) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+            } else if (diff < 0) {
+                dropped.increment();
+                return -1;
+            }
+            // diff > 0：其他生产者已认领该位置，重新读取写指针
+        }
+    }
+
+    /**
+     * 获取已认领槽位中的事件，用于原地写入
+     *
+     * @param position 槽位位置
+     * @return 访问日志事件
+     */
+    public AccessLogEvent get(long position) {
+        return events[(int) (position & mask)];
+    }
+
+    /**
+     * 发布已写入的事件
+     *
+     * @param position 槽位位置
+     */
+    public void publish(long position) {
+        sequences.lazySet((int) (position & mask), position + 1);
+    }
+
+    /**
+     * 读取已发布的事件（仅由消费者线程调用）
+     *
+     * @param handler 事件处理器，返回后槽位即被复用，不能持有事件引用
+     * @param limit   最多读取的事件数
+     * @return 读取的事件数
+     */
+    public int drain(Consumer<AccessLogEvent> handler, int limit) {
+        int count = 0;
+        while (count < limit) {
+            int index = (int) (head & mask);
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            try {
+                handler.accept(events[index]);
+            } finally {
+                sequences.lazySet(index, head + events.length);
+                head++;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 容量
+     *
+     * @return 槽位数量
+     */
+    public int getCapacity() {
+        return events.length;
+    }
+
+    /**
+     * 缓冲区已满被丢弃的事件数
+     *
+     * @return 丢弃数
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,237 @@
+package cn.refinex.gateway.accesslog;
+
+import cn.hutool.core.thread.NamedThreadFactory;
+import cn.refinex.gateway.config.propertirs.AccessLogProperties;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 访问日志异步写入器
+ * <p>
+ * 请求线程只做采样判断和槽位写入（见 {@link AccessLogRingBuffer}），格式化与输出全部在后台线程完成:
+ * 每次最多读取 {@code batchSize} 条事件，格式化为每行一个 JSON 对象，合并成一条日志写入
+ * {@value AccessLogProperties#LOGGER_NAME}，一批日志只触发一次 Appender 写入。
+ * 缓冲区已满时丢弃新日志，丢弃数量由后台线程定期告警。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class AccessLogWriter {
+
+    /**
+     * 停止时等待剩余日志写入完成的最长时间
+     */
+    private static final long STOP_TIMEOUT_MILLIS = 5000L;
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger(AccessLogProperties.LOGGER_NAME);
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private static final String[] STATUS_CLASSES = {"1xx", "2xx", "3xx", "4xx", "5xx"};
+
+    private final AccessLogRingBuffer ringBuffer;
+
+    private final int batchSize;
+
+    private final long flushIntervalNanos;
+
+    private final double sampleRate;
+
+    private final Map<String, Double> statusSampleRates;
+
+    private final Map<String, Double> routeSampleRates;
+
+    /**
+     * 当前批次的日志内容（仅后台线程访问）
+     */
+    private final StringBuilder batch = new StringBuilder(8192);
+
+    /**
+     * 上次告警时的丢弃数（仅后台线程访问）
+     */
+    private long reportedDropped;
+
+    /**
+     * 后台写入线程
+     */
+    private Thread worker;
+
+    /**
+     * 是否正在运行
+     */
+    private volatile boolean running;
+
+    /**
+     * 构造函数
+     *
+     * @param properties 访问日志配置
+     */
+    public AccessLogWriter(AccessLogProperties properties) {
+        if (properties.getBatchSize() <= 0) {
+            throw new IllegalArgumentException("访问日志批量写入条数必须大于 0");
+        }
+        this.ringBuffer = new AccessLogRingBuffer(properties.getBufferSize(), Math.toIntExact(properties.getMaxBodyLength().toBytes()));
+        this.batchSize = properties.getBatchSize();
+        this.flushIntervalNanos = properties.getFlushInterval().toNanos();
+        this.sampleRate = properties.getSampleRate();
+        this.statusSampleRates = Map.copyOf(properties.getStatusSampleRates());
+        this.routeSampleRates = Map.copyOf(properties.getRouteSampleRates());
+    }
+
+    /**
+     * 启动后台写入线程
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new NamedThreadFactory("refinex-gateway-access-log-", true).newThread(this::runLoop);
+        worker.start();
+        log.info("网关访问日志写入器已启动 - bufferSize: {}, batchSize: {}", ringBuffer.getCapacity(), batchSize);
+    }
+
+    /**
+     * 停止后台写入线程（先写完缓冲中剩余的日志）
+     */
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 判断请求是否被采样：状态码类别 > 路由 > 默认采样率
+     *
+     * @param routeId 路由 ID
+     * @param status  响应状态码，未知时为 0
+     * @return 需要记录时返回 true
+     */
+    public boolean isSampled(String routeId, int status) {
+        Double rate = null;
+        if (status >= 100 && status < 600) {
+            rate = statusSampleRates.get(STATUS_CLASSES[status / 100 - 1]);
+        }
+        if (rate == null && routeId != null) {
+            rate = routeSampleRates.get(routeId);
+        }
+        double effective = rate == null ? sampleRate : rate;
+        return effective >= 1.0 || (effective > 0 && ThreadLocalRandom.current().nextDouble() < effective);
+    }
+
+    /**
+     * 获取环形缓冲区，请求线程通过它认领槽位并发布事件
+     *
+     * @return 环形缓冲区
+     */
+    public AccessLogRingBuffer getRingBuffer() {
+        return ringBuffer;
+    }
+
+    /**
+     * 后台写入循环：停止后继续写完缓冲中剩余的日志
+     */
+    private void runLoop() {
+        while (true) {
+            int count = ringBuffer.drain(this::append, batchSize);
+            if (count > 0) {
+                flush();
+                continue;
+            }
+            reportDropped();
+            if (!running) {
+                break;
+            }
+            LockSupport.parkNanos(this, flushIntervalNanos);
+        }
+    }
+
+    /**
+     * 将一条事件格式化为一行 JSON 追加到当前批次
+     *
+     * @param event 访问日志事件
+     */
+    private void append(AccessLogEvent event) {
+        StringBuilder sb = batch;
+        if (!sb.isEmpty()) {
+            sb.append('\n');
+        }
+        sb.append("{\"time\":\"").append(TIMESTAMP_FORMATTER.format(Instant.ofEpochMilli(event.getTimestamp()))).append('"');
+        appendString(sb, "method", event.getMethod());
+        appendString(sb, "path", event.getPath());
+        appendString(sb, "query", event.getQuery());
+        appendString(sb, "route", event.getRouteId());
+        appendString(sb, "ip", event.getClientIp());
+        sb.append(",\"status\":").append(event.getStatus());
+        sb.append(",\"totalMs\":").append(toMillis(event.getTotalNanos()));
+        if (event.getUpstreamNanos() >= 0) {
+            sb.append(",\"upstreamMs\":").append(toMillis(event.getUpstreamNanos()));
+            sb.append(",\"gatewayMs\":").append(toMillis(Math.max(0, event.getTotalNanos() - event.getUpstreamNanos())));
+        }
+        if (event.getBodyType() != AccessLogEvent.BodyType.NONE) {
+            appendString(sb, "bodyType", event.getBodyType().name());
+            sb.append(",\"bodyLength\":").append(event.getBodyLength());
+            appendString(sb, "body", event.bodyAsString());
+            if (event.isBodyTruncated()) {
+                sb.append(",\"truncated\":true");
+            }
+        }
+        appendString(sb, "error", event.getError());
+        sb.append('}');
+    }
+
+    /**
+     * 写出当前批次
+     */
+    private void flush() {
+        try {
+            ACCESS_LOG.info(batch.toString());
+        } catch (Exception e) {
+            log.warn("网关访问日志写入失败: {}", e.getMessage());
+        } finally {
+            batch.setLength(0);
+        }
+    }
+
+    /**
+     * 丢弃数增加时告警
+     */
+    private void reportDropped() {
+        long dropped = ringBuffer.getDropped();
+        if (dropped > reportedDropped) {
+            log.warn("网关访问日志缓冲区已满，丢弃 {} 条日志（累计 {} 条）", dropped - reportedDropped, dropped);
+            reportedDropped = dropped;
+        }
+    }
+
+    private static void appendString(StringBuilder sb, String name, String value) {
+        if (value == null) {
+            return;
+        }
+        sb.append(",\"").append(name).append("\":\"");
+        JsonStringEncoder.getInstance().quoteAsString(value, sb);
+        sb.append('"');
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
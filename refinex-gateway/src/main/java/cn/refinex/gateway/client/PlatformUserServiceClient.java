@@ -1,28 +1,27 @@
 package cn.refinex.gateway.client;
 
-import cn.refinex.common.annotation.HttpInterfaceClient;
 import cn.refinex.common.domain.ApiResult;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.service.annotation.GetExchange;
 import org.springframework.web.service.annotation.HttpExchange;
+import reactor.core.publisher.Mono;
 
 import java.util.Set;
 
-import static cn.refinex.common.constants.SystemHttpServiceConstants.PLATFORM_SERVICE_NAME;
-
 /**
  * 平台用户服务 HTTP Interface 客户端
+ * <p>
+ * 基于 WebClient 的响应式客户端（在 GatewayConfig 中创建），调用不会阻塞 Netty 事件循环线程。
  *
  * @author Refinex
  * @since 1.0.0
  */
-@HttpInterfaceClient(PLATFORM_SERVICE_NAME)
 @HttpExchange("/users")
 public interface PlatformUserServiceClient {
 
     @GetExchange("/{userId}/role-permissions")
-    ApiResult<Set<String>> getUserRolePermissions(@PathVariable("userId") Long userId);
+    Mono<ApiResult<Set<String>>> getUserRolePermissions(@PathVariable("userId") Long userId);
 
     @GetExchange("/{userId}/menu-permissions")
-    ApiResult<Set<String>> getUserMenuPermissions(@PathVariable("userId") Long userId);
+    Mono<ApiResult<Set<String>>> getUserMenuPermissions(@PathVariable("userId") Long userId);
 }
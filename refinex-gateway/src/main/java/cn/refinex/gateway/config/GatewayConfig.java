@@ -1,6 +1,37 @@
 package cn.refinex.gateway.config;
 
+import cn.dev33.satoken.SaManager;
+import cn.dev33.satoken.same.SaSameUtil;
+import cn.refinex.common.constants.SystemRedisKeyConstants;
+import cn.refinex.common.properties.HttpInterfaceClientProperties;
+import cn.refinex.common.utils.Fn;
+import cn.refinex.gateway.accesslog.AccessLogWriter;
+import cn.refinex.gateway.client.PlatformUserServiceClient;
+import cn.refinex.gateway.config.propertirs.AccessLogProperties;
+import cn.refinex.gateway.config.propertirs.PermissionCacheProperties;
+import cn.refinex.gateway.config.propertirs.RateLimitProperties;
+import cn.refinex.gateway.ratelimit.GatewayRateLimiter;
+import cn.refinex.gateway.service.UserPermissionResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.support.WebClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Objects;
+
+import static cn.refinex.common.constants.SystemHttpServiceConstants.PLATFORM_SERVICE_NAME;
 
 /**
  * 网关配置类
@@ -8,6 +39,132 @@ import org.springframework.context.annotation.Configuration;
  * @author Refinex
  * @since 1.0.0
  */
+@Slf4j
 @Configuration
 public class GatewayConfig {
+
+    /**
+     * 负载均衡协议前缀
+     */
+    private static final String LB_SCHEME = "lb://";
+
+    /**
+     * 请求ID追踪请求头
+     */
+    private static final String REQUEST_ID_HEADER = "X-Request-ID";
+
+    /**
+     * 平台用户服务响应式客户端（基于 WebClient，地址解析规则与 HTTP Interface 客户端一致）
+     *
+     * @param webClientBuilder              WebClient 构建器
+     * @param httpInterfaceClientProperties HTTP Interface 客户端配置
+     * @param loadBalancerFilter            负载均衡过滤器（lb:// 协议时使用）
+     * @return PlatformUserServiceClient 实例
+     */
+    @Bean
+    public PlatformUserServiceClient platformUserServiceClient(WebClient.Builder webClientBuilder,
+                                                               HttpInterfaceClientProperties httpInterfaceClientProperties,
+                                                               ObjectProvider<LoadBalancedExchangeFilterFunction> loadBalancerFilter) {
+        String serviceUrl = httpInterfaceClientProperties.getServiceUrl(PLATFORM_SERVICE_NAME);
+        WebClient.Builder builder = webClientBuilder.clone().filter(authHeaderFilter());
+
+        // lb://service-name 交给负载均衡过滤器按服务名选择实例
+        if (serviceUrl.startsWith(LB_SCHEME)) {
+            LoadBalancedExchangeFilterFunction filter = loadBalancerFilter.getIfAvailable();
+            if (filter != null) {
+                builder.filter(filter);
+                serviceUrl = "http://" + serviceUrl.substring(LB_SCHEME.length());
+            } else {
+                log.warn("配置了 lb:// 协议但未找到负载均衡过滤器，服务 [{}] 无法按服务名调用", PLATFORM_SERVICE_NAME);
+            }
+        }
+
+        log.info("为服务 [{}] 创建 WebClient 客户端，目标地址：{}", PLATFORM_SERVICE_NAME, serviceUrl);
+        WebClient webClient = builder.baseUrl(serviceUrl).build();
+        return HttpServiceProxyFactory.builderFor(WebClientAdapter.create(webClient))
+                .build()
+                .createClient(PlatformUserServiceClient.class);
+    }
+
+    /**
+     * 为平台服务调用添加认证请求头，与 RestClient 请求拦截器保持一致:
+     * <ul>
+     *     <li>Bearer 令牌: 取自调用方写入 Reactor Context 的 {@link UserPermissionResolver#TOKEN_CONTEXT_KEY}</li>
+     *     <li>Same-Token: 开启相同 Token 校验时添加（platform 服务对内部接口校验该请求头）</li>
+     *     <li>X-Request-ID: 请求ID追踪</li>
+     * </ul>
+     * Same-Token 从 Sa-Token 持久层读取，在弹性线程池上执行，不阻塞 Netty 事件循环线程。
+     *
+     * @return 请求过滤函数
+     */
+    private static ExchangeFilterFunction authHeaderFilter() {
+        return (request, next) -> Mono.deferContextual(context -> Mono.fromCallable(() -> {
+                            ClientRequest.Builder builder = ClientRequest.from(request);
+                            context.<String>getOrEmpty(UserPermissionResolver.TOKEN_CONTEXT_KEY)
+                                    .ifPresent(token -> builder.headers(headers -> headers.setBearerAuth(token)));
+
+                            // (服务间调用)检查是否开启了相同 Token 校验(解决同源系统互相调用时的身份认证校验)
+                            if (Boolean.TRUE.equals(SaManager.getConfig().getCheckSameToken())) {
+                                builder.header(SaSameUtil.SAME_TOKEN, SaSameUtil.getToken());
+                            }
+                            return builder.header(REQUEST_ID_HEADER, Fn.getUuid32()).build();
+                        })
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .flatMap(next::exchange);
+    }
+
+    /**
+     * 用户权限解析器
+     *
+     * @param platformUserServiceClient 平台用户服务客户端
+     * @param redisTemplate             Redis 模板
+     * @param properties                权限缓存配置
+     * @return UserPermissionResolver 实例
+     */
+    @Bean
+    public UserPermissionResolver userPermissionResolver(PlatformUserServiceClient platformUserServiceClient,
+                                                         RedisTemplate<String, Object> redisTemplate,
+                                                         PermissionCacheProperties properties) {
+        return new UserPermissionResolver(platformUserServiceClient, redisTemplate, properties);
+    }
+
+    /**
+     * 权限变更广播的监听容器
+     *
+     * @param redisTemplate          Redis 模板
+     * @param userPermissionResolver 用户权限解析器
+     * @return RedisMessageListenerContainer 实例
+     */
+    @Bean
+    public RedisMessageListenerContainer permissionChangeListenerContainer(RedisTemplate<String, Object> redisTemplate,
+                                                                           UserPermissionResolver userPermissionResolver) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(Objects.requireNonNull(redisTemplate.getConnectionFactory(), "RedisConnectionFactory must not be null"));
+        container.addMessageListener(userPermissionResolver, new ChannelTopic(SystemRedisKeyConstants.Permission.changeChannel()));
+        return container;
+    }
+
+    /**
+     * 访问日志异步写入器
+     *
+     * @param properties 访问日志配置
+     * @return AccessLogWriter 实例
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public AccessLogWriter accessLogWriter(AccessLogProperties properties) {
+        return new AccessLogWriter(properties);
+    }
+
+    /**
+     * 网关分布式限流器
+     *
+     * @param reactiveStringRedisTemplate 响应式 Redis 模板
+     * @param properties                  网关限流配置
+     * @return GatewayRateLimiter 实例
+     */
+    @Bean
+    public GatewayRateLimiter gatewayRateLimiter(ReactiveStringRedisTemplate reactiveStringRedisTemplate,
+                                                 RateLimitProperties properties) {
+        return new GatewayRateLimiter(reactiveStringRedisTemplate, properties);
+    }
 }
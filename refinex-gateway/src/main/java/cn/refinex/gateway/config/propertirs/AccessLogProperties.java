@@ -0,0 +1,68 @@
+package cn.refinex.gateway.config.propertirs;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 网关访问日志配置属性
+ * <p>
+ * 访问日志总开关沿用 {@code spring.cloud.gateway.request-log}。请求结束时按以下优先级决定采样率:
+ * 状态码类别（{@link #statusSampleRates}，如 {@code 5xx: 1.0}）> 路由（{@link #routeSampleRates}）> 默认采样率。
+ * 日志由后台线程批量写入名为 {@value #LOGGER_NAME} 的 Logger，输出位置由 logback 配置决定。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "refinex.gateway.access-log")
+public class AccessLogProperties {
+
+    /**
+     * 访问日志 Logger 名称
+     */
+    public static final String LOGGER_NAME = "refinex.gateway.access";
+
+    /**
+     * 环形缓冲区容量（向上取整为 2 的幂），写满后新的日志被丢弃
+     */
+    private Integer bufferSize = 8192;
+
+    /**
+     * 每批最多写入的日志条数
+     */
+    private Integer batchSize = 512;
+
+    /**
+     * 缓冲区为空时后台线程的等待间隔
+     */
+    private Duration flushInterval = Duration.ofMillis(100);
+
+    /**
+     * 请求体最多记录的长度，超出部分截断
+     */
+    private DataSize maxBodyLength = DataSize.ofBytes(1024);
+
+    /**
+     * 默认采样率（0 ~ 1）
+     */
+    private Double sampleRate = 1.0;
+
+    /**
+     * 按状态码类别的采样率，键为 1xx ~ 5xx
+     */
+    private Map<String, Double> statusSampleRates = new HashMap<>();
+
+    /**
+     * 按路由 ID 的采样率
+     */
+    private Map<String, Double> routeSampleRates = new HashMap<>();
+}
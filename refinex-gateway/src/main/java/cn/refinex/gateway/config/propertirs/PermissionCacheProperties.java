@@ -0,0 +1,47 @@
+package cn.refinex.gateway.config.propertirs;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 网关用户权限缓存配置属性
+ * <p>
+ * 会话中没有登录用户信息时，网关从 platform 服务拉取用户角色与权限并缓存在本地，
+ * 收到 platform 服务的权限变更广播后立即失效对应条目。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "refinex.gateway.permission-cache")
+public class PermissionCacheProperties {
+
+    /**
+     * 最多缓存的用户数量
+     */
+    private Long maximumSize = 10000L;
+
+    /**
+     * 缓存有效期（变更广播丢失时的兜底）
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /**
+     * 调用 platform 服务的超时时间
+     */
+    private Duration timeout = Duration.ofSeconds(3);
+
+    /**
+     * 需要在网关中校验角色/权限的路径（Ant 风格），仅这些路径在 Sa-Token 登录校验后预先解析用户权限；
+     * 权限校验需在登录校验之后执行（如路由过滤器），默认不配置，网关不校验权限时没有额外开销
+     */
+    private List<String> preloadPaths = new ArrayList<>();
+}
@@ -0,0 +1,152 @@
+package cn.refinex.gateway.config.propertirs;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 网关限流配置属性
+ * <p>
+ * 每条规则对应一组令牌桶（按限流键区分），令牌桶保存在 Redis 中，各网关节点每次批量租用 {@code lease-size} 个令牌在本地扣减；
+ * 配置变更（Nacos 刷新）后规则重新编译，本地未用完的令牌随之丢弃。
+ *
+ * <pre>{@code
+ * refinex:
+ *   gateway:
+ *     rate-limit:
+ *       rules:
+ *         - id: login-ip
+ *           paths: [/refinex-auth/login]
+ *           key-type: ip
+ *           limit: 20
+ *           period: 1m
+ * }</pre>
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@Configuration
+@RefreshScope
+@ConfigurationProperties(prefix = "refinex.gateway.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * 是否开启网关限流
+     */
+    private Boolean enabled = Boolean.TRUE;
+
+    /**
+     * Redis 不可用时是否放行请求
+     */
+    private Boolean failOpen = Boolean.TRUE;
+
+    /**
+     * 本地租用令牌的有效期，过期未用完的令牌直接丢弃，避免节点囤积令牌后集中放行
+     */
+    private Duration leaseTtl = Duration.ofSeconds(1);
+
+    /**
+     * 本地最多保留的令牌桶数量（按 IP、用户限流时限流键较多）
+     */
+    private Long maxBuckets = 100000L;
+
+    /**
+     * 网关前可信代理的层数，大于 0 时从 X-Forwarded-For 右侧第 N 个地址取客户端 IP，
+     * 为 0 时只使用连接的远程地址（网关直接对外时不能信任客户端伪造的 X-Forwarded-For）
+     */
+    private Integer trustedProxies = 0;
+
+    /**
+     * 是否在响应中返回 RateLimit-* 响应头
+     */
+    private Boolean includeHeaders = Boolean.TRUE;
+
+    /**
+     * 限流规则，请求匹配多条规则时需全部通过
+     */
+    private List<Rule> rules = new ArrayList<>();
+
+    /**
+     * 限流规则
+     */
+    @Data
+    @NoArgsConstructor
+    public static class Rule {
+
+        /**
+         * 规则 ID（Redis Key 的一部分，修改后令牌桶重新计数）
+         */
+        private String id;
+
+        /**
+         * 生效的路由 ID，为空时不限路由
+         */
+        private List<String> routes = new ArrayList<>();
+
+        /**
+         * 生效的请求路径（Ant 风格），为空时不限路径
+         */
+        private List<String> paths = new ArrayList<>();
+
+        /**
+         * 限流键类型
+         */
+        private KeyType keyType = KeyType.ROUTE;
+
+        /**
+         * 每个周期补充的令牌数（同时也是令牌桶容量，即允许的突发请求数）
+         */
+        private Long limit = 100L;
+
+        /**
+         * 补充周期
+         */
+        private Duration period = Duration.ofSeconds(1);
+
+        /**
+         * 每次从 Redis 租用的令牌数，需大于 0，超过 limit 时按 limit 租用。
+         * 未配置时取 limit 的 1/20 且不少于 4，同时不超过 lease-ttl 内补充的令牌数（至少为 1）：
+         * 低速率规则（如每分钟 20 次）每次只租用 1 个令牌，放行的请求各访问一次 Redis，超额请求在本地拒绝
+         */
+        private Long leaseSize;
+
+        /**
+         * 限流提示信息
+         */
+        private String message = "请求过于频繁，请稍后重试";
+    }
+
+    /**
+     * 限流键类型
+     */
+    public enum KeyType {
+
+        /**
+         * 按路由限流（同一路由所有请求共享令牌桶）
+         */
+        ROUTE,
+
+        /**
+         * 按登录用户限流（以 Sa-Token 鉴权得到的登录ID区分，未登录或白名单路径按客户端 IP）
+         */
+        USER,
+
+        /**
+         * 按客户端 IP 限流
+         */
+        IP,
+
+        /**
+         * 按客户端 ID 限流（Header 或参数中的 clientid，未携带时按客户端 IP）
+         */
+        CLIENT_ID
+    }
+}
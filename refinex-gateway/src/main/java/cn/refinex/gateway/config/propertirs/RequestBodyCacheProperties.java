@@ -0,0 +1,48 @@
+package cn.refinex.gateway.config.propertirs;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 网关请求体缓存配置属性
+ * <p>
+ * 请求体默认直接流式转发给下游服务，不在网关聚合；只有以下情况才会缓存（按需开启）:
+ * <ul>
+ *     <li>请求路径匹配 {@link #paths}</li>
+ *     <li>路由元数据中声明了 {@code cache-request-body: true}</li>
+ *     <li>某个请求体消费者（如请求日志）声明需要读取请求体</li>
+ * </ul>
+ * 需要缓存时，Content-Length 超过 {@link #maxSize} 或未知（分块传输）的请求体不缓存，仍然流式转发。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@Configuration
+@RefreshScope
+@ConfigurationProperties(prefix = "refinex.gateway.request-body-cache")
+public class RequestBodyCacheProperties {
+
+    /**
+     * 是否允许缓存请求体，关闭后所有请求体都直接流式转发
+     */
+    private Boolean enabled = Boolean.TRUE;
+
+    /**
+     * 单个请求体的最大缓存大小
+     */
+    private DataSize maxSize = DataSize.ofKilobytes(64);
+
+    /**
+     * 始终缓存请求体的路径（Ant 风格，如签名校验、解密等需要读取请求体的接口）
+     */
+    private List<String> paths = new ArrayList<>();
+}
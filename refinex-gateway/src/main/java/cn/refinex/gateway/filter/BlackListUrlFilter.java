@@ -1,14 +1,13 @@
 package cn.refinex.gateway.filter;
 
+import cn.refinex.gateway.utils.PathPatternTrie;
 import cn.refinex.gateway.utils.WebFluxUtils;
 import lombok.Data;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 
 /**
  * 黑名单 URL 过滤
@@ -50,6 +49,9 @@ public class BlackListUrlFilter extends AbstractGatewayFilterFactory<BlackListUr
 
     /**
      * 黑名单 URL 配置类
+     * <p>
+     * 黑名单规则为 Ant 风格路径（忽略大小写），设置时编译为 {@link PathPatternTrie}，匹配耗时与规则数量无关；
+     * 路由配置变更后网关重新创建过滤器实例，规则随之更新。
      */
     @Data
     public static class Config {
@@ -60,9 +62,9 @@ public class BlackListUrlFilter extends AbstractGatewayFilterFactory<BlackListUr
         private List<String> blacklistUrl;
 
         /**
-         * 编译后的黑名单 URL 正则表达式列表
+         * 编译后的黑名单 URL 匹配器
          */
-        private List<Pattern> blacklistUrlPattern = new ArrayList<>();
+        private PathPatternTrie blacklistUrlMatcher = PathPatternTrie.empty();
 
         /**
          * 设置黑名单 URL 列表
@@ -71,24 +73,17 @@ public class BlackListUrlFilter extends AbstractGatewayFilterFactory<BlackListUr
          */
         public void setBlacklistUrl(List<String> blacklistUrl) {
             this.blacklistUrl = blacklistUrl;
-            this.blacklistUrlPattern.clear();
-            this.blacklistUrl.forEach(url -> this.blacklistUrlPattern
-                    .add(Pattern.compile(
-                            url.replace("**", "(.*?)"),
-                            Pattern.CASE_INSENSITIVE)
-                    )
-            );
+            this.blacklistUrlMatcher = PathPatternTrie.compile(blacklistUrl, true);
         }
 
         /**
-         * 检查 URL 是否匹配黑名单中的正则表达式
+         * 检查 URL 是否匹配黑名单规则
          *
          * @param url 请求路径
-         * @return 如果 URL 匹配黑名单中的正则表达式，则返回 true；否则返回 false
+         * @return 如果 URL 匹配黑名单规则，则返回 true；否则返回 false
          */
         public boolean matchBlacklist(String url) {
-            return !blacklistUrlPattern.isEmpty()
-                    && blacklistUrlPattern.stream().anyMatch(p -> p.matcher(url).find());
+            return blacklistUrlMatcher.matches(url);
         }
     }
 }
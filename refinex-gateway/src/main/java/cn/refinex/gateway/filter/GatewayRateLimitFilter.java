@@ -0,0 +1,285 @@
+package cn.refinex.gateway.filter;
+
+import cn.refinex.common.satoken.core.util.LoginHelper;
+import cn.refinex.gateway.config.propertirs.RateLimitProperties;
+import cn.refinex.gateway.ratelimit.GatewayRateLimiter;
+import cn.refinex.gateway.ratelimit.RateLimitDecision;
+import cn.refinex.gateway.ratelimit.RateLimitRule;
+import cn.refinex.gateway.utils.WebFluxUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 网关限流过滤器
+ * <p>
+ * 按配置的规则对请求限流，令牌由 {@link GatewayRateLimiter} 从 Redis 令牌桶批量租用后在本地扣减:
+ * <ul>
+ *     <li>请求匹配多条规则时依次判定，全部通过才放行，被拒绝时返回 429 与 Retry-After 响应头</li>
+ *     <li>放行时返回剩余配额最少的规则对应的 RateLimit-Limit / RateLimit-Remaining / RateLimit-Reset 响应头</li>
+ *     <li>配置刷新后重新编译规则，规则无效时保留原有规则</li>
+ * </ul>
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class GatewayRateLimitFilter implements GlobalFilter, Ordered {
+
+    /**
+     * 令牌桶容量响应头
+     */
+    public static final String RATE_LIMIT_LIMIT = "RateLimit-Limit";
+
+    /**
+     * 剩余令牌数响应头
+     */
+    public static final String RATE_LIMIT_REMAINING = "RateLimit-Remaining";
+
+    /**
+     * 令牌桶补满所需秒数响应头
+     */
+    public static final String RATE_LIMIT_RESET = "RateLimit-Reset";
+
+    /**
+     * 请求未匹配路由时使用的路由限流键
+     */
+    private static final String UNROUTED = "unrouted";
+
+    private final GatewayRateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+
+    /**
+     * 编译后的限流规则
+     */
+    private volatile List<RateLimitRule> rules;
+
+    /**
+     * 客户端地址解析器（按可信代理层数解析 X-Forwarded-For）
+     */
+    private volatile RemoteAddressResolver remoteAddressResolver;
+
+    /**
+     * 构造函数
+     *
+     * @param rateLimiter 网关限流器
+     * @param properties  网关限流配置
+     */
+    public GatewayRateLimitFilter(GatewayRateLimiter rateLimiter, RateLimitProperties properties) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+        this.rules = compile(properties);
+        this.remoteAddressResolver = remoteAddressResolver(properties.getTrustedProxies());
+    }
+
+    /**
+     * 配置刷新后重新编译限流规则，并丢弃按旧规则租用的本地令牌
+     */
+    @EventListener(RefreshScopeRefreshedEvent.class)
+    public void reload() {
+        try {
+            this.rules = compile(properties);
+            this.remoteAddressResolver = remoteAddressResolver(properties.getTrustedProxies());
+            rateLimiter.reset();
+            log.info("网关限流规则已刷新，共 {} 条", rules.size());
+        } catch (IllegalArgumentException e) {
+            log.error("网关限流规则无效，继续使用原有规则: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 对匹配规则的请求限流
+     *
+     * @param exchange 服务器 Web 交换
+     * @param chain    网关过滤器链
+     * @return 异步响应结果 Mono<Void>
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        List<RateLimitRule> current = this.rules;
+        if (!Boolean.TRUE.equals(properties.getEnabled()) || current.isEmpty()) {
+            return chain.filter(exchange);
+        }
+
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : null;
+        String path = exchange.getRequest().getPath().value();
+
+        List<RateLimitRule> matched = new ArrayList<>(current.size());
+        for (RateLimitRule rule : current) {
+            if (rule.matches(routeId, path)) {
+                matched.add(rule);
+            }
+        }
+        if (matched.isEmpty()) {
+            return chain.filter(exchange);
+        }
+
+        return check(exchange, routeId, matched, 0, null)
+                .flatMap(decision -> {
+                    ServerHttpResponse response = exchange.getResponse();
+                    if (!decision.allowed()) {
+                        log.warn("网关限流拒绝请求 => Path[{}], Route[{}]", path, routeId);
+                        writeHeaders(response, decision);
+                        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(decision.resetSeconds()));
+                        return WebFluxUtils.webFluxResponseWriter(response, HttpStatus.TOO_MANY_REQUESTS,
+                                decision.message(), HttpStatus.TOO_MANY_REQUESTS.value());
+                    }
+                    writeHeaders(response, decision);
+                    return chain.filter(exchange);
+                });
+    }
+
+    /**
+     * 依次判定匹配的规则，遇到拒绝时停止
+     *
+     * @param exchange 服务器 Web 交换
+     * @param routeId  路由 ID
+     * @param matched  匹配的规则
+     * @param index    当前判定的规则下标
+     * @param tightest 已通过的规则中剩余配额最少的结果
+     * @return 拒绝结果，或全部通过时剩余配额最少的结果
+     */
+    private Mono<RateLimitDecision> check(ServerWebExchange exchange, String routeId, List<RateLimitRule> matched,
+                                          int index, RateLimitDecision tightest) {
+        if (index == matched.size()) {
+            return Mono.just(tightest);
+        }
+        RateLimitRule rule = matched.get(index);
+        return rateLimiter.acquire(rule, resolveKey(exchange, rule, routeId))
+                .flatMap(decision -> {
+                    if (!decision.allowed()) {
+                        return Mono.just(decision);
+                    }
+                    return check(exchange, routeId, matched, index + 1, tighter(tightest, decision));
+                });
+    }
+
+    /**
+     * 取剩余配额较少的结果（没有配额信息的结果优先级最低）
+     *
+     * @param a 判定结果，可为 null
+     * @param b 判定结果
+     * @return 剩余配额较少的结果
+     */
+    private static RateLimitDecision tighter(RateLimitDecision a, RateLimitDecision b) {
+        if (a == null || !a.hasQuota()) {
+            return b;
+        }
+        if (!b.hasQuota()) {
+            return a;
+        }
+        return b.remaining() < a.remaining() ? b : a;
+    }
+
+    /**
+     * 写入 RateLimit-* 响应头
+     *
+     * @param response 响应
+     * @param decision 判定结果
+     */
+    private void writeHeaders(ServerHttpResponse response, RateLimitDecision decision) {
+        if (!Boolean.TRUE.equals(properties.getIncludeHeaders()) || !decision.hasQuota()) {
+            return;
+        }
+        HttpHeaders headers = response.getHeaders();
+        headers.set(RATE_LIMIT_LIMIT, String.valueOf(decision.limit()));
+        headers.set(RATE_LIMIT_REMAINING, String.valueOf(decision.remaining()));
+        headers.set(RATE_LIMIT_RESET, String.valueOf(decision.resetSeconds()));
+    }
+
+    /**
+     * 解析限流键
+     *
+     * @param exchange 服务器 Web 交换
+     * @param rule     限流规则
+     * @param routeId  路由 ID
+     * @return 限流键
+     */
+    String resolveKey(ServerWebExchange exchange, RateLimitRule rule, String routeId) {
+        ServerHttpRequest request = exchange.getRequest();
+        return switch (rule.keyType()) {
+            case ROUTE -> routeId != null ? routeId : UNROUTED;
+            case IP -> "ip:" + clientIp(exchange);
+            case USER -> {
+                // 登录ID由 Sa-Token 鉴权过滤器写入，同一用户的多个 Token 共享配额
+                Object loginId = exchange.getAttribute(SaTokenAuthFilter.LOGIN_ID_ATTR);
+                yield loginId != null ? "user:" + loginId : "ip:" + clientIp(exchange);
+            }
+            case CLIENT_ID -> {
+                String clientId = request.getHeaders().getFirst(LoginHelper.CLIENT_KEY);
+                if (StringUtils.isBlank(clientId)) {
+                    clientId = request.getQueryParams().getFirst(LoginHelper.CLIENT_KEY);
+                }
+                yield StringUtils.isNotBlank(clientId) ? "client:" + clientId : "ip:" + clientIp(exchange);
+            }
+        };
+    }
+
+    /**
+     * 获取客户端 IP
+     *
+     * @param exchange 服务器 Web 交换
+     * @return 客户端 IP，无法获取时返回 unknown
+     */
+    private String clientIp(ServerWebExchange exchange) {
+        InetSocketAddress remoteAddress = remoteAddressResolver.resolve(exchange);
+        return remoteAddress != null ? remoteAddress.getHostString() : "unknown";
+    }
+
+    /**
+     * 创建客户端地址解析器
+     *
+     * @param trustedProxies 可信代理层数
+     * @return 大于 0 时为按可信代理层数解析 X-Forwarded-For 的解析器，否则为连接远程地址解析器
+     */
+    private static RemoteAddressResolver remoteAddressResolver(Integer trustedProxies) {
+        if (trustedProxies == null || trustedProxies <= 0) {
+            return new RemoteAddressResolver() {
+            };
+        }
+        return XForwardedRemoteAddressResolver.maxTrustedIndex(trustedProxies);
+    }
+
+    /**
+     * 编译限流规则
+     *
+     * @param properties 网关限流配置
+     * @return 编译后的限流规则
+     */
+    private static List<RateLimitRule> compile(RateLimitProperties properties) {
+        return properties.getRules().stream().map(rule -> RateLimitRule.of(rule, properties.getLeaseTtl())).toList();
+    }
+
+    /**
+     * 获取过滤器顺序
+     * <p>
+     * 在 {@link GlobalLogFilter} 之后执行，被拒绝的请求也记录访问日志；在 {@link WebCacheRequestFilter} 之前执行，被拒绝的请求不缓存请求体。
+     *
+     * @return 顺序值
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 2;
+    }
+}
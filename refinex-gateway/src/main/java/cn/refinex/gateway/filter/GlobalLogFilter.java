@@ -1,39 +1,53 @@
 package cn.refinex.gateway.filter;
 
-import cn.hutool.core.map.MapUtil;
-import cn.refinex.common.json.utils.JsonUtils;
+import cn.refinex.gateway.accesslog.AccessLogEvent;
+import cn.refinex.gateway.accesslog.AccessLogRingBuffer;
+import cn.refinex.gateway.accesslog.AccessLogWriter;
 import cn.refinex.gateway.config.propertirs.ApiDecryptProperties;
 import cn.refinex.gateway.config.propertirs.CustomGatewayProperties;
 import cn.refinex.gateway.utils.WebFluxUtils;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
-import org.springframework.util.MultiValueMap;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.util.Objects;
+import java.net.InetSocketAddress;
 
 /**
  * 全局日志过滤器
+ * <p>
+ * 请求结束时按采样规则记录一条结构化访问日志，请求路径上只做采样判断与字段写入:
+ * <ul>
+ *     <li>日志事件写入 {@link AccessLogWriter} 预分配的环形缓冲区，格式化与输出由后台线程批量完成</li>
+ *     <li>JSON 请求体只拷贝前 N 个字节，查询参数记录原始查询字符串</li>
+ *     <li>耗时使用纳秒时钟，并拆分为下游服务耗时（见 {@link UpstreamTimingFilter}）与网关自身耗时</li>
+ * </ul>
  *
  * @author Lion Li
+ * @author Refinex
  * @since 1.0.0
  */
-@Slf4j
 @Component
 @RequiredArgsConstructor
-public class GlobalLogFilter implements GlobalFilter, Ordered {
+public class GlobalLogFilter implements GlobalFilter, Ordered, RequestBodyConsumer {
+
+    /**
+     * 请求被取消（客户端断开）时记录的原因
+     */
+    private static final String CANCELLED = "cancelled";
 
     private final CustomGatewayProperties customGatewayProperties;
     private final ApiDecryptProperties apiDecryptProperties;
-
-    private static final String START_TIME = "startTime";
+    private final AccessLogWriter accessLogWriter;
 
     /**
      * 全局日志过滤器
@@ -49,64 +63,115 @@ public class GlobalLogFilter implements GlobalFilter, Ordered {
             return chain.filter(exchange);
         }
 
-        // 获取原始请求信息
-        ServerHttpRequest request = exchange.getRequest();
-        String path = WebFluxUtils.getOriginalRequestUrl(exchange);
-        String url = request.getMethod().name() + " " + path;
-
-        // 如果已经是 JSON 请求，直接记录参数
-        if (WebFluxUtils.isJsonRequest(exchange)) {
-            // 加密开关
-            Boolean apiDecryptPropertiesEnabled = apiDecryptProperties.getEnabled();
-            // 头部标识
-            String headerFlag = request.getHeaders().getFirst(apiDecryptProperties.getHeaderFlag());
-
-            // 如果开启了加密开关且头部标识存在，不记录参数
-            if (Boolean.TRUE.equals(apiDecryptPropertiesEnabled) && StringUtils.isNotBlank(headerFlag)) {
-                log.info("开始请求 => URL[{}], 参数类型[encrypt]", url);
-            } else {
-                // 解析 JSON 参数进行记录
-                String jsonParam = WebFluxUtils.resolveBodyFromCacheRequest(exchange);
-                log.info("开始请求 => URL[{}], 参数类型[json], 参数:[{}]", url, jsonParam);
-            }
-        } else {
-            // 如果不是 JSON 请求，就提取查询参数进行记录
-            MultiValueMap<String, String> parameterMap = request.getQueryParams();
-            if (MapUtil.isNotEmpty(parameterMap)) {
-                String parameters = JsonUtils.toJson(parameterMap);
-                log.info("开始请求 => URL[{}], 参数类型[param], 参数:[{}]", url, parameters);
-            } else {
-                log.info("开始请求 => URL[{}], 无参数", url);
-            }
+        long timestamp = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+
+        // 在传播完成信号之前记录，此时缓存的请求体尚未释放
+        return chain.filter(exchange)
+                .doOnSuccess(v -> record(exchange, timestamp, startNanos, null))
+                .doOnError(e -> record(exchange, timestamp, startNanos, e.getClass().getSimpleName()))
+                .doOnCancel(() -> record(exchange, timestamp, startNanos, CANCELLED));
+    }
+
+    /**
+     * 开启请求日志时需要读取 JSON 请求体（加密请求不记录参数，无需读取）
+     *
+     * @param exchange 服务器 Web 交换
+     * @return 需要读取时返回 true
+     */
+    @Override
+    public boolean requiresRequestBody(ServerWebExchange exchange) {
+        return Boolean.TRUE.equals(customGatewayProperties.getRequestLog())
+                && WebFluxUtils.isJsonRequest(exchange)
+                && !isEncryptedRequest(exchange.getRequest());
+    }
+
+    /**
+     * 采样并写入访问日志事件
+     *
+     * @param exchange   服务器 Web 交换
+     * @param timestamp  请求开始时间（毫秒时间戳）
+     * @param startNanos 请求开始时间（纳秒时钟）
+     * @param error      异常终止原因
+     */
+    private void record(ServerWebExchange exchange, long timestamp, long startNanos, String error) {
+        long totalNanos = System.nanoTime() - startNanos;
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route == null ? null : route.getId();
+        HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+        // 异常终止且未写入状态码时按 500 采样与记录，后续由全局异常处理器写出响应
+        int status = statusCode != null ? statusCode.value() : (error != null && !CANCELLED.equals(error) ? 500 : 0);
+        if (!accessLogWriter.isSampled(routeId, status)) {
+            return;
+        }
+
+        AccessLogRingBuffer ringBuffer = accessLogWriter.getRingBuffer();
+        long position = ringBuffer.tryClaim();
+        if (position < 0) {
+            return;
         }
 
-        // 在请求属性中记录开始时间，用于后续计算耗时
-        exchange.getAttributes().put(START_TIME, System.currentTimeMillis());
-
-        // 继续处理请求链，完成后记录耗时
-        return chain.filter(exchange).then(Mono.fromRunnable(() -> {
-            Long startTime = exchange.getAttribute(START_TIME);
-            if (Objects.nonNull(startTime)) {
-                long executeTime = (System.currentTimeMillis() - startTime);
-                log.info("结束请求 => URL[{}], 耗时:[{}]毫秒", url, executeTime);
-            }
-        }));
+        AccessLogEvent event = ringBuffer.get(position);
+        try {
+            ServerHttpRequest request = exchange.getRequest();
+            Long upstreamNanos = exchange.getAttribute(UpstreamTimingFilter.UPSTREAM_NANOS_ATTR);
+            InetSocketAddress remoteAddress = request.getRemoteAddress();
+            event.set(timestamp, request.getMethod().name(), request.getPath().value(), request.getURI().getRawQuery(),
+                    routeId, remoteAddress == null ? null : remoteAddress.getHostString(),
+                    status, totalNanos, upstreamNanos == null ? -1 : upstreamNanos, error);
+            recordBody(exchange, request, event);
+        } finally {
+            ringBuffer.publish(position);
+        }
+    }
+
+    /**
+     * 记录 JSON 请求体：加密请求只记录类型，超出缓存上限的请求体只记录长度
+     *
+     * @param exchange 服务器 Web 交换
+     * @param request  请求
+     * @param event    访问日志事件
+     */
+    private void recordBody(ServerWebExchange exchange, ServerHttpRequest request, AccessLogEvent event) {
+        if (!WebFluxUtils.isJsonRequest(exchange)) {
+            return;
+        }
+        long contentLength = request.getHeaders().getContentLength();
+        if (isEncryptedRequest(request)) {
+            event.setBody(AccessLogEvent.BodyType.ENCRYPT, contentLength);
+            return;
+        }
+
+        DataBuffer cached = exchange.getAttribute(ServerWebExchangeUtils.CACHED_REQUEST_BODY_ATTR);
+        if (cached == null) {
+            event.setBody(AccessLogEvent.BodyType.UNCACHED, contentLength);
+            return;
+        }
+        try (DataBuffer.ByteBufferIterator iterator = cached.readableByteBuffers()) {
+            event.captureBody(iterator, cached.readableByteCount());
+        }
+    }
+
+    /**
+     * 是否为加密请求（开启了加密开关且头部标识存在）
+     *
+     * @param request 请求
+     * @return 加密请求返回 true
+     */
+    private boolean isEncryptedRequest(ServerHttpRequest request) {
+        return Boolean.TRUE.equals(apiDecryptProperties.getEnabled())
+                && StringUtils.isNotBlank(request.getHeaders().getFirst(apiDecryptProperties.getHeaderFlag()));
     }
 
     /**
      * 获取过滤器顺序
      * <p>
-     * 日志处理器在负载均衡器之后执行, 负载均衡器会导致线程切换从而无法获取上下文内容
-     * 如需在日志内操作线程上下文, 例如获取登录用户数据等, 可以使用下述 Order:
-     *
-     * <pre>{@code
-     * return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER - 1;
-     * }</pre>
+     * 在限流与请求体缓存之前执行，被 {@link GatewayRateLimitFilter} 拒绝的请求也会记录；总耗时覆盖其余过滤器、下游服务调用与响应写出。
      *
      * @return 顺序值
      */
     @Override
     public int getOrder() {
-        return Ordered.LOWEST_PRECEDENCE;
+        return Ordered.HIGHEST_PRECEDENCE + 1;
     }
 }
@@ -0,0 +1,25 @@
+package cn.refinex.gateway.filter;
+
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * 请求体消费者
+ * <p>
+ * 需要在网关读取请求体的组件（请求日志、签名校验、解密等）实现该接口并注册为 Bean，
+ * {@link WebCacheRequestFilter} 仅在至少一个消费者需要时才缓存请求体，其余请求体直接流式转发。
+ * 读取时通过 {@link cn.refinex.gateway.utils.WebFluxUtils#resolveBodyFromCacheRequest} 获取，
+ * 请求体超过缓存上限时返回 null。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public interface RequestBodyConsumer {
+
+    /**
+     * 当前请求是否需要读取请求体
+     *
+     * @param exchange 服务器 Web 交换
+     * @return 需要读取时返回 true
+     */
+    boolean requiresRequestBody(ServerWebExchange exchange);
+}
@@ -5,21 +5,18 @@ import cn.dev33.satoken.exception.NotLoginException;
 import cn.dev33.satoken.httpauth.basic.SaHttpBasicUtil;
 import cn.dev33.satoken.reactor.context.SaReactorSyncHolder;
 import cn.dev33.satoken.reactor.filter.SaReactorFilter;
-import cn.dev33.satoken.router.SaRouter;
 import cn.dev33.satoken.stp.StpUtil;
 import cn.dev33.satoken.util.SaResult;
 import cn.refinex.common.satoken.core.util.LoginHelper;
 import cn.refinex.common.utils.spring.SpringUtils;
-import cn.refinex.gateway.config.propertirs.IgnoreWhiteProperties;
+import cn.refinex.gateway.service.IgnoreWhiteMatcher;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
-
-import java.util.List;
+import org.springframework.web.server.ServerWebExchange;
 
 /**
  * Sa-Token 权限认证拦截器
@@ -32,52 +29,53 @@ import java.util.List;
 @Configuration
 public class SaTokenAuthFilter {
 
+    /**
+     * 鉴权通过的登录ID交换属性（白名单路径不设置）
+     */
+    public static final String LOGIN_ID_ATTR = SaTokenAuthFilter.class.getName() + ".loginId";
+
     /**
      * 注册 Sa-Token 全局过滤器进行鉴权操作
      *
+     * @param ignoreWhiteMatcher 白名单匹配器
      * @return SaReactorFilter 实例
      */
     @Bean
-    public SaReactorFilter getSaReactorFilter(IgnoreWhiteProperties ignoreWhiteProperties) {
-        // 拦截所有路径
+    public SaReactorFilter getSaReactorFilter(IgnoreWhiteMatcher ignoreWhiteMatcher) {
+        // 拦截所有路径, 白名单由前缀树匹配器统一判断（支持配置热更新），不再逐条注册排除路径
         SaReactorFilter filter = new SaReactorFilter().addInclude("/**");
 
-        // 添加白名单路径
-        List<String> whitelistPaths = ignoreWhiteProperties.getWhites();
-        if (CollectionUtils.isNotEmpty(whitelistPaths)) {
-            log.info("Sa-Token 网关白名单路径：{}", whitelistPaths);
-            whitelistPaths.forEach(filter::addExclude);
-        }
-
         // 认证函数：每次请求执行
         filter.setAuth(obj -> {
+            // 白名单路径无需登录
+            ServerWebExchange exchange = SaReactorSyncHolder.getExchange();
+            ServerHttpRequest request = exchange.getRequest();
+            if (ignoreWhiteMatcher.matches(request.getPath().value())) {
+                return;
+            }
+
             log.info("Sa-Token 网关鉴权 URL：{}", SaHolder.getRequest().getUrl());
 
-            // 使用 SaRouter 进行路由级别的权限控制, 不在白名单路径中的请求均需要登录
-            SaRouter.match("/**")
-                    .notMatch(whitelistPaths)
-                    .check(r -> {
-                        // 检查登录状态
-                        StpUtil.checkLogin();
-
-                        // 获取当前请求对象
-                        ServerHttpRequest request = SaReactorSyncHolder.getExchange().getRequest();
-
-                        // 检查 Header 和 Param 里的 clientid 与 Token 里的是否一致
-                        String headerCid = request.getHeaders().getFirst(LoginHelper.CLIENT_KEY);
-                        String paramCid = request.getQueryParams().getFirst(LoginHelper.CLIENT_KEY);
-                        String clientId = StpUtil.getExtra(LoginHelper.CLIENT_KEY).toString();
-
-                        // 如果三者任意一个 clientid 不匹配则 Token 无效
-                        if (!StringUtils.equalsAny(clientId, headerCid, paramCid)) {
-                            throw NotLoginException.newInstance(
-                                    StpUtil.getLoginType(),
-                                    "-100",
-                                    "客户端ID与Token不匹配",
-                                    StpUtil.getTokenValue()
-                            );
-                        }
-                    });
+            // 检查登录状态
+            StpUtil.checkLogin();
+
+            // 检查 Header 和 Param 里的 clientid 与 Token 里的是否一致
+            String headerCid = request.getHeaders().getFirst(LoginHelper.CLIENT_KEY);
+            String paramCid = request.getQueryParams().getFirst(LoginHelper.CLIENT_KEY);
+            String clientId = StpUtil.getExtra(LoginHelper.CLIENT_KEY).toString();
+
+            // 如果三者任意一个 clientid 不匹配则 Token 无效
+            if (!StringUtils.equalsAny(clientId, headerCid, paramCid)) {
+                throw NotLoginException.newInstance(
+                        StpUtil.getLoginType(),
+                        "-100",
+                        "客户端ID与Token不匹配",
+                        StpUtil.getTokenValue()
+                );
+            }
+
+            // 记录登录ID，供后续过滤器（如按用户限流）使用，无需再次查询会话
+            exchange.getAttributes().put(LOGIN_ID_ATTR, StpUtil.getLoginId());
         });
 
         // 异常处理函数：每次 setAuth 函数出现异常时进入
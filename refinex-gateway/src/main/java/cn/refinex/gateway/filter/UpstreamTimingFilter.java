@@ -0,0 +1,60 @@
+package cn.refinex.gateway.filter;
+
+import cn.refinex.gateway.config.propertirs.CustomGatewayProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 下游服务耗时过滤器
+ * <p>
+ * 紧挨在路由转发过滤器之前执行，记录从发出下游请求到收到响应头的耗时（纳秒），
+ * 供 {@link GlobalLogFilter} 拆分下游服务耗时与网关自身耗时。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamTimingFilter implements GlobalFilter, Ordered {
+
+    /**
+     * 下游服务耗时（纳秒）的请求属性名
+     */
+    public static final String UPSTREAM_NANOS_ATTR = UpstreamTimingFilter.class.getName() + ".upstreamNanos";
+
+    private final CustomGatewayProperties customGatewayProperties;
+
+    /**
+     * 记录下游服务耗时
+     *
+     * @param exchange 服务器 Web 交换
+     * @param chain    网关过滤器链
+     * @return 空 Mono
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!Boolean.TRUE.equals(customGatewayProperties.getRequestLog())) {
+            return chain.filter(exchange);
+        }
+
+        long startNanos = System.nanoTime();
+        return chain.filter(exchange)
+                .doOnTerminate(() -> exchange.getAttributes().put(UPSTREAM_NANOS_ATTR, System.nanoTime() - startNanos));
+    }
+
+    /**
+     * 获取过滤器顺序
+     *
+     * @return 顺序值
+     */
+    @Override
+    public int getOrder() {
+        return NettyRoutingFilter.ORDER - 1;
+    }
+}
@@ -0,0 +1,141 @@
+package cn.refinex.gateway.filter;
+
+import cn.dev33.satoken.SaManager;
+import cn.dev33.satoken.config.SaTokenConfig;
+import cn.dev33.satoken.util.SaTokenConsts;
+import cn.refinex.gateway.config.propertirs.PermissionCacheProperties;
+import cn.refinex.gateway.service.UserPermissionResolver;
+import cn.refinex.gateway.service.UserPermissionResolver.UserPermissions;
+import cn.refinex.gateway.utils.PathPatternTrie;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * 用户权限预解析过滤器
+ * <p>
+ * Sa-Token 的权限校验为同步调用，在 Netty 事件循环线程上无法等待 platform 服务返回。
+ * 对于配置了 {@code refinex.gateway.permission-cache.preload-paths} 的路径（即网关中需要校验角色/权限的路径），
+ * 在 Sa-Token 登录校验之后、后续权限校验之前响应式地解析用户角色与权限，并写入交换属性 {@link #USER_PERMISSIONS_ATTR}:
+ * <ul>
+ *     <li>未配置的路径直接放行，不产生任何额外开销（默认不配置）</li>
+ *     <li>复用 Sa-Token 鉴权过滤器写入的登录ID（{@link SaTokenAuthFilter#LOGIN_ID_ATTR}），不再查询登录会话</li>
+ *     <li>本地缓存命中时直接写入交换属性；未命中时异步调用 platform 服务，同一用户的并发请求共享同一次调用</li>
+ *     <li>解析失败时仅记录日志并放行，由后续权限校验按无权限处理</li>
+ * </ul>
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class UserPermissionFilter implements WebFilter, Ordered {
+
+    /**
+     * 已解析的用户角色与权限（{@link UserPermissions}）交换属性
+     */
+    public static final String USER_PERMISSIONS_ATTR = UserPermissionFilter.class.getName() + ".userPermissions";
+
+    private final UserPermissionResolver userPermissionResolver;
+    private final PermissionCacheProperties properties;
+
+    /**
+     * 需要预解析用户权限的路径
+     */
+    private volatile PathPatternTrie preloadPaths = PathPatternTrie.empty();
+
+    /**
+     * 构造函数
+     *
+     * @param userPermissionResolver 用户权限解析器
+     * @param properties             权限缓存配置
+     */
+    public UserPermissionFilter(UserPermissionResolver userPermissionResolver, PermissionCacheProperties properties) {
+        this.userPermissionResolver = userPermissionResolver;
+        this.properties = properties;
+        reload();
+    }
+
+    /**
+     * 配置刷新后重新编译预解析路径
+     */
+    @EventListener(RefreshScopeRefreshedEvent.class)
+    public void reload() {
+        this.preloadPaths = PathPatternTrie.compile(properties.getPreloadPaths());
+    }
+
+    /**
+     * 过滤请求
+     *
+     * @param exchange 服务器Web交换
+     * @param chain    网关过滤器链
+     * @return 响应 Mono
+     */
+    @Override
+    public @NonNull Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!preloadPaths.matches(request.getPath().value())) {
+            return chain.filter(exchange);
+        }
+
+        Long userId = UserPermissionResolver.toUserId(exchange.getAttribute(SaTokenAuthFilter.LOGIN_ID_ATTR));
+        if (userId == null) {
+            return chain.filter(exchange);
+        }
+
+        UserPermissions cached = userPermissionResolver.getIfResolved(userId);
+        if (cached != null) {
+            exchange.getAttributes().put(USER_PERMISSIONS_ATTR, cached);
+            return chain.filter(exchange);
+        }
+
+        return userPermissionResolver.resolve(userId, readTokenValue(request))
+                .doOnNext(permissions -> exchange.getAttributes().put(USER_PERMISSIONS_ATTR, permissions))
+                .onErrorResume(e -> {
+                    log.warn("预解析用户权限失败，userId: {}, error: {}", userId, e.getMessage());
+                    return Mono.empty();
+                })
+                .then(Mono.defer(() -> chain.filter(exchange)));
+    }
+
+    /**
+     * 按 Sa-Token 配置从请求头或请求参数中读取令牌（调用 platform 服务时转发），并去掉令牌前缀
+     *
+     * @param request 请求
+     * @return 令牌，不存在或前缀不匹配时返回 null
+     */
+    private static String readTokenValue(ServerHttpRequest request) {
+        SaTokenConfig config = SaManager.getConfig();
+        String tokenValue = request.getHeaders().getFirst(config.getTokenName());
+        if (StringUtils.isBlank(tokenValue)) {
+            tokenValue = request.getQueryParams().getFirst(config.getTokenName());
+        }
+        if (StringUtils.isBlank(tokenValue) || StringUtils.isBlank(config.getTokenPrefix())) {
+            return tokenValue;
+        }
+
+        String prefix = config.getTokenPrefix() + SaTokenConsts.TOKEN_CONNECTOR_CHAT;
+        return tokenValue.startsWith(prefix) ? tokenValue.substring(prefix.length()) : null;
+    }
+
+    /**
+     * 获取过滤器顺序
+     * <p>
+     * 在 Sa-Token 鉴权过滤器（{@link SaTokenConsts#ASSEMBLY_ORDER}）之后执行，以便复用其写入的登录ID。
+     *
+     * @return 顺序值
+     */
+    @Override
+    public int getOrder() {
+        return SaTokenConsts.ASSEMBLY_ORDER + 1;
+    }
+}
@@ -1,42 +1,98 @@
 package cn.refinex.gateway.filter;
 
-import cn.refinex.gateway.utils.WebFluxUtils;
+import cn.refinex.gateway.config.propertirs.RequestBodyCacheProperties;
+import cn.refinex.gateway.utils.PathPatternTrie;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
 import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.Ordered;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
-import org.springframework.web.server.WebFilter;
-import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * 缓存请求过滤器
  * <p>
- * 用于在 Spring Cloud Gateway 环境下缓存 JSON 请求体，解决 WebFlux 模式下请求体（body）只能被读取一次的问题。
+ * 用于在 Spring Cloud Gateway 环境下按需缓存请求体，解决 WebFlux 模式下请求体（body）只能被读取一次的问题:
+ * <ul>
+ *     <li>只有路径匹配配置、路由元数据声明 {@value #ROUTE_METADATA_KEY} 或某个 {@link RequestBodyConsumer} 需要时才缓存</li>
+ *     <li>Content-Length 超过上限或未知（分块传输）时不缓存，聚合内存按上限封顶</li>
+ *     <li>其余请求体不经聚合、不做拷贝，直接流式转发给下游服务</li>
+ * </ul>
+ * 缓存的请求体为一个池化 DataBuffer，请求结束后由网关的 RemoveCachedBodyFilter 释放。
  *
  * @author Lion Li
+ * @author Refinex
  * @since 1.0.0
  */
+@Slf4j
 @Component
-public class WebCacheRequestFilter implements WebFilter, Ordered {
+public class WebCacheRequestFilter implements GlobalFilter, Ordered {
+
+    /**
+     * 路由元数据中声明需要缓存请求体的键
+     */
+    public static final String ROUTE_METADATA_KEY = "cache-request-body";
+
+    private final RequestBodyCacheProperties properties;
+    private final List<RequestBodyConsumer> consumers;
+
+    /**
+     * 始终缓存请求体的路径规则
+     */
+    private volatile PathPatternTrie paths;
+
+    /**
+     * 构造函数
+     *
+     * @param properties 请求体缓存配置
+     * @param consumers  请求体消费者
+     */
+    public WebCacheRequestFilter(RequestBodyCacheProperties properties, List<RequestBodyConsumer> consumers) {
+        this.properties = properties;
+        this.consumers = consumers;
+        reload();
+    }
+
+    /**
+     * 配置刷新后重新编译路径规则
+     */
+    @EventListener(RefreshScopeRefreshedEvent.class)
+    public void reload() {
+        this.paths = PathPatternTrie.compile(properties.getPaths());
+    }
 
     /**
-     * 过滤并缓存 JSON 请求体，避免后续读取失败。
+     * 按需缓存请求体，避免后续读取失败。
      *
-     * @param exchange 当前请求上下文对象（不能为空）
-     * @param chain    过滤器链（不能为空）
+     * @param exchange 服务器 Web 交换
+     * @param chain    网关过滤器链
      * @return 异步响应结果 Mono<Void>
      */
-    @NonNull
     @Override
-    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
-        // 非 JSON 请求, 直接过滤
-        if (!WebFluxUtils.isJsonRequest(exchange)) {
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        // 未开启或没有组件需要读取请求体, 直接流式转发
+        if (!Boolean.TRUE.equals(properties.getEnabled()) || !requiresRequestBody(exchange)) {
+            return chain.filter(exchange);
+        }
+
+        // 空请求体、超出上限或长度未知时不缓存
+        long contentLength = exchange.getRequest().getHeaders().getContentLength();
+        if (contentLength <= 0 || contentLength > properties.getMaxSize().toBytes()) {
+            if (contentLength != 0) {
+                log.debug("请求体不缓存 => Path[{}], Content-Length[{}], 上限[{}]",
+                        exchange.getRequest().getPath(), contentLength, properties.getMaxSize());
+            }
             return chain.filter(exchange);
         }
 
-        // 对 JSON 请求体进行缓存，使请求体可以重复读取
+        // 对请求体进行缓存，使请求体可以重复读取
         return ServerWebExchangeUtils.cacheRequestBody(exchange, serverHttpRequest -> {
             if (serverHttpRequest == exchange.getRequest()) {
                 // 未发生请求包装，直接继续过滤
@@ -47,15 +103,40 @@ public class WebCacheRequestFilter implements WebFilter, Ordered {
         });
     }
 
+    /**
+     * 当前请求是否需要缓存请求体
+     *
+     * @param exchange 服务器 Web 交换
+     * @return 需要缓存时返回 true
+     */
+    private boolean requiresRequestBody(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route != null && Boolean.parseBoolean(String.valueOf(route.getMetadata().get(ROUTE_METADATA_KEY)))) {
+            return true;
+        }
+
+        if (paths.matches(exchange.getRequest().getPath().value())) {
+            return true;
+        }
+
+        for (RequestBodyConsumer consumer : consumers) {
+            if (consumer.requiresRequestBody(exchange)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * 获取过滤器顺序
      * <p>
-     * 此处设置为 {@link Ordered#HIGHEST_PRECEDENCE} + 1，确保在大多数过滤器之前执行，以便尽早缓存请求体。
+     * 此处设置为 {@link Ordered#HIGHEST_PRECEDENCE} + 3，在 {@link GatewayRateLimitFilter} 之后执行，被限流拒绝的请求不聚合请求体；
+     * 仍在其他读取请求体的全局过滤器之前执行。
      *
      * @return 顺序值
      */
     @Override
     public int getOrder() {
-        return Ordered.HIGHEST_PRECEDENCE + 1;
+        return Ordered.HIGHEST_PRECEDENCE + 3;
     }
 }
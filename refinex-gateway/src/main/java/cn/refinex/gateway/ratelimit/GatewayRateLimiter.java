@@ -0,0 +1,305 @@
+package cn.refinex.gateway.ratelimit;
+
+import cn.refinex.common.constants.SystemRedisKeyConstants;
+import cn.refinex.gateway.config.propertirs.RateLimitProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 网关分布式限流器（Redis 令牌桶 + 本地批量租用）
+ * <p>
+ * Redis 中的令牌桶是唯一的计数来源，各节点通过 Lua 脚本一次租用一批令牌，之后在本地扣减:
+ * <ul>
+ *     <li>本地有令牌时直接放行，剩余令牌低于预取阈值时异步租用下一批，大部分请求不访问 Redis</li>
+ *     <li>Redis 中没有令牌时记录下一个令牌的可用时间，在此之前本地直接拒绝，超额流量不产生 Redis 调用</li>
+ *     <li>租用的令牌已从 Redis 中扣除，节点之间不会超发；未在 {@code lease-ttl} 内用完的令牌直接丢弃</li>
+ *     <li>同一令牌桶同时只有一次租用请求，并发请求共享结果</li>
+ *     <li>Redis 不可用时按 {@code fail-open} 放行或拒绝，1 秒内不再重试该令牌桶</li>
+ * </ul>
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class GatewayRateLimiter {
+
+    /**
+     * Redis 调用失败后暂停租用的时间（纳秒）
+     */
+    private static final long FAILURE_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * 租用令牌脚本：按流逝时间补充令牌后最多租用 ARGV[3] 个，返回 {租到的令牌数, 桶内剩余令牌数, 下一个令牌的等待毫秒数}
+     * <p>
+     * 使用 Redis 服务器时间，避免各网关节点时钟不一致；令牌桶在补满所需时间后过期。
+     */
+    @SuppressWarnings("unchecked")
+    private static final RedisScript<List<Long>> LEASE_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local requested = tonumber(ARGV[3])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1])
+            local ts = tonumber(bucket[2])
+            if tokens == nil or ts == nil then
+                tokens = capacity
+                ts = now
+            end
+            if now > ts then
+                tokens = math.min(capacity, tokens + (now - ts) * rate)
+                ts = now
+            end
+            local granted = math.min(requested, math.floor(tokens))
+            tokens = tokens - granted
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(ts))
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate) + 1000)
+            local wait = 0
+            if tokens < 1 then
+                wait = math.ceil((1 - tokens) / rate)
+            end
+            return {granted, math.floor(tokens), wait}
+            """, (Class<List<Long>>) (Class<?>) List.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    private final RateLimitProperties properties;
+
+    /**
+     * 规则 ID + 限流键 -> 本地令牌桶
+     */
+    private final Cache<String, LocalBucket> buckets;
+
+    /**
+     * 构造函数
+     *
+     * @param redisTemplate 响应式 Redis 模板
+     * @param properties    网关限流配置
+     */
+    public GatewayRateLimiter(ReactiveStringRedisTemplate redisTemplate, RateLimitProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    /**
+     * 获取一个令牌
+     *
+     * @param rule 限流规则
+     * @param key  限流键
+     * @return 判定结果
+     */
+    public Mono<RateLimitDecision> acquire(RateLimitRule rule, String key) {
+        LocalBucket bucket = buckets.get(rule.id() + ':' + key,
+                k -> new LocalBucket(SystemRedisKeyConstants.RateLimit.gatewayBucket(rule.id(), key)));
+        return acquire(rule, bucket);
+    }
+
+    /**
+     * 从本地令牌桶获取一个令牌，本地没有可用令牌时等待租用结果后重新判定
+     * <p>
+     * 租到的令牌被并发请求用完时继续租用，直到 Redis 中也没有令牌（进入拒绝期）或 Redis 不可用。
+     *
+     * @param rule   限流规则
+     * @param bucket 本地令牌桶
+     * @return 判定结果
+     */
+    private Mono<RateLimitDecision> acquire(RateLimitRule rule, LocalBucket bucket) {
+        long now = System.nanoTime();
+        RateLimitDecision decision = tryLocal(rule, bucket, now);
+        if (decision != null) {
+            return Mono.just(decision);
+        }
+        if (now < bucket.failedUntil) {
+            return Mono.just(failure(rule));
+        }
+        return lease(rule, bucket).then(Mono.defer(() -> acquire(rule, bucket)));
+    }
+
+    /**
+     * 丢弃所有本地令牌（规则变更后调用）
+     */
+    public void reset() {
+        buckets.invalidateAll();
+    }
+
+    /**
+     * 尝试在本地判定：有令牌时放行，处于拒绝期时拒绝
+     *
+     * @param rule   限流规则
+     * @param bucket 本地令牌桶
+     * @param now    当前时间（纳秒时钟）
+     * @return 判定结果，需要访问 Redis 时返回 null
+     */
+    private RateLimitDecision tryLocal(RateLimitRule rule, LocalBucket bucket, long now) {
+        if (now < bucket.leaseExpiresAt) {
+            long left = bucket.take();
+            if (left >= 0) {
+                if (left < rule.prefetchThreshold() && now >= bucket.deniedUntil && now >= bucket.failedUntil) {
+                    lease(rule, bucket).subscribe();
+                }
+                long remaining = Math.min(rule.limit(), bucket.remaining + left);
+                long resetMillis = (long) Math.ceil((rule.limit() - remaining) / rule.tokensPerMillis());
+                return new RateLimitDecision(true, rule.limit(), remaining, toSeconds(resetMillis), rule.message());
+            }
+        }
+        if (now < bucket.deniedUntil) {
+            return denied(rule, bucket, now);
+        }
+        return null;
+    }
+
+    /**
+     * 从 Redis 租用一批令牌（同一令牌桶同时只有一次租用）
+     *
+     * @param rule   限流规则
+     * @param bucket 本地令牌桶
+     * @return 租用完成信号（失败时也正常完成）
+     */
+    private Mono<Void> lease(RateLimitRule rule, LocalBucket bucket) {
+        Mono<Void> inflight = bucket.inflight.get();
+        if (inflight != null) {
+            return inflight;
+        }
+
+        Mono<Void> lease = redisTemplate.execute(LEASE_SCRIPT, List.of(bucket.redisKey),
+                        List.of(String.valueOf(rule.limit()), Double.toString(rule.tokensPerMillis()), String.valueOf(rule.leaseSize())))
+                .next()
+                .doOnNext(result -> bucket.apply(result, System.nanoTime(), properties.getLeaseTtl().toNanos()))
+                .onErrorResume(e -> {
+                    bucket.failedUntil = System.nanoTime() + FAILURE_BACKOFF_NANOS;
+                    log.warn("网关限流令牌租用失败，规则: {}, Key: {}, 错误: {}", rule.id(), bucket.redisKey, e.getMessage());
+                    return Mono.empty();
+                })
+                .then()
+                // 在通知等待方之前清除，等待方重新判定时可以发起下一次租用
+                .doOnTerminate(() -> bucket.inflight.set(null))
+                .cache();
+        if (!bucket.inflight.compareAndSet(null, lease)) {
+            Mono<Void> other = bucket.inflight.get();
+            return other != null ? other : Mono.empty();
+        }
+        return lease;
+    }
+
+    /**
+     * 拒绝结果
+     *
+     * @param rule   限流规则
+     * @param bucket 本地令牌桶
+     * @param now    当前时间（纳秒时钟）
+     * @return 判定结果
+     */
+    private static RateLimitDecision denied(RateLimitRule rule, LocalBucket bucket, long now) {
+        long waitMillis = bucket.deniedUntil > now ? TimeUnit.NANOSECONDS.toMillis(bucket.deniedUntil - now) : 0;
+        return new RateLimitDecision(false, rule.limit(), 0, Math.max(1, toSeconds(waitMillis)), rule.message());
+    }
+
+    /**
+     * Redis 不可用时的结果
+     *
+     * @param rule 限流规则
+     * @return 判定结果
+     */
+    private RateLimitDecision failure(RateLimitRule rule) {
+        return new RateLimitDecision(Boolean.TRUE.equals(properties.getFailOpen()), rule.limit(), -1, 1, rule.message());
+    }
+
+    private static long toSeconds(long millis) {
+        return (millis + 999) / 1000;
+    }
+
+    /**
+     * 本地令牌桶
+     */
+    private static final class LocalBucket {
+
+        private final String redisKey;
+
+        /**
+         * 本地剩余的租用令牌
+         */
+        private final AtomicLong tokens = new AtomicLong();
+
+        /**
+         * 进行中的租用请求
+         */
+        private final AtomicReference<Mono<Void>> inflight = new AtomicReference<>();
+
+        /**
+         * 本地令牌的过期时间（纳秒时钟）
+         */
+        private volatile long leaseExpiresAt = Long.MIN_VALUE;
+
+        /**
+         * Redis 中没有令牌时，下一个令牌的可用时间（纳秒时钟）
+         */
+        private volatile long deniedUntil = Long.MIN_VALUE;
+
+        /**
+         * Redis 调用失败后暂停租用的截止时间（纳秒时钟）
+         */
+        private volatile long failedUntil = Long.MIN_VALUE;
+
+        /**
+         * 最近一次租用后 Redis 中剩余的令牌数
+         */
+        private volatile long remaining;
+
+        private LocalBucket(String redisKey) {
+            this.redisKey = redisKey;
+        }
+
+        /**
+         * 扣减一个本地令牌
+         *
+         * @return 扣减后剩余的本地令牌数，没有令牌时返回 -1
+         */
+        private long take() {
+            while (true) {
+                long current = tokens.get();
+                if (current <= 0) {
+                    return -1;
+                }
+                if (tokens.compareAndSet(current, current - 1)) {
+                    return current - 1;
+                }
+            }
+        }
+
+        /**
+         * 写入租用结果
+         *
+         * @param result       {租到的令牌数, 桶内剩余令牌数, 下一个令牌的等待毫秒数}
+         * @param now          当前时间（纳秒时钟）
+         * @param leaseTtlNanos 租用令牌的有效期（纳秒）
+         */
+        private void apply(List<Long> result, long now, long leaseTtlNanos) {
+            long granted = result.get(0);
+            if (now >= leaseExpiresAt) {
+                // 上一批令牌已过期，直接丢弃
+                tokens.set(granted);
+            } else {
+                tokens.addAndGet(granted);
+            }
+            leaseExpiresAt = now + leaseTtlNanos;
+            remaining = result.get(1);
+            deniedUntil = granted == 0 ? now + TimeUnit.MILLISECONDS.toNanos(Math.max(1, result.get(2))) : Long.MIN_VALUE;
+        }
+    }
+}
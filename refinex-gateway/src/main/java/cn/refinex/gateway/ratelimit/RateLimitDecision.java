@@ -0,0 +1,24 @@
+package cn.refinex.gateway.ratelimit;
+
+/**
+ * 网关限流判定结果
+ *
+ * @param allowed      是否放行
+ * @param limit        令牌桶容量
+ * @param remaining    剩余令牌数（估算值，Redis 不可用时为 -1）
+ * @param resetSeconds 令牌桶补满（拒绝时为下一个令牌可用）所需的秒数
+ * @param message      限流提示信息
+ * @author Refinex
+ * @since 1.0.0
+ */
+public record RateLimitDecision(boolean allowed, long limit, long remaining, long resetSeconds, String message) {
+
+    /**
+     * 是否携带可输出到响应头的配额信息
+     *
+     * @return 有配额信息返回 true
+     */
+    public boolean hasQuota() {
+        return remaining >= 0;
+    }
+}
@@ -0,0 +1,112 @@
+package cn.refinex.gateway.ratelimit;
+
+import cn.refinex.gateway.config.propertirs.RateLimitProperties;
+import cn.refinex.gateway.utils.PathPatternTrie;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 编译后的网关限流规则
+ *
+ * @param id            规则 ID
+ * @param routes        生效的路由 ID，为空时不限路由
+ * @param paths         生效的请求路径，为空时不限路径
+ * @param keyType       限流键类型
+ * @param limit         令牌桶容量（每个周期补充的令牌数）
+ * @param periodMillis  补充周期（毫秒）
+ * @param leaseSize     每次从 Redis 租用的令牌数
+ * @param message       限流提示信息
+ * @author Refinex
+ * @since 1.0.0
+ */
+public record RateLimitRule(String id, Set<String> routes, PathPatternTrie paths, RateLimitProperties.KeyType keyType,
+                            long limit, long periodMillis, long leaseSize, String message) {
+
+    /**
+     * 默认租用令牌数的下限
+     */
+    private static final long MIN_DEFAULT_LEASE_SIZE = 4;
+
+    /**
+     * 编译限流规则
+     *
+     * @param rule     限流规则配置
+     * @param leaseTtl 本地租用令牌的有效期
+     * @return 编译后的限流规则
+     */
+    public static RateLimitRule of(RateLimitProperties.Rule rule, Duration leaseTtl) {
+        if (StringUtils.isBlank(rule.getId())) {
+            throw new IllegalArgumentException("网关限流规则 ID 不能为空");
+        }
+        if (rule.getLimit() == null || rule.getLimit() <= 0) {
+            throw new IllegalArgumentException("网关限流规则 [" + rule.getId() + "] 的 limit 必须大于 0");
+        }
+        if (rule.getPeriod() == null || rule.getPeriod().toMillis() <= 0) {
+            throw new IllegalArgumentException("网关限流规则 [" + rule.getId() + "] 的 period 必须大于 0");
+        }
+        if (rule.getLeaseSize() != null && rule.getLeaseSize() <= 0) {
+            throw new IllegalArgumentException("网关限流规则 [" + rule.getId() + "] 的 lease-size 必须大于 0");
+        }
+        if (leaseTtl == null || leaseTtl.toMillis() <= 0) {
+            throw new IllegalArgumentException("网关限流的 lease-ttl 必须大于 0");
+        }
+        long periodMillis = rule.getPeriod().toMillis();
+        long leaseSize = rule.getLeaseSize() != null
+                ? rule.getLeaseSize()
+                : defaultLeaseSize(rule.getLimit(), periodMillis, leaseTtl.toMillis());
+        return new RateLimitRule(rule.getId(), Set.copyOf(rule.getRoutes()), PathPatternTrie.compile(rule.getPaths()),
+                rule.getKeyType(), rule.getLimit(), periodMillis, Math.min(leaseSize, rule.getLimit()), rule.getMessage());
+    }
+
+    /**
+     * 计算默认租用令牌数
+     * <p>
+     * 取容量的 1/20 且不少于 {@value #MIN_DEFAULT_LEASE_SIZE}，避免中低配额的规则几乎每个请求都访问 Redis；
+     * 同时不超过租用有效期内补充的令牌数，否则低速率规则（如每分钟 20 次）租到的令牌大多过期丢弃，实际配额被压低。
+     *
+     * @param limit          令牌桶容量
+     * @param periodMillis   补充周期（毫秒）
+     * @param leaseTtlMillis 本地租用令牌的有效期（毫秒）
+     * @return 租用令牌数，至少为 1
+     */
+    private static long defaultLeaseSize(long limit, long periodMillis, long leaseTtlMillis) {
+        long size = Math.max(limit / 20, MIN_DEFAULT_LEASE_SIZE);
+        long refilledPerLease = (long) Math.ceil((double) limit * leaseTtlMillis / periodMillis);
+        return Math.max(1, Math.min(size, refilledPerLease));
+    }
+
+    /**
+     * 请求是否适用该规则
+     *
+     * @param routeId 路由 ID
+     * @param path    请求路径
+     * @return 适用返回 true
+     */
+    public boolean matches(String routeId, String path) {
+        return (routes.isEmpty() || (routeId != null && routes.contains(routeId)))
+                && (paths.size() == 0 || paths.matches(path));
+    }
+
+    /**
+     * 每毫秒补充的令牌数
+     *
+     * @return 补充速率
+     */
+    public double tokensPerMillis() {
+        return (double) limit / periodMillis;
+    }
+
+    /**
+     * 本地剩余令牌低于该值时提前租用下一批
+     * <p>
+     * 每次租用多个令牌时至少在用完前预取，租用等待不落在请求上；每次只租用 1 个令牌的低速率规则不预取，
+     * 预取的令牌在空闲时会过期丢弃。
+     *
+     * @return 预取阈值
+     */
+    public long prefetchThreshold() {
+        return leaseSize > 1 ? Math.max(1, leaseSize / 4) : 0;
+    }
+}
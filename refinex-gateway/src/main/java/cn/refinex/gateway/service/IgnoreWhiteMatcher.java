@@ -0,0 +1,58 @@
+package cn.refinex.gateway.service;
+
+import cn.refinex.gateway.config.propertirs.IgnoreWhiteProperties;
+import cn.refinex.gateway.utils.PathPatternTrie;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 网关认证白名单匹配器
+ * <p>
+ * 将 {@code security.ignore.whites} 编译为 {@link PathPatternTrie}，每次请求的白名单判断与规则数量无关；
+ * Nacos 配置变更触发刷新后重新编译并整体替换，无需重启网关。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class IgnoreWhiteMatcher {
+
+    private final IgnoreWhiteProperties ignoreWhiteProperties;
+
+    /**
+     * 当前生效的白名单规则
+     */
+    private volatile PathPatternTrie whites = PathPatternTrie.empty();
+
+    /**
+     * 构造函数
+     *
+     * @param ignoreWhiteProperties 白名单配置
+     */
+    public IgnoreWhiteMatcher(IgnoreWhiteProperties ignoreWhiteProperties) {
+        this.ignoreWhiteProperties = ignoreWhiteProperties;
+        reload();
+    }
+
+    /**
+     * 判断路径是否在白名单中
+     *
+     * @param path 请求路径
+     * @return 在白名单中返回 true
+     */
+    public boolean matches(String path) {
+        return whites.matches(path);
+    }
+
+    /**
+     * 配置刷新后重新编译白名单
+     */
+    @EventListener(RefreshScopeRefreshedEvent.class)
+    public void reload() {
+        this.whites = PathPatternTrie.compile(ignoreWhiteProperties.getWhites());
+        log.info("Sa-Token 网关白名单已加载，规则数量：{}，规则：{}", whites.size(), ignoreWhiteProperties.getWhites());
+    }
+}
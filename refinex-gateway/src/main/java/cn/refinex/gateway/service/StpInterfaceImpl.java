@@ -1,17 +1,19 @@
 package cn.refinex.gateway.service;
 
+import cn.dev33.satoken.exception.SaTokenException;
+import cn.dev33.satoken.reactor.context.SaReactorSyncHolder;
 import cn.dev33.satoken.stp.StpInterface;
-import cn.hutool.core.convert.Convert;
-import cn.hutool.core.util.StrUtil;
-import cn.refinex.common.domain.ApiResult;
 import cn.refinex.common.domain.model.LoginUser;
 import cn.refinex.common.enums.UserType;
 import cn.refinex.common.satoken.core.util.LoginHelper;
-import cn.refinex.gateway.client.PlatformUserServiceClient;
+import cn.refinex.gateway.config.propertirs.PermissionCacheProperties;
+import cn.refinex.gateway.filter.UserPermissionFilter;
+import cn.refinex.gateway.service.UserPermissionResolver.UserPermissions;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.List;
 import java.util.Objects;
@@ -28,7 +30,8 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class StpInterfaceImpl implements StpInterface {
 
-    private final PlatformUserServiceClient platformUserServiceClient;
+    private final UserPermissionResolver userPermissionResolver;
+    private final PermissionCacheProperties permissionCacheProperties;
 
     /**
      * 获取用户权限列表
@@ -42,19 +45,10 @@ public class StpInterfaceImpl implements StpInterface {
         // 获取登录用户
         LoginUser loginUser = LoginHelper.getLoginUser();
 
-        // 如果登录用户信息为空或者登录用户登录ID不一致，从 platform 服务重新获取用户权限
+        // 如果登录用户信息为空或者登录用户登录ID不一致，从 platform 服务获取用户权限
         if (Objects.isNull(loginUser) || !loginUser.getLoginId().equals(loginId)) {
-            // 获取 loginId 组合(用户类型:用户ID)
-            List<String> loginIdList = StrUtil.split(loginId.toString(), ":");
-            Long userId = Convert.toLong(loginIdList.get(1));
-
-            // 调用 platform 服务获取用户权限
-            ApiResult<Set<String>> result = platformUserServiceClient.getUserMenuPermissions(userId);
-            if (!result.isSuccess()) {
-                log.error("获取用户权限失败，userId: {}, error: {}", loginId, result.message());
-                return List.of();
-            }
-            return result.data().stream().toList();
+            UserPermissions permissions = resolveFromPlatform(loginId);
+            return permissions == null ? List.of() : permissions.permissions().stream().toList();
         }
 
         // 处理 APP 用户权限
@@ -82,19 +76,10 @@ public class StpInterfaceImpl implements StpInterface {
         // 获取登录用户
         LoginUser loginUser = LoginHelper.getLoginUser();
 
-        // 如果登录用户信息为空或者登录用户登录ID不一致，从 platform 服务重新获取用户角色
+        // 如果登录用户信息为空或者登录用户登录ID不一致，从 platform 服务获取用户角色
         if (Objects.isNull(loginUser) || !loginUser.getLoginId().equals(loginId)) {
-            // 获取 loginId 组合(用户类型:用户ID)
-            List<String> loginIdList = StrUtil.split(loginId.toString(), ":");
-            Long userId = Convert.toLong(loginIdList.get(1));
-
-            // 调用 platform 服务获取用户角色
-            ApiResult<Set<String>> result = platformUserServiceClient.getUserRolePermissions(userId);
-            if (!result.isSuccess()) {
-                log.error("获取用户角色失败，userId: {}, error: {}", loginId, result.message());
-                return List.of();
-            }
-            return result.data().stream().toList();
+            UserPermissions permissions = resolveFromPlatform(loginId);
+            return permissions == null ? List.of() : permissions.roles().stream().toList();
         }
 
         // 处理 APP 用户角色
@@ -109,4 +94,59 @@ public class StpInterfaceImpl implements StpInterface {
         Set<String> rolePermission = loginUser.getRolePermission();
         return CollectionUtils.isEmpty(rolePermission) ? List.of() : rolePermission.stream().toList();
     }
+
+    /**
+     * 从 platform 服务获取用户角色与权限（仅在实际执行权限校验时调用）
+     * <p>
+     * Sa-Token 的权限校验为同步调用，在 Netty 事件循环线程上不能等待远程调用:
+     * 优先使用 {@link UserPermissionFilter} 为配置路径预先解析并写入交换属性的结果，其次使用本地缓存；
+     * 事件循环线程上两者都没有时（路径未配置预解析或解析失败）在后台加载并按无权限处理，
+     * 非事件循环线程上最多等待配置的超时时间。
+     *
+     * @param loginId 账号id(用户类型:用户ID)，由 Sa-Token 传入
+     * @return 用户角色与权限，无法获取时返回 null
+     */
+    private UserPermissions resolveFromPlatform(Object loginId) {
+        Long userId = UserPermissionResolver.toUserId(loginId);
+        if (userId == null) {
+            log.warn("登录ID格式不正确，loginId: {}", loginId);
+            return null;
+        }
+
+        UserPermissions resolved = getFromExchange();
+        if (resolved != null) {
+            return resolved;
+        }
+
+        UserPermissions cached = userPermissionResolver.getIfResolved(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        if (Schedulers.isInNonBlockingThread()) {
+            userPermissionResolver.preload(userId);
+            log.warn("用户权限未预解析（请检查 preload-paths 配置），已在后台加载，本次请求按无权限处理，loginId: {}", loginId);
+            return null;
+        }
+
+        try {
+            return userPermissionResolver.resolve(userId).block(permissionCacheProperties.getTimeout());
+        } catch (Exception e) {
+            log.error("获取用户权限失败，loginId: {}, error: {}", loginId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 获取 {@link UserPermissionFilter} 写入当前请求的用户角色与权限
+     *
+     * @return 用户角色与权限，不在 Sa-Token 鉴权上下文中或未解析时返回 null
+     */
+    private static UserPermissions getFromExchange() {
+        try {
+            return SaReactorSyncHolder.getExchange().getAttribute(UserPermissionFilter.USER_PERMISSIONS_ATTR);
+        } catch (SaTokenException e) {
+            return null;
+        }
+    }
 }
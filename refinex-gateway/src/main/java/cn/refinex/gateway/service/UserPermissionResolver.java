@@ -0,0 +1,233 @@
+package cn.refinex.gateway.service;
+
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.util.StrUtil;
+import cn.refinex.common.domain.ApiResult;
+import cn.refinex.common.domain.model.PermissionChangeEvent;
+import cn.refinex.common.exception.SystemException;
+import cn.refinex.gateway.client.PlatformUserServiceClient;
+import cn.refinex.gateway.config.propertirs.PermissionCacheProperties;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 用户权限解析器（响应式、带本地缓存）
+ * <p>
+ * 会话中没有登录用户信息时，从 platform 服务拉取用户角色与权限:
+ * <ul>
+ *     <li>通过响应式 {@link PlatformUserServiceClient} 调用，不阻塞 Netty 事件循环线程；需要校验权限的路径在 Sa-Token 登录校验后预先解析</li>
+ *     <li>按用户缓存在有界的 Caffeine 缓存中，超过 TTL 后重新拉取</li>
+ *     <li>同一用户的并发请求共享同一次调用，调用失败的结果不缓存</li>
+ *     <li>订阅 platform 服务的权限变更广播（{@link PermissionChangeEvent}），立即失效对应用户或全部条目</li>
+ * </ul>
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class UserPermissionResolver implements MessageListener {
+
+    /**
+     * Reactor Context 中调用方令牌的键，调用 platform 服务时作为 Bearer 令牌转发
+     */
+    public static final String TOKEN_CONTEXT_KEY = UserPermissionResolver.class.getName() + ".token";
+
+    private final PlatformUserServiceClient platformUserServiceClient;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 调用 platform 服务的超时时间
+     */
+    private final Duration timeout;
+
+    /**
+     * 用户ID -> 用户权限（未完成的 Future 即进行中的调用，用于合并并发请求）
+     */
+    private final AsyncCache<Long, UserPermissions> cache;
+
+    /**
+     * 构造函数
+     *
+     * @param platformUserServiceClient 平台用户服务客户端
+     * @param redisTemplate             Redis 模板（用于反序列化权限变更广播）
+     * @param properties                权限缓存配置
+     */
+    public UserPermissionResolver(PlatformUserServiceClient platformUserServiceClient,
+                                  RedisTemplate<String, Object> redisTemplate,
+                                  PermissionCacheProperties properties) {
+        this.platformUserServiceClient = platformUserServiceClient;
+        this.redisTemplate = redisTemplate;
+        this.timeout = properties.getTimeout();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .buildAsync();
+    }
+
+    /**
+     * 解析用户权限：命中缓存直接返回，否则调用 platform 服务（同一用户的并发调用只发起一次）
+     *
+     * @param userId 用户ID
+     * @return 用户权限
+     */
+    public Mono<UserPermissions> resolve(Long userId) {
+        return resolve(userId, null);
+    }
+
+    /**
+     * 解析用户权限，缓存未命中时以调用方令牌调用 platform 服务
+     *
+     * @param userId     用户ID
+     * @param tokenValue 调用方令牌，可为 null
+     * @return 用户权限
+     */
+    public Mono<UserPermissions> resolve(Long userId, String tokenValue) {
+        // 订阅取消时不取消共享的 Future，避免影响同一用户的其他请求
+        return Mono.fromFuture(() -> getOrLoad(userId, tokenValue), true);
+    }
+
+    /**
+     * 在后台加载用户权限（已缓存或加载中时不重复调用）
+     *
+     * @param userId 用户ID
+     */
+    public void preload(Long userId) {
+        getOrLoad(userId, null);
+    }
+
+    /**
+     * 获取已缓存的用户权限，不触发远程调用
+     *
+     * @param userId 用户ID
+     * @return 用户权限，未缓存、调用中或调用失败时返回 null
+     */
+    public UserPermissions getIfResolved(Long userId) {
+        CompletableFuture<UserPermissions> future = cache.getIfPresent(userId);
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return null;
+        }
+        return future.getNow(null);
+    }
+
+    /**
+     * 失效指定用户的权限缓存
+     *
+     * @param userIds 用户ID
+     */
+    public void invalidate(Iterable<Long> userIds) {
+        cache.synchronous().invalidateAll(userIds);
+    }
+
+    /**
+     * 失效所有用户的权限缓存
+     */
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    /**
+     * 接收 platform 服务的权限变更广播
+     *
+     * @param message 消息
+     * @param pattern 订阅模式
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object body;
+        try {
+            body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        } catch (Exception e) {
+            log.warn("权限变更消息反序列化失败，清空用户权限缓存", e);
+            invalidateAll();
+            return;
+        }
+        if (!(body instanceof PermissionChangeEvent event)) {
+            return;
+        }
+
+        if (event.affectsAllUsers()) {
+            invalidateAll();
+        } else {
+            invalidate(event.getUserIds());
+        }
+        log.debug("收到权限变更事件，userIds: {}, reason: {}", event.getUserIds(), event.getReason());
+    }
+
+    /**
+     * 从登录ID（用户类型:用户ID）中解析用户ID
+     *
+     * @param loginId 登录ID
+     * @return 用户ID，格式不正确时返回 null
+     */
+    public static Long toUserId(Object loginId) {
+        if (loginId == null) {
+            return null;
+        }
+        List<String> loginIdList = StrUtil.split(loginId.toString(), ":");
+        return loginIdList.size() < 2 ? null : Convert.toLong(loginIdList.get(1), null);
+    }
+
+    /**
+     * 获取缓存的 Future，不存在时发起调用
+     *
+     * @param userId     用户ID
+     * @param tokenValue 调用方令牌，可为 null
+     * @return 用户权限 Future
+     */
+    private CompletableFuture<UserPermissions> getOrLoad(Long userId, String tokenValue) {
+        return cache.get(userId, (id, executor) -> load(id, tokenValue));
+    }
+
+    /**
+     * 并行拉取用户角色与权限
+     *
+     * @param userId     用户ID
+     * @param tokenValue 调用方令牌，可为 null
+     * @return 用户权限
+     */
+    private CompletableFuture<UserPermissions> load(Long userId, String tokenValue) {
+        return Mono.zip(
+                        platformUserServiceClient.getUserRolePermissions(userId).map(result -> unwrap(result, "角色", userId)),
+                        platformUserServiceClient.getUserMenuPermissions(userId).map(result -> unwrap(result, "权限", userId)))
+                .map(tuple -> new UserPermissions(tuple.getT1(), tuple.getT2()))
+                .timeout(timeout)
+                .doOnError(e -> log.error("获取用户权限失败，userId: {}, error: {}", userId, e.getMessage()))
+                .contextWrite(context -> tokenValue == null ? context : context.put(TOKEN_CONTEXT_KEY, tokenValue))
+                .toFuture();
+    }
+
+    /**
+     * 解析 platform 服务的响应
+     *
+     * @param result 响应结果
+     * @param type   数据类型（日志用）
+     * @param userId 用户ID
+     * @return 数据
+     */
+    private static Set<String> unwrap(ApiResult<Set<String>> result, String type, Long userId) {
+        if (!result.isSuccess()) {
+            throw new SystemException("获取用户" + type + "失败，userId: " + userId + ", error: " + result.message());
+        }
+        return result.data() == null ? Set.of() : Set.copyOf(result.data());
+    }
+
+    /**
+     * 用户角色与权限
+     *
+     * @param roles       角色编码
+     * @param permissions 菜单权限
+     */
+    public record UserPermissions(Set<String> roles, Set<String> permissions) {
+    }
+}
@@ -0,0 +1,342 @@
+package cn.refinex.gateway.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Ant 风格路径匹配前缀树
+ * <p>
+ * 将一组 Ant 风格路径规则按路径段编译为一棵前缀树，匹配时逐段推进，耗时与路径段数相关，与规则数量无关:
+ * <ul>
+ *     <li>字面量段通过哈希表直接定位子节点</li>
+ *     <li>{@code *}、{@code {var}} 匹配一个完整路径段；{@code ?} 与段内的 {@code *} 按段内通配匹配（如 {@code *.html}）</li>
+ *     <li>{@code **} 匹配零个或多个路径段，推进到以 {@code /**} 结尾的规则时立即命中</li>
+ * </ul>
+ * 路径中连续的 {@code /} 视为一个，末尾的 {@code /} 保留（{@code /a} 不匹配 {@code /a/}，{@code /a/**} 同时匹配两者）；
+ * 末尾的 {@code /} 不被 {@code {var}} 或段内通配匹配，只有规则末尾的 {@code /*} 可以匹配（与 AntPathMatcher 一致）。
+ * 实例不可变，规则变更时重新编译并整体替换引用即可。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public final class PathPatternTrie {
+
+    private static final String DOUBLE_WILDCARD = "**";
+
+    private static final PathPatternTrie EMPTY = new PathPatternTrie(new Node(), false, 0);
+
+    private final Node root;
+
+    private final boolean caseInsensitive;
+
+    private final int size;
+
+    private PathPatternTrie(Node root, boolean caseInsensitive, int size) {
+        this.root = root;
+        this.caseInsensitive = caseInsensitive;
+        this.size = size;
+    }
+
+    /**
+     * 空规则集（不匹配任何路径）
+     *
+     * @return 空前缀树
+     */
+    public static PathPatternTrie empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 编译路径规则（区分大小写）
+     *
+     * @param patterns Ant 风格路径规则
+     * @return 前缀树
+     */
+    public static PathPatternTrie compile(Collection<String> patterns) {
+        return compile(patterns, false);
+    }
+
+    /**
+     * 编译路径规则
+     *
+     * @param patterns        Ant 风格路径规则
+     * @param caseInsensitive 是否忽略大小写
+     * @return 前缀树
+     */
+    public static PathPatternTrie compile(Collection<String> patterns, boolean caseInsensitive) {
+        if (patterns == null || patterns.isEmpty()) {
+            return EMPTY;
+        }
+        Node root = new Node();
+        int size = 0;
+        for (String pattern : patterns) {
+            if (pattern == null || pattern.isBlank()) {
+                continue;
+            }
+            Node node = root;
+            Node parent = root;
+            List<String> segments = split(caseInsensitive ? pattern.trim().toLowerCase(Locale.ROOT) : pattern.trim());
+            for (String segment : segments) {
+                parent = node;
+                node = node.child(segment);
+            }
+            node.terminal = true;
+            // 与 AntPathMatcher 一致: 以 /* 结尾的规则同时匹配以 / 结尾的父路径（如 /a/* 匹配 /a/）
+            if (!segments.isEmpty() && "*".equals(segments.get(segments.size() - 1))) {
+                parent.starTerminal = true;
+            }
+            size++;
+        }
+        root.seal();
+        return new PathPatternTrie(root, caseInsensitive, size);
+    }
+
+    /**
+     * 判断路径是否匹配任一规则
+     *
+     * @param path 请求路径（不含查询参数）
+     * @return 匹配返回 true
+     */
+    public boolean matches(String path) {
+        if (size == 0 || path == null || path.isEmpty()) {
+            return false;
+        }
+
+        List<Node> active = new ArrayList<>(4);
+        if (addState(active, root)) {
+            return true;
+        }
+
+        List<Node> next = new ArrayList<>(4);
+        for (String segment : split(caseInsensitive ? path.toLowerCase(Locale.ROOT) : path)) {
+            next.clear();
+            for (Node state : active) {
+                if (state.advance(segment, next)) {
+                    return true;
+                }
+            }
+            if (next.isEmpty()) {
+                return false;
+            }
+            List<Node> swap = active;
+            active = next;
+            next = swap;
+        }
+
+        for (Node state : active) {
+            if (state.terminal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 规则数量
+     *
+     * @return 规则数量
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 加入一个状态及其经 {@code **} 可达的状态（{@code **} 匹配零个路径段）
+     *
+     * @param states 状态集合
+     * @param node   状态
+     * @return 到达以 {@code /**} 结尾的规则时返回 true
+     */
+    private static boolean addState(List<Node> states, Node node) {
+        while (node != null) {
+            if (!states.contains(node)) {
+                states.add(node);
+            }
+            if (node.doubleWildcard && node.terminal) {
+                return true;
+            }
+            node = node.doubleWildcardChild;
+        }
+        return false;
+    }
+
+    /**
+     * 按 {@code /} 切分路径段：忽略开头与连续的 {@code /}，保留末尾的 {@code /}（切分为一个空段）
+     *
+     * @param path 路径
+     * @return 路径段
+     */
+    private static List<String> split(String path) {
+        List<String> segments = new ArrayList<>(8);
+        int length = path.length();
+        int start = 0;
+        for (int i = 0; i <= length; i++) {
+            if (i == length || path.charAt(i) == '/') {
+                if (i > start) {
+                    segments.add(path.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+        if (length > 0 && path.charAt(length - 1) == '/') {
+            segments.add("");
+        }
+        return segments;
+    }
+
+    /**
+     * 段内通配匹配（{@code *} 匹配任意个字符，{@code ?} 匹配一个字符）
+     *
+     * @param pattern 段规则
+     * @param text    路径段
+     * @return 匹配返回 true
+     */
+    private static boolean globMatch(String pattern, String text) {
+        int p = 0;
+        int t = 0;
+        int star = -1;
+        int mark = 0;
+        while (t < text.length()) {
+            if (p < pattern.length() && (pattern.charAt(p) == '?' || pattern.charAt(p) == text.charAt(t))) {
+                p++;
+                t++;
+            } else if (p < pattern.length() && pattern.charAt(p) == '*') {
+                star = p++;
+                mark = t;
+            } else if (star >= 0) {
+                p = star + 1;
+                t = ++mark;
+            } else {
+                return false;
+            }
+        }
+        while (p < pattern.length() && pattern.charAt(p) == '*') {
+            p++;
+        }
+        return p == pattern.length();
+    }
+
+    /**
+     * 前缀树节点
+     */
+    private static final class Node {
+
+        /**
+         * 字面量段 -> 子节点
+         */
+        private Map<String, Node> literals = Map.of();
+
+        /**
+         * 段内通配规则（如 {@code *.html}）-> 子节点
+         */
+        private Map<String, Node> globs = Map.of();
+
+        /**
+         * 匹配一个完整路径段（{@code *}、{@code {var}}）的子节点
+         */
+        private Node wildcardChild;
+
+        /**
+         * 匹配零个或多个路径段（{@code **}）的子节点
+         */
+        private Node doubleWildcardChild;
+
+        /**
+         * 当前节点是否为 {@code **} 节点（可继续吞掉任意路径段）
+         */
+        private boolean doubleWildcard;
+
+        /**
+         * 是否有规则在此结束
+         */
+        private boolean terminal;
+
+        /**
+         * 是否有规则以当前节点下的 {@code *} 结束（此时末尾的 {@code /} 也视为命中）
+         */
+        private boolean starTerminal;
+
+        /**
+         * 获取或创建子节点
+         *
+         * @param segment 规则段
+         * @return 子节点
+         */
+        private Node child(String segment) {
+            if (DOUBLE_WILDCARD.equals(segment)) {
+                if (doubleWildcardChild == null) {
+                    doubleWildcardChild = new Node();
+                    doubleWildcardChild.doubleWildcard = true;
+                }
+                return doubleWildcardChild;
+            }
+            if ("*".equals(segment) || (segment.startsWith("{") && segment.endsWith("}"))) {
+                if (wildcardChild == null) {
+                    wildcardChild = new Node();
+                }
+                return wildcardChild;
+            }
+            boolean glob = segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0;
+            if (glob) {
+                if (globs.isEmpty()) {
+                    globs = new HashMap<>();
+                }
+                return globs.computeIfAbsent(segment, key -> new Node());
+            }
+            if (literals.isEmpty()) {
+                literals = new HashMap<>();
+            }
+            return literals.computeIfAbsent(segment, key -> new Node());
+        }
+
+        /**
+         * 编译完成后冻结子节点表
+         */
+        private void seal() {
+            literals = Map.copyOf(literals);
+            globs = Map.copyOf(globs);
+            literals.values().forEach(Node::seal);
+            globs.values().forEach(Node::seal);
+            if (wildcardChild != null) {
+                wildcardChild.seal();
+            }
+            if (doubleWildcardChild != null) {
+                doubleWildcardChild.seal();
+            }
+        }
+
+        /**
+         * 消费一个路径段，将可达状态加入集合
+         *
+         * @param segment 路径段
+         * @param next    下一状态集合
+         * @return 到达以 {@code /**} 结尾的规则时返回 true
+         */
+        private boolean advance(String segment, List<Node> next) {
+            if (doubleWildcard && addState(next, this)) {
+                return true;
+            }
+            Node literal = literals.get(segment);
+            if (literal != null && addState(next, literal)) {
+                return true;
+            }
+            // 空段即路径末尾的 /，不参与单段通配
+            if (segment.isEmpty()) {
+                return starTerminal;
+            }
+            if (wildcardChild != null && addState(next, wildcardChild)) {
+                return true;
+            }
+            for (Map.Entry<String, Node> entry : globs.entrySet()) {
+                if (globMatch(entry.getKey(), segment) && addState(next, entry.getValue())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
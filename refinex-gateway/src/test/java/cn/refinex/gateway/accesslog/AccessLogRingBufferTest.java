@@ -0,0 +1,186 @@
+package cn.refinex.gateway.accesslog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 访问日志环形缓冲区测试
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@DisplayName("访问日志环形缓冲区测试")
+class AccessLogRingBufferTest {
+
+    @Test
+    @DisplayName("容量向上取整为 2 的幂，非法参数直接拒绝")
+    void testCapacity() {
+        assertEquals(1, new AccessLogRingBuffer(1, 0).getCapacity());
+        assertEquals(8, new AccessLogRingBuffer(8, 0).getCapacity());
+        assertEquals(16, new AccessLogRingBuffer(9, 0).getCapacity());
+
+        assertThrows(IllegalArgumentException.class, () -> new AccessLogRingBuffer(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new AccessLogRingBuffer(8, -1));
+    }
+
+    @Test
+    @DisplayName("按认领顺序读取已发布的事件，读取后槽位可再次认领")
+    void testPublishAndDrain() {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(4, 0);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++) {
+                write(buffer, "/r" + round + "/" + i);
+            }
+
+            List<String> paths = new ArrayList<>();
+            assertEquals(4, buffer.drain(event -> paths.add(event.getPath()), Integer.MAX_VALUE));
+            assertEquals(List.of("/r" + round + "/0", "/r" + round + "/1", "/r" + round + "/2", "/r" + round + "/3"), paths);
+        }
+        assertEquals(0, buffer.getDropped());
+    }
+
+    @Test
+    @DisplayName("缓冲区已满时丢弃事件且不阻塞生产者")
+    void testDropWhenFull() {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(2, 0);
+        write(buffer, "/a");
+        write(buffer, "/b");
+
+        assertEquals(-1, buffer.tryClaim());
+        assertEquals(-1, buffer.tryClaim());
+        assertEquals(2, buffer.getDropped());
+
+        assertEquals(1, buffer.drain(event -> {
+        }, 1));
+        assertTrue(buffer.tryClaim() >= 0);
+    }
+
+    @Test
+    @DisplayName("已认领未发布的槽位阻挡后续事件，保证按顺序读取")
+    void testUnpublishedSlotBlocksDrain() {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(4, 0);
+        long first = buffer.tryClaim();
+        write(buffer, "/second");
+
+        List<String> paths = new ArrayList<>();
+        assertEquals(0, buffer.drain(event -> paths.add(event.getPath()), Integer.MAX_VALUE));
+
+        buffer.get(first).set(0L, "GET", "/first", null, null, null, 200, 0L, 0L, null);
+        buffer.publish(first);
+        assertEquals(2, buffer.drain(event -> paths.add(event.getPath()), Integer.MAX_VALUE));
+        assertEquals(List.of("/first", "/second"), paths);
+    }
+
+    @Test
+    @DisplayName("处理器抛出异常时槽位仍被释放")
+    void testHandlerFailureReleasesSlot() {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(1, 0);
+        write(buffer, "/a");
+
+        assertThrows(IllegalStateException.class, () -> buffer.drain(event -> {
+            throw new IllegalStateException("boom");
+        }, 1));
+        assertTrue(buffer.tryClaim() >= 0);
+    }
+
+    @Test
+    @DisplayName("多生产者并发写入时事件不丢失、不重复（读取数 + 丢弃数 = 写入数）")
+    void testConcurrentProducers() throws Exception {
+        int producers = 4;
+        int perProducer = 20_000;
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(256, 0);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger(producers);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int producer = p;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        long position = buffer.tryClaim();
+                        if (position >= 0) {
+                            buffer.get(position).set(0L, "GET", null, null, null, null,
+                                    producer * perProducer + i, 0L, 0L, null);
+                            buffer.publish(position);
+                        }
+                    }
+                    running.decrementAndGet();
+                    return null;
+                }));
+            }
+
+            BitSet seen = new BitSet(producers * perProducer);
+            AtomicInteger duplicates = new AtomicInteger();
+            int drained = 0;
+            start.countDown();
+            while (running.get() > 0 || drained + buffer.getDropped() < (long) producers * perProducer) {
+                drained += buffer.drain(event -> {
+                    if (seen.get(event.getStatus())) {
+                        duplicates.incrementAndGet();
+                    }
+                    seen.set(event.getStatus());
+                }, 64);
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+
+            assertEquals(0, duplicates.get());
+            assertEquals(drained, seen.cardinality());
+            assertEquals((long) producers * perProducer, drained + buffer.getDropped());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("请求体截断时不保留不完整的 UTF-8 字符")
+    void testCaptureBodyTruncatesAtCharBoundary() {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(1, 4);
+        AccessLogEvent event = buffer.get(buffer.tryClaim());
+        event.set(0L, "POST", "/a", null, null, null, 200, 0L, 0L, null);
+
+        byte[] body = "a中文".getBytes(StandardCharsets.UTF_8);
+        event.captureBody(List.of(ByteBuffer.wrap(body)).iterator(), body.length);
+        assertEquals("a中", event.bodyAsString());
+        assertTrue(event.isBodyTruncated());
+
+        byte[] small = "ok".getBytes(StandardCharsets.UTF_8);
+        event.captureBody(List.of(ByteBuffer.wrap(small)).iterator(), small.length);
+        assertEquals("ok", event.bodyAsString());
+        assertFalse(event.isBodyTruncated());
+    }
+
+    /**
+     * 认领槽位、写入并发布事件
+     *
+     * @param buffer 环形缓冲区
+     * @param path   请求路径
+     */
+    private static void write(AccessLogRingBuffer buffer, String path) {
+        long position = buffer.tryClaim();
+        assertTrue(position >= 0);
+        buffer.get(position).set(0L, "GET", path, null, null, null, 200, 0L, 0L, null);
+        buffer.publish(position);
+    }
+}
@@ -0,0 +1,112 @@
+package cn.refinex.gateway.filter;
+
+import cn.refinex.common.satoken.core.util.LoginHelper;
+import cn.refinex.gateway.config.propertirs.RateLimitProperties;
+import cn.refinex.gateway.ratelimit.GatewayRateLimiter;
+import cn.refinex.gateway.ratelimit.RateLimitRule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.net.InetSocketAddress;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 网关限流键解析测试
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@DisplayName("网关限流键解析测试")
+class GatewayRateLimitFilterTest {
+
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    private final RateLimitProperties properties = new RateLimitProperties();
+
+    @Test
+    @DisplayName("按用户限流时使用 Sa-Token 鉴权写入的登录ID，未登录时按客户端 IP")
+    void testUserKey() {
+        GatewayRateLimitFilter filter = filter();
+        RateLimitRule rule = rule(RateLimitProperties.KeyType.USER);
+
+        MockServerWebExchange loggedIn = exchange(request("10.0.0.8"));
+        loggedIn.getAttributes().put(SaTokenAuthFilter.LOGIN_ID_ATTR, 42L);
+        assertEquals("user:42", filter.resolveKey(loggedIn, rule, "platform"));
+
+        assertEquals("ip:10.0.0.8", filter.resolveKey(exchange(request("10.0.0.8")), rule, "platform"));
+    }
+
+    @Test
+    @DisplayName("未配置可信代理时忽略 X-Forwarded-For，只使用连接的远程地址")
+    void testForwardedForIgnoredWithoutTrustedProxies() {
+        GatewayRateLimitFilter filter = filter();
+
+        MockServerWebExchange exchange = exchange(request("10.0.0.8").header(X_FORWARDED_FOR, "1.1.1.1"));
+        assertEquals("ip:10.0.0.8", filter.resolveKey(exchange, rule(RateLimitProperties.KeyType.IP), null));
+    }
+
+    @Test
+    @DisplayName("配置可信代理层数时从 X-Forwarded-For 右侧取客户端 IP，配置刷新后生效")
+    void testTrustedProxies() {
+        properties.setTrustedProxies(1);
+        GatewayRateLimitFilter filter = filter();
+        RateLimitRule rule = rule(RateLimitProperties.KeyType.IP);
+
+        MockServerWebExchange exchange = exchange(request("10.0.0.1").header(X_FORWARDED_FOR, "6.6.6.6, 203.0.113.7"));
+        assertEquals("ip:203.0.113.7", filter.resolveKey(exchange, rule, null));
+
+        properties.setTrustedProxies(2);
+        filter.reload();
+        assertEquals("ip:6.6.6.6", filter.resolveKey(exchange, rule, null));
+
+        // 没有 X-Forwarded-For 时使用连接的远程地址
+        assertEquals("ip:10.0.0.1", filter.resolveKey(exchange(request("10.0.0.1")), rule, null));
+    }
+
+    @Test
+    @DisplayName("按客户端 ID 限流时依次取请求头、请求参数，均未携带时按客户端 IP")
+    void testClientIdKey() {
+        GatewayRateLimitFilter filter = filter();
+        RateLimitRule rule = rule(RateLimitProperties.KeyType.CLIENT_ID);
+
+        assertEquals("client:web", filter.resolveKey(
+                exchange(request("10.0.0.8").header(LoginHelper.CLIENT_KEY, "web").queryParam(LoginHelper.CLIENT_KEY, "app")), rule, null));
+        assertEquals("client:app", filter.resolveKey(
+                exchange(request("10.0.0.8").queryParam(LoginHelper.CLIENT_KEY, "app")), rule, null));
+        assertEquals("ip:10.0.0.8", filter.resolveKey(exchange(request("10.0.0.8")), rule, null));
+    }
+
+    @Test
+    @DisplayName("按路由限流时使用路由 ID，未匹配路由时共用同一个限流键")
+    void testRouteKey() {
+        GatewayRateLimitFilter filter = filter();
+        RateLimitRule rule = rule(RateLimitProperties.KeyType.ROUTE);
+
+        assertEquals("platform", filter.resolveKey(exchange(request("10.0.0.8")), rule, "platform"));
+        assertEquals("unrouted", filter.resolveKey(exchange(request("10.0.0.8")), rule, null));
+    }
+
+    private GatewayRateLimitFilter filter() {
+        return new GatewayRateLimitFilter(new GatewayRateLimiter(mock(ReactiveStringRedisTemplate.class), properties), properties);
+    }
+
+    private RateLimitRule rule(RateLimitProperties.KeyType keyType) {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setId("test");
+        rule.setKeyType(keyType);
+        return RateLimitRule.of(rule, properties.getLeaseTtl());
+    }
+
+    private static MockServerHttpRequest.BaseBuilder<?> request(String remoteHost) {
+        return MockServerHttpRequest.get("/api/test").remoteAddress(new InetSocketAddress(remoteHost, 52000));
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        return MockServerWebExchange.from(request);
+    }
+}
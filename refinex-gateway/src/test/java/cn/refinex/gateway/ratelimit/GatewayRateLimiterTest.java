@@ -0,0 +1,195 @@
+package cn.refinex.gateway.ratelimit;
+
+import cn.refinex.gateway.config.propertirs.RateLimitProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 网关分布式限流器测试（以内存令牌桶模拟 Redis 租用脚本，不依赖 Redis）
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@DisplayName("网关分布式限流器测试")
+class GatewayRateLimiterTest {
+
+    private static final Duration LEASE_TTL = Duration.ofSeconds(1);
+
+    @Test
+    @DisplayName("默认租用令牌数不少于 4，且不超过租用有效期内补充的令牌数")
+    void testDefaultLeaseSize() {
+        assertEquals(5, rule(100, Duration.ofSeconds(1), null).leaseSize());
+        assertEquals(4, rule(50, Duration.ofSeconds(1), null).leaseSize());
+        assertEquals(17, rule(1000, Duration.ofMinutes(1), null).leaseSize());
+        assertEquals(1, rule(20, Duration.ofMinutes(1), null).leaseSize());
+        assertEquals(3, rule(3, Duration.ofSeconds(1), null).leaseSize());
+
+        // 显式配置时按配置租用，超过 limit 时按 limit 租用
+        assertEquals(7, rule(20, Duration.ofMinutes(1), 7L).leaseSize());
+        assertEquals(20, rule(20, Duration.ofMinutes(1), 50L).leaseSize());
+    }
+
+    @Test
+    @DisplayName("租用多个令牌时至少在用完前预取，只租用 1 个令牌时不预取")
+    void testPrefetchThreshold() {
+        assertEquals(0, rule(20, Duration.ofMinutes(1), null).prefetchThreshold());
+        assertEquals(1, rule(50, Duration.ofSeconds(1), null).prefetchThreshold());
+        assertEquals(1, rule(100, Duration.ofSeconds(1), 2L).prefetchThreshold());
+        assertEquals(25, rule(10000, Duration.ofSeconds(1), 100L).prefetchThreshold());
+    }
+
+    @Test
+    @DisplayName("限流参数非法时拒绝编译")
+    void testInvalidRule() {
+        assertThrows(IllegalArgumentException.class, () -> rule(0, Duration.ofSeconds(1), null));
+        assertThrows(IllegalArgumentException.class, () -> rule(10, Duration.ZERO, null));
+        assertThrows(IllegalArgumentException.class, () -> rule(10, Duration.ofSeconds(1), 0L));
+        assertThrows(IllegalArgumentException.class, () -> RateLimitRule.of(config(10, Duration.ofSeconds(1), null), Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("批量租用令牌后在本地扣减，剩余令牌低于预取阈值时提前租用")
+    void testBatchLease() {
+        FakeRedisTemplate redis = new FakeRedisTemplate(1000);
+        GatewayRateLimiter limiter = new GatewayRateLimiter(redis, properties(true));
+        RateLimitRule rule = rule(100, Duration.ofSeconds(1), null);
+
+        for (int i = 0; i < 20; i++) {
+            assertTrue(limiter.acquire(rule, "k").block().allowed());
+        }
+
+        // 第 1 次同步租用，之后每用完 5 个预取一次
+        assertEquals(5, redis.requested.size());
+        assertTrue(redis.requested.stream().allMatch(size -> size == 5));
+    }
+
+    @Test
+    @DisplayName("Redis 中没有令牌时进入拒绝期，拒绝期内不再访问 Redis")
+    void testDeniedLocally() {
+        FakeRedisTemplate redis = new FakeRedisTemplate(8);
+        GatewayRateLimiter limiter = new GatewayRateLimiter(redis, properties(true));
+        RateLimitRule rule = rule(100, Duration.ofSeconds(1), 4L);
+
+        for (int i = 0; i < 8; i++) {
+            assertTrue(limiter.acquire(rule, "k").block().allowed());
+        }
+        int calls = redis.requested.size();
+
+        for (int i = 0; i < 50; i++) {
+            RateLimitDecision decision = limiter.acquire(rule, "k").block();
+            assertFalse(decision.allowed());
+            assertTrue(decision.resetSeconds() >= 1);
+        }
+        assertEquals(calls, redis.requested.size());
+
+        // 不同限流键使用各自的令牌桶
+        redis.tokens.put("other", 1L);
+        assertTrue(limiter.acquire(rule, "other").block().allowed());
+    }
+
+    @Test
+    @DisplayName("低速率规则每次只租用 1 个令牌，不预取多余令牌")
+    void testLowRateRuleLeasesSingleToken() {
+        FakeRedisTemplate redis = new FakeRedisTemplate(20);
+        GatewayRateLimiter limiter = new GatewayRateLimiter(redis, properties(true));
+        RateLimitRule rule = rule(20, Duration.ofMinutes(1), null);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.acquire(rule, "k").block().allowed());
+        }
+        assertEquals(List.of(1L, 1L, 1L), redis.requested);
+        assertEquals(17, (long) redis.tokens.get("k"));
+    }
+
+    @Test
+    @DisplayName("Redis 不可用时按 fail-open 放行或拒绝，且暂停租用")
+    void testRedisFailure() {
+        FakeRedisTemplate redis = new FakeRedisTemplate(100);
+        redis.fail = true;
+        RateLimitRule rule = rule(100, Duration.ofSeconds(1), null);
+
+        GatewayRateLimiter failOpen = new GatewayRateLimiter(redis, properties(true));
+        for (int i = 0; i < 10; i++) {
+            RateLimitDecision decision = failOpen.acquire(rule, "k").block();
+            assertTrue(decision.allowed());
+            assertFalse(decision.hasQuota());
+        }
+        assertEquals(1, redis.requested.size());
+
+        GatewayRateLimiter failClosed = new GatewayRateLimiter(redis, properties(false));
+        assertFalse(failClosed.acquire(rule, "k").block().allowed());
+    }
+
+    private static RateLimitRule rule(long limit, Duration period, Long leaseSize) {
+        return RateLimitRule.of(config(limit, period, leaseSize), LEASE_TTL);
+    }
+
+    private static RateLimitProperties.Rule config(long limit, Duration period, Long leaseSize) {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setId("test");
+        rule.setLimit(limit);
+        rule.setPeriod(period);
+        rule.setLeaseSize(leaseSize);
+        return rule;
+    }
+
+    private static RateLimitProperties properties(boolean failOpen) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setFailOpen(failOpen);
+        properties.setLeaseTtl(LEASE_TTL);
+        return properties;
+    }
+
+    /**
+     * 以内存令牌桶代替 Redis 租用脚本（不补充令牌），并记录每次请求租用的令牌数
+     */
+    private static final class FakeRedisTemplate extends ReactiveStringRedisTemplate {
+
+        private final long initialTokens;
+
+        /**
+         * 限流键（Redis Key 最后一段）-> 剩余令牌数
+         */
+        private final Map<String, Long> tokens = new ConcurrentHashMap<>();
+
+        private final List<Long> requested = new CopyOnWriteArrayList<>();
+
+        private volatile boolean fail;
+
+        private FakeRedisTemplate(long initialTokens) {
+            super(mock(ReactiveRedisConnectionFactory.class));
+            this.initialTokens = initialTokens;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Flux<T> execute(RedisScript<T> script, List<String> keys, List<?> args) {
+            long size = Long.parseLong((String) args.get(2));
+            requested.add(size);
+            if (fail) {
+                return Flux.error(new IllegalStateException("模拟 Redis 不可用"));
+            }
+            String key = keys.get(0).substring(keys.get(0).lastIndexOf(':') + 1);
+            long left = tokens.getOrDefault(key, initialTokens);
+            long granted = Math.min(size, left);
+            tokens.put(key, left - granted);
+            return Flux.just((T) List.of(granted, left - granted, left - granted < 1 ? 1000L : 0L));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package cn.refinex.gateway.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ant 风格路径匹配前缀树测试（以 {@link AntPathMatcher} 的匹配结果为准逐条对照）
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@DisplayName("Ant 风格路径匹配前缀树测试")
+class PathPatternTrieTest {
+
+    /**
+     * 对照用的请求路径
+     */
+    private static final List<String> PATHS = List.of(
+            "/", "/a", "/a/", "/a/b", "/a/b/", "/a/b/c", "/a/b/c/d",
+            "/x", "/x/", "/x/y", "/x/y/z", "/xy", "/x.html",
+            "/api/user/1", "/api/user/1/detail", "/api/user/", "/api/users/1",
+            "/static/app.js", "/static/css/app.css", "/static/index.html", "/static/index.htm",
+            "/file/a1.txt", "/file/ab.txt", "/file/a.txt", "/file/abc.txt",
+            "/v1/order/list", "/v2/order/list", "/v10/order/list", "/v1/order/list/page",
+            "/auth/login", "/AUTH/Login", "/Auth/LOGIN/", "/actuator/HEALTH/liveness"
+    );
+
+    @Test
+    @DisplayName("根路径 /** 匹配所有路径")
+    void testDoubleWildcardAtRoot() {
+        assertSameAsAnt(List.of("/**"), false);
+        assertTrue(PathPatternTrie.compile(List.of("/**")).matches("/"));
+    }
+
+    @Test
+    @DisplayName("/x/** 匹配 /x 本身及其所有子路径，不匹配同前缀的其他路径")
+    void testDoubleWildcardSuffix() {
+        assertSameAsAnt(List.of("/x/**"), false);
+
+        PathPatternTrie trie = PathPatternTrie.compile(List.of("/x/**"));
+        assertTrue(trie.matches("/x"));
+        assertTrue(trie.matches("/x/"));
+        assertTrue(trie.matches("/x/y/z"));
+        assertFalse(trie.matches("/xy"));
+    }
+
+    @Test
+    @DisplayName("末尾的 / 参与匹配")
+    void testTrailingSlash() {
+        assertSameAsAnt(List.of("/"), false);
+        assertSameAsAnt(List.of("/*"), false);
+        assertSameAsAnt(List.of("/a"), false);
+        assertSameAsAnt(List.of("/a/"), false);
+        assertSameAsAnt(List.of("/a/*"), false);
+        assertSameAsAnt(List.of("/a/b/"), false);
+        assertSameAsAnt(List.of("/api/user/*"), false);
+
+        PathPatternTrie trie = PathPatternTrie.compile(List.of("/a"));
+        assertTrue(trie.matches("/a"));
+        assertFalse(trie.matches("/a/"));
+    }
+
+    @Test
+    @DisplayName("{var} 与 * 匹配一个完整路径段")
+    void testPathVariable() {
+        assertSameAsAnt(List.of("/api/user/{id}"), false);
+        assertSameAsAnt(List.of("/api/user/{id}/detail"), false);
+        assertSameAsAnt(List.of("/api/*/{id}"), false);
+        assertSameAsAnt(List.of("/{version}/order/list"), false);
+    }
+
+    @Test
+    @DisplayName("? 匹配段内一个字符")
+    void testSingleCharWildcard() {
+        assertSameAsAnt(List.of("/file/a?.txt"), false);
+        assertSameAsAnt(List.of("/v?/order/list"), false);
+        assertSameAsAnt(List.of("/file/???.txt"), false);
+    }
+
+    @Test
+    @DisplayName("段内通配与多种规则混合")
+    void testMixedGlobs() {
+        assertSameAsAnt(List.of("/static/*.js", "/static/**/*.css", "/static/index.htm?"), false);
+        assertSameAsAnt(List.of("/file/a*.txt", "/x.*", "/a/**/d"), false);
+        assertSameAsAnt(List.of("/v?/order/**", "/api/**/detail", "/a/*/c"), false);
+        assertSameAsAnt(List.of("/**/list", "/a/b", "/api/user/{id}"), false);
+    }
+
+    @Test
+    @DisplayName("黑名单忽略大小写匹配")
+    void testCaseInsensitiveBlacklist() {
+        List<String> blacklist = List.of("/auth/login", "/Actuator/**");
+        assertSameAsAnt(blacklist, true);
+
+        PathPatternTrie trie = PathPatternTrie.compile(blacklist, true);
+        assertTrue(trie.matches("/AUTH/Login"));
+        assertTrue(trie.matches("/actuator/HEALTH/liveness"));
+        assertFalse(trie.matches("/Auth/LOGIN/"));
+        assertFalse(PathPatternTrie.compile(blacklist).matches("/AUTH/Login"));
+    }
+
+    @Test
+    @DisplayName("空规则集不匹配任何路径")
+    void testEmpty() {
+        assertEquals(0, PathPatternTrie.empty().size());
+        assertFalse(PathPatternTrie.compile(List.of()).matches("/"));
+        assertFalse(PathPatternTrie.compile(List.of("/**")).matches(""));
+        assertEquals(1, PathPatternTrie.compile(List.of(" ", "/a")).size());
+    }
+
+    /**
+     * 对照 {@link AntPathMatcher}：对每个请求路径，前缀树的结果与逐条规则匹配的结果一致
+     *
+     * @param patterns        路径规则
+     * @param caseInsensitive 是否忽略大小写
+     */
+    private static void assertSameAsAnt(List<String> patterns, boolean caseInsensitive) {
+        AntPathMatcher matcher = new AntPathMatcher();
+        matcher.setCaseSensitive(!caseInsensitive);
+        PathPatternTrie trie = PathPatternTrie.compile(patterns, caseInsensitive);
+
+        for (String path : PATHS) {
+            boolean expected = patterns.stream().anyMatch(pattern -> matcher.match(pattern, path));
+            assertEquals(expected, trie.matches(path), () -> "规则 " + patterns + " 匹配路径 " + path);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package cn.refinex.platform.repository.log;
 
 import cn.refinex.common.jdbc.core.JdbcTemplateManager;
+import cn.refinex.common.jdbc.enums.PageCountMode;
 import cn.refinex.common.jdbc.page.PageRequest;
 import cn.refinex.common.jdbc.page.PageResult;
 import cn.refinex.common.utils.object.BeanConverter;
@@ -127,7 +128,8 @@ public class LogLoginRepository {
                 ORDER BY create_time DESC
                 """;
 
-        return jdbcManager.queryPage(baseSql, params, pageRequest, LogLogin.class);
+        // 登录日志只增不改，无过滤条件时使用表行数估算值，有过滤条件时缓存总数，避免每次翻页都全量 COUNT
+        return jdbcManager.queryPage(baseSql, params, pageRequest.withCountMode(PageCountMode.ESTIMATED), LogLogin.class);
     }
 
     /**
@@ -3,6 +3,7 @@ package cn.refinex.platform.repository.log;
 import cn.refinex.common.jdbc.page.PageRequest;
 import cn.refinex.common.jdbc.page.PageResult;
 import cn.refinex.common.jdbc.core.JdbcTemplateManager;
+import cn.refinex.common.jdbc.enums.PageCountMode;
 import cn.refinex.common.utils.object.BeanConverter;
 import cn.refinex.platform.controller.logger.dto.request.LogOperationQueryRequestDTO;
 import cn.refinex.platform.entity.log.LogOperation;
@@ -136,7 +137,8 @@ public class LogOperationRepository {
                 ORDER BY create_time DESC
                 """;
 
-        return jdbcManager.queryPage(baseSql, params, pageRequest, LogOperation.class);
+        // 操作日志只增不改，无过滤条件时使用表行数估算值，有过滤条件时缓存总数，避免每次翻页都全量 COUNT
+        return jdbcManager.queryPage(baseSql, params, pageRequest.withCountMode(PageCountMode.ESTIMATED), LogOperation.class);
     }
 
     /**
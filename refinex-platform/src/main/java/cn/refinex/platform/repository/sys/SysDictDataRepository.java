@@ -125,6 +125,28 @@ public class SysDictDataRepository {
         }
     }
 
+    /**
+     * 查询所有启用字典类型的数据列表（按字典类型ID、排序值排序，用于缓存预热）
+     *
+     * @return 字典数据列表
+     */
+    public List<SysDictData> selectListOfEnabledTypes() {
+        String sql = """
+                SELECT d.*
+                FROM sys_dict_data d
+                INNER JOIN sys_dict_type t ON d.dict_type_id = t.id
+                WHERE t.deleted = 0 AND t.status = 0 AND d.deleted = 0
+                ORDER BY d.dict_type_id ASC, d.dict_sort ASC, d.id ASC
+                """;
+
+        try {
+            return jdbcManager.queryList(sql, Map.of(), true, SysDictData.class);
+        } catch (Exception e) {
+            log.error("查询启用字典类型的数据列表失败", e);
+            return List.of();
+        }
+    }
+
     /**
      * 检查在指定类型下字典标签是否存在（可排除某个ID）
      *
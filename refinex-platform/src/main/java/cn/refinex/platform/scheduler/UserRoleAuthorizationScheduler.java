@@ -1,6 +1,7 @@
 package cn.refinex.platform.scheduler;
 
 import cn.refinex.platform.repository.sys.SysUserRoleRepository;
+import cn.refinex.platform.service.PermissionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -20,6 +21,7 @@ import org.springframework.stereotype.Component;
 public class UserRoleAuthorizationScheduler {
 
     private final SysUserRoleRepository userRoleRepository;
+    private final PermissionService permissionService;
 
     /**
      * 清理过期的临时授权
@@ -30,6 +32,7 @@ public class UserRoleAuthorizationScheduler {
      * 1. 查找 valid_until 不为空且小于当前时间的记录
      * 2. 物理删除这些记录
      * 3. 记录删除数量
+     * 4. 有删除记录时广播权限变更事件
      */
     @Scheduled(cron = "0 * * * * ?")
     public void cleanExpiredTemporaryAuthorizations() {
@@ -40,6 +43,8 @@ public class UserRoleAuthorizationScheduler {
 
             if (deletedCount > 0) {
                 log.info("清理过期临时授权完成，删除记录数: {}", deletedCount);
+                // 过期授权涉及的用户未知，广播给所有用户
+                permissionService.invalidateAllPermissions("清理过期临时授权");
             } else {
                 log.debug("没有需要清理的过期临时授权");
             }
@@ -2,6 +2,7 @@ package cn.refinex.platform.service;
 
 import cn.refinex.platform.entity.sys.SysRole;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -36,4 +37,19 @@ public interface PermissionService {
      * @return 用户权限列表
      */
     Set<String> getUserMenuPermissions(Long userId);
+
+    /**
+     * 用户角色绑定变更后失效指定用户的权限缓存，并广播权限变更事件
+     *
+     * @param userIds 用户ID
+     * @param reason  变更原因
+     */
+    void invalidateUserPermissions(Collection<Long> userIds, String reason);
+
+    /**
+     * 角色权限、权限定义等影响所有用户的变更后清空所有用户的权限缓存，并广播权限变更事件
+     *
+     * @param reason 变更原因
+     */
+    void invalidateAllPermissions(String reason);
 }
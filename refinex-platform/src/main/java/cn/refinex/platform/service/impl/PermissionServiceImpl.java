@@ -2,8 +2,7 @@ package cn.refinex.platform.service.impl;
 
 import cn.refinex.common.constants.SystemRedisKeyConstants;
 import cn.refinex.common.constants.SystemRoleConstants;
-import cn.refinex.common.json.utils.JsonUtils;
-import cn.refinex.common.redis.RedisService;
+import cn.refinex.common.domain.model.PermissionChangeEvent;
 import cn.refinex.common.satoken.core.util.LoginHelper;
 import cn.refinex.platform.entity.sys.SysRole;
 import cn.refinex.platform.repository.sys.SysUserRoleRepository;
@@ -11,15 +10,21 @@ import cn.refinex.platform.service.PermissionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.lang3.StringUtils;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 /**
  * 权限服务实现类
+ * <p>
+ * 用户角色、权限编码通过 Spring Cache 缓存（启用二级缓存时先读本地缓存），角色绑定变更后按用户删除。
  *
  * @author Refinex
  * @since 1.0.0
@@ -30,7 +35,8 @@ import java.util.Set;
 public class PermissionServiceImpl implements PermissionService {
 
     private final SysUserRoleRepository sysUserRoleRepository;
-    private final RedisService redisService;
+    private final CacheManager cacheManager;
+    private final RedisTemplate<String, Object> redisTemplate;
 
     /**
      * 获取用户角色列表
@@ -46,24 +52,7 @@ public class PermissionServiceImpl implements PermissionService {
                 return Set.of(SystemRoleConstants.SUPER_ADMIN);
             }
 
-            // 先从缓存中获取角色列表
-            String userRolesKey = SystemRedisKeyConstants.Permission.userRoles(userId);
-            String userRoles = redisService.string().get(userRolesKey, String.class);
-            if (StringUtils.isNotBlank(userRoles)) {
-                return JsonUtils.toSet(userRoles, String.class);
-            }
-
-            // 缓存中没有角色列表，从数据库中查询
-            Set<String> userRolesFromDb = sysUserRoleRepository.selectRolePermissionsByUserId(userId);
-            if (CollectionUtils.isEmpty(userRolesFromDb)) {
-                return Set.of();
-            }
-
-            // 缓存用户角色列表
-            redisService.string().set(userRolesKey, JsonUtils.toJson(userRolesFromDb), Duration.ofMinutes(30));
-
-            // 返回角色列表
-            return userRolesFromDb;
+            return getCachedCodes(SystemRedisKeyConstants.Permission.USER_ROLES_CACHE, userId, sysUserRoleRepository::selectRolePermissionsByUserId);
         } catch (Exception e) {
             log.error("获取用户角色失败，userId: {}", userId, e);
             return Set.of();
@@ -95,27 +84,109 @@ public class PermissionServiceImpl implements PermissionService {
                 return Set.of("*:*:*");
             }
 
-            // 先从缓存中获取权限列表
-            String userPermissionsKey = SystemRedisKeyConstants.Permission.userPermissions(userId);
-            String userPermissions = redisService.string().get(userPermissionsKey, String.class);
-            if (StringUtils.isNotBlank(userPermissions)) {
-                return JsonUtils.toSet(userPermissions, String.class);
-            }
+            return getCachedCodes(SystemRedisKeyConstants.Permission.USER_PERMISSIONS_CACHE, userId, sysUserRoleRepository::selectMenuPermissionsByUserId);
+        } catch (Exception e) {
+            log.error("获取用户权限失败，userId: {}", userId, e);
+            return Set.of();
+        }
+    }
 
-            // 缓存中没有权限列表，从数据库中查询
-            Set<String> userPermissionsFromDb = sysUserRoleRepository.selectMenuPermissionsByUserId(userId);
-            if (CollectionUtils.isEmpty(userPermissionsFromDb)) {
-                return Set.of();
+    /**
+     * 用户角色绑定变更后失效指定用户的权限缓存，并广播权限变更事件
+     *
+     * @param userIds 用户ID
+     * @param reason  变更原因
+     */
+    @Override
+    public void invalidateUserPermissions(Collection<Long> userIds, String reason) {
+        if (CollectionUtils.isEmpty(userIds)) {
+            return;
+        }
+
+        try {
+            // 删除用户角色、权限缓存（含各节点的本地缓存）, 后续查询时会重新加载
+            Cache rolesCache = cacheManager.getCache(SystemRedisKeyConstants.Permission.USER_ROLES_CACHE);
+            Cache permissionsCache = cacheManager.getCache(SystemRedisKeyConstants.Permission.USER_PERMISSIONS_CACHE);
+            for (Long userId : userIds) {
+                if (rolesCache != null) {
+                    rolesCache.evict(userId);
+                }
+                if (permissionsCache != null) {
+                    permissionsCache.evict(userId);
+                }
             }
+        } catch (Exception e) {
+            log.warn("删除用户权限缓存失败，userIds: {}", userIds, e);
+        }
 
-            // 缓存用户权限列表
-            redisService.string().set(userPermissionsKey, JsonUtils.toJson(userPermissionsFromDb), Duration.ofMinutes(30));
+        publish(PermissionChangeEvent.ofUsers(userIds, reason));
+    }
 
-            // 返回权限列表
-            return userPermissionsFromDb;
+    /**
+     * 角色权限、权限定义等影响所有用户的变更后清空所有用户的权限缓存，并广播权限变更事件
+     *
+     * @param reason 变更原因
+     */
+    @Override
+    public void invalidateAllPermissions(String reason) {
+        try {
+            // 清空所有用户的角色、权限缓存（含各节点的本地缓存），订阅方收到事件后重新查询时不会读到旧值
+            Cache rolesCache = cacheManager.getCache(SystemRedisKeyConstants.Permission.USER_ROLES_CACHE);
+            if (rolesCache != null) {
+                rolesCache.clear();
+            }
+            Cache permissionsCache = cacheManager.getCache(SystemRedisKeyConstants.Permission.USER_PERMISSIONS_CACHE);
+            if (permissionsCache != null) {
+                permissionsCache.clear();
+            }
         } catch (Exception e) {
-            log.error("获取用户权限失败，userId: {}", userId, e);
+            log.warn("清空用户权限缓存失败，reason: {}", reason, e);
+        }
+
+        publish(PermissionChangeEvent.ofAll(reason));
+    }
+
+    /**
+     * 从缓存读取用户的角色或权限编码，未命中时查询数据库并写入缓存（空集合不缓存）
+     *
+     * @param cacheName 缓存名称
+     * @param userId    用户ID
+     * @param loader    数据库查询
+     * @return 编码集合
+     */
+    @SuppressWarnings("unchecked")
+    private Set<String> getCachedCodes(String cacheName, Long userId, Function<Long, Set<String>> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            Cache.ValueWrapper cached = cache.get(userId);
+            if (cached != null && cached.get() instanceof Set<?> codes && !codes.isEmpty()) {
+                return (Set<String>) codes;
+            }
+        }
+
+        Set<String> codes = loader.apply(userId);
+        if (CollectionUtils.isEmpty(codes)) {
             return Set.of();
         }
+
+        // 缓存值直接以对象形式存储（带类型信息），不可变集合无法按类型信息反序列化，转为 HashSet
+        if (cache != null) {
+            cache.put(userId, new HashSet<>(codes));
+        }
+        return codes;
+    }
+
+    /**
+     * 广播权限变更事件（失败只记录日志，订阅方的权限缓存会在 TTL 到期后自然刷新）
+     *
+     * @param event 权限变更事件
+     */
+    private void publish(PermissionChangeEvent event) {
+        try {
+            redisTemplate.convertAndSend(SystemRedisKeyConstants.Permission.changeChannel(), event);
+            log.debug("广播权限变更事件，userIds: {}, reason: {}", event.getUserIds(), event.getReason());
+        } catch (Exception e) {
+            log.warn("广播权限变更事件失败，userIds: {}, reason: {}", event.getUserIds(), event.getReason(), e);
+        }
     }
 }
@@ -5,7 +5,7 @@ import cn.refinex.common.jdbc.core.JdbcTemplateManager;
 import cn.refinex.common.jdbc.page.PageRequest;
 import cn.refinex.common.jdbc.page.PageResult;
 import cn.refinex.common.json.utils.JsonUtils;
-import cn.refinex.common.redis.RedisService;
+import cn.refinex.common.redis.cache.CacheNamespaceManager;
 import cn.refinex.common.utils.object.BeanConverter;
 import cn.refinex.platform.controller.config.dto.request.SysConfigCreateRequestDTO;
 import cn.refinex.platform.controller.config.dto.request.SysConfigQueryRequestDTO;
@@ -15,14 +15,18 @@ import cn.refinex.platform.repository.sys.SysConfigRepository;
 import cn.refinex.platform.service.SysConfigService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
-import static cn.refinex.common.constants.SystemRedisKeyConstants.SysConfig.buildFrontendConfigCacheKey;
+import static cn.refinex.common.constants.SystemRedisKeyConstants.SysConfig.CONFIG_BY_KEY_CACHE;
+import static cn.refinex.common.constants.SystemRedisKeyConstants.SysConfig.CONFIG_PAGE_QUERY_CACHE_TTL;
+import static cn.refinex.common.constants.SystemRedisKeyConstants.SysConfig.CONFIG_PAGE_QUERY_NAMESPACE;
+import static cn.refinex.common.constants.SystemRedisKeyConstants.SysConfig.buildConfigPageQueryCacheKey;
 
 /**
  * 系统配置服务实现
@@ -37,7 +41,8 @@ public class SysConfigServiceImpl implements SysConfigService {
 
     private final JdbcTemplateManager jdbcManager;
     private final SysConfigRepository sysConfigRepository;
-    private final RedisService redisService;
+    private final CacheManager cacheManager;
+    private final CacheNamespaceManager cacheNamespaceManager;
 
     /**
      * 创建系统配置
@@ -60,12 +65,8 @@ public class SysConfigServiceImpl implements SysConfigService {
         entity.setUpdateTime(LocalDateTime.now());
 
         long configId = jdbcManager.executeInTransaction(tx -> sysConfigRepository.insert(tx, entity));
-
-        // 缓存前端可见配置
-        if (entity.getIsFrontend() != null && entity.getIsFrontend() == 1) {
-            entity.setId(configId);
-            writeFrontendCache(entity);
-        }
+        invalidatePageCache();
+        invalidateConfigCache(entity.getConfigKey());
 
         return configId;
     }
@@ -101,13 +102,10 @@ public class SysConfigServiceImpl implements SysConfigService {
 
         int rows = jdbcManager.executeInTransaction(tx -> sysConfigRepository.updateById(tx, exist));
 
-        // 刷新缓存，前端可见配置则刷新前端缓存，否则清理前端缓存
+        // 清理配置缓存与分页查询缓存，下次查询时重新加载
         if (rows > 0) {
-            if (exist.getIsFrontend() != null && exist.getIsFrontend() == 1) {
-                writeFrontendCache(exist);
-            } else {
-                invalidateFrontendCache(exist.getConfigKey());
-            }
+            invalidatePageCache();
+            invalidateConfigCache(exist.getConfigKey());
         }
         return rows > 0;
     }
@@ -129,8 +127,9 @@ public class SysConfigServiceImpl implements SysConfigService {
 
         int rows = jdbcManager.executeInTransaction(tx -> sysConfigRepository.softDeleteById(tx, id, operatorId));
         if (rows > 0) {
-            // 清理前端缓存
-            invalidateFrontendCache(exist.getConfigKey());
+            // 清理配置缓存与分页查询缓存
+            invalidateConfigCache(exist.getConfigKey());
+            invalidatePageCache();
         }
 
         return rows > 0;
@@ -155,21 +154,26 @@ public class SysConfigServiceImpl implements SysConfigService {
      */
     @Override
     public SysConfig getByKey(String configKey) {
-        // 对前端可见配置尝试读取缓存
-        String cacheKey = buildFrontendConfigCacheKey(configKey);
+        // 先读取缓存（启用二级缓存时优先命中本地缓存）
+        Cache cache = null;
         try {
-            String cacheJson = redisService.string().get(cacheKey, String.class);
-            if (StringUtils.isNotBlank(cacheJson)) {
-                return JsonUtils.fromJson(cacheJson, SysConfig.class);
+            cache = cacheManager.getCache(CONFIG_BY_KEY_CACHE);
+            SysConfig cached = cache != null ? cache.get(configKey, SysConfig.class) : null;
+            if (cached != null) {
+                return cached;
             }
         } catch (Exception e) {
             log.warn("读取配置缓存失败, key={}", configKey, e);
         }
 
-        // 缓存未命中，查询数据库后写入缓存
+        // 缓存未命中，查询数据库后写入缓存（不存在的配置不缓存）
         SysConfig cfg = sysConfigRepository.selectByKey(configKey);
-        if (cfg != null && cfg.getIsFrontend() != null && cfg.getIsFrontend() == 1) {
-            writeFrontendCache(cfg);
+        if (cfg != null && cache != null) {
+            try {
+                cache.put(configKey, cfg);
+            } catch (Exception e) {
+                log.warn("写入配置缓存失败, key={}", configKey, e);
+            }
         }
 
         return cfg;
@@ -194,8 +198,14 @@ public class SysConfigServiceImpl implements SysConfigService {
      * @return 系统配置分页结果
      */
     @Override
+    @SuppressWarnings("unchecked")
     public PageResult<SysConfig> page(SysConfigQueryRequestDTO query, PageRequest pageRequest) {
-        return sysConfigRepository.pageQuery(query, pageRequest);
+        // 读取分页查询缓存（按命名空间代数失效，配置变更后自动切换到新代数）
+        String condition = JsonUtils.toJson(query)
+                + "|page:" + pageRequest.getPageNum() + "|size:" + pageRequest.getPageSize()
+                + "|order:" + pageRequest.getOrderBy() + "|dir:" + pageRequest.getOrderDirection();
+        return cacheNamespaceManager.getOrLoad(CONFIG_PAGE_QUERY_NAMESPACE, buildConfigPageQueryCacheKey(condition), PageResult.class,
+                Duration.ofSeconds(CONFIG_PAGE_QUERY_CACHE_TTL), () -> sysConfigRepository.pageQuery(query, pageRequest));
     }
 
     /**
@@ -210,14 +220,10 @@ public class SysConfigServiceImpl implements SysConfigService {
     public boolean updateFrontendVisible(Long id, Integer isFrontend, Long operatorId) {
         int rows = jdbcManager.executeInTransaction(tx -> sysConfigRepository.updateStatus(tx, id, isFrontend, operatorId));
         if (rows > 0) {
-            // 刷新缓存，前端可见配置则刷新前端缓存，否则清理前端缓存
+            invalidatePageCache();
             SysConfig cfg = sysConfigRepository.selectById(id);
             if (cfg != null) {
-                if (isFrontend != null && isFrontend == 1) {
-                    writeFrontendCache(cfg);
-                } else {
-                    invalidateFrontendCache(cfg.getConfigKey());
-                }
+                invalidateConfigCache(cfg.getConfigKey());
             }
         }
 
@@ -225,32 +231,29 @@ public class SysConfigServiceImpl implements SysConfigService {
     }
 
     /**
-     * 写入前端可见配置缓存, 缓存时间为30分钟
+     * 删除配置缓存（启用二级缓存时同时广播删除各节点的本地缓存）
      *
-     * @param cfg 系统配置
+     * @param configKey 配置键
      */
-    private void writeFrontendCache(SysConfig cfg) {
+    private void invalidateConfigCache(String configKey) {
         try {
-            String key = buildFrontendConfigCacheKey(cfg.getConfigKey());
-            String json = JsonUtils.toJson(cfg);
-            redisService.string().set(key, json, Duration.ofMinutes(30));
+            Cache cache = cacheManager.getCache(CONFIG_BY_KEY_CACHE);
+            if (cache != null) {
+                cache.evict(configKey);
+            }
         } catch (Exception e) {
-            log.warn("写入配置缓存失败, key={}", cfg.getConfigKey(), e);
+            log.warn("删除配置缓存失败, key={}", configKey, e);
         }
     }
 
     /**
-     * 删除前端可见配置缓存
-     *
-     * @param configKey 配置键
+     * 失效分页查询缓存（命名空间代数加一，旧代数的缓存延迟后在后台清理）
      */
-    private void invalidateFrontendCache(String configKey) {
+    private void invalidatePageCache() {
         try {
-            redisService.delete(buildFrontendConfigCacheKey(configKey));
+            cacheNamespaceManager.invalidate(CONFIG_PAGE_QUERY_NAMESPACE);
         } catch (Exception e) {
-            log.warn("删除配置缓存失败, key={}", configKey, e);
+            log.warn("清理配置分页查询缓存失败", e);
         }
     }
 }
-
-
@@ -5,8 +5,9 @@ import cn.refinex.common.constants.SystemStatusConstants;
 import cn.refinex.common.exception.BusinessException;
 import cn.refinex.common.jdbc.page.PageRequest;
 import cn.refinex.common.jdbc.page.PageResult;
-import cn.refinex.common.json.utils.JsonUtils;
 import cn.refinex.common.redis.RedisService;
+import cn.refinex.common.redis.cache.CacheNamespaceManager;
+import cn.refinex.common.redis.pipeline.RedisPipeline;
 import cn.refinex.platform.controller.dict.dto.request.DictDataCreateRequestDTO;
 import cn.refinex.platform.controller.dict.dto.request.DictDataUpdateRequestDTO;
 import cn.refinex.platform.entity.sys.SysDictData;
@@ -20,6 +21,8 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
@@ -29,6 +32,10 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * 字典业务服务
+ * <p>
+ * 按编码查询字典类型、字典数据列表是热点读，通过 Spring Cache 缓存（启用二级缓存时先读本地缓存）；
+ * 其余缓存直接读写 Redis。
+ * </p>
  */
 @Slf4j
 @Service
@@ -39,6 +46,8 @@ public class SysDictServiceImpl implements SysDictService {
     private final SysDictDataRepository dictDataRepository;
     private final RedisService redisService;
     private final RedissonClient redissonClient;
+    private final CacheManager cacheManager;
+    private final CacheNamespaceManager cacheNamespaceManager;
 
     /**
      * 空值标记，用于防止缓存穿透
@@ -193,13 +202,14 @@ public class SysDictServiceImpl implements SysDictService {
         // 先从缓存中读取
         String cacheKey = SystemRedisKeyConstants.Dictionary.dictTypeById(id);
         try {
-            String cacheJson = redisService.string().get(cacheKey, String.class);
-            if (StringUtils.isNotBlank(cacheJson)) {
-                // 检查是否为空值标记（防穿透）
-                if (NULL_VALUE_MARKER.equals(cacheJson)) {
-                    return null;
-                }
-                return JsonUtils.fromJson(cacheJson, SysDictType.class);
+            Object cached = redisService.string().get(cacheKey);
+            // 检查是否为空值标记（防穿透）
+            if (NULL_VALUE_MARKER.equals(cached)) {
+                return null;
+            }
+            // 旧版本写入的 JSON 字符串视为未命中，回源后覆盖
+            if (cached instanceof SysDictType cachedValue) {
+                return cachedValue;
             }
         } catch (Exception e) {
             log.warn("读取字典类型缓存失败, id={}", id, e);
@@ -231,25 +241,23 @@ public class SysDictServiceImpl implements SysDictService {
             return null;
         }
 
-        // 先从缓存中读取
-        String cacheKey = SystemRedisKeyConstants.Dictionary.dictTypeByCode(dictCode);
-        SysDictType cachedType = getCachedDictType(cacheKey, dictCode);
-        if (cachedType != null || isCachedAsNull(cacheKey)) {
-            return cachedType;
+        // 先从缓存中读取（空值表示字典类型不存在）
+        Cache.ValueWrapper cached = getCacheValue(SystemRedisKeyConstants.Dictionary.DICT_TYPE_BY_CODE_CACHE, dictCode);
+        if (cached != null && (cached.get() == null || cached.get() instanceof SysDictType)) {
+            return (SysDictType) cached.get();
         }
 
         // 缓存未命中，使用分布式锁防止缓存击穿
-        return loadDictTypeWithLock(dictCode, cacheKey);
+        return loadDictTypeWithLock(dictCode);
     }
 
     /**
      * 使用分布式锁加载字典类型
      *
      * @param dictCode 字典编码
-     * @param cacheKey 缓存键
      * @return 字典类型实体
      */
-    private SysDictType loadDictTypeWithLock(String dictCode, String cacheKey) {
+    private SysDictType loadDictTypeWithLock(String dictCode) {
         String lockKey = SystemRedisKeyConstants.Dictionary.dictTypeLock(dictCode);
         RLock lock = redissonClient.getLock(lockKey);
 
@@ -257,7 +265,7 @@ public class SysDictServiceImpl implements SysDictService {
             // 尝试获取锁，最多等待3秒，锁自动释放时间10秒
             if (lock.tryLock(3, 10, TimeUnit.SECONDS)) {
                 try {
-                    return loadDictTypeFromDbAndCache(dictCode, cacheKey);
+                    return loadDictTypeFromDbAndCache(dictCode);
                 } finally {
                     lock.unlock();
                 }
@@ -279,66 +287,29 @@ public class SysDictServiceImpl implements SysDictService {
      * 从数据库加载字典类型并写入缓存
      *
      * @param dictCode 字典编码
-     * @param cacheKey 缓存键
      * @return 字典类型实体
      */
-    private SysDictType loadDictTypeFromDbAndCache(String dictCode, String cacheKey) {
+    private SysDictType loadDictTypeFromDbAndCache(String dictCode) {
         // 再次检查缓存（双重检查）
-        String cacheJson = redisService.string().get(cacheKey, String.class);
-        if (StringUtils.isNotBlank(cacheJson)) {
-            if (NULL_VALUE_MARKER.equals(cacheJson)) {
-                return null;
-            }
-            return JsonUtils.fromJson(cacheJson, SysDictType.class);
+        Cache.ValueWrapper cached = getCacheValue(SystemRedisKeyConstants.Dictionary.DICT_TYPE_BY_CODE_CACHE, dictCode);
+        if (cached != null && (cached.get() == null || cached.get() instanceof SysDictType)) {
+            return (SysDictType) cached.get();
         }
 
         // 从数据库查询
         SysDictType type = dictTypeRepository.selectByCode(dictCode);
 
-        // 写入缓存
+        // 写入缓存，不存在时缓存空值防穿透
         if (type != null) {
             writeDictTypeByCodeCache(type);
         } else {
-            writeNullCache(cacheKey, SystemRedisKeyConstants.Dictionary.DICT_NULL_CACHE_TTL);
+            putNullCacheValue(SystemRedisKeyConstants.Dictionary.DICT_TYPE_BY_CODE_CACHE, dictCode,
+                    SystemRedisKeyConstants.Dictionary.DICT_NULL_CACHE_TTL);
         }
 
         return type;
     }
 
-    /**
-     * 从缓存获取字典类型
-     *
-     * @param cacheKey 缓存键
-     * @param dictCode 字典编码
-     * @return 字典类型实体
-     */
-    private SysDictType getCachedDictType(String cacheKey, String dictCode) {
-        try {
-            String cacheJson = redisService.string().get(cacheKey, String.class);
-            if (StringUtils.isNotBlank(cacheJson) && !NULL_VALUE_MARKER.equals(cacheJson)) {
-                return JsonUtils.fromJson(cacheJson, SysDictType.class);
-            }
-        } catch (Exception e) {
-            log.warn("读取字典类型缓存失败, code={}", dictCode, e);
-        }
-        return null;
-    }
-
-    /**
-     * 检查缓存是否为空值标记
-     *
-     * @param cacheKey 缓存键
-     * @return 是否为空值标记
-     */
-    private boolean isCachedAsNull(String cacheKey) {
-        try {
-            String cacheJson = redisService.string().get(cacheKey, String.class);
-            return NULL_VALUE_MARKER.equals(cacheJson);
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
     /**
      * 分页查询字典类型（带缓存）
      *
@@ -349,68 +320,17 @@ public class SysDictServiceImpl implements SysDictService {
      * @return 分页结果
      */
     @Override
+    @SuppressWarnings("unchecked")
     public PageResult<SysDictType> pageQueryDictTypes(String dictCode, String dictName, Integer status, PageRequest pageRequest) {
-        // 生成缓存键
-        String cacheKey = SystemRedisKeyConstants.Dictionary.dictTypePageQuery(
+        // 读取分页查询缓存（按命名空间代数失效，短期缓存 3 分钟）
+        String suffix = SystemRedisKeyConstants.Dictionary.dictTypePageQuery(
                 dictCode, dictName, status,
                 pageRequest.getPageNum(), pageRequest.getPageSize(),
                 pageRequest.getOrderBy(), pageRequest.getOrderDirection()
         );
-
-        // 尝试从缓存读取
-        PageResult<SysDictType> cachedResult = getCachedPageResult(cacheKey);
-        if (cachedResult != null) {
-            log.debug("字典类型分页查询命中缓存: code={}, name={}, status={}, page={}/{}",
-                    dictCode, dictName, status, pageRequest.getPageNum(), pageRequest.getPageSize());
-            return cachedResult;
-        }
-
-        // 缓存未命中，从数据库查询
-        PageResult<SysDictType> result = dictTypeRepository.pageQuery(dictCode, dictName, status, pageRequest);
-
-        // 写入缓存（短期缓存，3分钟）
-        writeDictTypePageQueryCache(cacheKey, result);
-
-        return result;
-    }
-
-    /**
-     * 从缓存获取分页查询结果
-     *
-     * @param cacheKey 缓存键
-     * @return 分页查询结果
-     */
-    private PageResult<SysDictType> getCachedPageResult(String cacheKey) {
-        try {
-            String cacheJson = redisService.string().get(cacheKey, String.class);
-            if (StringUtils.isNotBlank(cacheJson)) {
-                return JsonUtils.fromJson(cacheJson, 
-                    new com.fasterxml.jackson.core.type.TypeReference<PageResult<SysDictType>>() {});
-            }
-        } catch (Exception e) {
-            log.warn("读取字典类型分页查询缓存失败", e);
-        }
-        return null;
-    }
-
-    /**
-     * 写入分页查询结果到缓存
-     *
-     * @param cacheKey 缓存键
-     * @param result 分页查询结果
-     */
-    private void writeDictTypePageQueryCache(String cacheKey, PageResult<SysDictType> result) {
-        try {
-            String json = JsonUtils.toJson(result);
-            redisService.string().set(
-                    cacheKey,
-                    json,
-                    Duration.ofSeconds(SystemRedisKeyConstants.Dictionary.DICT_PAGE_QUERY_CACHE_TTL)
-            );
-            log.debug("写入字典类型分页查询缓存成功: key={}", cacheKey);
-        } catch (Exception e) {
-            log.warn("写入字典类型分页查询缓存失败", e);
-        }
+        return cacheNamespaceManager.getOrLoad(SystemRedisKeyConstants.Dictionary.DICT_TYPE_PAGE_QUERY_NAMESPACE, suffix, PageResult.class,
+                Duration.ofSeconds(SystemRedisKeyConstants.Dictionary.DICT_PAGE_QUERY_CACHE_TTL),
+                () -> dictTypeRepository.pageQuery(dictCode, dictName, status, pageRequest));
     }
 
     /**
@@ -423,9 +343,9 @@ public class SysDictServiceImpl implements SysDictService {
         // 先从缓存中读取
         String cacheKey = SystemRedisKeyConstants.Dictionary.dictTypeEnabledList();
         try {
-            String cacheJson = redisService.string().get(cacheKey, String.class);
-            if (StringUtils.isNotBlank(cacheJson)) {
-                return JsonUtils.toList(cacheJson, SysDictType.class);
+            List<SysDictType> cachedList = redisService.string().getList(cacheKey, SysDictType.class);
+            if (cachedList != null) {
+                return cachedList;
             }
         } catch (Exception e) {
             log.warn("读取启用字典类型列表缓存失败", e);
@@ -635,13 +555,14 @@ public class SysDictServiceImpl implements SysDictService {
         // 先从缓存中读取
         String cacheKey = SystemRedisKeyConstants.Dictionary.dictDataById(id);
         try {
-            String cacheJson = redisService.string().get(cacheKey, String.class);
-            if (StringUtils.isNotBlank(cacheJson)) {
-                // 检查是否为空值标记（防穿透）
-                if (NULL_VALUE_MARKER.equals(cacheJson)) {
-                    return null;
-                }
-                return JsonUtils.fromJson(cacheJson, SysDictData.class);
+            Object cached = redisService.string().get(cacheKey);
+            // 检查是否为空值标记（防穿透）
+            if (NULL_VALUE_MARKER.equals(cached)) {
+                return null;
+            }
+            // 旧版本写入的 JSON 字符串视为未命中，回源后覆盖
+            if (cached instanceof SysDictData cachedValue) {
+                return cachedValue;
             }
         } catch (Exception e) {
             log.warn("读取字典数据缓存失败, id={}", id, e);
@@ -684,14 +605,9 @@ public class SysDictServiceImpl implements SysDictService {
         }
 
         // 先从缓存中读取
-        String cacheKey = SystemRedisKeyConstants.Dictionary.dictDataListByCode(dictCode);
-        try {
-            String cacheJson = redisService.string().get(cacheKey, String.class);
-            if (StringUtils.isNotBlank(cacheJson)) {
-                return JsonUtils.toList(cacheJson, SysDictData.class);
-            }
-        } catch (Exception e) {
-            log.warn("读取字典数据列表缓存失败, code={}", dictCode, e);
+        List<SysDictData> cachedList = getCachedDictDataList(dictCode);
+        if (cachedList != null) {
+            return cachedList;
         }
 
         // 缓存未命中，使用分布式锁防止缓存击穿
@@ -704,9 +620,9 @@ public class SysDictServiceImpl implements SysDictService {
             if (locked) {
                 try {
                     // 再次检查缓存（双重检查）
-                    String cacheJson = redisService.string().get(cacheKey, String.class);
-                    if (StringUtils.isNotBlank(cacheJson)) {
-                        return JsonUtils.toList(cacheJson, SysDictData.class);
+                    cachedList = getCachedDictDataList(dictCode);
+                    if (cachedList != null) {
+                        return cachedList;
                     }
 
                     // 从数据库查询
@@ -751,6 +667,86 @@ public class SysDictServiceImpl implements SysDictService {
 
     // ===================== 缓存操作（私有方法） =====================
 
+    /**
+     * 从缓存读取字典数据列表
+     *
+     * @param dictCode 字典编码
+     * @return 字典数据列表，未缓存时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    private List<SysDictData> getCachedDictDataList(String dictCode) {
+        Cache.ValueWrapper cached = getCacheValue(SystemRedisKeyConstants.Dictionary.DICT_DATA_LIST_CACHE, dictCode);
+        return cached != null && cached.get() instanceof List<?> list ? (List<SysDictData>) list : null;
+    }
+
+    /**
+     * 读取 Spring Cache 缓存值，读取失败按未命中处理
+     *
+     * @param cacheName 缓存名称
+     * @param key       缓存键
+     * @return 缓存值，未命中时返回 null
+     */
+    private Cache.ValueWrapper getCacheValue(String cacheName, String key) {
+        try {
+            Cache cache = cacheManager.getCache(cacheName);
+            return cache != null ? cache.get(key) : null;
+        } catch (Exception e) {
+            log.warn("读取字典缓存失败, cache={}, key={}", cacheName, key, e);
+            return null;
+        }
+    }
+
+    /**
+     * 写入 Spring Cache 缓存值
+     *
+     * @param cacheName 缓存名称
+     * @param key       缓存键
+     * @param value     缓存值，null 表示缓存空值
+     */
+    private void putCacheValue(String cacheName, String key, Object value) {
+        try {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.put(key, value);
+            }
+        } catch (Exception e) {
+            log.warn("写入字典缓存失败, cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    /**
+     * 写入 Spring Cache 空值缓存（防穿透），使用较短的过期时间而非缓存配置的过期时间
+     *
+     * @param cacheName 缓存名称
+     * @param key       缓存键
+     * @param ttl       过期时间（秒）
+     */
+    private void putNullCacheValue(String cacheName, String key, long ttl) {
+        try {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                RedisPipeline pipeline = redisService.pipeline();
+                pipeline.cache().put(cache, key, null, Duration.ofSeconds(ttl));
+                pipeline.execute();
+            }
+        } catch (Exception e) {
+            log.warn("写入字典空值缓存失败, cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    /**
+     * 删除 Spring Cache 缓存值（启用二级缓存时同时广播删除各节点的本地缓存）
+     *
+     * @param cacheName 缓存名称
+     * @param key       缓存键
+     */
+    private void evictCacheValue(String cacheName, String key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
     /**
      * 计算带随机偏移的缓存过期时间（防雪崩）
      *
@@ -762,6 +758,20 @@ public class SysDictServiceImpl implements SysDictService {
         return Duration.ofSeconds(baseTtl + offset);
     }
 
+    /**
+     * 转换为可缓存的列表
+     * <p>
+     * 缓存值直接以对象形式存储（带类型信息），不可变列表（如 {@code List.of}、{@code Stream.toList}）无法按类型信息反序列化，统一复制为 ArrayList
+     * </p>
+     *
+     * @param list 列表
+     * @param <T>  元素类型
+     * @return ArrayList
+     */
+    private static <T> List<T> toCacheList(List<T> list) {
+        return list == null ? new ArrayList<>() : new ArrayList<>(list);
+    }
+
     /**
      * 写入空值缓存（防穿透）
      *
@@ -787,14 +797,23 @@ public class SysDictServiceImpl implements SysDictService {
             return;
         }
 
-        try {
-            String key = SystemRedisKeyConstants.Dictionary.dictTypeByCode(type.getDictCode());
-            String json = JsonUtils.toJson(type);
-            Duration ttl = calculateTtlWithOffset(SystemRedisKeyConstants.Dictionary.DICT_TYPE_CACHE_TTL);
-            redisService.string().set(key, json, ttl);
-            log.debug("写入字典类型缓存（按编码）, code={}, ttl={}秒", type.getDictCode(), ttl.getSeconds());
-        } catch (Exception e) {
-            log.warn("写入字典类型缓存失败, code={}", type.getDictCode(), e);
+        putCacheValue(SystemRedisKeyConstants.Dictionary.DICT_TYPE_BY_CODE_CACHE, type.getDictCode(), type);
+        log.debug("写入字典类型缓存（按编码）, code={}", type.getDictCode());
+    }
+
+    /**
+     * 写入 Redis 缓存，传入管道时加入管道由调用方统一执行
+     *
+     * @param pipeline Redis 管道，为 null 时直接写入
+     * @param key      缓存键
+     * @param value    缓存值
+     * @param ttl      过期时间
+     */
+    private void setCacheValue(RedisPipeline pipeline, String key, Object value, Duration ttl) {
+        if (pipeline != null) {
+            pipeline.string().set(key, value, ttl);
+        } else {
+            redisService.string().set(key, value, ttl);
         }
     }
 
@@ -804,15 +823,24 @@ public class SysDictServiceImpl implements SysDictService {
      * @param type 字典类型实体
      */
     private void writeDictTypeByIdCache(SysDictType type) {
+        writeDictTypeByIdCache(type, null);
+    }
+
+    /**
+     * 写入字典类型缓存（按ID）
+     *
+     * @param type     字典类型实体
+     * @param pipeline Redis 管道，为 null 时直接写入
+     */
+    private void writeDictTypeByIdCache(SysDictType type, RedisPipeline pipeline) {
         if (type == null) {
             return;
         }
 
         try {
             String key = SystemRedisKeyConstants.Dictionary.dictTypeById(type.getId());
-            String json = JsonUtils.toJson(type);
             Duration ttl = calculateTtlWithOffset(SystemRedisKeyConstants.Dictionary.DICT_TYPE_CACHE_TTL);
-            redisService.string().set(key, json, ttl);
+            setCacheValue(pipeline, key, type, ttl);
             log.debug("写入字典类型缓存（按ID）, id={}, ttl={}秒", type.getId(), ttl.getSeconds());
         } catch (Exception e) {
             log.warn("写入字典类型缓存失败, id={}", type.getId(), e);
@@ -825,11 +853,20 @@ public class SysDictServiceImpl implements SysDictService {
      * @param list 字典类型列表
      */
     private void writeDictTypeEnabledListCache(List<SysDictType> list) {
+        writeDictTypeEnabledListCache(list, null);
+    }
+
+    /**
+     * 写入启用的字典类型列表缓存
+     *
+     * @param list     字典类型列表
+     * @param pipeline Redis 管道，为 null 时直接写入
+     */
+    private void writeDictTypeEnabledListCache(List<SysDictType> list, RedisPipeline pipeline) {
         try {
             String key = SystemRedisKeyConstants.Dictionary.dictTypeEnabledList();
-            String json = JsonUtils.toJson(list == null ? Collections.emptyList() : list);
             Duration ttl = calculateTtlWithOffset(SystemRedisKeyConstants.Dictionary.DICT_ENABLED_TYPES_CACHE_TTL);
-            redisService.string().set(key, json, ttl);
+            setCacheValue(pipeline, key, toCacheList(list), ttl);
             log.debug("写入启用字典类型列表缓存, size={}, ttl={}秒", list == null ? 0 : list.size(), ttl.getSeconds());
         } catch (Exception e) {
             log.warn("写入启用字典类型列表缓存失败", e);
@@ -842,15 +879,24 @@ public class SysDictServiceImpl implements SysDictService {
      * @param data 字典数据实体
      */
     private void writeDictDataByIdCache(SysDictData data) {
+        writeDictDataByIdCache(data, null);
+    }
+
+    /**
+     * 写入字典数据缓存（按ID）
+     *
+     * @param data     字典数据实体
+     * @param pipeline Redis 管道，为 null 时直接写入
+     */
+    private void writeDictDataByIdCache(SysDictData data, RedisPipeline pipeline) {
         if (data == null) {
             return;
         }
 
         try {
             String key = SystemRedisKeyConstants.Dictionary.dictDataById(data.getId());
-            String json = JsonUtils.toJson(data);
             Duration ttl = calculateTtlWithOffset(SystemRedisKeyConstants.Dictionary.DICT_DATA_DETAIL_CACHE_TTL);
-            redisService.string().set(key, json, ttl);
+            setCacheValue(pipeline, key, data, ttl);
             log.debug("写入字典数据缓存（按ID）, id={}, ttl={}秒", data.getId(), ttl.getSeconds());
         } catch (Exception e) {
             log.warn("写入字典数据缓存失败, id={}", data.getId(), e);
@@ -864,15 +910,8 @@ public class SysDictServiceImpl implements SysDictService {
      * @param list     字典数据实体列表
      */
     private void writeDictDataListCache(String dictCode, List<SysDictData> list) {
-        try {
-            String key = SystemRedisKeyConstants.Dictionary.dictDataListByCode(dictCode);
-            String json = JsonUtils.toJson(list == null ? Collections.emptyList() : list);
-            Duration ttl = calculateTtlWithOffset(SystemRedisKeyConstants.Dictionary.DICT_DATA_LIST_CACHE_TTL);
-            redisService.string().set(key, json, ttl);
-            log.debug("写入字典数据列表缓存, code={}, size={}, ttl={}秒", dictCode, list == null ? 0 : list.size(), ttl.getSeconds());
-        } catch (Exception e) {
-            log.warn("写入字典数据列表缓存失败, code={}", dictCode, e);
-        }
+        putCacheValue(SystemRedisKeyConstants.Dictionary.DICT_DATA_LIST_CACHE, dictCode, toCacheList(list));
+        log.debug("写入字典数据列表缓存, code={}, size={}", dictCode, list == null ? 0 : list.size());
     }
 
     /**
@@ -886,13 +925,9 @@ public class SysDictServiceImpl implements SysDictService {
         }
 
         try {
-            // 删除字典类型缓存（按编码）
-            String typeCodeKey = SystemRedisKeyConstants.Dictionary.dictTypeByCode(dictCode);
-            redisService.delete(typeCodeKey);
-
-            // 删除字典数据列表缓存
-            String dataListKey = SystemRedisKeyConstants.Dictionary.dictDataListByCode(dictCode);
-            redisService.delete(dataListKey);
+            // 删除字典类型缓存（按编码）与字典数据列表缓存
+            evictCacheValue(SystemRedisKeyConstants.Dictionary.DICT_TYPE_BY_CODE_CACHE, dictCode);
+            evictCacheValue(SystemRedisKeyConstants.Dictionary.DICT_DATA_LIST_CACHE, dictCode);
 
             // 删除启用的字典类型列表缓存（因为可能包含该类型）
             String enabledListKey = SystemRedisKeyConstants.Dictionary.dictTypeEnabledList();
@@ -930,17 +965,13 @@ public class SysDictServiceImpl implements SysDictService {
     /**
      * 清理字典类型分页查询缓存
      * <p>
-     * 在字典类型增删改操作后调用，清理所有分页查询缓存
+     * 在字典类型增删改操作后调用，将分页查询缓存命名空间的代数加一（一次 INCR），旧代数的缓存延迟后在后台清理
      * </p>
      */
     private void invalidatePageQueryCache() {
         try {
-            String pattern = SystemRedisKeyConstants.Dictionary.dictTypePageQueryPattern();
-            Set<String> keys = redisService.keys(pattern);
-            if (CollectionUtils.isNotEmpty(keys)) {
-                redisService.delete(keys);
-                log.debug("清理字典类型分页查询缓存成功，共清理 {} 个缓存", keys.size());
-            }
+            long generation = cacheNamespaceManager.invalidate(SystemRedisKeyConstants.Dictionary.DICT_TYPE_PAGE_QUERY_NAMESPACE);
+            log.debug("清理字典类型分页查询缓存成功，当前代数: {}", generation);
         } catch (Exception e) {
             log.warn("清理字典类型分页查询缓存失败", e);
         }
@@ -949,7 +980,9 @@ public class SysDictServiceImpl implements SysDictService {
     /**
      * 预热字典缓存
      * <p>
-     * 系统启动时或需要时，预加载常用字典数据到缓存中，提升首次访问性能
+     * 系统启动时或需要时，预加载常用字典数据到缓存中，提升首次访问性能。
+     * 启用字典类型的数据一次查询后按类型分组；所有缓存写入（含 Spring Cache 条目）通过一个 Redis 管道发送，
+     * 避免每个 key 一次网络往返，二级缓存的本地条目在管道执行成功后写入。
      * </p>
      */
     @Override
@@ -960,8 +993,24 @@ public class SysDictServiceImpl implements SysDictService {
         try {
             List<SysDictType> enabledTypes = dictTypeRepository.selectEnabledList();
             if (CollectionUtils.isNotEmpty(enabledTypes)) {
-                writeDictTypeEnabledListCache(enabledTypes);
-                warmUpEachDictType(enabledTypes);
+                Map<Long, List<SysDictData>> dataByTypeId = new HashMap<>();
+                for (SysDictData data : dictDataRepository.selectListOfEnabledTypes()) {
+                    dataByTypeId.computeIfAbsent(data.getDictTypeId(), k -> new ArrayList<>()).add(data);
+                }
+
+                RedisPipeline pipeline = redisService.pipeline();
+                Cache typeByCodeCache = cacheManager.getCache(SystemRedisKeyConstants.Dictionary.DICT_TYPE_BY_CODE_CACHE);
+                Cache dataListCache = cacheManager.getCache(SystemRedisKeyConstants.Dictionary.DICT_DATA_LIST_CACHE);
+                writeDictTypeEnabledListCache(enabledTypes, pipeline);
+                for (SysDictType type : enabledTypes) {
+                    try {
+                        warmUpSingleDictType(pipeline, typeByCodeCache, dataListCache, type,
+                                dataByTypeId.getOrDefault(type.getId(), List.of()));
+                    } catch (Exception e) {
+                        log.warn("预热字典类型失败: code={}", type.getDictCode(), e);
+                    }
+                }
+                pipeline.execute();
             }
 
             long endTime = System.currentTimeMillis();
@@ -973,40 +1022,30 @@ public class SysDictServiceImpl implements SysDictService {
     }
 
     /**
-     * 预热每个字典类型及其数据
+     * 预热单个字典类型，所有写入加入管道由调用方统一执行
      *
-     * @param enabledTypes 启用的字典类型列表
+     * @param pipeline        Redis 管道
+     * @param typeByCodeCache 字典类型（按编码）缓存
+     * @param dataListCache   字典数据列表缓存
+     * @param type            字典类型实体
+     * @param dataList        该类型的字典数据列表
      */
-    private void warmUpEachDictType(List<SysDictType> enabledTypes) {
-        for (SysDictType type : enabledTypes) {
-            try {
-                warmUpSingleDictType(type);
-            } catch (Exception e) {
-                log.warn("预热字典类型失败: code={}", type.getDictCode(), e);
-            }
-        }
-    }
-
-    /**
-     * 预热单个字典类型
-     *
-     * @param type 字典类型实体
-     */
-    private void warmUpSingleDictType(SysDictType type) {
+    private void warmUpSingleDictType(RedisPipeline pipeline, Cache typeByCodeCache, Cache dataListCache,
+                                      SysDictType type, List<SysDictData> dataList) {
         // 缓存字典类型（按编码和ID）
-        writeDictTypeByCodeCache(type);
-        writeDictTypeByIdCache(type);
-
-        // 缓存字典数据列表
-        List<SysDictData> dataList = dictDataRepository.selectListByTypeCode(type.getDictCode());
-        writeDictDataListCache(type.getDictCode(), dataList);
+        if (typeByCodeCache != null) {
+            pipeline.cache().put(typeByCodeCache, type.getDictCode(), type);
+        }
+        writeDictTypeByIdCache(type, pipeline);
 
-        // 缓存每个字典数据（按ID）
-        if (CollectionUtils.isNotEmpty(dataList)) {
-            dataList.forEach(this::writeDictDataByIdCache);
+        // 缓存字典数据列表及每个字典数据（按ID）
+        if (dataListCache != null) {
+            pipeline.cache().put(dataListCache, type.getDictCode(), toCacheList(dataList));
+        }
+        for (SysDictData data : dataList) {
+            writeDictDataByIdCache(data, pipeline);
         }
 
-        log.debug("预热字典类型成功: code={}, dataSize={}", type.getDictCode(),
-                dataList == null ? 0 : dataList.size());
+        log.debug("预热字典类型成功: code={}, dataSize={}", type.getDictCode(), dataList.size());
     }
-}
\ No newline at end of file
+}
@@ -13,6 +13,7 @@ import cn.refinex.platform.controller.auth.dto.request.SysPermissionQueryRequest
 import cn.refinex.platform.controller.auth.dto.request.SysPermissionUpdateRequestDTO;
 import cn.refinex.platform.entity.sys.SysPermission;
 import cn.refinex.platform.repository.sys.SysPermissionRepository;
+import cn.refinex.platform.service.PermissionService;
 import cn.refinex.platform.service.SysPermissionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,6 +40,7 @@ public class SysPermissionServiceImpl implements SysPermissionService {
     private final JdbcTemplateManager jdbcManager;
     private final SysPermissionRepository sysPermissionRepository;
     private final RedisService redisService;
+    private final PermissionService permissionService;
 
     /**
      * 创建系统权限
@@ -108,6 +110,7 @@ public class SysPermissionServiceImpl implements SysPermissionService {
         if (rows > 0) {
             // 失效权限缓存
             invalidatePermissionCaches(exist);
+            permissionService.invalidateAllPermissions("更新权限: " + id);
         }
         return rows > 0;
     }
@@ -125,6 +128,7 @@ public class SysPermissionServiceImpl implements SysPermissionService {
         if (rows > 0) {
             // 失效权限缓存
             redisService.delete(permissionTree());
+            permissionService.invalidateAllPermissions("删除权限: " + id);
         }
         return rows > 0;
     }
@@ -143,6 +147,7 @@ public class SysPermissionServiceImpl implements SysPermissionService {
         if (rows > 0) {
             // 失效权限缓存
             redisService.delete(permissionTree());
+            permissionService.invalidateAllPermissions("权限状态变更: " + id);
         }
         return rows > 0;
     }
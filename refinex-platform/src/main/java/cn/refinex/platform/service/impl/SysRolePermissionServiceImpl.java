@@ -5,6 +5,7 @@ import cn.refinex.common.jdbc.core.JdbcTemplateManager;
 import cn.refinex.common.redis.RedisService;
 import cn.refinex.platform.repository.sys.SysRolePermissionRepository;
 import cn.refinex.platform.repository.sys.SysRoleRepository;
+import cn.refinex.platform.service.PermissionService;
 import cn.refinex.platform.service.SysRolePermissionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +31,7 @@ public class SysRolePermissionServiceImpl implements SysRolePermissionService {
     private final SysRoleRepository sysRoleRepository;
     private final SysRolePermissionRepository sysRolePermissionRepository;
     private final RedisService redisService;
+    private final PermissionService permissionService;
 
     /**
      * 分配角色权限
@@ -63,6 +65,7 @@ public class SysRolePermissionServiceImpl implements SysRolePermissionService {
         } catch (Exception e) {
             log.warn("删除角色权限缓存失败 roleId={}", roleId, e);
         }
+        permissionService.invalidateAllPermissions("分配角色权限: " + roleId);
 
         return Boolean.TRUE.equals(result);
     }
@@ -3,6 +3,7 @@ package cn.refinex.platform.service.impl;
 import cn.refinex.common.exception.BusinessException;
 import cn.refinex.common.jdbc.page.PageRequest;
 import cn.refinex.common.jdbc.page.PageResult;
+import cn.refinex.common.redis.cache.CacheNamespaceManager;
 import cn.refinex.common.satoken.core.util.LoginHelper;
 import cn.refinex.platform.controller.role.dto.request.RoleCreateRequestDTO;
 import cn.refinex.platform.controller.role.dto.request.RoleUpdateRequestDTO;
@@ -10,13 +11,20 @@ import cn.refinex.platform.controller.role.dto.response.RoleUserResponseDTO;
 import cn.refinex.platform.entity.sys.SysRole;
 import cn.refinex.platform.repository.sys.SysRoleRepository;
 import cn.refinex.platform.repository.sys.SysUserRoleRepository;
+import cn.refinex.platform.service.PermissionService;
 import cn.refinex.platform.service.SysRoleService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
+
+import static cn.refinex.common.constants.SystemRedisKeyConstants.Role.ROLE_PAGE_QUERY_CACHE_TTL;
+import static cn.refinex.common.constants.SystemRedisKeyConstants.Role.ROLE_PAGE_QUERY_NAMESPACE;
+import static cn.refinex.common.constants.SystemRedisKeyConstants.Role.buildRolePageQueryCacheKey;
 
 /**
  * 系统角色服务实现类
@@ -31,6 +39,8 @@ public class SysRoleServiceImpl implements SysRoleService {
 
     private final SysUserRoleRepository sysUserRoleRepository;
     private final SysRoleRepository sysRoleRepository;
+    private final CacheNamespaceManager cacheNamespaceManager;
+    private final PermissionService permissionService;
 
     /**
      * 创建角色
@@ -64,6 +74,7 @@ public class SysRoleServiceImpl implements SysRoleService {
         if (rows <= 0) {
             throw new BusinessException("创建角色失败");
         }
+        invalidatePageCache();
 
         return role.getId();
     }
@@ -106,6 +117,12 @@ public class SysRoleServiceImpl implements SysRoleService {
         if (rows <= 0) {
             throw new BusinessException("更新角色失败");
         }
+        invalidatePageCache();
+
+        // 角色启用/停用会改变绑定用户的角色权限
+        if (requestDTO.getStatus() != null && !Objects.equals(requestDTO.getStatus(), existingRole.getStatus())) {
+            permissionService.invalidateAllPermissions("角色状态变更: " + roleId);
+        }
 
         return true;
     }
@@ -135,6 +152,8 @@ public class SysRoleServiceImpl implements SysRoleService {
         if (rows <= 0) {
             throw new BusinessException("更新角色状态失败");
         }
+        invalidatePageCache();
+        permissionService.invalidateAllPermissions("角色状态变更: " + roleId);
 
         return true;
     }
@@ -167,6 +186,7 @@ public class SysRoleServiceImpl implements SysRoleService {
         if (rows <= 0) {
             throw new BusinessException("删除角色失败");
         }
+        invalidatePageCache();
     }
 
     /**
@@ -220,8 +240,14 @@ public class SysRoleServiceImpl implements SysRoleService {
      * @return 分页结果
      */
     @Override
+    @SuppressWarnings("unchecked")
     public PageResult<SysRole> pageQueryRoles(String roleCode, String roleName, Integer roleType, Integer status, PageRequest pageReq) {
-        return sysRoleRepository.pageQueryRoles(roleCode, roleName, roleType, status, pageReq);
+        // 读取分页查询缓存（按命名空间代数失效，角色变更后自动切换到新代数）
+        String condition = "code:" + roleCode + "|name:" + roleName + "|type:" + roleType + "|status:" + status
+                + "|page:" + pageReq.getPageNum() + "|size:" + pageReq.getPageSize()
+                + "|order:" + pageReq.getOrderBy() + "|dir:" + pageReq.getOrderDirection();
+        return cacheNamespaceManager.getOrLoad(ROLE_PAGE_QUERY_NAMESPACE, buildRolePageQueryCacheKey(condition), PageResult.class,
+                Duration.ofSeconds(ROLE_PAGE_QUERY_CACHE_TTL), () -> sysRoleRepository.pageQueryRoles(roleCode, roleName, roleType, status, pageReq));
     }
 
     /**
@@ -249,6 +275,7 @@ public class SysRoleServiceImpl implements SysRoleService {
 
         // 绑定用户角色
         sysUserRoleRepository.bindUserRole(roleId, userIds, actionBy);
+        permissionService.invalidateUserPermissions(userIds, "绑定用户角色: " + roleId);
     }
 
     /**
@@ -276,6 +303,7 @@ public class SysRoleServiceImpl implements SysRoleService {
         for (Long userId : userIds) {
             sysUserRoleRepository.bindUserRole(userId, roleId, validFrom, validUntil, actionBy);
         }
+        permissionService.invalidateUserPermissions(userIds, "绑定用户角色: " + roleId);
     }
 
     /**
@@ -295,6 +323,7 @@ public class SysRoleServiceImpl implements SysRoleService {
         if (rows <= 0) {
             throw new BusinessException("解绑失败");
         }
+        permissionService.invalidateUserPermissions(List.of(userId), "解绑用户角色: " + roleId);
     }
 
     /**
@@ -312,4 +341,15 @@ public class SysRoleServiceImpl implements SysRoleService {
     public PageResult<RoleUserResponseDTO> pageQueryRoleUsers(Long roleId, String username, String nickname, String mobile, String email, PageRequest pageReq) {
         return sysUserRoleRepository.pageQueryRoleUsers(roleId, username, nickname, mobile, email, pageReq);
     }
+
+    /**
+     * 失效分页查询缓存（命名空间代数加一，旧代数的缓存延迟后在后台清理）
+     */
+    private void invalidatePageCache() {
+        try {
+            cacheNamespaceManager.invalidate(ROLE_PAGE_QUERY_NAMESPACE);
+        } catch (Exception e) {
+            log.warn("清理角色分页查询缓存失败", e);
+        }
+    }
 }